@@ -55,14 +55,20 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
     protected final Interceptor<B, R>[] interceptors;
     protected final B target;
     protected final ExecutableMethod<B, R> executionHandle;
+    protected final Object[] originalParameters;
     protected final MutableConvertibleValues attributes = MutableConvertibleValues.of(new ConcurrentHashMap<>());
-    protected final Map<String, MutableArgumentValue<?>> parameters = new LinkedHashMap<>();
+    /**
+     * The parameter map, which is null until {@link #getParameters()} is first called.
+     */
+    protected volatile Map<String, MutableArgumentValue<?>> parameters;
 
+    private final boolean isIntroduction;
     private int index = 0;
 
 
     /**
-     * Constructor.
+     * Constructor. The parameter map of the chain is only created when first accessed and the given arrays are used
+     * as is without copying.
      *
      * @param interceptors array of interceptors
      * @param target target type
@@ -78,22 +84,9 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
         }
         this.target = target;
         this.executionHandle = method;
-        this.interceptors = new Interceptor[interceptors.length + 1];
-        System.arraycopy(interceptors, 0, this.interceptors, 0, interceptors.length);
-        boolean isIntroduction = target instanceof Introduced;
-        if (isIntroduction) {
-            this.interceptors[this.interceptors.length - 1] = context -> {
-                throw new UnimplementedAdviceException(method);
-            };
-        } else {
-            this.interceptors[this.interceptors.length - 1] = context -> method.invoke(target, getParameterValues());
-        }
-        Argument[] arguments = method.getArguments();
-        for (int i = 0; i < arguments.length; i++) {
-            Argument argument = method.getArguments()[i];
-            Object value = originalParameters[i];
-            parameters.put(argument.getName(), MutableArgumentValue.create(argument, value));
-        }
+        this.interceptors = interceptors;
+        this.originalParameters = originalParameters;
+        this.isIntroduction = target instanceof Introduced;
     }
 
     @Override
@@ -113,9 +106,43 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
 
     @Override
     public Map<String, MutableArgumentValue<?>> getParameters() {
+        Map<String, MutableArgumentValue<?>> parameters = this.parameters;
+        if (parameters == null) {
+            synchronized (this) { // double check
+                parameters = this.parameters;
+                if (parameters == null) {
+                    Argument[] arguments = executionHandle.getArguments();
+                    parameters = new LinkedHashMap<>(arguments.length);
+                    for (int i = 0; i < arguments.length; i++) {
+                        Argument argument = arguments[i];
+                        parameters.put(argument.getName(), MutableArgumentValue.create(argument, originalParameters[i]));
+                    }
+                    this.parameters = parameters;
+                }
+            }
+        }
         return parameters;
     }
 
+    @Override
+    public Object[] getParameterValues() {
+        Object[] values = resolveParameterValues();
+        return values == originalParameters ? values.clone() : values;
+    }
+
+    @Override
+    public Map<String, Object> getParameterValueMap() {
+        if (parameters != null) {
+            return InvocationContext.super.getParameterValueMap();
+        }
+        Argument[] arguments = executionHandle.getArguments();
+        Map<String, Object> valueMap = new LinkedHashMap<>(arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            valueMap.put(arguments[i].getName(), originalParameters[i]);
+        }
+        return valueMap;
+    }
+
     @Override
     public R invoke(B instance, Object... arguments) {
         return proceed();
@@ -128,22 +155,20 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
 
     @Override
     public R proceed() throws RuntimeException {
-        Interceptor<B, R> interceptor;
-        int len = this.interceptors.length;
-        if (len == 0) {
-            throw new IllegalStateException("At least one interceptor is required when calling proceed on the interceptor chain!");
-        }
-        int size = len - 1;
-        if (index == size) {
-            interceptor = this.interceptors[size];
-        } else {
-            interceptor = this.interceptors[index++];
+        if (index < interceptors.length) {
+            Interceptor<B, R> interceptor = interceptors[index++];
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Proceeded to next interceptor [{}] in chain for method invocation: {}", interceptor, executionHandle);
+            }
+            return interceptor.intercept(this);
         }
         if (LOG.isTraceEnabled()) {
-            LOG.trace("Proceeded to next interceptor [{}] in chain for method invocation: {}", interceptor, executionHandle);
+            LOG.trace("Proceeded to target of method invocation: {}", executionHandle);
         }
-
-        return interceptor.intercept(this);
+        if (isIntroduction) {
+            throw new UnimplementedAdviceException(executionHandle);
+        }
+        return executionHandle.invoke(target, resolveParameterValues());
     }
 
     @Override
@@ -159,6 +184,25 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
         throw new IllegalArgumentException("Argument [" + from + "] is not within the interceptor chain");
     }
 
+    /**
+     * Resolves the current parameter values. If the parameter map has not been accessed the original parameters
+     * cannot have been changed and are returned without copying.
+     *
+     * @return The parameter values, which must not be mutated
+     */
+    private Object[] resolveParameterValues() {
+        Map<String, MutableArgumentValue<?>> parameters = this.parameters;
+        if (parameters == null) {
+            return originalParameters;
+        }
+        Object[] values = new Object[parameters.size()];
+        int i = 0;
+        for (MutableArgumentValue<?> value : parameters.values()) {
+            values[i++] = value.getValue();
+        }
+        return values;
+    }
+
     /**
      * Resolves the {@link Around} interceptors for a method.
      *
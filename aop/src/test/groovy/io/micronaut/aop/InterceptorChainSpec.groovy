@@ -55,6 +55,42 @@ class InterceptorChainSpec extends Specification {
         chain.getAttributes().get("invoked", List).get() == [1,2,3]
     }
 
+    void "test parameters are created lazily and mutated parameters are passed to the target"() {
+        given:
+        def executionHandle = Mock(ExecutableMethod)
+        executionHandle.getArguments() >> ([Argument.of(String, "name")] as Argument[])
+        Object[] invokedWith = null
+        executionHandle.invoke(*_) >> { args -> invokedWith = args[1]; "good" }
+        Interceptor[] interceptors = [new ArgMutating()]
+        InterceptorChain chain = new InterceptorChain(interceptors, this, executionHandle, "original")
+
+        expect:
+        chain.@attributes != null
+        chain.@parameters == null
+        chain.parameterValueMap == [name: "original"]
+        chain.parameterValues == ["original"] as Object[]
+        chain.@parameters == null
+
+        when:
+        def result = chain.proceed()
+
+        then:
+        result == "good"
+        invokedWith == ["changed"] as Object[]
+        chain.@parameters != null
+    }
+
+    void "test a chain without interceptors invokes the target"() {
+        given:
+        def executionHandle = Mock(ExecutableMethod)
+        executionHandle.getArguments() >> ([] as Argument[])
+        executionHandle.invoke(*_) >> "good"
+        InterceptorChain chain = new InterceptorChain([] as Interceptor[], this, executionHandle)
+
+        expect:
+        chain.proceed() == "good"
+    }
+
     @CompileStatic
     private sort(Interceptor[] interceptors) {
         OrderUtil.sort((Interceptor[]) interceptors)
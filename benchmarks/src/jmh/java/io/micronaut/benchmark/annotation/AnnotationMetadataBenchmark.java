@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.annotation;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.inject.annotation.DefaultAnnotationMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and querying the annotation metadata of executable methods in the form written by the
+ * annotation processor, each with {@code @Get} and {@code @Executable} and two {@code @Named} arguments. The
+ * allocation of {@link #build()} is reported when the benchmark is run with the GC profiler. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=AnnotationMetadataBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnnotationMetadataBenchmark {
+
+    private static final String GET = "io.micronaut.http.annotation.Get";
+    private static final String HTTP_METHOD_MAPPING = "io.micronaut.http.annotation.HttpMethodMapping";
+    private static final String EXECUTABLE = "io.micronaut.context.annotation.Executable";
+    private static final String NAMED = "javax.inject.Named";
+    private static final int URIS = 500;
+
+    private int counter;
+    private AnnotationMetadata methodMetadata;
+    private AnnotationMetadata argumentMetadata;
+
+    /**
+     * Builds the metadata that is queried.
+     */
+    @Setup
+    public void setup() {
+        methodMetadata = methodMetadata(0);
+        argumentMetadata = argumentMetadata("first");
+    }
+
+    /**
+     * @return The metadata of a method and its arguments
+     */
+    @Benchmark
+    public AnnotationMetadata[] build() {
+        int n = counter++ % URIS;
+        return new AnnotationMetadata[] {
+                methodMetadata(n),
+                argumentMetadata("first"),
+                argumentMetadata("second")
+        };
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        blackhole.consume(methodMetadata.hasStereotype(HTTP_METHOD_MAPPING));
+        blackhole.consume(methodMetadata.hasAnnotation(GET));
+        blackhole.consume(methodMetadata.hasDeclaredAnnotation(EXECUTABLE));
+        blackhole.consume(argumentMetadata.hasAnnotation(NAMED));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AnnotationMetadata methodMetadata(int n) {
+        Map get = AnnotationUtil.internMapOf(GET, AnnotationUtil.internMapOf("value", "/books/" + n));
+        Map executable = AnnotationUtil.internMapOf(EXECUTABLE, AnnotationUtil.internMapOf());
+        Map stereotypes = AnnotationUtil.internMapOf(
+                HTTP_METHOD_MAPPING, AnnotationUtil.internMapOf("value", "/books/" + n),
+                EXECUTABLE, AnnotationUtil.internMapOf()
+        );
+        Map all = AnnotationUtil.internMapOf(
+                GET, AnnotationUtil.internMapOf("value", "/books/" + n),
+                EXECUTABLE, AnnotationUtil.internMapOf()
+        );
+        Map byStereotype = AnnotationUtil.internMapOf(
+                HTTP_METHOD_MAPPING, AnnotationUtil.internListOf(GET),
+                EXECUTABLE, AnnotationUtil.internListOf(GET)
+        );
+        return new DefaultAnnotationMetadata(all, stereotypes, stereotypes, all, byStereotype);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AnnotationMetadata argumentMetadata(String name) {
+        Map named = AnnotationUtil.internMapOf(NAMED, AnnotationUtil.internMapOf("value", name));
+        return new DefaultAnnotationMetadata(named, null, null, named, null);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.aop;
+
+import javax.inject.Singleton;
+
+/**
+ * A service with methods advised by a varying number of interceptors.
+ */
+@Singleton
+public class AdvisedService {
+
+    /**
+     * @param value The value
+     * @return The value
+     */
+    public String notAdvised(String value) {
+        return value;
+    }
+
+    /**
+     * @param value The value
+     * @return The value
+     */
+    @AroundAdvice.Unmatched
+    public String zeroInterceptors(String value) {
+        return value;
+    }
+
+    /**
+     * @param value The value
+     * @return The value
+     */
+    @AroundAdvice.First
+    public String oneInterceptor(String value) {
+        return value;
+    }
+
+    /**
+     * @param value The value
+     * @return The value
+     */
+    @AroundAdvice.First
+    @AroundAdvice.Second
+    @AroundAdvice.Third
+    public String threeInterceptors(String value) {
+        return value;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.aop;
+
+import io.micronaut.aop.Around;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Type;
+
+import javax.inject.Singleton;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Around advice used by {@link AroundAdviceBenchmark}. Every interceptor simply proceeds so that the benchmark
+ * measures the overhead of the interceptor chain itself.
+ */
+public final class AroundAdvice {
+
+    private AroundAdvice() {
+    }
+
+    /**
+     * Advice whose interceptor is not a bean, which results in a chain without interceptors.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @Around
+    @Type(UnmatchedInterceptor.class)
+    public @interface Unmatched {
+    }
+
+    /**
+     * First advice.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @Around
+    @Type(FirstInterceptor.class)
+    public @interface First {
+    }
+
+    /**
+     * Second advice.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @Around
+    @Type(SecondInterceptor.class)
+    public @interface Second {
+    }
+
+    /**
+     * Third advice.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @Around
+    @Type(ThirdInterceptor.class)
+    public @interface Third {
+    }
+
+    /**
+     * An interceptor that is not registered as a bean.
+     */
+    public static class UnmatchedInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    /**
+     * First interceptor.
+     */
+    @Singleton
+    public static class FirstInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    /**
+     * Second interceptor.
+     */
+    @Singleton
+    public static class SecondInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    /**
+     * Third interceptor.
+     */
+    @Singleton
+    public static class ThirdInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.aop;
+
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link io.micronaut.aop.Around} advice with zero, one and three interceptors. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=AroundAdviceBenchmark} and add {@code -prof gc} through the JMH
+ * options to compare the allocation rate of the interceptor chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AroundAdviceBenchmark {
+
+    private ApplicationContext applicationContext;
+    private AdvisedService service;
+    private String value = "test";
+
+    /**
+     * Starts the application context.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        service = applicationContext.getBean(AdvisedService.class);
+    }
+
+    /**
+     * Stops the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * @return The result
+     */
+    @Benchmark
+    public String notAdvised() {
+        return service.notAdvised(value);
+    }
+
+    /**
+     * @return The result
+     */
+    @Benchmark
+    public String zeroInterceptors() {
+        return service.zeroInterceptors(value);
+    }
+
+    /**
+     * @return The result
+     */
+    @Benchmark
+    public String oneInterceptor() {
+        return service.oneInterceptor(value);
+    }
+
+    /**
+     * @return The result
+     */
+    @Benchmark
+    public String threeInterceptors() {
+        return service.threeInterceptors(value);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.beans;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.beans.BeanMap;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.bind.JacksonBeanPropertyBinder;
+import io.micronaut.jackson.bind.MapToObjectConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading, writing and binding the properties of a bean through its generated introspection with the
+ * reflection and Jackson based paths used for beans that are not introspected. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=BeanIntrospectionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BeanIntrospectionBenchmark {
+
+    private IntrospectedBook introspectedBook;
+    private ReflectedBook reflectedBook;
+    private Map<String, Object> values;
+    private MapToObjectConverter converter;
+
+    /**
+     * Creates the beans and the values to bind.
+     */
+    @Setup
+    public void setup() {
+        introspectedBook = new IntrospectedBook();
+        reflectedBook = new ReflectedBook();
+        values = new LinkedHashMap<>();
+        values.put("title", "The Stand");
+        values.put("pages", "1152");
+        values.put("available", "true");
+        converter = new MapToObjectConverter(new JacksonBeanPropertyBinder(new ObjectMapper(), new JacksonConfiguration()));
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void readIntrospected(Blackhole blackhole) {
+        read(BeanMap.of(introspectedBook), blackhole);
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void readReflected(Blackhole blackhole) {
+        read(BeanMap.of(reflectedBook), blackhole);
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void writeIntrospected(Blackhole blackhole) {
+        BeanMap.of(introspectedBook).putAll(values);
+        blackhole.consume(introspectedBook);
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void writeReflected(Blackhole blackhole) {
+        BeanMap.of(reflectedBook).putAll(values);
+        blackhole.consume(reflectedBook);
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void bindIntrospected(Blackhole blackhole) {
+        blackhole.consume(converter.convert(values, (Class) IntrospectedBook.class, ConversionContext.DEFAULT));
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void bindReflected(Blackhole blackhole) {
+        blackhole.consume(converter.convert(values, (Class) ReflectedBook.class, ConversionContext.DEFAULT));
+    }
+
+    private void read(BeanMap<?> beanMap, Blackhole blackhole) {
+        blackhole.consume(beanMap.get("title"));
+        blackhole.consume(beanMap.get("pages"));
+        blackhole.consume(beanMap.get("available"));
+    }
+}
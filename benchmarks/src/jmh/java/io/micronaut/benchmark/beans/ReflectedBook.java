@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.beans;
+
+/**
+ * A bean that is only accessible with reflection, the same as {@link IntrospectedBook} without the annotation.
+ */
+public class ReflectedBook {
+
+    private String title;
+    private int pages;
+    private boolean available;
+
+    /**
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return The number of pages
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * @param pages The number of pages
+     */
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * @return Whether the book is available
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @param available Whether the book is available
+     */
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.convert;
+
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.DefaultConversionService;
+import io.micronaut.core.convert.value.ConvertibleMultiValues;
+import io.micronaut.core.convert.value.ConvertibleMultiValuesMap;
+import io.micronaut.core.type.Argument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of binding request parameters to method arguments, which converts every value from a
+ * {@link CharSequence} with the {@link ConversionService}. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=ArgumentBindingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentBindingBenchmark {
+
+    private ConvertibleMultiValues<String> parameters;
+    private ArgumentConversionContext<Integer> page;
+    private ArgumentConversionContext<Long> id;
+    private ArgumentConversionContext<Boolean> active;
+    private ArgumentConversionContext<UUID> token;
+    private ArgumentConversionContext<DayOfWeek> day;
+    private ArgumentConversionContext<Optional> size;
+
+    /**
+     * Creates the request parameters and the conversion contexts of the arguments.
+     */
+    @Setup
+    public void setup() {
+        Map<CharSequence, List<String>> values = new LinkedHashMap<>();
+        values.put("page", Collections.singletonList("12"));
+        values.put("id", Collections.singletonList("9876543210"));
+        values.put("active", Collections.singletonList("true"));
+        values.put("token", Collections.singletonList(UUID.randomUUID().toString()));
+        values.put("day", Collections.singletonList("monday"));
+        values.put("size", Collections.singletonList("50"));
+        parameters = new ConvertibleMultiValuesMap<>(values, new DefaultConversionService());
+        page = ConversionContext.of(Argument.of(int.class, "page"));
+        id = ConversionContext.of(Argument.of(Long.class, "id"));
+        active = ConversionContext.of(Argument.of(boolean.class, "active"));
+        token = ConversionContext.of(Argument.of(UUID.class, "token"));
+        day = ConversionContext.of(Argument.of(DayOfWeek.class, "day"));
+        size = ConversionContext.of(Argument.of(Optional.class, "size", Argument.of(Integer.class, "T")));
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void bindPrimitives(Blackhole blackhole) {
+        blackhole.consume(parameters.get("page", page));
+        blackhole.consume(parameters.get("id", id));
+        blackhole.consume(parameters.get("active", active));
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void bindUuidAndEnum(Blackhole blackhole) {
+        blackhole.consume(parameters.get("token", token));
+        blackhole.consume(parameters.get("day", day));
+    }
+
+    /**
+     * @param blackhole The blackhole
+     */
+    @Benchmark
+    public void bindOptional(Blackhole blackhole) {
+        blackhole.consume(parameters.get("size", size));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.executor;
+
+import io.micronaut.scheduling.executor.ExecutorFactory;
+import io.micronaut.scheduling.executor.ExecutorType;
+import io.micronaut.scheduling.executor.UserExecutorConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to complete 10,000 concurrent blocking requests, each of which blocks its thread for a few
+ * milliseconds like a controller method waiting on a database, on a {@link ExecutorType#CACHED} pool and on a
+ * {@link ExecutorType#VIRTUAL} executor. Run with {@code ./gradlew benchmarks:jmh -PjmhInclude=BlockingExecutorBenchmark}
+ * on a JVM that supports virtual threads, on other JVMs both executors are cached pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingExecutorBenchmark {
+
+    private static final int REQUESTS = 10000;
+
+    @Param({"CACHED", "VIRTUAL"})
+    private ExecutorType type;
+
+    @Param("10")
+    private int blockingMillis;
+
+    private ExecutorService executorService;
+
+    /**
+     * Creates the executor.
+     */
+    @Setup
+    public void setup() {
+        ExecutorFactory factory = new ExecutorFactory(Executors.defaultThreadFactory());
+        executorService = factory.executorService(UserExecutorConfiguration.of(type));
+    }
+
+    /**
+     * Shuts the executor down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Submits the requests and waits until all of them completed.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    @Benchmark
+    public void blockingRequests() throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    completed.countDown();
+                }
+            });
+        }
+        completed.await();
+    }
+}
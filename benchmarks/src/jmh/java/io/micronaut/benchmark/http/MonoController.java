@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.http;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A controller with routes that return a {@link Mono}.
+ */
+@Controller("/mono")
+public class MonoController {
+
+    /**
+     * @return A text result
+     */
+    @Get("/text")
+    public Mono<String> text() {
+        return Mono.just("text");
+    }
+
+    /**
+     * @return A result encoded as JSON
+     */
+    @Get("/json")
+    public Mono<Map<String, String>> json() {
+        return Mono.just(Collections.singletonMap("name", "Fred"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.http;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures requests to routes that return a {@link reactor.core.publisher.Mono}, with the result converted to RxJava
+ * types and with {@code micronaut.server.netty.reactor-native} enabled. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=MonoRouteBenchmark} and add {@code -prof gc} through the JMH options to
+ * compare the allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonoRouteBenchmark {
+
+    @Param({"false", "true"})
+    private boolean reactorNative;
+
+    private EmbeddedServer embeddedServer;
+    private HttpClient httpClient;
+    private BlockingHttpClient client;
+
+    /**
+     * Starts the server and the client.
+     */
+    @Setup
+    public void setup() {
+        embeddedServer = ApplicationContext.run(EmbeddedServer.class, CollectionUtils.mapOf(
+                "micronaut.server.port", -1,
+                "micronaut.server.netty.reactor-native", reactorNative
+        ));
+        httpClient = embeddedServer.getApplicationContext().createBean(HttpClient.class, embeddedServer.getURL());
+        client = httpClient.toBlocking();
+    }
+
+    /**
+     * Stops the client and the server.
+     */
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        embeddedServer.close();
+    }
+
+    /**
+     * @return The response body
+     */
+    @Benchmark
+    public String text() {
+        return client.retrieve("/mono/text");
+    }
+
+    /**
+     * @return The response body
+     */
+    @Benchmark
+    public Map json() {
+        return client.retrieve("/mono/json", Map.class);
+    }
+}
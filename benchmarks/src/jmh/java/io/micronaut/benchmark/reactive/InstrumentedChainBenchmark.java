@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.reactive;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.util.CollectionUtils;
+import io.reactivex.Flowable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a chain of 10 RxJava operators assembled and subscribed with each
+ * {@code micronaut.rxjava2.instrumentation.mode}, with a {@link ThreadLocalInstrumenter} that is active or that does
+ * not return an instrumentation. Run with {@code ./gradlew benchmarks:jmh -PjmhInclude=InstrumentedChainBenchmark}
+ * and add {@code -prof gc} through the JMH options to compare the allocations per chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstrumentedChainBenchmark {
+
+    @Param({"NONE", "ASSEMBLY", "SUBSCRIPTION"})
+    private String mode;
+
+    @Param({"true", "false"})
+    private boolean active;
+
+    @Param("100")
+    private int items;
+
+    private ApplicationContext applicationContext;
+
+    /**
+     * Starts the application context, which installs the RxJava hooks.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run(CollectionUtils.mapOf(
+                "micronaut.rxjava2.instrumentation.mode", mode,
+                "benchmark.instrumenter.active", active
+        ));
+        ThreadLocalInstrumenter.STATE.set("request");
+    }
+
+    /**
+     * Stops the application context, which removes the RxJava hooks.
+     */
+    @TearDown
+    public void tearDown() {
+        ThreadLocalInstrumenter.STATE.remove();
+        applicationContext.close();
+    }
+
+    /**
+     * @return The result of the chain
+     */
+    @Benchmark
+    public long tenOperators() {
+        return Flowable.range(0, items)
+                .map(i -> i + 1)
+                .filter(i -> i % 3 != 0)
+                .map(i -> i * 2)
+                .filter(i -> i % 5 != 0)
+                .map(Integer::longValue)
+                .skip(1)
+                .take(items)
+                .distinctUntilChanged()
+                .scan(0L, (sum, i) -> sum + i)
+                .reduce(0L, Long::max)
+                .blockingGet();
+    }
+}
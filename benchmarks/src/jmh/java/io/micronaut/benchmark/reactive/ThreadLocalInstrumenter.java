@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.reactive;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.instrument.ReactiveInstrumenter;
+import io.micronaut.scheduling.instrument.RunnableInstrumenter;
+
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * A {@link ReactiveInstrumenter} that propagates a thread local, like the current request is propagated, when
+ * {@code benchmark.instrumenter.active} is true.
+ */
+@Singleton
+public class ThreadLocalInstrumenter implements ReactiveInstrumenter {
+
+    static final ThreadLocal<Object> STATE = new ThreadLocal<>();
+
+    private final boolean active;
+
+    /**
+     * @param active Whether an instrumentation is returned
+     */
+    public ThreadLocalInstrumenter(@Value("${benchmark.instrumenter.active:true}") boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public Optional<RunnableInstrumenter> newInstrumentation() {
+        if (!active) {
+            return Optional.empty();
+        }
+        Object state = STATE.get();
+        return Optional.of(new RunnableInstrumenter() {
+            @Override
+            public Runnable instrument(Runnable command) {
+                return () -> {
+                    Object previous = STATE.get();
+                    STATE.set(state);
+                    try {
+                        command.run();
+                    } finally {
+                        STATE.set(previous);
+                    }
+                };
+            }
+        });
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.scan;
+
+import io.micronaut.core.io.scan.AnnotationIndex;
+import io.micronaut.core.io.scan.ClassPathAnnotationScanner;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+/**
+ * Compares scanning a JAR of 20,000 classes for an annotation with and without an annotation index. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=ClassPathScanBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassPathScanBenchmark {
+
+    private static final int CLASSES = 20000;
+    private static final int ANNOTATED_EVERY = 100;
+    private static final int PACKAGES = 50;
+    private static final String PACKAGE = "bench.scan";
+    private static final String ANNOTATION = "bench.scan.Entity";
+
+    private File indexedJar;
+    private File plainJar;
+    private URLClassLoader indexedClassLoader;
+    private URLClassLoader plainClassLoader;
+
+    /**
+     * Writes the JAR files.
+     *
+     * @throws IOException If the JAR files cannot be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        indexedJar = File.createTempFile("indexed", ".jar");
+        plainJar = File.createTempFile("plain", ".jar");
+        writeJar(indexedJar, true);
+        writeJar(plainJar, false);
+        indexedClassLoader = new URLClassLoader(new URL[] {indexedJar.toURI().toURL()}, null);
+        plainClassLoader = new URLClassLoader(new URL[] {plainJar.toURI().toURL()}, null);
+    }
+
+    /**
+     * Deletes the JAR files.
+     *
+     * @throws IOException If the class loaders cannot be closed
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        indexedClassLoader.close();
+        plainClassLoader.close();
+        Files.deleteIfExists(indexedJar.toPath());
+        Files.deleteIfExists(plainJar.toPath());
+    }
+
+    /**
+     * @return The annotated classes
+     */
+    @Benchmark
+    public List<Class> scanIndexed() {
+        return scan(indexedClassLoader);
+    }
+
+    /**
+     * @return The annotated classes
+     */
+    @Benchmark
+    public List<Class> scanBytecode() {
+        return scan(plainClassLoader);
+    }
+
+    private List<Class> scan(ClassLoader classLoader) {
+        List<Class> classes = new ClassPathAnnotationScanner(classLoader).scan(ANNOTATION, PACKAGE).collect(Collectors.toList());
+        if (classes.size() != CLASSES / ANNOTATED_EVERY) {
+            throw new IllegalStateException("Found " + classes.size() + " annotated classes");
+        }
+        return classes;
+    }
+
+    private static void writeJar(File file, boolean index) throws IOException {
+        TreeSet<String> annotated = new TreeSet<>();
+        TreeSet<String> indexed = new TreeSet<>();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(file.toPath()))) {
+            // the scanner finds the JAR through the directory entry of the package, as written by the jar tool
+            String packagePath = PACKAGE.replace('.', '/');
+            jar.putNextEntry(new JarEntry(packagePath.substring(0, packagePath.indexOf('/') + 1)));
+            jar.putNextEntry(new JarEntry(packagePath + "/"));
+            for (int i = 0; i < PACKAGES; i++) {
+                jar.putNextEntry(new JarEntry(packagePath + "/p" + i + "/"));
+            }
+            for (int i = 0; i < CLASSES; i++) {
+                String className = PACKAGE + ".p" + (i % PACKAGES) + ".Type" + i;
+                boolean isAnnotated = i % ANNOTATED_EVERY == 0;
+                if (isAnnotated) {
+                    annotated.add(className);
+                }
+                indexed.add(className);
+                jar.putNextEntry(new JarEntry(className.replace('.', '/') + ".class"));
+                jar.write(generateClass(className, isAnnotated));
+                jar.closeEntry();
+            }
+            if (index) {
+                Map<String, TreeSet<String>> classNames = Collections.singletonMap(ANNOTATION, annotated);
+                jar.putNextEntry(new JarEntry(AnnotationIndex.PATH));
+                Writer writer = new OutputStreamWriter(jar, StandardCharsets.UTF_8);
+                new AnnotationIndex(classNames, indexed).write(writer);
+                jar.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] generateClass(String className, boolean annotated) {
+        ClassWriter classWriter = new ClassWriter(0);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, className.replace('.', '/'), null, "java/lang/Object", null);
+        if (annotated) {
+            classWriter.visitAnnotation("L" + ANNOTATION.replace('.', '/') + ";", true).visitEnd();
+        } else {
+            classWriter.visitAnnotation("Ljava/lang/Deprecated;", true).visitEnd();
+        }
+        classWriter.visitField(Opcodes.ACC_PRIVATE, "name", "Ljava/lang/String;", null, null).visitEnd();
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.benchmark.scheduling;
+
+import io.micronaut.scheduling.cron.CronExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the computation of the next time of cron expressions, from an expression that matches every second to
+ * expressions that only match a few days a year. Run with
+ * {@code ./gradlew benchmarks:jmh -PjmhInclude=CronExpressionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CronExpressionBenchmark {
+
+    @Param({
+            "* * * * * *",
+            "0 */15 9-17 * * MON-FRI",
+            "0 0 0 L * ?",
+            "0 0 12 15W * ?",
+            "0 30 2 ? * 5#3",
+            "0 0 0 29 2 ?"
+    })
+    private String expression;
+
+    private CronExpression cronExpression;
+    private ZonedDateTime afterTime;
+
+    /**
+     * Parses the expression.
+     */
+    @Setup
+    public void setup() {
+        cronExpression = CronExpression.create(expression);
+        afterTime = ZonedDateTime.of(2019, 3, 9, 13, 47, 21, 0, ZoneId.of("Europe/Oslo"));
+    }
+
+    /**
+     * @return The next time after a fixed time
+     */
+    @Benchmark
+    public ZonedDateTime nextTimeAfter() {
+        return cronExpression.nextTimeAfter(afterTime);
+    }
+
+    /**
+     * @return The expression parsed again, which is done once per scheduled task
+     */
+    @Benchmark
+    public CronExpression create() {
+        return CronExpression.create(expression);
+    }
+}
@@ -80,8 +80,8 @@ public class AnnotationUtil {
         }
     };
 
-    private static final Map<Integer, List<String>> INTERN_LIST_POOL = new ConcurrentHashMap<>();
-    private static final Map<String, Map<String, Object>> INTERN_MAP_POOL = new ConcurrentHashMap<>();
+    private static final Map<List<String>, List<String>> INTERN_LIST_POOL = new ConcurrentHashMap<>();
+    private static final Map<Map<String, Object>, Map<String, Object>> INTERN_MAP_POOL = new ConcurrentHashMap<>();
 
     /**
      * Converts the given objects into a set of interned strings contained within an internal pool of lists. See {@link String#intern()}.
@@ -98,8 +98,9 @@ public class AnnotationUtil {
             return Collections.emptyList();
         }
 
-        Integer hash = Arrays.hashCode(objects);
-        return INTERN_LIST_POOL.computeIfAbsent(hash, integer -> StringUtils.internListOf(objects));
+        List<String> list = StringUtils.internListOf(objects);
+        List<String> existing = INTERN_LIST_POOL.putIfAbsent(list, list);
+        return existing != null ? existing : list;
     }
 
 
@@ -108,8 +109,12 @@ public class AnnotationUtil {
      *
      * <p>The values stored at even number positions will be converted to strings and interned.</p>
      *
+     * <p>This method serves the purpose of reducing memory footprint in compiled {@link AnnotationMetadata}. Small maps
+     * are backed by flat arrays and maps whose values are only strings, primitive wrappers or other pooled maps are
+     * shared between all the elements that declare the same annotation values.</p>
+     *
      * @param values The objects
-     * @return An unmodifiable set of strings
+     * @return An unmodifiable map of strings
      * @see io.micronaut.core.util.CollectionUtils#mapOf(Object...)
      */
     @SuppressWarnings("unused")
@@ -123,21 +128,55 @@ public class AnnotationUtil {
             throw new IllegalArgumentException("Number of arguments should be an even number representing the keys and values");
         }
 
-        // if the length is 2 then only a single annotation is defined, so tried use internal pool
-        if (len == 2) {
-            Object value = values[1];
-            if (value == Collections.EMPTY_MAP) {
-                String key = values[0].toString().intern();
-                return INTERN_MAP_POOL.computeIfAbsent(key, s ->
-                        Collections.singletonMap(s, Collections.emptyMap())
-                );
-            } else {
-                return StringUtils.internMapOf(values);
+        int size = len / 2;
+        if (size > ArrayMap.MAX_SIZE) {
+            return Collections.unmodifiableMap(StringUtils.internMapOf(values));
+        }
+        String[] keys = new String[size];
+        Object[] mapValues = new Object[size];
+        boolean poolable = true;
+        int count = 0;
+        for (int i = 0; i < len; i += 2) {
+            String key = values[i].toString().intern();
+            Object value = values[i + 1];
+            poolable = poolable && isPoolable(value);
+            int index = 0;
+            while (index < count && keys[index] != key) {
+                index++;
+            }
+            keys[index] = key;
+            mapValues[index] = value;
+            if (index == count) {
+                count++;
+            }
+        }
+        if (count < size) {
+            keys = Arrays.copyOf(keys, count);
+            mapValues = Arrays.copyOf(mapValues, count);
+        }
+        Map<String, Object> map = new ArrayMap<>(keys, mapValues, poolable);
+        if (poolable) {
+            Map<String, Object> existing = INTERN_MAP_POOL.putIfAbsent(map, map);
+            if (existing != null) {
+                return existing;
             }
-
-        } else {
-            return StringUtils.internMapOf(values);
         }
+        return map;
+    }
+
+    /**
+     * Only values that are immutable and cannot hold a reference to an application class loader are shared.
+     *
+     * @param value The value
+     * @return Whether a map that contains the value can be pooled
+     */
+    private static boolean isPoolable(Object value) {
+        return value instanceof String ||
+                value instanceof Boolean ||
+                value instanceof Number ||
+                value instanceof Character ||
+                value == Collections.EMPTY_MAP ||
+                (value instanceof ArrayMap && ((ArrayMap) value).isInterned());
     }
 
     /**
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.annotation;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of annotation names or member names to values, backed by flat arrays. Lookups compare the cached
+ * hash codes of the keys before comparing the keys themselves, so finding one of the few annotations of an element
+ * is a scan of an {@code int} array. Created by {@link AnnotationUtil#internMapOf(Object...)}.
+ *
+ * @param <V> The value type
+ * @since 1.1
+ */
+@Internal
+final class ArrayMap<V> extends AbstractMap<String, V> {
+
+    /**
+     * The maximum number of entries of an array map, larger maps are hashed.
+     */
+    static final int MAX_SIZE = 16;
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+    private final boolean interned;
+    private Set<Entry<String, V>> entrySet;
+    private int hashCode;
+
+    /**
+     * @param keys     The interned keys
+     * @param values   The values
+     * @param interned Whether the map is shared through the intern pool of {@link AnnotationUtil}
+     */
+    ArrayMap(String[] keys, Object[] values, boolean interned) {
+        this.keys = keys;
+        this.values = values;
+        this.interned = interned;
+        this.hashes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = keys[i].hashCode();
+        }
+    }
+
+    /**
+     * @return Whether the map is shared through the intern pool
+     */
+    boolean isInterned() {
+        return interned;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) > -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int i = indexOf(key);
+        return i > -1 ? (V) values[i] : null;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        Set<Entry<String, V>> entries = this.entrySet;
+        if (entries == null) {
+            entries = new AbstractSet<Entry<String, V>>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<Entry<String, V>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < keys.length;
+                        }
+
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public Entry<String, V> next() {
+                            if (index >= keys.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = index++;
+                            return new SimpleImmutableEntry<>(keys[i], (V) values[i]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+            this.entrySet = entries;
+        }
+        return entries;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hashCode;
+        if (h == 0 && keys.length > 0) {
+            h = super.hashCode();
+            hashCode = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof ArrayMap) {
+            ArrayMap<?> other = (ArrayMap<?>) o;
+            if (other.keys.length != keys.length || other.hashCode() != hashCode()) {
+                return false;
+            }
+        }
+        return o instanceof Map && super.equals(o);
+    }
+
+    private int indexOf(Object key) {
+        if (key != null) {
+            int hash = key.hashCode();
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] == hash && (keys[i] == key || keys[i].equals(key))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
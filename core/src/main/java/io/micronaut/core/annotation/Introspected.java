@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * An annotation that indicates a type should have a {@link io.micronaut.core.beans.BeanIntrospection} generated at
+ * compilation time, so that its properties can be read and written and new instances created without reflection.
+ *
+ * <p>The introspection exposes the public getters of the type together with any matching public setters, and the
+ * public no-argument constructor or otherwise the single public constructor of the type.</p>
+ *
+ * @see io.micronaut.core.beans.BeanIntrospector
+ * @since 1.1
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Introspected {
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.UsedByGeneratedCode;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.reflect.exception.InstantiationException;
+import io.micronaut.core.type.Argument;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Abstract implementation of {@link BeanIntrospection} that is subclassed by the introspections generated at
+ * compilation time. The generated constructor registers the properties and constructor arguments of the bean, and the
+ * generated methods dispatch on the index of a property to invoke its getter or setter directly.
+ *
+ * @param <T> The bean type
+ * @since 1.1
+ */
+@Internal
+@UsedByGeneratedCode
+public abstract class AbstractBeanIntrospection<T> implements BeanIntrospection<T> {
+
+    private final Class<T> beanType;
+    private final boolean instantiable;
+    private final List<BeanProperty<T, Object>> properties = new ArrayList<>();
+    private final Map<String, BeanProperty<T, Object>> propertiesByName = new HashMap<>();
+    private final List<Argument<?>> constructorArguments = new ArrayList<>(2);
+    private Argument<?>[] constructorArgumentArray = Argument.ZERO_ARGUMENTS;
+
+    /**
+     * @param beanType     The bean type
+     * @param instantiable Whether the bean has a public constructor
+     */
+    @UsedByGeneratedCode
+    protected AbstractBeanIntrospection(Class<T> beanType, boolean instantiable) {
+        this.beanType = beanType;
+        this.instantiable = instantiable;
+    }
+
+    @Override
+    public Class<T> getBeanType() {
+        return beanType;
+    }
+
+    @Override
+    public Collection<BeanProperty<T, Object>> getBeanProperties() {
+        return Collections.unmodifiableList(properties);
+    }
+
+    @Override
+    public Optional<BeanProperty<T, Object>> getProperty(String name) {
+        return Optional.ofNullable(propertiesByName.get(name));
+    }
+
+    @Override
+    public Argument<?>[] getConstructorArguments() {
+        return constructorArgumentArray.length == 0 ? constructorArgumentArray : constructorArgumentArray.clone();
+    }
+
+    @Override
+    public boolean isInstantiable() {
+        return instantiable;
+    }
+
+    @Override
+    public T instantiate(Object... arguments) {
+        if (!instantiable) {
+            throw new InstantiationException("No public constructor found for bean type: " + beanType.getName());
+        }
+        Argument<?>[] constructorArguments = constructorArgumentArray;
+        Object[] values = arguments == null ? new Object[0] : arguments;
+        if (values.length != constructorArguments.length) {
+            throw new InstantiationException("Bean type [" + beanType.getName() + "] requires " + constructorArguments.length + " constructor arguments but " + values.length + " were given");
+        }
+        for (int i = 0; i < values.length; i++) {
+            Argument<?> argument = constructorArguments[i];
+            Class<?> type = ReflectionUtils.getWrapperType(argument.getType());
+            Object value = values[i];
+            if (value == null ? argument.getType().isPrimitive() : !type.isInstance(value)) {
+                Object converted = value == null ? null : ConversionService.SHARED.convert(value, type).orElse(null);
+                if (converted == null) {
+                    throw new InstantiationException("Invalid value [" + value + "] for constructor argument [" + argument.getName() + "] of bean type: " + beanType.getName());
+                }
+                if (values == arguments) {
+                    values = arguments.clone();
+                }
+                values[i] = converted;
+            }
+        }
+        return instantiateInternal(values);
+    }
+
+    /**
+     * Registers a property of the bean. The index of the property is the number of properties registered before it.
+     *
+     * @param name     The name of the property
+     * @param type     The type of the property
+     * @param readOnly Whether the property has no setter
+     */
+    @UsedByGeneratedCode
+    protected final void addProperty(String name, Class<?> type, boolean readOnly) {
+        IndexedBeanProperty property = new IndexedBeanProperty(properties.size(), name, type, readOnly);
+        properties.add(property);
+        propertiesByName.put(name, property);
+    }
+
+    /**
+     * Registers the next argument of the constructor used to instantiate the bean.
+     *
+     * @param name The name of the argument
+     * @param type The type of the argument
+     */
+    @UsedByGeneratedCode
+    protected final void addConstructorArgument(String name, Class<?> type) {
+        constructorArguments.add(Argument.of(type, name));
+        constructorArgumentArray = constructorArguments.toArray(Argument.ZERO_ARGUMENTS);
+    }
+
+    /**
+     * Reads the property with the given index.
+     *
+     * @param index The index of the property
+     * @param bean  The bean
+     * @return The value
+     */
+    @UsedByGeneratedCode
+    protected abstract Object readInternal(int index, Object bean);
+
+    /**
+     * Writes the property with the given index.
+     *
+     * @param index The index of the property
+     * @param bean  The bean
+     * @param value The value
+     */
+    @UsedByGeneratedCode
+    protected abstract void writeInternal(int index, Object bean, Object value);
+
+    /**
+     * Invokes the constructor of the bean. Overridden by generated code when the bean is instantiable.
+     *
+     * @param arguments The constructor arguments, already of the correct types
+     * @return The new bean
+     */
+    @UsedByGeneratedCode
+    protected T instantiateInternal(Object[] arguments) {
+        throw new InstantiationException("No public constructor found for bean type: " + beanType.getName());
+    }
+
+    /**
+     * Creates the exception thrown by generated code for an index that does not match a readable or writable
+     * property.
+     *
+     * @param index The index
+     * @return The exception to throw
+     */
+    @UsedByGeneratedCode
+    protected final RuntimeException unknownProperty(int index) {
+        if (index >= 0 && index < properties.size()) {
+            BeanProperty<T, Object> property = properties.get(index);
+            return new UnsupportedOperationException("Property [" + property.getName() + "] of bean type [" + beanType.getName() + "] is read only");
+        }
+        return new IllegalArgumentException("No property with index [" + index + "] for bean type: " + beanType.getName());
+    }
+
+    /**
+     * A property that delegates to the generated methods with its index.
+     */
+    private final class IndexedBeanProperty implements BeanProperty<T, Object> {
+
+        private final int index;
+        private final String name;
+        private final Class<Object> type;
+        private final boolean readOnly;
+        private final Object nullValue;
+
+        @SuppressWarnings("unchecked")
+        IndexedBeanProperty(int index, String name, Class<?> type, boolean readOnly) {
+            this.index = index;
+            this.name = name;
+            this.type = (Class<Object>) type;
+            this.readOnly = readOnly;
+            // the generated setter unboxes the value, so null is replaced by the default value of a primitive type
+            this.nullValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Class<Object> getType() {
+            return type;
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
+        @Override
+        public Object get(T bean) {
+            return readInternal(index, bean);
+        }
+
+        @Override
+        public void set(T bean, Object value) {
+            writeInternal(index, bean, value == null ? nullValue : value);
+        }
+
+        @Override
+        public String toString() {
+            return beanType.getSimpleName() + "." + name;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+import io.micronaut.core.type.Argument;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A reflection free view of the properties and constructor of a bean type, generated at compilation time for types
+ * annotated with {@link io.micronaut.core.annotation.Introspected}.
+ *
+ * @param <T> The bean type
+ * @see BeanIntrospector
+ * @since 1.1
+ */
+public interface BeanIntrospection<T> {
+
+    /**
+     * @return The bean type
+     */
+    Class<T> getBeanType();
+
+    /**
+     * @return The properties of the bean, in declaration order
+     */
+    Collection<BeanProperty<T, Object>> getBeanProperties();
+
+    /**
+     * Finds a property of the bean by name.
+     *
+     * @param name The property name
+     * @return The property, if it exists
+     */
+    Optional<BeanProperty<T, Object>> getProperty(String name);
+
+    /**
+     * @return The arguments of the constructor used to instantiate the bean
+     */
+    Argument<?>[] getConstructorArguments();
+
+    /**
+     * @return Whether the bean can be instantiated with {@link #instantiate(Object...)}
+     */
+    boolean isInstantiable();
+
+    /**
+     * Instantiates the bean with a constructor that takes no arguments.
+     *
+     * @return The new bean
+     * @throws io.micronaut.core.reflect.exception.InstantiationException If the bean has no constructor without
+     *                                                                    arguments
+     */
+    default T instantiate() {
+        return instantiate(new Object[0]);
+    }
+
+    /**
+     * Instantiates the bean with the given constructor arguments. Arguments that are not instances of the
+     * corresponding {@link #getConstructorArguments() constructor argument} type are converted with the
+     * {@link io.micronaut.core.convert.ConversionService#SHARED shared conversion service}.
+     *
+     * @param arguments The constructor arguments
+     * @return The new bean
+     * @throws io.micronaut.core.reflect.exception.InstantiationException If the bean cannot be instantiated with the
+     *                                                                    given arguments
+     */
+    T instantiate(Object... arguments);
+}
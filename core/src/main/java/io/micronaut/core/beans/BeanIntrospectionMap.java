@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link BeanMap} implementation that reads and writes properties through a {@link BeanIntrospection}.
+ *
+ * @param <T> type Generic
+ * @since 1.1
+ */
+@Internal
+class BeanIntrospectionMap<T> implements BeanMap<T> {
+
+    private final BeanIntrospection<T> introspection;
+    private final T bean;
+
+    /**
+     * Constructor.
+     *
+     * @param introspection The introspection
+     * @param bean          The bean
+     */
+    BeanIntrospectionMap(BeanIntrospection<T> introspection, T bean) {
+        Objects.requireNonNull(bean, "Bean cannot be null");
+        this.introspection = introspection;
+        this.bean = bean;
+    }
+
+    @Override
+    public Class<T> getBeanType() {
+        return introspection.getBeanType();
+    }
+
+    @Override
+    public int size() {
+        return introspection.getBeanProperties().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return introspection.getBeanProperties().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && introspection.getProperty((String) key).isPresent();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return values().contains(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            Optional<BeanProperty<T, Object>> property = introspection.getProperty((String) key);
+            if (property.isPresent()) {
+                return property.get().get(bean);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Optional<BeanProperty<T, Object>> property = introspection.getProperty(key);
+        if (property.isPresent() && !property.get().isReadOnly()) {
+            BeanProperty<T, Object> beanProperty = property.get();
+            Class<?> targetType = ReflectionUtils.getWrapperType(beanProperty.getType());
+            Optional<?> converted = targetType.isInstance(value) ? Optional.of(value) : ConversionService.SHARED.convert(value, targetType);
+            if (converted.isPresent()) {
+                beanProperty.set(bean, converted.get());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException("Removal is not supported");
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        for (Entry<? extends String, ?> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Removal is not supported");
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> names = new LinkedHashSet<>();
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            names.add(property.getName());
+        }
+        return names;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        Collection<BeanProperty<T, Object>> properties = introspection.getBeanProperties();
+        List<Object> values = new ArrayList<>(properties.size());
+        for (BeanProperty<T, Object> property : properties) {
+            values.add(property.get(bean));
+        }
+        return values;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entries = new LinkedHashSet<>();
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            entries.add(new AbstractMap.SimpleEntry<String, Object>(property.getName(), null) {
+                @Override
+                public Object getValue() {
+                    return property.get(bean);
+                }
+
+                @Override
+                public Object setValue(Object value) {
+                    return put(property.getName(), value);
+                }
+            });
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.reflect.ReflectionUtils;
+
+import java.util.Optional;
+
+/**
+ * Locates the {@link BeanIntrospection} generated for a type annotated with {@link Introspected}. The generated class
+ * is loaded once per type and cached, so repeated lookups are cheap.
+ *
+ * @since 1.1
+ */
+public final class BeanIntrospector {
+
+    /**
+     * The suffix of the name of the generated introspection classes.
+     */
+    public static final String INTROSPECTION_SUFFIX = "Introspection";
+
+    private static final ClassValue<Optional<BeanIntrospection<?>>> INTROSPECTIONS = new ClassValue<Optional<BeanIntrospection<?>>>() {
+        @Override
+        protected Optional<BeanIntrospection<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(loadIntrospection(type));
+        }
+    };
+    private static final ClassValue<Optional<BeanIntrospection<?>>> INSTANCE_INTROSPECTIONS = new ClassValue<Optional<BeanIntrospection<?>>>() {
+        @Override
+        protected Optional<BeanIntrospection<?>> computeValue(Class<?> type) {
+            Optional<BeanIntrospection<?>> introspection = INTROSPECTIONS.get(type);
+            if (!introspection.isPresent()) {
+                for (Class<?> interfaceType : ReflectionUtils.getAllInterfaces(type)) {
+                    introspection = INTROSPECTIONS.get(interfaceType);
+                    if (introspection.isPresent()) {
+                        break;
+                    }
+                }
+            }
+            return introspection;
+        }
+    };
+
+    private BeanIntrospector() {
+    }
+
+    /**
+     * Finds the introspection of the given type.
+     *
+     * @param type The type
+     * @param <T>  The bean type
+     * @return The introspection, or empty if the type is not annotated with {@link Introspected} or the introspection
+     * was not generated
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<BeanIntrospection<T>> findIntrospection(Class<T> type) {
+        if (type == null) {
+            return Optional.empty();
+        }
+        Optional<?> introspection = INTROSPECTIONS.get(type);
+        return (Optional<BeanIntrospection<T>>) introspection;
+    }
+
+    /**
+     * Finds the introspection used to access the properties of the given bean. The introspection of the class of the
+     * bean is used if there is one, otherwise the introspection of an {@link Introspected} interface that the class
+     * implements. An introspection found through an interface only exposes the properties of the interface and
+     * cannot instantiate the class of the bean.
+     *
+     * @param bean The bean
+     * @param <T>  The bean type
+     * @return The introspection, or empty if neither the class of the bean nor its interfaces are introspected
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<BeanIntrospection<T>> findInstanceIntrospection(T bean) {
+        if (bean == null) {
+            return Optional.empty();
+        }
+        Optional<?> introspection = INSTANCE_INTROSPECTIONS.get(bean.getClass());
+        return (Optional<BeanIntrospection<T>>) introspection;
+    }
+
+    /**
+     * Returns the name of the generated introspection class for the given class name. The introspection is generated
+     * in the package of the type, with the name of the type prefixed by {@code $} and suffixed by
+     * {@value #INTROSPECTION_SUFFIX}.
+     *
+     * @param className The fully qualified (binary) class name
+     * @return The name of the introspection class
+     */
+    public static String getIntrospectionName(String className) {
+        int i = className.lastIndexOf('.');
+        String packagePrefix = i > -1 ? className.substring(0, i + 1) : "";
+        return packagePrefix + '$' + className.substring(i + 1) + INTROSPECTION_SUFFIX;
+    }
+
+    private static BeanIntrospection<?> loadIntrospection(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || !type.isAnnotationPresent(Introspected.class)) {
+            return null;
+        }
+        try {
+            Class<?> introspectionClass = Class.forName(getIntrospectionName(type.getName()), true, classLoader);
+            if (BeanIntrospection.class.isAssignableFrom(introspectionClass)) {
+                return (BeanIntrospection<?>) introspectionClass.newInstance();
+            }
+        } catch (ClassNotFoundException | LinkageError | InstantiationException | IllegalAccessException e) {
+            // not generated, for example when the type was compiled without the annotation processor
+        }
+        return null;
+    }
+}
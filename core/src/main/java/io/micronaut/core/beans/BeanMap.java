@@ -16,6 +16,8 @@
 package io.micronaut.core.beans;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Simple class that provides a map interface over a bean.
@@ -31,13 +33,20 @@ public interface BeanMap<T> extends Map<String, Object> {
     Class<T> getBeanType();
 
     /**
-     * Creates a {@link BeanMap} for the given bean.
+     * Creates a {@link BeanMap} for the given bean. If the bean type, or one of its interfaces, is annotated with
+     * {@link io.micronaut.core.annotation.Introspected} the generated {@link BeanIntrospection} is used, otherwise
+     * the properties are read and written with reflection.
      *
      * @param bean The bean
      * @param <B> type Generic
      * @return The bean map
      */
     static <B> BeanMap<B> of(B bean) {
+        Objects.requireNonNull(bean, "Bean cannot be null");
+        Optional<BeanIntrospection<B>> introspection = BeanIntrospector.findInstanceIntrospection(bean);
+        if (introspection.isPresent()) {
+            return new BeanIntrospectionMap<>(introspection.get(), bean);
+        }
         return new ReflectionBeanMap<>(bean);
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+/**
+ * A property of a bean that is read and written by generated code. See {@link BeanIntrospection}.
+ *
+ * @param <B> The bean type
+ * @param <T> The property type
+ * @since 1.1
+ */
+public interface BeanProperty<B, T> {
+
+    /**
+     * @return The name of the property
+     */
+    String getName();
+
+    /**
+     * @return The type of the property
+     */
+    Class<T> getType();
+
+    /**
+     * @return Whether the property has no setter
+     */
+    boolean isReadOnly();
+
+    /**
+     * Reads the property of the given bean.
+     *
+     * @param bean The bean
+     * @return The value of the property
+     */
+    T get(B bean);
+
+    /**
+     * Writes the property of the given bean.
+     *
+     * @param bean  The bean
+     * @param value The value, which must be an instance of the {@link #getType() property type}. A null value sets a
+     *              property of a primitive type to its default value
+     * @throws UnsupportedOperationException If the property is {@link #isReadOnly() read only}
+     */
+    void set(B bean, T value);
+}
@@ -32,6 +32,7 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.core.util.clhm.Weighers;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -68,8 +69,33 @@ import java.util.function.Function;
 public class DefaultConversionService implements ConversionService<DefaultConversionService> {
 
     private static final int CACHE_MAX = 60;
+    private static final int TABLE_MAX = 500;
+    private static final String FORMAT = Format.class.getName();
+    private static final TypeConverter UNCONVERTIBLE = (object, targetType, context) -> Optional.empty();
+    private static final ClassValue<Map<String, Enum>> ENUM_CONSTANTS = new ClassValue<Map<String, Enum>>() {
+        @Override
+        protected Map<String, Enum> computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if (constants == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, Enum> names = new HashMap<>(constants.length * 2);
+            for (Object constant : constants) {
+                names.put(((Enum) constant).name(), (Enum) constant);
+            }
+            return names;
+        }
+    };
+
     private final Map<ConvertiblePair, TypeConverter> typeConverters = new ConcurrentHashMap<>();
     private final Map<ConvertiblePair, TypeConverter> converterCache = new ConcurrentLinkedHashMap.Builder<ConvertiblePair, TypeConverter>().maximumWeightedCapacity(CACHE_MAX).build();
+    /**
+     * The converters resolved for exact source and target types without a formatting annotation, keyed by source type.
+     * The maps of target types are never modified once published, and the table is replaced when a converter is added.
+     * The table holds at most {@link #TABLE_MAX} pairs and evicts the least recently used source types, so that the
+     * shared service does not keep every type it ever converted, and its class loader, reachable.
+     */
+    private volatile Map<Class, Map<Class, TypeConverter>> converterTable = newConverterTable();
 
     /**
      * Constructor.
@@ -94,34 +120,29 @@ public class DefaultConversionService implements ConversionService<DefaultConver
             return Optional.of((T) object);
         }
 
-        Optional<? extends Class<? extends Annotation>> formattingAnn = context.getAnnotationMetadata().getAnnotationTypeByStereotype(Format.class);
-        Class<? extends Annotation> formattingAnnotation = formattingAnn.orElse(null);
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
-        TypeConverter typeConverter = converterCache.get(pair);
-        if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+        AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+        TypeConverter typeConverter;
+        if (annotationMetadata.hasStereotype(FORMAT)) {
+            Class<? extends Annotation> formattingAnnotation = annotationMetadata.getAnnotationTypeByStereotype(Format.class).orElse(null);
+            ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
+            typeConverter = converterCache.get(pair);
             if (typeConverter == null) {
-                return Optional.empty();
-            } else {
-                converterCache.put(pair, typeConverter);
+                typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+                if (typeConverter == null) {
+                    return Optional.empty();
+                } else {
+                    converterCache.put(pair, typeConverter);
+                }
             }
+        } else {
+            typeConverter = findExactTypeConverter(sourceType, targetType);
         }
         return typeConverter.convert(object, targetType, context);
     }
 
     @Override
     public <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType) {
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, null);
-        TypeConverter typeConverter = converterCache.get(pair);
-        if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, null);
-            if (typeConverter != null) {
-                converterCache.put(pair, typeConverter);
-                return true;
-            }
-            return false;
-        }
-        return true;
+        return findExactTypeConverter(sourceType, targetType) != UNCONVERTIBLE;
     }
 
     @Override
@@ -129,6 +150,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         ConvertiblePair pair = newPair(sourceType, targetType, typeConverter);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterTable = newConverterTable();
         return this;
     }
 
@@ -138,6 +160,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         TypeConverter<S, T> typeConverter = TypeConverter.of(sourceType, targetType, function);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterTable = newConverterTable();
         return this;
     }
 
@@ -427,17 +450,17 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         });
 
         // String -> Boolean
+        Optional<Boolean> optionalTrue = Optional.of(Boolean.TRUE);
+        Optional<Boolean> optionalFalse = Optional.of(Boolean.FALSE);
         addConverter(CharSequence.class, Boolean.class, (CharSequence object, Class<Boolean> targetType, ConversionContext context) -> {
-            String booleanString = object.toString().toLowerCase(Locale.ENGLISH);
-            switch (booleanString) {
-                case "yes":
-                case "y":
-                case "on":
-                case "true":
-                    return Optional.of(Boolean.TRUE);
-                default:
-                    return Optional.of(Boolean.FALSE);
+            String booleanString = object.toString();
+            if (booleanString.equalsIgnoreCase("true") ||
+                    booleanString.equalsIgnoreCase("yes") ||
+                    booleanString.equalsIgnoreCase("y") ||
+                    booleanString.equalsIgnoreCase("on")) {
+                return optionalTrue;
             }
+            return optionalFalse;
         });
 
         // String -> URL
@@ -569,18 +592,16 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         // String -> Enum
         addConverter(CharSequence.class, Enum.class, (CharSequence object, Class<Enum> targetType, ConversionContext context) -> {
             String stringValue = object.toString();
-            try {
-                Enum val = Enum.valueOf(targetType, stringValue);
-                return Optional.of(val);
-            } catch (IllegalArgumentException e) {
-                try {
-                    Enum val = Enum.valueOf(targetType, NameUtils.environmentName(stringValue));
-                    return Optional.of(val);
-                } catch (Exception e1) {
-                    context.reject(object, e);
+            Map<String, Enum> constants = ENUM_CONSTANTS.get(targetType);
+            Enum val = constants.get(stringValue);
+            if (val == null) {
+                val = constants.get(NameUtils.environmentName(stringValue));
+                if (val == null) {
+                    context.reject(object, new IllegalArgumentException("No enum constant " + targetType.getCanonicalName() + "." + stringValue));
                     return Optional.empty();
                 }
             }
+            return Optional.of(val);
         });
 
         // Object -> String
@@ -803,6 +824,31 @@ public class DefaultConversionService implements ConversionService<DefaultConver
 
     }
 
+    /**
+     * Find the type converter for the exact source and target types without a formatting annotation, resolving it
+     * with {@link #findTypeConverter(Class, Class, Class)} the first time the pair is converted.
+     *
+     * @param sourceType The source type
+     * @param targetType The target type
+     * @return The type converter, or {@link #UNCONVERTIBLE} if there is none
+     */
+    private TypeConverter findExactTypeConverter(Class<?> sourceType, Class<?> targetType) {
+        Map<Class, Map<Class, TypeConverter>> table = converterTable;
+        Map<Class, TypeConverter> targets = table.get(sourceType);
+        TypeConverter typeConverter = targets != null ? targets.get(targetType) : null;
+        if (typeConverter == null) {
+            TypeConverter found = findTypeConverter(sourceType, targetType, null);
+            typeConverter = found != null ? found : UNCONVERTIBLE;
+            TypeConverter resolved = typeConverter;
+            table.compute(sourceType, (type, existing) -> {
+                Map<Class, TypeConverter> copy = existing != null ? new HashMap<>(existing) : new HashMap<>(4);
+                copy.put(targetType, resolved);
+                return copy;
+            });
+        }
+        return typeConverter;
+    }
+
     /**
      * Find the type converter.
      * @param sourceType sourceType
@@ -841,6 +887,13 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         return typeConverter;
     }
 
+    private static Map<Class, Map<Class, TypeConverter>> newConverterTable() {
+        return new ConcurrentLinkedHashMap.Builder<Class, Map<Class, TypeConverter>>()
+            .maximumWeightedCapacity(TABLE_MAX)
+            .weigher(Weighers.<Class, TypeConverter>map())
+            .build();
+    }
+
     private SimpleDateFormat resolveFormat(ConversionContext context) {
         AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
         Optional<String> format = annotationMetadata.getValue(Format.class, String.class);
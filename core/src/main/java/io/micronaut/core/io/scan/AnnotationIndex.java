@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.io.scan;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * <p>An index of the annotations declared on the top level classes of a JAR file or class directory, written at
+ * compile time to {@link #PATH} by the annotation processor.</p>
+ *
+ * <p>{@link ClassPathAnnotationScanner} reads the index of a class path entry instead of parsing each of its class
+ * files. The index contains one line per annotation, made of the annotation name followed by {@code =} and a comma
+ * separated list of the names of the classes that declare the annotation.</p>
+ *
+ * <p>The index only answers for the classes it was generated for, which are listed on the {@link #INDEXED} line. Other
+ * classes of the same entry, such as classes compiled by another compiler or merged into a shaded JAR, are not covered
+ * by the index and are still scanned.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+public final class AnnotationIndex {
+
+    /**
+     * The path of the index relative to the root of a class path entry.
+     */
+    public static final String PATH = "META-INF/micronaut/annotation-index";
+
+    /**
+     * The key of the line that lists the names of the classes the index was generated for.
+     */
+    public static final String INDEXED = "@indexed";
+
+    private final Map<String, Collection<String>> classNamesByAnnotation;
+    private final Set<String> indexedClassNames;
+
+    /**
+     * @param classNamesByAnnotation The names of the annotated classes by annotation name
+     * @param indexedClassNames      The names of the classes the index was generated for
+     */
+    public AnnotationIndex(Map<String, ? extends Collection<String>> classNamesByAnnotation, Collection<String> indexedClassNames) {
+        this.classNamesByAnnotation = Collections.unmodifiableMap(classNamesByAnnotation);
+        this.indexedClassNames = Collections.unmodifiableSet(new TreeSet<>(indexedClassNames));
+    }
+
+    /**
+     * @return The names of the classes the index was generated for
+     */
+    public Set<String> getIndexedClassNames() {
+        return indexedClassNames;
+    }
+
+    /**
+     * @param className The class name
+     * @return Whether the index was generated for the class, in which case the class declares exactly the annotations
+     * the index lists for it
+     */
+    public boolean isIndexed(String className) {
+        return indexedClassNames.contains(className);
+    }
+
+    /**
+     * @return The names of the annotated classes by annotation name
+     */
+    public Map<String, Collection<String>> getClassNamesByAnnotation() {
+        return classNamesByAnnotation;
+    }
+
+    /**
+     * @param annotation The annotation name
+     * @return The names of the classes that declare the annotation
+     */
+    public Collection<String> getClassNames(String annotation) {
+        return classNamesByAnnotation.getOrDefault(annotation, Collections.emptyList());
+    }
+
+    /**
+     * Writes the index, sorted so that the output does not change between builds of the same classes.
+     *
+     * @param writer The writer
+     * @throws IOException If the index cannot be written
+     */
+    public void write(Writer writer) throws IOException {
+        if (!indexedClassNames.isEmpty()) {
+            writer.write(INDEXED);
+            writer.write('=');
+            writer.write(String.join(",", indexedClassNames));
+            writer.write('\n');
+        }
+        Map<String, Collection<String>> sorted = new TreeMap<>(classNamesByAnnotation);
+        for (Map.Entry<String, Collection<String>> entry : sorted.entrySet()) {
+            Collection<String> classNames = entry.getValue();
+            if (!classNames.isEmpty()) {
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(String.join(",", new TreeSet<>(classNames)));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads an index. The stream is not closed.
+     *
+     * @param inputStream The input stream
+     * @return The index
+     * @throws IOException If the index cannot be read
+     */
+    public static AnnotationIndex read(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Map<String, Collection<String>> classNamesByAnnotation = new TreeMap<>();
+        Set<String> indexedClassNames = new TreeSet<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            int i = line.indexOf('=');
+            if (i > 0 && line.charAt(0) != '#') {
+                String annotation = line.substring(0, i);
+                List<String> classNames = new ArrayList<>(Arrays.asList(line.substring(i + 1).split(",")));
+                classNames.removeIf(String::isEmpty);
+                if (INDEXED.equals(annotation)) {
+                    indexedClassNames.addAll(classNames);
+                } else {
+                    classNamesByAnnotation.computeIfAbsent(annotation, s -> new ArrayList<>()).addAll(classNames);
+                }
+            }
+        }
+        return new AnnotationIndex(classNamesByAnnotation, indexedClassNames);
+    }
+}
@@ -21,6 +21,7 @@ import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * <p>Extended version of {@link ClassPathAnnotationScanner} that temporarily caches the result of scan.</p>
@@ -66,5 +67,22 @@ public class CachingClassPathAnnotationScanner extends ClassPathAnnotationScanne
             this.annotation = annotation;
             this.pkg = pkg;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return annotation.equals(cacheKey.annotation) && pkg.equals(cacheKey.pkg);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(annotation, pkg);
+        }
     }
 }
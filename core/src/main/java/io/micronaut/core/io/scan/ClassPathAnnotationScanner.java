@@ -35,6 +35,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
 
@@ -42,6 +46,12 @@ import java.util.stream.Stream;
  * <p>An optimized classpath scanner that includes the ability to optionally scan JAR files.</p>
  * <p>The implementation avoids loading the classes themselves by parsing the class definitions and reading
  * only the annotations.</p>
+ * <p>The classes of a class path entry that contains an {@link AnnotationIndex} written by the annotation processor
+ * are looked up in the index instead of being parsed. In a directory, which incremental compilation may have changed
+ * since the index was written, classes that the index was not generated for are still parsed. A JAR file is packaged
+ * from a finished compilation, so its index is trusted and the JAR is not enumerated. JAR files that contain classes
+ * the annotation processor did not see, for example classes compiled by another compiler, should not contain an
+ * index.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -52,6 +62,7 @@ public class ClassPathAnnotationScanner implements AnnotationScanner {
     private static final Logger LOG = LoggerFactory.getLogger(ClassPathAnnotationScanner.class);
 
     private final ClassLoader classLoader;
+    private final Map<String, Optional<AnnotationIndex>> indexes = new ConcurrentHashMap<>();
     private boolean includeJars;
 
     /**
@@ -115,7 +126,13 @@ public class ClassPathAnnotationScanner implements AnnotationScanner {
                 if ("file".equals(protocol)) {
                     try {
                         File file = new File(url.toURI());
-                        traverseFile(annotation, classes, file);
+                        Optional<AnnotationIndex> index = findIndex(file, pkg);
+                        if (index.isPresent()) {
+                            scanIndex(annotation, pkg, index.get(), classes);
+                            traverseUnindexed(annotation, classes, file, pkg, index.get());
+                        } else {
+                            traverseFile(annotation, classes, file);
+                        }
                     } catch (URISyntaxException e) {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Ignoring file [" + url + "] due to URI error: " + e.getMessage(), e);
@@ -126,6 +143,11 @@ public class ClassPathAnnotationScanner implements AnnotationScanner {
                     if (con instanceof JarURLConnection) {
                         JarURLConnection jarCon = (JarURLConnection) con;
                         JarFile jarFile = jarCon.getJarFile();
+                        Optional<AnnotationIndex> index = findIndex(jarFile);
+                        if (index.isPresent()) {
+                            scanIndex(annotation, pkg, index.get(), classes);
+                            continue;
+                        }
                         jarFile.stream()
                             .filter(entry -> {
                                 String name = entry.getName();
@@ -188,6 +210,34 @@ public class ClassPathAnnotationScanner implements AnnotationScanner {
         }
     }
 
+    /**
+     * Scans the class files of the given package directory that the index was not generated for.
+     *
+     * @param annotation The annotation
+     * @param classes    The classes
+     * @param directory  The package directory
+     * @param pkg        The package
+     * @param index      The index of the class path entry
+     */
+    protected void traverseUnindexed(String annotation, List<Class> classes, File directory, String pkg, AnnotationIndex index) {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(directory.toPath())) {
+            dirs.forEach(path -> {
+                File f = path.toFile();
+                String name = f.getName();
+                if (f.isDirectory()) {
+                    traverseUnindexed(annotation, classes, f, pkg + '.' + name, index);
+                } else if (name.endsWith(ClassUtils.CLASS_EXTENSION) &&
+                    !index.isIndexed(pkg + '.' + name.substring(0, name.length() - ClassUtils.CLASS_EXTENSION.length()))) {
+                    scanFile(annotation, f, classes);
+                }
+            });
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignoring directory [" + directory + "] due to I/O error: " + e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * @param annotation The annotation
      * @param file       The file
@@ -213,6 +263,72 @@ public class ClassPathAnnotationScanner implements AnnotationScanner {
         }
     }
 
+    /**
+     * Adds the classes of the given package that the index lists for the annotation and that the index was generated
+     * for.
+     *
+     * @param annotation The annotation
+     * @param pkg        The package
+     * @param index      The index of the class path entry
+     * @param classes    The classes
+     */
+    protected void scanIndex(String annotation, String pkg, AnnotationIndex index, List<Class> classes) {
+        String prefix = pkg.concat(".");
+        for (String className : index.getClassNames(annotation)) {
+            if (className.startsWith(prefix) && className.indexOf('$') == -1 && index.isIndexed(className)) {
+                try {
+                    classes.add(classLoader.loadClass(className));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // the index may list classes that were deleted since it was written
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Ignoring indexed class [" + className + "]. Class not found: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private Optional<AnnotationIndex> findIndex(File packageDirectory, String pkg) {
+        // the package directory is nested one level below the root of the class path entry per package segment
+        File root = packageDirectory;
+        int segments = pkg.split("\\.").length;
+        for (int i = 0; i < segments && root != null; i++) {
+            root = root.getParentFile();
+        }
+        if (root == null) {
+            return Optional.empty();
+        }
+        File indexFile = new File(root, AnnotationIndex.PATH);
+        return indexes.computeIfAbsent(indexFile.getPath(), path -> {
+            if (indexFile.isFile()) {
+                try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+                    return Optional.of(AnnotationIndex.read(inputStream));
+                } catch (IOException e) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Ignoring annotation index [" + indexFile + "] due to I/O error: " + e.getMessage(), e);
+                    }
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    private Optional<AnnotationIndex> findIndex(JarFile jarFile) {
+        return indexes.computeIfAbsent(jarFile.getName(), path -> {
+            JarEntry entry = jarFile.getJarEntry(AnnotationIndex.PATH);
+            if (entry != null) {
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    return Optional.of(AnnotationIndex.read(inputStream));
+                } catch (IOException e) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Ignoring annotation index of JAR [" + jarFile.getName() + "] due to I/O error: " + e.getMessage(), e);
+                    }
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
     private void scanInputStream(String annotation, InputStream inputStream, List<Class> classes) throws IOException, ClassNotFoundException {
         AnnotationClassReader annotationClassReader = new AnnotationClassReader(inputStream);
         AnnotatedTypeInfoVisitor classVisitor = new AnnotatedTypeInfoVisitor();
@@ -15,6 +15,8 @@
  */
 package io.micronaut.core.reflect;
 
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.reflect.exception.InstantiationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,7 +55,8 @@ public class InstantiationUtils {
     }
 
     /**
-     * Try to instantiate the given class.
+     * Try to instantiate the given class. Types annotated with {@link io.micronaut.core.annotation.Introspected} are
+     * instantiated through their generated {@link BeanIntrospection} without reflection.
      *
      * @param type The type
      * @param <T>  The generic type
@@ -61,6 +64,10 @@ public class InstantiationUtils {
      */
     public static <T> Optional<T> tryInstantiate(Class<T> type) {
         try {
+            Optional<BeanIntrospection<T>> introspection = BeanIntrospector.findIntrospection(type);
+            if (introspection.isPresent() && introspection.get().isInstantiable() && introspection.get().getConstructorArguments().length == 0) {
+                return Optional.of(introspection.get().instantiate());
+            }
             T bean = type.newInstance();
             if (type.isInstance(bean)) {
                 return Optional.of(bean);
@@ -111,6 +118,10 @@ public class InstantiationUtils {
      */
     public static <T> T instantiate(Class<T> type) {
         try {
+            Optional<BeanIntrospection<T>> introspection = BeanIntrospector.findIntrospection(type);
+            if (introspection.isPresent() && introspection.get().isInstantiable() && introspection.get().getConstructorArguments().length == 0) {
+                return introspection.get().instantiate();
+            }
             return type.newInstance();
         } catch (Throwable e) {
             throw new InstantiationException("Could not instantiate type [" + type.getName() + "]: " + e.getMessage(), e);
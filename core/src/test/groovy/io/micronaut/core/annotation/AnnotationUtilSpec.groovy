@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.annotation
+
+import spock.lang.Specification
+
+class AnnotationUtilSpec extends Specification {
+
+    void "test intern map of"() {
+        given:
+        Map<String, Object> map = AnnotationUtil.internMapOf("value", "/books", "produces", "application/json", "value", "/authors")
+
+        expect:
+        map.size() == 2
+        map.get("value") == "/authors"
+        map.get("produces") == "application/json"
+        map.keySet().toList() == ["value", "produces"]
+        map == [value: "/authors", produces: "application/json"]
+        !map.containsKey("consumes")
+        map.get("consumes") == null
+
+        when:
+        map.put("consumes", "text/plain")
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "test identical maps are shared"() {
+        given:
+        Map<String, Object> map1 = AnnotationUtil.internMapOf("javax.inject.Named", AnnotationUtil.internMapOf("value", "id"))
+        Map<String, Object> map2 = AnnotationUtil.internMapOf("javax.inject.Named", AnnotationUtil.internMapOf("value", "id"))
+        Map<String, Object> map3 = AnnotationUtil.internMapOf("javax.inject.Named", AnnotationUtil.internMapOf("value", "name"))
+
+        expect:
+        map1.is(map2)
+        !map1.is(map3)
+        map1 != map3
+    }
+
+    void "test maps with class or array values are not shared"() {
+        given:
+        Map<String, Object> map1 = AnnotationUtil.internMapOf("value", new AnnotationClassValue(String))
+        Map<String, Object> map2 = AnnotationUtil.internMapOf("value", new AnnotationClassValue(String))
+        Map<String, Object> map3 = AnnotationUtil.internMapOf("value", ["a"] as String[])
+        Map<String, Object> map4 = AnnotationUtil.internMapOf("value", ["a"] as String[])
+
+        expect:
+        !map1.is(map2)
+        !map3.is(map4)
+    }
+
+    void "test large maps"() {
+        given:
+        Object[] values = (1..20).collectMany { ["key$it", it] } as Object[]
+        Map<String, Object> map = AnnotationUtil.internMapOf(values)
+
+        expect:
+        map.size() == 20
+        map.get("key20") == 20
+    }
+
+    void "test intern list of"() {
+        expect:
+        AnnotationUtil.internListOf("a", "b").is(AnnotationUtil.internListOf("a", "b"))
+        AnnotationUtil.internListOf("Aa") != AnnotationUtil.internListOf("BB")
+    }
+}
@@ -80,4 +80,35 @@ class DefaultConversionServiceSpec extends Specification {
 
     }
 
+    void "test enum conversion rejects unknown constants"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+        ArgumentConversionContext<DayOfWeek> context = ConversionContext.of(Argument.of(DayOfWeek, 'day'))
+
+        expect:
+        conversionService.convert("SUNDAY", DayOfWeek).get() == DayOfWeek.SUNDAY
+        !conversionService.convert("someday", context).isPresent()
+        context.lastError.get().cause instanceof IllegalArgumentException
+        context.lastError.get().cause.message == "No enum constant java.time.DayOfWeek.someday"
+    }
+
+    void "test a converter added after a conversion replaces the resolved converter"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+
+        expect:
+        conversionService.convert("10", Integer).get() == 10
+        !conversionService.convert(new StringBuilder("10"), Thread).isPresent()
+        !conversionService.canConvert(StringBuilder, Thread)
+
+        when:
+        conversionService.addConverter(String, Integer, { String s -> s.length() } as java.util.function.Function)
+        conversionService.addConverter(StringBuilder, Thread, { StringBuilder s -> Thread.currentThread() } as java.util.function.Function)
+
+        then:
+        conversionService.convert("10", Integer).get() == 2
+        conversionService.convert(new StringBuilder("10"), Thread).get() == Thread.currentThread()
+        conversionService.canConvert(StringBuilder, Thread)
+    }
+
 }
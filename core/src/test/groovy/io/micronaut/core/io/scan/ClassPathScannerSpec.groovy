@@ -21,6 +21,8 @@ import io.micronaut.core.io.scan.nested.Foo2
 import io.micronaut.core.io.scan2.Foo3
 import spock.lang.Specification
 
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
 import java.util.stream.Collectors
 
 /**
@@ -68,6 +70,102 @@ class ClassPathScannerSpec extends Specification {
         then:
         classes.count() == 3
     }
+
+    void "test scan uses the annotation index of a class path entry"() {
+        given:
+        File root = File.createTempDir()
+        new File(root, "io/micronaut/core/io/scan").mkdirs()
+        File indexFile = new File(root, AnnotationIndex.PATH)
+        indexFile.parentFile.mkdirs()
+        indexFile.text = "@indexed=io.micronaut.core.io.scan.Bar,io.micronaut.core.io.scan.Missing,io.micronaut.core.io.scan2.Foo3\n" +
+                "test.Indexed=io.micronaut.core.io.scan.Bar,io.micronaut.core.io.scan.Missing,io.micronaut.core.io.scan2.Foo3\n"
+        URLClassLoader classLoader = new URLClassLoader([root.toURI().toURL()] as URL[], getClass().getClassLoader())
+        ClassPathAnnotationScanner scanner = new ClassPathAnnotationScanner(classLoader)
+
+        when:
+        def results = scanner.scan("test.Indexed", getClass().getPackage().getName()).collect(Collectors.toList())
+
+        then:
+        results == [Bar]
+
+        cleanup:
+        classLoader.close()
+        root.deleteDir()
+    }
+
+    void "test scan parses the classes an annotation index was not generated for"() {
+        given:
+        File root = File.createTempDir()
+        File packageDir = new File(root, "io/micronaut/core/io/scan")
+        packageDir.mkdirs()
+        new File(packageDir, "Foo.class").bytes = getClass().getResourceAsStream("Foo.class").bytes
+        File indexFile = new File(root, AnnotationIndex.PATH)
+        indexFile.parentFile.mkdirs()
+        indexFile.text = "@indexed=io.micronaut.core.io.scan.Bar\n"
+        URLClassLoader classLoader = new URLClassLoader([root.toURI().toURL()] as URL[], getClass().getClassLoader()) {
+            @Override
+            Enumeration<URL> getResources(String name) throws IOException {
+                // only the temporary class path entry is scanned
+                return findResources(name)
+            }
+        }
+        ClassPathAnnotationScanner scanner = new ClassPathAnnotationScanner(classLoader)
+
+        when:
+        def results = scanner.scan(AutoClone.name, getClass().getPackage().getName()).collect(Collectors.toList())
+
+        then:
+        results == [Foo]
+
+        cleanup:
+        classLoader.close()
+        root.deleteDir()
+    }
+
+    void "test the annotation index of a JAR file is used without enumerating the JAR"() {
+        given:
+        File jar = File.createTempFile("indexed", ".jar")
+        new JarOutputStream(new FileOutputStream(jar)).withCloseable { out ->
+            out.putNextEntry(new JarEntry(AnnotationIndex.PATH))
+            out.write("@indexed=io.micronaut.core.io.scan.Bar\ntest.Indexed=io.micronaut.core.io.scan.Bar\n".bytes)
+            out.putNextEntry(new JarEntry("io/micronaut/core/io/scan/"))
+            out.putNextEntry(new JarEntry("io/micronaut/core/io/scan/Foo.class"))
+            out.write(getClass().getResourceAsStream("Foo.class").bytes)
+        }
+        URLClassLoader classLoader = new URLClassLoader([jar.toURI().toURL()] as URL[], getClass().getClassLoader()) {
+            @Override
+            Enumeration<URL> getResources(String name) throws IOException {
+                // only the temporary JAR file is scanned
+                return findResources(name)
+            }
+        }
+        ClassPathAnnotationScanner scanner = new ClassPathAnnotationScanner(classLoader)
+
+        expect:
+        scanner.scan("test.Indexed", getClass().getPackage().getName()).collect(Collectors.toList()) == [Bar]
+        scanner.scan(AutoClone.name, getClass().getPackage().getName()).collect(Collectors.toList()).isEmpty()
+
+        cleanup:
+        classLoader.close()
+        jar.delete()
+    }
+
+    void "test read and write annotation index"() {
+        given:
+        StringWriter writer = new StringWriter()
+        new AnnotationIndex([b: ["x.Z", "x.Y"], a: ["x.Y"]], ["x.Z", "x.Y", "x.X"]).write(writer)
+
+        when:
+        AnnotationIndex index = AnnotationIndex.read(new ByteArrayInputStream(writer.toString().bytes))
+
+        then:
+        writer.toString() == "@indexed=x.X,x.Y,x.Z\na=x.Y\nb=x.Y,x.Z\n"
+        index.getClassNames("b") == ["x.Y", "x.Z"]
+        index.getClassNames("c").isEmpty()
+        index.isIndexed("x.X")
+        !index.isIndexed("x.W")
+        !index.getClassNamesByAnnotation().containsKey(AnnotationIndex.INDEXED)
+    }
 }
 
 @AutoClone
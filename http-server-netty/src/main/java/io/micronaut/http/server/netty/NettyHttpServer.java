@@ -34,9 +34,11 @@ import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
 import io.micronaut.http.server.exceptions.ServerStartupException;
+import io.micronaut.http.server.limit.ConcurrencyLimiterRegistry;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
 import io.micronaut.http.server.netty.decoders.HttpRequestDecoder;
 import io.micronaut.http.server.netty.encoders.HttpResponseEncoder;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimitHandler;
 import io.micronaut.http.server.netty.ssl.NettyServerSslBuilder;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.netty.websocket.NettyServerWebSocketUpgradeHandler;
@@ -135,6 +137,7 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
     private final BeanLocator beanLocator;
     private final ThreadFactory threadFactory;
     private final WebSocketBeanRegistry webSocketBeanRegistry;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
     private final int specifiedPort;
     private volatile int serverPort;
     private final ApplicationContext applicationContext;
@@ -158,6 +161,7 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
      * @param executorSelector                        The executor selector
      * @param nettyServerSslBuilder                   The Netty Server SSL builder
      * @param outboundHandlers                        The outbound handlers
+     * @param concurrencyLimiterRegistry              The concurrency limiter registry
      */
     @SuppressWarnings("ParameterNumber")
     @Inject
@@ -173,7 +177,8 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
         @javax.inject.Named(NettyThreadFactory.NAME) ThreadFactory threadFactory,
         ExecutorSelector executorSelector,
         NettyServerSslBuilder nettyServerSslBuilder,
-        List<ChannelOutboundHandler> outboundHandlers
+        List<ChannelOutboundHandler> outboundHandlers,
+        ConcurrencyLimiterRegistry concurrencyLimiterRegistry
     ) {
         Optional<File> location = serverConfiguration.getMultipart().getLocation();
         location.ifPresent(dir -> DiskFileUpload.baseDirectory = dir.getAbsolutePath());
@@ -186,6 +191,7 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
         this.sslConfiguration = nettyServerSslBuilder.getSslConfiguration();
         this.router = router;
         this.ioExecutor = ioExecutor;
+        this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
         Optional<Integer> configPort = serverConfiguration.getPort();
         if (configPort.isPresent()) {
             this.specifiedPort = configPort.get();
@@ -209,6 +215,54 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
         this.webSocketBeanRegistry = WebSocketBeanRegistry.forServer(applicationContext);
     }
 
+    /**
+     * @param serverConfiguration                     The Netty HTTP server configuration
+     * @param applicationContext                      The application context
+     * @param router                                  The router
+     * @param requestArgumentSatisfier                The request argument satisfier
+     * @param mediaTypeCodecRegistry                  The Media type codec registry
+     * @param customizableResponseTypeHandlerRegistry The Netty customizable response type handler registry
+     * @param resourceResolver                        The static resource resolver
+     * @param ioExecutor                              The IO executor
+     * @param threadFactory                           The thread factory
+     * @param executorSelector                        The executor selector
+     * @param nettyServerSslBuilder                   The Netty Server SSL builder
+     * @param outboundHandlers                        The outbound handlers
+     * @deprecated Use {@link #NettyHttpServer(NettyHttpServerConfiguration, ApplicationContext, Router, RequestArgumentSatisfier, MediaTypeCodecRegistry, NettyCustomizableResponseTypeHandlerRegistry, StaticResourceResolver, ExecutorService, ThreadFactory, ExecutorSelector, NettyServerSslBuilder, List, ConcurrencyLimiterRegistry)} instead, this constructor does not limit concurrent requests
+     */
+    @SuppressWarnings("ParameterNumber")
+    @Deprecated
+    public NettyHttpServer(
+        NettyHttpServerConfiguration serverConfiguration,
+        ApplicationContext applicationContext,
+        Router router,
+        RequestArgumentSatisfier requestArgumentSatisfier,
+        MediaTypeCodecRegistry mediaTypeCodecRegistry,
+        NettyCustomizableResponseTypeHandlerRegistry customizableResponseTypeHandlerRegistry,
+        StaticResourceResolver resourceResolver,
+        ExecutorService ioExecutor,
+        ThreadFactory threadFactory,
+        ExecutorSelector executorSelector,
+        NettyServerSslBuilder nettyServerSslBuilder,
+        List<ChannelOutboundHandler> outboundHandlers
+    ) {
+        this(
+            serverConfiguration,
+            applicationContext,
+            router,
+            requestArgumentSatisfier,
+            mediaTypeCodecRegistry,
+            customizableResponseTypeHandlerRegistry,
+            resourceResolver,
+            ioExecutor,
+            threadFactory,
+            executorSelector,
+            nettyServerSslBuilder,
+            outboundHandlers,
+            ConcurrencyLimiterRegistry.disabled()
+        );
+    }
+
     /**
      * @return The configuration for the server
      */
@@ -265,6 +319,9 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
 
                         pipeline.addLast(new FlowControlHandler());
                         pipeline.addLast(HTTP_KEEP_ALIVE_HANDLER, new HttpServerKeepAliveHandler());
+                        if (concurrencyLimiterRegistry.isEnabled()) {
+                            pipeline.addLast(ConcurrencyLimitHandler.ID, new ConcurrencyLimitHandler(concurrencyLimiterRegistry));
+                        }
                         pipeline.addLast(HTTP_COMPRESSOR, new SmartHttpContentCompressor(serverConfiguration.getCompressionThreshold()));
                         pipeline.addLast(HTTP_STREAMS_CODEC, new HttpStreamsServerHandler());
                         pipeline.addLast(HTTP_CHUNKED_HANDLER, new ChunkedWriteHandler());
@@ -291,7 +348,8 @@ public class NettyHttpServer implements EmbeddedServer, WebSocketSessionReposito
                             serverConfiguration,
                             requestArgumentSatisfier,
                             executorSelector,
-                            ioExecutor
+                            ioExecutor,
+                            concurrencyLimiterRegistry
                         ));
                         registerMicronautChannelHandlers(pipeline);
                     }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.http.server.binding.RequestArgumentSatisfier;
+import io.micronaut.web.router.RouteMatch;
+import io.netty.channel.ChannelHandlerContext;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes routes that return a Reactor {@link Mono} with Reactor operators, so that the result is not converted to
+ * RxJava types. The request is available in the Reactor {@link reactor.util.context.Context} under
+ * {@link ServerRequestContext#KEY}, in addition to the {@link ServerRequestContext} propagated by the filters.
+ *
+ * <p>Only referenced by the {@link RoutingInBoundHandler} when Reactor is on the classpath.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+final class ReactorRouteExecutor {
+
+    private final RoutingInBoundHandler handler;
+    private final RequestArgumentSatisfier requestArgumentSatisfier;
+
+    /**
+     * @param handler The handler that provides the response processing shared with the RxJava path
+     * @param requestArgumentSatisfier The request argument satisfier
+     */
+    ReactorRouteExecutor(RoutingInBoundHandler handler, RequestArgumentSatisfier requestArgumentSatisfier) {
+        this.handler = handler;
+        this.requestArgumentSatisfier = requestArgumentSatisfier;
+    }
+
+    /**
+     * @param javaReturnType The return type of a route
+     * @return Whether routes with the return type are executed by this executor
+     */
+    boolean isSupported(Class<?> javaReturnType) {
+        return Mono.class.isAssignableFrom(javaReturnType);
+    }
+
+    /**
+     * Executes the route, passes the response through the filters and writes it to the channel.
+     *
+     * @param context The channel handler context
+     * @param finalRoute The route
+     * @param defaultResponseMediaType The media type of the route
+     * @param requestReference The request
+     * @param executor The executor to subscribe on
+     */
+    void execute(
+            ChannelHandlerContext context,
+            RouteMatch<?> finalRoute,
+            MediaType defaultResponseMediaType,
+            AtomicReference<HttpRequest<?>> requestReference,
+            ExecutorService executor) {
+        Mono<MutableHttpResponse<?>> routePublisher = Mono.defer(() -> {
+            final RouteMatch<?> routeMatch = !finalRoute.isExecutable() ? requestArgumentSatisfier.fulfillArgumentRequirements(finalRoute, requestReference.get(), true) : finalRoute;
+            return (Mono<?>) routeMatch.execute();
+        }).<MutableHttpResponse<?>>map(message ->
+                handler.toRouteResponse(finalRoute, requestReference, message)
+        ).switchIfEmpty(Mono.fromCallable(() ->
+                handler.emptyRouteResponse(
+                        finalRoute.getDeclaringType(),
+                        finalRoute.getReturnType().getType(),
+                        finalRoute.getAnnotationMetadata(),
+                        requestReference)
+        )).subscriberContext(ctx -> ctx.put(ServerRequestContext.KEY, requestReference.get()));
+
+        Mono<MutableHttpResponse<?>> filteredPublisher = Mono.<MutableHttpResponse<?>>fromDirect(handler.applyFilters(requestReference, routePublisher));
+
+        // Subscribe on the executor. A task rejected by the executor is signalled to the subscriber, so that the
+        // request fails instead of never completing
+        Mono<MutableHttpResponse<?>> responsePublisher = Mono.fromDirect((Publisher<MutableHttpResponse<?>>) subscriber -> {
+            try {
+                executor.execute(() -> filteredPublisher.subscribe(subscriber));
+            } catch (RejectedExecutionException e) {
+                Operators.error(subscriber, e);
+            }
+        });
+
+        responsePublisher.<MutableHttpResponse<?>>flatMap(response -> {
+            Object body = response.getBody().orElse(null);
+            if (body != null && Publishers.isConvertibleToPublisher(body)) {
+                Mono<?> bodyPublisher = Mono.from(Publishers.convertPublisher(body, Publisher.class));
+                return bodyPublisher.<MutableHttpResponse<?>>map(bodyContent ->
+                        handler.setBodyContent(response, bodyContent)
+                ).defaultIfEmpty(response);
+            }
+            return Mono.just(response);
+        }).<MutableHttpResponse<?>>map(response ->
+                handler.encodeResponse(response, defaultResponseMediaType, context, requestReference)
+        ).subscriberContext(ctx -> ctx.put(ServerRequestContext.KEY, requestReference.get()))
+                .subscribe(handler.responseSubscriber(context, requestReference));
+    }
+}
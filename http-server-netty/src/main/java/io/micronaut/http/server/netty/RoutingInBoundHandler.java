@@ -55,8 +55,11 @@ import io.micronaut.http.netty.stream.StreamedHttpRequest;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
 import io.micronaut.http.server.exceptions.ExceptionHandler;
 import io.micronaut.http.server.exceptions.InternalServerException;
+import io.micronaut.http.server.limit.ConcurrencyLimiter;
+import io.micronaut.http.server.limit.ConcurrencyLimiterRegistry;
 import io.micronaut.http.server.netty.async.ContextCompletionAwareSubscriber;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimitHandler;
 import io.micronaut.http.server.netty.multipart.NettyPartData;
 import io.micronaut.http.server.netty.multipart.NettyStreamingFileUpload;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
@@ -79,6 +82,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderResult;
@@ -94,7 +98,7 @@ import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.functions.LongConsumer;
 import io.reactivex.internal.operators.flowable.FlowableReplay;
-import io.reactivex.schedulers.Schedulers;
+import io.reactivex.internal.subscriptions.EmptySubscription;
 import io.reactivex.subjects.ReplaySubject;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -102,6 +106,7 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -113,6 +118,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -134,6 +140,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private static final Logger LOG = LoggerFactory.getLogger(RoutingInBoundHandler.class);
     private static final Pattern IGNORABLE_ERROR_MESSAGE = Pattern.compile(
             "^.*(?:connection.*(?:reset|closed|abort|broken)|broken.*pipe).*$", Pattern.CASE_INSENSITIVE);
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono", RoutingInBoundHandler.class.getClassLoader());
 
     private final Router router;
     private final ExecutorSelector executorSelector;
@@ -144,6 +151,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private final RequestArgumentSatisfier requestArgumentSatisfier;
     private final MediaTypeCodecRegistry mediaTypeCodecRegistry;
     private final NettyCustomizableResponseTypeHandlerRegistry customizableResponseTypeHandlerRegistry;
+    private final ReactorRouteExecutor reactorRouteExecutor;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
 
     /**
      * @param beanLocator                             The bean locator
@@ -155,6 +164,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
      * @param requestArgumentSatisfier                The Request argument satisfier
      * @param executorSelector                        The executor selector
      * @param ioExecutor                              The IO executor
+     * @param concurrencyLimiterRegistry              The concurrency limiter registry
      */
     RoutingInBoundHandler(
         BeanLocator beanLocator,
@@ -165,7 +175,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         NettyHttpServerConfiguration serverConfiguration,
         RequestArgumentSatisfier requestArgumentSatisfier,
         ExecutorSelector executorSelector,
-        ExecutorService ioExecutor) {
+        ExecutorService ioExecutor,
+        ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
 
         this.mediaTypeCodecRegistry = mediaTypeCodecRegistry;
         this.customizableResponseTypeHandlerRegistry = customizableResponseTypeHandlerRegistry;
@@ -176,6 +187,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         this.router = router;
         this.requestArgumentSatisfier = requestArgumentSatisfier;
         this.serverConfiguration = serverConfiguration;
+        this.reactorRouteExecutor = REACTOR_PRESENT && serverConfiguration.isReactorNative() ? new ReactorRouteExecutor(this, requestArgumentSatisfier) : null;
+        this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
     }
 
     @Override
@@ -374,6 +387,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         if (decoderResult.isFailure()) {
             Throwable cause = decoderResult.cause();
             HttpStatus status = cause instanceof TooLongFrameException ? HttpStatus.REQUEST_ENTITY_TOO_LARGE : HttpStatus.BAD_REQUEST;
+            acquireRouteLimiter(ctx, null);
             handleStatusError(
                     ctx,
                     request,
@@ -392,6 +406,17 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                 Comparator.comparingInt((match) -> match.getVariableValues().size()),
                 Collectors.toList()));
 
+        if (!acquireRouteLimiter(ctx, uriRoutes.size() == 1 ? uriRoutes.get(0) : null)) {
+            handleStatusError(
+                    ctx,
+                    request,
+                    nettyHttpRequest,
+                    HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE),
+                    HttpStatus.SERVICE_UNAVAILABLE.getReason()
+            );
+            return;
+        }
+
         if (uriRoutes.size() > 1) {
             throw new DuplicateRouteException(requestPath, uriRoutes);
         } else if (uriRoutes.size() == 1) {
@@ -493,6 +518,26 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         }
     }
 
+    /**
+     * Applies the concurrency limit of the route matched for a request, so that requests are only matched against
+     * the routes once.
+     *
+     * @param ctx   The channel handler context
+     * @param route The matched route, or null if no single route matched
+     * @return False if the request is above the limit of the route
+     */
+    private boolean acquireRouteLimiter(ChannelHandlerContext ctx, @Nullable RouteMatch<?> route) {
+        if (!concurrencyLimiterRegistry.hasRouteLimiters()) {
+            return true;
+        }
+        ChannelHandler handler = ctx.pipeline().get(ConcurrencyLimitHandler.ID);
+        if (handler instanceof ConcurrencyLimitHandler) {
+            ConcurrencyLimiter limiter = route != null ? concurrencyLimiterRegistry.findLimiter(route).orElse(null) : null;
+            return ((ConcurrencyLimitHandler) handler).acquireRouteLimiter(limiter);
+        }
+        return true;
+    }
+
     private void handleStatusError(
             ChannelHandlerContext ctx,
             HttpRequest<?> request,
@@ -899,6 +944,12 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                                 isFuture ||
                                     finalRoute.getAnnotationMetadata().getValue(Produces.class, "single", Boolean.class).orElse(false);
 
+            if (reactorRouteExecutor != null && reactorRouteExecutor.isSupported(javaReturnType)) {
+                // Mono results are subscribed without converting them to RxJava types
+                reactorRouteExecutor.execute(context, finalRoute, defaultResponseMediaType, requestReference, executor);
+                return null;
+            }
+
             // build the result emitter. This result emitter emits the response from a controller action
             Flowable<?> resultEmitter = buildResultEmitter(
                     context,
@@ -910,46 +961,9 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
 
 
             // here we transform the result of the controller action into a MutableHttpResponse
-            Flowable<MutableHttpResponse<?>> routePublisher = resultEmitter.map((message) -> {
-                RouteMatch<?> routeMatch = finalRoute;
-                HttpResponse<?> response = messageToResponse(routeMatch, message);
-                MutableHttpResponse<?> finalResponse = (MutableHttpResponse<?>) response;
-                HttpStatus status = finalResponse.getStatus();
-
-                if (status.getCode() >= HttpStatus.BAD_REQUEST.getCode()) {
-                    Class declaringType = ((MethodBasedRouteMatch) routeMatch).getDeclaringType();
-                    // handle re-mapping of errors
-                    Optional<RouteMatch<Object>> statusRoute = Optional.empty();
-                    // if declaringType is not null, this means its a locally marked method handler
-                    if (declaringType != null) {
-                        statusRoute = router.route(declaringType, status);
-                    }
-                    if (!statusRoute.isPresent()) {
-                        statusRoute = router.route(status);
-                    }
-                    io.micronaut.http.HttpRequest<?> httpRequest = requestReference.get();
-
-                    if (statusRoute.isPresent()) {
-                        routeMatch = statusRoute.get();
-                        httpRequest.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
-
-                        requestArgumentSatisfier.fulfillArgumentRequirements(routeMatch, httpRequest, true);
-
-                        if (routeMatch.isExecutable()) {
-                            Object result;
-                            try {
-                                result = routeMatch.execute();
-                                finalResponse = messageToResponse(routeMatch, result);
-                            } catch (Throwable e) {
-                                throw new InternalServerException("Error executing status route [" + routeMatch + "]: " + e.getMessage(), e);
-                            }
-                        }
-                    }
-
-                }
-                finalResponse.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
-                return finalResponse;
-            });
+            Flowable<MutableHttpResponse<?>> routePublisher = resultEmitter.map((message) ->
+                    toRouteResponse(finalRoute, requestReference, message)
+            );
 
             routePublisher = buildRoutePublisher(
                     finalRoute.getDeclaringType(),
@@ -1042,6 +1056,56 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         return route;
     }
 
+    /**
+     * Transforms the result of a controller action into a {@link MutableHttpResponse}, executing the status route of
+     * an error status if there is one.
+     *
+     * @param finalRoute The route
+     * @param requestReference The request
+     * @param message The result of the route
+     * @return The response
+     */
+    MutableHttpResponse<?> toRouteResponse(RouteMatch<?> finalRoute, AtomicReference<HttpRequest<?>> requestReference, Object message) {
+        RouteMatch<?> routeMatch = finalRoute;
+        HttpResponse<?> response = messageToResponse(routeMatch, message);
+        MutableHttpResponse<?> finalResponse = (MutableHttpResponse<?>) response;
+        HttpStatus status = finalResponse.getStatus();
+
+        if (status.getCode() >= HttpStatus.BAD_REQUEST.getCode()) {
+            Class declaringType = ((MethodBasedRouteMatch) routeMatch).getDeclaringType();
+            // handle re-mapping of errors
+            Optional<RouteMatch<Object>> statusRoute = Optional.empty();
+            // if declaringType is not null, this means its a locally marked method handler
+            if (declaringType != null) {
+                statusRoute = router.route(declaringType, status);
+            }
+            if (!statusRoute.isPresent()) {
+                statusRoute = router.route(status);
+            }
+            io.micronaut.http.HttpRequest<?> httpRequest = requestReference.get();
+
+            if (statusRoute.isPresent()) {
+                routeMatch = statusRoute.get();
+                httpRequest.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
+
+                requestArgumentSatisfier.fulfillArgumentRequirements(routeMatch, httpRequest, true);
+
+                if (routeMatch.isExecutable()) {
+                    Object result;
+                    try {
+                        result = routeMatch.execute();
+                        finalResponse = messageToResponse(routeMatch, result);
+                    } catch (Throwable e) {
+                        throw new InternalServerException("Error executing status route [" + routeMatch + "]: " + e.getMessage(), e);
+                    }
+                }
+            }
+
+        }
+        finalResponse.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
+        return finalResponse;
+    }
+
     private Flowable<MutableHttpResponse<?>> buildRoutePublisher(
             Class<?> declaringType,
             Class<?> javaReturnType,
@@ -1051,43 +1115,12 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         // In the case of an empty reactive type we switch handling so that
         // a 404 NOT_FOUND is returned
         routePublisher = routePublisher.switchIfEmpty(Flowable.create((emitter) -> {
-            HttpRequest<?> httpRequest = requestReference.get();
             MutableHttpResponse<?> response;
-            if (javaReturnType != void.class) {
-
-                // handle re-mapping of errors
-                Optional<RouteMatch<Object>> statusRoute = Optional.empty();
-                // if declaringType is not null, this means its a locally marked method handler
-                if (declaringType != null) {
-                    statusRoute = router.route(declaringType, HttpStatus.NOT_FOUND);
-                }
-                if (!statusRoute.isPresent()) {
-                    statusRoute = router.route(HttpStatus.NOT_FOUND);
-                }
-
-                if (statusRoute.isPresent()) {
-                    RouteMatch<Object> newRoute = statusRoute.get();
-                    requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
-
-                    if (newRoute.isExecutable()) {
-                        try {
-                            Object result = newRoute.execute();
-                            response = messageToResponse(newRoute, result);
-                        } catch (Throwable e) {
-                            emitter.onError(new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e));
-                            return;
-                        }
-
-                    } else {
-                        response = newNotFoundError(httpRequest);
-                    }
-                    response.setAttribute(HttpAttributes.ROUTE_MATCH, statusRoute);
-                } else {
-                    response = newNotFoundError(httpRequest);
-                }
-            } else {
-                // void return type with no response, nothing else to do
-                response = forStatus(annotationMetadata);
+            try {
+                response = emptyRouteResponse(declaringType, javaReturnType, annotationMetadata, requestReference);
+            } catch (InternalServerException e) {
+                emitter.onError(e);
+                return;
             }
             try {
                 emitter.onNext(response);
@@ -1099,54 +1132,140 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         return routePublisher;
     }
 
+    /**
+     * Builds the response of a route that emitted no result, which is the result of the not found status route if
+     * there is one.
+     *
+     * @param declaringType The type that declares the route
+     * @param javaReturnType The return type of the route
+     * @param annotationMetadata The annotation metadata of the route
+     * @param requestReference The request
+     * @return The response
+     * @throws InternalServerException If the status route fails
+     */
+    MutableHttpResponse<?> emptyRouteResponse(
+            Class<?> declaringType,
+            Class<?> javaReturnType,
+            AnnotationMetadata annotationMetadata,
+            AtomicReference<HttpRequest<?>> requestReference) {
+        HttpRequest<?> httpRequest = requestReference.get();
+        MutableHttpResponse<?> response;
+        if (javaReturnType != void.class) {
+
+            // handle re-mapping of errors
+            Optional<RouteMatch<Object>> statusRoute = Optional.empty();
+            // if declaringType is not null, this means its a locally marked method handler
+            if (declaringType != null) {
+                statusRoute = router.route(declaringType, HttpStatus.NOT_FOUND);
+            }
+            if (!statusRoute.isPresent()) {
+                statusRoute = router.route(HttpStatus.NOT_FOUND);
+            }
+
+            if (statusRoute.isPresent()) {
+                RouteMatch<Object> newRoute = statusRoute.get();
+                requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
+
+                if (newRoute.isExecutable()) {
+                    try {
+                        Object result = newRoute.execute();
+                        response = messageToResponse(newRoute, result);
+                    } catch (Throwable e) {
+                        throw new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e);
+                    }
+
+                } else {
+                    response = newNotFoundError(httpRequest);
+                }
+                response.setAttribute(HttpAttributes.ROUTE_MATCH, statusRoute);
+            } else {
+                response = newNotFoundError(httpRequest);
+            }
+        } else {
+            // void return type with no response, nothing else to do
+            response = forStatus(annotationMetadata);
+        }
+        return response;
+    }
+
     private void subscribeToResponsePublisher(
             ChannelHandlerContext context,
             MediaType defaultResponseMediaType,
             AtomicReference<HttpRequest<?>> requestReference,
             Flowable<? extends MutableHttpResponse<?>> finalPublisher) {
-        finalPublisher =  finalPublisher.map((response) -> {
-            Optional<MediaType> specifiedMediaType = response.getContentType();
-            MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
+        finalPublisher =  finalPublisher.map((response) ->
+                encodeResponse(response, defaultResponseMediaType, context, requestReference)
+        );
 
-            applyConfiguredHeaders(response.getHeaders());
+        finalPublisher.subscribe(responseSubscriber(context, requestReference));
+    }
 
-            Optional<?> responseBody = response.getBody();
-            if (responseBody.isPresent()) {
+    /**
+     * Applies the configured headers to a response and encodes its body.
+     *
+     * @param response The response
+     * @param defaultResponseMediaType The media type of the route
+     * @param context The channel handler context
+     * @param requestReference The request
+     * @return The response
+     */
+    MutableHttpResponse<?> encodeResponse(
+            MutableHttpResponse<?> response,
+            MediaType defaultResponseMediaType,
+            ChannelHandlerContext context,
+            AtomicReference<HttpRequest<?>> requestReference) {
+        Optional<MediaType> specifiedMediaType = response.getContentType();
+        MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
 
-                Object body = responseBody.get();
+        applyConfiguredHeaders(response.getHeaders());
 
-                Optional<NettyCustomizableResponseTypeHandler> typeHandler = customizableResponseTypeHandlerRegistry
-                        .findTypeHandler(body.getClass());
-                if (typeHandler.isPresent()) {
-                    NettyCustomizableResponseTypeHandler th = typeHandler.get();
-                    setBodyContent(response, new NettyCustomizableResponseTypeHandlerInvoker(th, body));
-                    return response;
-                }
+        Optional<?> responseBody = response.getBody();
+        if (responseBody.isPresent()) {
 
-                if (specifiedMediaType.isPresent())  {
+            Object body = responseBody.get();
 
-                    Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(responseMediaType, body.getClass());
-                    if (registeredCodec.isPresent()) {
-                        MediaTypeCodec codec = registeredCodec.get();
-                        return encodeBodyWithCodec(response, body, codec, responseMediaType, context, requestReference);
-                    }
-                }
+            Optional<NettyCustomizableResponseTypeHandler> typeHandler = customizableResponseTypeHandlerRegistry
+                    .findTypeHandler(body.getClass());
+            if (typeHandler.isPresent()) {
+                NettyCustomizableResponseTypeHandler th = typeHandler.get();
+                setBodyContent(response, new NettyCustomizableResponseTypeHandlerInvoker(th, body));
+                return response;
+            }
 
-                Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(defaultResponseMediaType, body.getClass());
+            if (specifiedMediaType.isPresent())  {
+
+                Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(responseMediaType, body.getClass());
                 if (registeredCodec.isPresent()) {
                     MediaTypeCodec codec = registeredCodec.get();
                     return encodeBodyWithCodec(response, body, codec, responseMediaType, context, requestReference);
                 }
+            }
 
-                MediaTypeCodec defaultCodec = new TextPlainCodec(serverConfiguration.getDefaultCharset());
-
-                return encodeBodyWithCodec(response, body, defaultCodec, responseMediaType,  context, requestReference);
-            } else {
-                return response;
+            Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(defaultResponseMediaType, body.getClass());
+            if (registeredCodec.isPresent()) {
+                MediaTypeCodec codec = registeredCodec.get();
+                return encodeBodyWithCodec(response, body, codec, responseMediaType, context, requestReference);
             }
-        });
 
-        finalPublisher.subscribe(new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
+            MediaTypeCodec defaultCodec = new TextPlainCodec(serverConfiguration.getDefaultCharset());
+
+            return encodeBodyWithCodec(response, body, defaultCodec, responseMediaType,  context, requestReference);
+        } else {
+            return response;
+        }
+    }
+
+    /**
+     * Creates the subscriber that writes the response to the channel, or handles the error.
+     *
+     * @param context The channel handler context
+     * @param requestReference The request
+     * @return The subscriber
+     */
+    Subscriber<MutableHttpResponse<?>> responseSubscriber(
+            ChannelHandlerContext context,
+            AtomicReference<HttpRequest<?>> requestReference) {
+        return new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
             @Override
             protected void onComplete(MutableHttpResponse<?> message) {
                 writeFinalNettyResponse(message, requestReference, context);
@@ -1156,7 +1275,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
             protected void doOnError(Throwable t) {
                 exceptionCaughtInternal(context, t, (NettyHttpRequest) requestReference.get());
             }
-        });
+        };
     }
 
     private void writeFinalNettyResponse(MutableHttpResponse<?> message, AtomicReference<HttpRequest<?>> requestReference, ChannelHandlerContext context) {
@@ -1218,7 +1337,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         }
     }
 
-    private MutableHttpResponse<?> setBodyContent(MutableHttpResponse response, Object bodyContent) {
+    MutableHttpResponse<?> setBodyContent(MutableHttpResponse response, Object bodyContent) {
         @SuppressWarnings("unchecked")
         MutableHttpResponse<?> res = response.body(bodyContent);
         return res;
@@ -1369,7 +1488,30 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private Flowable<? extends MutableHttpResponse<?>> filterPublisher(
             AtomicReference<HttpRequest<?>> requestReference,
             Publisher<MutableHttpResponse<?>> routePublisher, ExecutorService executor) {
-        Publisher<? extends io.micronaut.http.MutableHttpResponse<?>> finalPublisher;
+        Publisher<? extends MutableHttpResponse<?>> finalPublisher = applyFilters(requestReference, routePublisher);
+
+        // Subscribe on the executor. Unlike subscribeOn(Schedulers.from(executor)), a task rejected by the executor
+        // is signalled to the subscriber, so that the request fails instead of never completing
+        Flowable<MutableHttpResponse<?>> flowable = Flowable.fromPublisher(finalPublisher);
+        return Flowable.fromPublisher(subscriber -> {
+            try {
+                executor.execute(() -> flowable.subscribe(subscriber));
+            } catch (RejectedExecutionException e) {
+                EmptySubscription.error(e, subscriber);
+            }
+        });
+    }
+
+    /**
+     * Passes the route publisher through the filters that match the request.
+     *
+     * @param requestReference The request
+     * @param routePublisher The publisher of the route response
+     * @return The publisher returned by the first filter, or the route publisher if no filter matches
+     */
+    Publisher<? extends MutableHttpResponse<?>> applyFilters(
+            AtomicReference<HttpRequest<?>> requestReference,
+            Publisher<MutableHttpResponse<?>> routePublisher) {
         List<HttpFilter> filters = new ArrayList<>(router.findFilters(requestReference.get()));
         if (!filters.isEmpty()) {
             // make the action executor the last filter in the chain
@@ -1391,18 +1533,9 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
             };
             HttpFilter httpFilter = filters.get(0);
             Publisher<? extends HttpResponse<?>> resultingPublisher = httpFilter.doFilter(requestReference.get(), filterChain);
-            finalPublisher = (Publisher<? extends MutableHttpResponse<?>>) resultingPublisher;
-        } else {
-            finalPublisher = routePublisher;
-        }
-
-        // Handle the scheduler to subscribe on
-        if (finalPublisher instanceof Flowable) {
-            return ((Flowable<MutableHttpResponse<?>>) finalPublisher)
-                    .subscribeOn(Schedulers.from(executor));
+            return (Publisher<? extends MutableHttpResponse<?>>) resultingPublisher;
         } else {
-            return Flowable.fromPublisher(finalPublisher)
-                    .subscribeOn(Schedulers.from(executor));
+            return routePublisher;
         }
     }
 
@@ -79,6 +79,12 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_COMPRESSIONTHRESHOLD = 1024;
 
+    /**
+     * The default reactor native value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_REACTORNATIVE = false;
+
     private Map<ChannelOption, Object> childOptions = Collections.emptyMap();
     private Map<ChannelOption, Object> options = Collections.emptyMap();
     private Worker worker;
@@ -91,6 +97,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private int initialBufferSize = DEFAULT_INITIALBUFFERSIZE;
     private LogLevel logLevel;
     private int compressionThreshold = DEFAULT_COMPRESSIONTHRESHOLD;
+    private boolean reactorNative = DEFAULT_REACTORNATIVE;
 
     /**
      * Default empty constructor.
@@ -178,6 +185,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return compressionThreshold;
     }
 
+    /**
+     * Whether routes that return a Reactor {@code Mono} are subscribed with Reactor operators instead of being
+     * converted to RxJava types. Defaults to false.
+     *
+     * @return Whether Reactor results are subscribed natively
+     */
+    public boolean isReactorNative() {
+        return reactorNative;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOptions()
@@ -305,6 +322,15 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.compressionThreshold = compressionThreshold;
     }
 
+    /**
+     * Sets whether routes that return a Reactor {@code Mono} are subscribed with Reactor operators, with the request
+     * available in the Reactor {@code Context}. Default value ({@value #DEFAULT_REACTORNATIVE}).
+     * @param reactorNative True if Reactor results should be subscribed natively
+     */
+    public void setReactorNative(boolean reactorNative) {
+        this.reactorNative = reactorNative;
+    }
+
     /**
      * Configuration for Netty worker.
      */
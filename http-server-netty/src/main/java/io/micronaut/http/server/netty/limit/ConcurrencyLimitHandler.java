@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.server.limit.ConcurrencyLimiter;
+import io.micronaut.http.server.limit.ConcurrencyLimiterRegistry;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A handler that applies the global {@link ConcurrencyLimiter} to each request before the request is decoded and
+ * dispatched, and rejects requests above the limit with a {@code 503} response on the event loop. The permit of a
+ * request is released, and the limit updated with its latency, once the last content of its response is written.
+ *
+ * <p>Routes are only matched once a request is decoded, so the limiter of an annotated route is applied by the
+ * handler that matches the routes through {@link #acquireRouteLimiter(ConcurrencyLimiter)}, which counts the
+ * request against the limit of the route in place of the global limit.</p>
+ *
+ * <p>Pipelined requests are never rejected since their responses have to be written in order, they are counted
+ * against the limit regardless.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+public class ConcurrencyLimitHandler extends ChannelDuplexHandler {
+
+    /**
+     * Constant for the concurrency limit handler.
+     */
+    public static final String ID = "micronaut-concurrency-limit-handler";
+
+    private final ConcurrencyLimiter globalLimiter;
+    private final Deque<Permit> permits = new ArrayDeque<>(2);
+    private HttpResponseStatus responseStatus;
+    private boolean discarding;
+
+    /**
+     * @param registry The concurrency limiter registry
+     */
+    public ConcurrencyLimitHandler(ConcurrencyLimiterRegistry registry) {
+        this.globalLimiter = registry.getGlobalLimiter().orElse(null);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) msg;
+            if (globalLimiter != null) {
+                if (permits.isEmpty()) {
+                    if (!globalLimiter.tryAcquire()) {
+                        reject(ctx, request);
+                        return;
+                    }
+                } else {
+                    globalLimiter.acquire();
+                }
+            }
+            permits.add(new Permit(globalLimiter, System.nanoTime()));
+        } else if (discarding && msg instanceof HttpContent) {
+            discarding = !(msg instanceof LastHttpContent);
+            ReferenceCountUtil.release(msg);
+            readIfNeeded(ctx);
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse) {
+            HttpResponseStatus status = ((HttpResponse) msg).status();
+            if (status.codeClass() != HttpStatusClass.INFORMATIONAL || status.code() == HttpResponseStatus.SWITCHING_PROTOCOLS.code()) {
+                responseStatus = status;
+            }
+        }
+        if (responseStatus != null && msg instanceof LastHttpContent) {
+            Permit permit = permits.poll();
+            if (permit != null) {
+                permit.release(responseStatus);
+            }
+            responseStatus = null;
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        Permit permit;
+        while ((permit = permits.poll()) != null) {
+            permit.cancel();
+        }
+        super.channelInactive(ctx);
+    }
+
+    /**
+     * Applies the limiter of the route matched for the oldest request that has not been routed yet. Must be called
+     * on the event loop once for every request that is routed, in the order the requests are read.
+     *
+     * @param limiter The limiter of the matched route, or null if the route is not limited
+     * @return False if the request is above the limit of the route and has to be rejected with a {@code 503}
+     * response, in which case the request is not counted against any limit
+     */
+    public boolean acquireRouteLimiter(@Nullable ConcurrencyLimiter limiter) {
+        Permit pending = null;
+        for (Permit permit : permits) {
+            if (!permit.routed) {
+                pending = permit;
+                break;
+            }
+        }
+        if (pending == null) {
+            return true;
+        }
+        pending.routed = true;
+        if (limiter == null) {
+            return true;
+        }
+        boolean acquired = true;
+        if (pending == permits.peekFirst()) {
+            acquired = limiter.tryAcquire();
+        } else {
+            limiter.acquire();
+        }
+        // the request is counted against the limit of the route rather than the global limit
+        pending.cancel();
+        pending.limiter = acquired ? limiter : null;
+        return acquired;
+    }
+
+    private void reject(ChannelHandlerContext ctx, HttpRequest request) {
+        discarding = !(request instanceof LastHttpContent);
+        ReferenceCountUtil.release(request);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.SERVICE_UNAVAILABLE);
+        HttpUtil.setContentLength(response, 0);
+        // the response does not pass through this handler, so it does not complete a permit
+        ctx.writeAndFlush(response);
+        readIfNeeded(ctx);
+    }
+
+    private void readIfNeeded(ChannelHandlerContext ctx) {
+        // nothing downstream requests more data for a message that is not forwarded
+        if (!ctx.channel().config().isAutoRead()) {
+            ctx.read();
+        }
+    }
+
+    /**
+     * The permit of a request that is waiting for its response.
+     */
+    private static final class Permit {
+        private final long startNanos;
+        private ConcurrencyLimiter limiter;
+        private boolean routed;
+
+        Permit(ConcurrencyLimiter limiter, long startNanos) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+        }
+
+        void release(HttpResponseStatus status) {
+            if (limiter != null) {
+                int code = status.code();
+                boolean dropped = code == HttpResponseStatus.SERVICE_UNAVAILABLE.code()
+                        || code == HttpResponseStatus.GATEWAY_TIMEOUT.code();
+                limiter.release(System.nanoTime() - startNanos, dropped);
+            }
+        }
+
+        void cancel() {
+            if (limiter != null) {
+                limiter.cancel();
+            }
+        }
+    }
+}
@@ -66,6 +66,25 @@ class ServerRequestContextSpec extends Specification {
         "handlerError"  | '/test-context/handler-error'
     }
 
+    @Unroll
+    void "test server request context is available for #method with the #mode instrumentation mode"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['micronaut.rxjava2.instrumentation.mode': mode])
+        TestClient testClient = server.getApplicationContext().getBean(TestClient)
+
+        expect:
+        testClient."$method"() == uri
+
+        cleanup:
+        server.close()
+
+        where:
+        mode           | method   | uri
+        'subscription' | "rxjava" | '/test-context/rxjava'
+        'subscription' | "thread" | '/test-context/thread'
+        'none'         | "method" | '/test-context/method'
+    }
+
     @Client('/test-context')
     static interface TestClient {
 
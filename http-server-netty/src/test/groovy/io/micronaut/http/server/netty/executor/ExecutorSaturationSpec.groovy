@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.executor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+class ExecutorSaturationSpec extends Specification {
+
+    void "test requests shed by a saturated io executor receive a 503 response"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'ExecutorSaturationSpec',
+                'micronaut.executors.io.type': 'cached',
+                'micronaut.executors.io.core-pool-size': 2,
+                'micronaut.executors.io.maximum-pool-size': 2,
+                'micronaut.executors.io.queue-capacity': 1,
+                'micronaut.executors.io.rejection-policy': 'shed'
+        ])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        List<HttpStatus> statuses = Flowable.range(0, 6)
+                .flatMap({ client.exchange(HttpRequest.GET('/executor-saturation/slow'), String)
+                        .map({ it.status })
+                        .onErrorReturn({ ((HttpClientResponseException) it).status })
+                })
+                .toList()
+                .blockingGet()
+
+        then:"two requests run, one waits in the queue and the rest are shed"
+        statuses.count { it == HttpStatus.OK } == 3
+        statuses.count { it == HttpStatus.SERVICE_UNAVAILABLE } == 3
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'ExecutorSaturationSpec')
+    @Controller('/executor-saturation')
+    static class SlowController {
+
+        @Get('/slow')
+        String slow() {
+            Thread.sleep(500)
+            return "ok"
+        }
+    }
+}
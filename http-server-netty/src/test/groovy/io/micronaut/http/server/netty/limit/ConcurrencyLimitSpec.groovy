@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.limit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.limit.AimdLimitAlgorithm
+import io.micronaut.http.server.limit.ConcurrencyLimit
+import io.micronaut.http.server.limit.ConcurrencyLimiterRegistry
+import io.micronaut.http.server.limit.GradientLimitAlgorithm
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class ConcurrencyLimitSpec extends Specification {
+
+    void "test the AIMD algorithm backs off on drops and grows while in use"() {
+        given:
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(10, 2, 11, 0.5, TimeUnit.SECONDS.toNanos(1))
+
+        expect:
+        algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 2, false) == 10
+        algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 5, false) == 11
+        algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 11, false) == 11
+        algorithm.update(TimeUnit.SECONDS.toNanos(2), 11, false) == 5
+        algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 5, true) == 2
+        algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 2, true) == 2
+    }
+
+    void "test the gradient algorithm reduces the limit when latency rises"() {
+        given:
+        GradientLimitAlgorithm algorithm = new GradientLimitAlgorithm(20, 1, 100, 0.5, 1.5)
+
+        when:"requests complete with a steady latency while the limit is in use"
+        int limit = 0
+        10.times { limit = algorithm.update(TimeUnit.MILLISECONDS.toNanos(10), 20, false) }
+
+        then:"the limit grows"
+        limit > 20
+
+        when:"the latency rises well above the long term average"
+        int before = limit
+        5.times { limit = algorithm.update(TimeUnit.MILLISECONDS.toNanos(100), limit, false) }
+
+        then:"the limit is reduced"
+        limit < before
+    }
+
+    void "test requests to an annotated route above the limit are rejected"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'ConcurrencyLimitSpec'])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        ConcurrencyLimiterRegistry registry = embeddedServer.applicationContext.getBean(ConcurrencyLimiterRegistry)
+
+        expect:
+        registry.hasRouteLimiters()
+        !registry.getGlobalLimiter().isPresent()
+
+        when:
+        List<HttpStatus> statuses = Flowable.range(0, 6)
+                .flatMap({ client.exchange(HttpRequest.GET('/concurrency-limit/slow'), String)
+                        .map({ it.status })
+                        .onErrorReturn({ ((HttpClientResponseException) it).status })
+                })
+                .toList()
+                .blockingGet()
+
+        then:
+        statuses.count { it == HttpStatus.OK } == 2
+        statuses.count { it == HttpStatus.SERVICE_UNAVAILABLE } == 4
+        registry.limiters.first().rejected == 4
+        registry.limiters.first().inFlight == 0
+
+        when:"a route without a limit is called concurrently"
+        statuses = Flowable.range(0, 6)
+                .flatMap({ client.exchange(HttpRequest.GET('/concurrency-limit/fast'), String).map({ it.status }) })
+                .toList()
+                .blockingGet()
+
+        then:
+        statuses.every { it == HttpStatus.OK }
+
+        cleanup:
+        client.stop()
+        embeddedServer.stop()
+    }
+
+    void "test the global limit applies to all routes"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'ConcurrencyLimitSpec',
+                'micronaut.server.concurrency-limit.enabled': true,
+                'micronaut.server.concurrency-limit.initial-limit': 3,
+                'micronaut.server.concurrency-limit.max-limit': 3
+        ])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        ConcurrencyLimiterRegistry registry = embeddedServer.applicationContext.getBean(ConcurrencyLimiterRegistry)
+
+        when:
+        List<HttpStatus> statuses = Flowable.range(0, 6)
+                .flatMap({ client.exchange(HttpRequest.GET('/concurrency-limit/fast?delay=300'), String)
+                        .map({ it.status })
+                        .onErrorReturn({ ((HttpClientResponseException) it).status })
+                })
+                .toList()
+                .blockingGet()
+
+        then:
+        statuses.count { it == HttpStatus.OK } == 3
+        statuses.count { it == HttpStatus.SERVICE_UNAVAILABLE } == 3
+        registry.getGlobalLimiter().get().inFlight == 0
+
+        cleanup:
+        client.stop()
+        embeddedServer.stop()
+    }
+
+    void "test a disabled registry does not limit any request"() {
+        given:
+        ConcurrencyLimiterRegistry registry = ConcurrencyLimiterRegistry.disabled()
+
+        expect:
+        !registry.isEnabled()
+        !registry.hasRouteLimiters()
+        !registry.getGlobalLimiter().isPresent()
+        registry.getLimiters().isEmpty()
+    }
+
+    @Requires(property = 'spec.name', value = 'ConcurrencyLimitSpec')
+    @Controller('/concurrency-limit')
+    static class LimitedController {
+
+        @Get('/slow')
+        @ConcurrencyLimit(algorithm = 'aimd', initialLimit = '2', maxLimit = '2')
+        String slow() {
+            Thread.sleep(300)
+            'slow'
+        }
+
+        @Get('/fast{?delay}')
+        String fast(Optional<Long> delay) {
+            delay.ifPresent({ Thread.sleep(it) })
+            'fast'
+        }
+    }
+}
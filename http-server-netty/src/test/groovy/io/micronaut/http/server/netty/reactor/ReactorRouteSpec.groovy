@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.reactor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.context.ServerRequestContext
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import io.micronaut.runtime.server.EmbeddedServer
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class ReactorRouteSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'ReactorRouteSpec',
+            'micronaut.server.netty.reactor-native': true
+    ])
+
+    @Shared
+    @AutoCleanup
+    RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+    @Unroll
+    void "test a Mono route subscribed natively returns #body for #uri"() {
+        when:
+        HttpResponse<String> response = client.exchange(HttpRequest.GET(uri), String).blockingFirst()
+
+        then:
+        response.status == status
+        response.body() == body
+        response.header('X-Filtered') == 'true'
+
+        where:
+        uri                        | status             | body
+        '/reactor-route/value'     | HttpStatus.OK      | 'value'
+        '/reactor-route/response'  | HttpStatus.CREATED | 'created'
+        '/reactor-route/json'      | HttpStatus.OK      | '{"name":"Fred"}'
+        '/reactor-route/context'   | HttpStatus.OK      | '/reactor-route/context'
+        '/reactor-route/scheduled' | HttpStatus.OK      | '/reactor-route/scheduled'
+    }
+
+    @Unroll
+    void "test a Mono route subscribed natively returns #status for #uri"() {
+        when:
+        client.exchange(HttpRequest.GET(uri), String).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == status
+
+        where:
+        uri                    | status
+        '/reactor-route/empty' | HttpStatus.NOT_FOUND
+        '/reactor-route/error' | HttpStatus.INTERNAL_SERVER_ERROR
+    }
+
+    @Requires(property = 'spec.name', value = 'ReactorRouteSpec')
+    @Controller('/reactor-route')
+    static class ReactorController {
+
+        @Get('/value')
+        Mono<String> value() {
+            Mono.just("value")
+        }
+
+        @Get('/response')
+        Mono<HttpResponse<String>> response() {
+            Mono.just(HttpResponse.created("created"))
+        }
+
+        @Get('/json')
+        Mono<Map<String, String>> json() {
+            Mono.just([name: 'Fred'])
+        }
+
+        @Get('/context')
+        Mono<String> context() {
+            Mono.subscriberContext().map({ ctx -> ctx.get(ServerRequestContext.KEY).path })
+        }
+
+        @Get('/scheduled')
+        Mono<String> scheduled() {
+            Mono.fromCallable({ -> ServerRequestContext.currentRequest().get().path })
+                    .subscribeOn(Schedulers.elastic())
+        }
+
+        @Get('/empty')
+        Mono<String> empty() {
+            Mono.empty()
+        }
+
+        @Get('/error')
+        Mono<String> error() {
+            Mono.error(new RuntimeException("bad"))
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'ReactorRouteSpec')
+    @Filter('/reactor-route/**')
+    static class ReactorFilter implements HttpServerFilter {
+
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            Mono.from(chain.proceed(request)).doOnNext({ response -> response.header('X-Filtered', 'true') })
+        }
+    }
+}
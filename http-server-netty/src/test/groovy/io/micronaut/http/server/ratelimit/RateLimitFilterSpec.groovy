@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class RateLimitFilterSpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'RateLimitFilterSpec',
+            'micronaut.server.rate-limits.strict.limit': 2,
+            'micronaut.server.rate-limits.strict.period': '10s',
+            'micronaut.server.rate-limits.api.limit': 3,
+            'micronaut.server.rate-limits.api.period': '1m',
+            'micronaut.server.rate-limits.api.key': 'header',
+            'micronaut.server.rate-limits.api.header': 'X-Api-Key',
+            'micronaut.server.rate-limits.api.patterns': ['/rate-limit/api/**']
+    ])
+    @Shared @AutoCleanup RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+    void "test the bucket table allows a burst and then one request per interval"() {
+        given:
+        RateLimitConfiguration limit = new RateLimitConfiguration('test')
+        limit.limit = 10
+        limit.period = Duration.ofSeconds(1)
+        limit.burst = 5
+        BucketTable table = new BucketTable(limit)
+        long now = System.nanoTime()
+
+        expect:
+        (0..<5).every { table.tryAcquire('key', now) == 0 }
+        table.tryAcquire('key', now) == TimeUnit.MILLISECONDS.toNanos(100)
+        table.tryAcquire('other', now) == 0
+        table.tryAcquire('key', now + TimeUnit.MILLISECONDS.toNanos(100)) == 0
+        table.tryAcquire('key', now + TimeUnit.MILLISECONDS.toNanos(100)) > 0
+    }
+
+    void "test the bucket table reuses the slots of idle keys once full"() {
+        given:
+        RateLimitConfiguration limit = new RateLimitConfiguration('test')
+        limit.limit = 1
+        limit.period = Duration.ofSeconds(1)
+        limit.maxKeys = 8
+        BucketTable table = new BucketTable(limit)
+        long now = System.nanoTime()
+
+        when:
+        (0..<10000).each { table.tryAcquire(it, now + it) }
+
+        then:"the latest key is still limited"
+        table.tryAcquire(9999, now + 10000) > 0
+    }
+
+    void "test requests to an annotated route over the limit are rejected"() {
+        when:
+        List<HttpStatus> statuses = (0..<2).collect { client.exchange('/rate-limit/strict', String).blockingFirst().status }
+
+        then:
+        statuses == [HttpStatus.OK, HttpStatus.OK]
+
+        when:
+        client.exchange('/rate-limit/strict', String).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.TOO_MANY_REQUESTS
+        e.response.header(HttpHeaders.RETRY_AFTER) == '5'
+    }
+
+    void "test limits that match the path are keyed by header"() {
+        when:
+        List<HttpStatus> statuses = (0..<4).collect { status(HttpRequest.GET('/rate-limit/api/items').header('X-Api-Key', 'one')) }
+
+        then:
+        statuses == [HttpStatus.OK, HttpStatus.OK, HttpStatus.OK, HttpStatus.TOO_MANY_REQUESTS]
+        status(HttpRequest.GET('/rate-limit/api/items').header('X-Api-Key', 'two')) == HttpStatus.OK
+        status(HttpRequest.GET('/rate-limit/free')) == HttpStatus.OK
+    }
+
+    void "test the filter is not enabled without limits"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        !context.containsBean(RateLimitFilter)
+
+        cleanup:
+        context.close()
+    }
+
+    private HttpStatus status(HttpRequest<?> request) {
+        try {
+            HttpResponse<String> response = client.exchange(request, String).blockingFirst()
+            return response.status
+        } catch (HttpClientResponseException e) {
+            return e.status
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RateLimitFilterSpec')
+    @Controller('/rate-limit')
+    static class RateLimitedController {
+
+        @Get('/strict')
+        @RateLimited('strict')
+        String strict() {
+            'strict'
+        }
+
+        @Get('/api/items')
+        String items() {
+            'items'
+        }
+
+        @Get('/free')
+        String free() {
+            'free'
+        }
+    }
+}
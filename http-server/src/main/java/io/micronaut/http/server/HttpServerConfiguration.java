@@ -104,6 +104,7 @@ public class HttpServerConfiguration {
     private Duration idleTimeout = Duration.of(DEFAULT_IDLE_TIME_MINUTES, ChronoUnit.MINUTES);
     private MultipartConfiguration multipart = new MultipartConfiguration();
     private CorsConfiguration cors = new CorsConfiguration();
+    private ConcurrencyLimitConfiguration concurrencyLimit = new ConcurrencyLimitConfiguration();
     private String serverHeader;
     private boolean dateHeader = DEFAULT_DATEHEADER;
     private boolean logHandledExceptions = DEFAULT_LOG_HANDLED_EXCEPTIONS;
@@ -186,6 +187,13 @@ public class HttpServerConfiguration {
         return cors;
     }
 
+    /**
+     * @return Configuration for adaptive concurrency limits
+     */
+    public ConcurrencyLimitConfiguration getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
     /**
      * @return The maximum request body size
      */
@@ -328,6 +336,14 @@ public class HttpServerConfiguration {
         this.cors = cors;
     }
 
+    /**
+     * Sets the adaptive concurrency limit configuration.
+     * @param concurrencyLimit The concurrency limit configuration
+     */
+    public void setConcurrencyLimit(ConcurrencyLimitConfiguration concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
     /**
      * Sets whether a date header should be sent back. Default value ({@value #DEFAULT_DATEHEADER}).
      *
@@ -537,4 +553,245 @@ public class HttpServerConfiguration {
             this.configurations = configurations;
         }
     }
+
+    /**
+     * Configuration for the adaptive limit of the number of requests the server processes concurrently. Requests
+     * above the limit are rejected with a {@code 503} response before they are dispatched, and the limit is
+     * adjusted from the observed latency of the requests that are processed. The same properties are used as the
+     * defaults of routes annotated with {@link io.micronaut.http.server.limit.ConcurrencyLimit}.
+     */
+    @ConfigurationProperties("concurrency-limit")
+    public static class ConcurrencyLimitConfiguration implements Toggleable {
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default initial limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+        /**
+         * The default minimum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MIN_LIMIT = 1;
+
+        /**
+         * The default maximum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_LIMIT = 1000;
+
+        /**
+         * The default backoff ratio.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+        /**
+         * The default timeout in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_TIMEOUT_SECONDS = 5;
+
+        /**
+         * The default smoothing factor.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_SMOOTHING = 0.2;
+
+        /**
+         * The default RTT tolerance.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_TOLERANCE = 1.5;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private Duration timeout = Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS);
+        private double smoothing = DEFAULT_SMOOTHING;
+        private double tolerance = DEFAULT_TOLERANCE;
+
+        /**
+         * @return Whether the limit applies to all requests. Defaults to false.
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return The algorithm used to adjust the limit
+         */
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * @return The limit used until enough requests have been observed
+         */
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        /**
+         * @return The lowest value the limit is reduced to
+         */
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        /**
+         * @return The highest value the limit is increased to
+         */
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        /**
+         * @return The ratio the AIMD limit is multiplied by when a request is dropped or times out
+         */
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        /**
+         * @return The latency above which the AIMD algorithm treats a request as dropped
+         */
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        /**
+         * @return The weight of a new estimate of the gradient limit
+         */
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        /**
+         * @return How much the short term latency may exceed the long term latency before the gradient limit is
+         * reduced
+         */
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        /**
+         * Sets whether the limit applies to all requests. Routes annotated with
+         * {@link io.micronaut.http.server.limit.ConcurrencyLimit} are limited regardless. Default value
+         * ({@value #DEFAULT_ENABLED}).
+         *
+         * @param enabled True if all requests are limited
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Sets the algorithm used to adjust the limit. Default value {@link Algorithm#GRADIENT}.
+         *
+         * @param algorithm The algorithm
+         */
+        public void setAlgorithm(Algorithm algorithm) {
+            if (algorithm != null) {
+                this.algorithm = algorithm;
+            }
+        }
+
+        /**
+         * Sets the limit used until enough requests have been observed. Default value
+         * ({@value #DEFAULT_INITIAL_LIMIT}).
+         *
+         * @param initialLimit The initial limit
+         */
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        /**
+         * Sets the lowest value the limit is reduced to. Default value ({@value #DEFAULT_MIN_LIMIT}).
+         *
+         * @param minLimit The minimum limit
+         */
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        /**
+         * Sets the highest value the limit is increased to. Default value ({@value #DEFAULT_MAX_LIMIT}).
+         *
+         * @param maxLimit The maximum limit
+         */
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * Sets the ratio the AIMD limit is multiplied by when a request is dropped or times out. Default value
+         * ({@value #DEFAULT_BACKOFF_RATIO}).
+         *
+         * @param backoffRatio The backoff ratio
+         */
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        /**
+         * Sets the latency above which the AIMD algorithm treats a request as dropped. Default value
+         * ({@value #DEFAULT_TIMEOUT_SECONDS} seconds).
+         *
+         * @param timeout The timeout
+         */
+        public void setTimeout(Duration timeout) {
+            if (timeout != null) {
+                this.timeout = timeout;
+            }
+        }
+
+        /**
+         * Sets the weight of a new estimate of the gradient limit, between 0 and 1. Lower values adjust the limit
+         * more slowly. Default value ({@value #DEFAULT_SMOOTHING}).
+         *
+         * @param smoothing The smoothing factor
+         */
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        /**
+         * Sets how much the short term latency may exceed the long term latency before the gradient limit is
+         * reduced. Default value ({@value #DEFAULT_TOLERANCE}).
+         *
+         * @param tolerance The tolerance
+         */
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        /**
+         * The algorithms used to adjust a concurrency limit.
+         */
+        public enum Algorithm {
+            /**
+             * Increases the limit by one while requests succeed and multiplies it by the backoff ratio when a
+             * request is dropped or exceeds the timeout.
+             */
+            AIMD,
+            /**
+             * Adjusts the limit by the ratio of the long term to the short term latency, so that the limit is
+             * reduced as soon as requests start to queue.
+             */
+            GRADIENT
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link LimitAlgorithm} that increases the limit additively while requests succeed and decreases it
+ * multiplicatively when a request is dropped or takes longer than a timeout.
+ *
+ * <p>The limit is only increased while at least half of it is in use, so that it does not grow unbounded while the
+ * server is lightly loaded. The limit is updated atomically without locking.</p>
+ *
+ * @since 1.1
+ */
+public final class AimdLimitAlgorithm implements LimitAlgorithm {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+    private final AtomicInteger limit;
+
+    /**
+     * @param initialLimit The initial limit
+     * @param minLimit     The lowest value the limit is reduced to
+     * @param maxLimit     The highest value the limit is increased to
+     * @param backoffRatio The ratio the limit is multiplied by when a request is dropped, between 0 and 1
+     * @param timeoutNanos The latency in nanoseconds above which a request is treated as dropped
+     */
+    public AimdLimitAlgorithm(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long timeoutNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = timeoutNanos;
+        this.limit = new AtomicInteger(Math.min(maxLimit, Math.max(minLimit, initialLimit)));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight, boolean dropped) {
+        boolean backOff = dropped || rttNanos > timeoutNanos;
+        for (;;) {
+            int current = limit.get();
+            int next;
+            if (backOff) {
+                next = Math.max(minLimit, (int) (current * backoffRatio));
+            } else if (inFlight * 2 >= current) {
+                next = Math.min(maxLimit, current + 1);
+            } else {
+                return current;
+            }
+            if (next == current || limit.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>An annotation that can be applied to a controller or to a route method to adaptively limit the number of
+ * requests to the route that are processed concurrently. Requests above the limit are rejected with a {@code 503}
+ * response on the event loop, before they are dispatched to an executor.</p>
+ *
+ * <p>Members that are not specified default to the values of
+ * {@link io.micronaut.http.server.HttpServerConfiguration.ConcurrencyLimitConfiguration}. Routes that share the same
+ * {@link #value()} share a single limit.</p>
+ *
+ * @since 1.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ConcurrencyLimit {
+
+    /**
+     * @return The name of the limit. Defaults to a limit per route method.
+     */
+    String value() default "";
+
+    /**
+     * @return The algorithm used to adjust the limit, either {@code aimd} or {@code gradient}
+     */
+    String algorithm() default "";
+
+    /**
+     * @return The limit used until enough requests have been observed
+     */
+    String initialLimit() default "";
+
+    /**
+     * @return The lowest value the limit is reduced to
+     */
+    String minLimit() default "";
+
+    /**
+     * @return The highest value the limit is increased to
+     */
+    String maxLimit() default "";
+}
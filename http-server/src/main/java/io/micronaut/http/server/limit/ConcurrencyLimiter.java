@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests that are processed concurrently to a limit that is adjusted by a
+ * {@link LimitAlgorithm} as requests complete.
+ *
+ * <p>Every successful {@link #tryAcquire()} or {@link #acquire()} must be followed by exactly one call to either
+ * {@link #release(long, boolean)}, once the request completed, or {@link #cancel()} if it was abandoned before
+ * completing.</p>
+ *
+ * @since 1.1
+ */
+public final class ConcurrencyLimiter {
+
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name      The name of the limiter
+     * @param algorithm The algorithm that adjusts the limit
+     */
+    public ConcurrencyLimiter(String name, LimitAlgorithm algorithm) {
+        this.name = name;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * @return The name of the limiter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The current limit
+     */
+    public int getLimit() {
+        return algorithm.getLimit();
+    }
+
+    /**
+     * @return The number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of requests that were rejected
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Acquires a permit if the number of requests in flight is below the limit.
+     *
+     * @return True if a permit was acquired, false if the request should be rejected
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= algorithm.getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit regardless of the limit, for requests that cannot be rejected.
+     */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Releases a permit of a completed request and updates the limit with its latency.
+     *
+     * @param rttNanos The time the request took to process in nanoseconds
+     * @param dropped  Whether the request failed because the server was overloaded
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        algorithm.update(rttNanos, current, dropped);
+    }
+
+    /**
+     * Releases a permit of a request that did not complete, without updating the limit.
+     */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{name='" + name + "', limit=" + algorithm.getLimit() + ", inFlight=" + inFlight.get() + '}';
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.server.HttpServerConfiguration.ConcurrencyLimitConfiguration;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.web.router.MethodBasedRoute;
+import io.micronaut.web.router.MethodBasedRouteMatch;
+import io.micronaut.web.router.RouteMatch;
+import io.micronaut.web.router.Router;
+
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the {@link ConcurrencyLimiter} that applies to all requests when
+ * {@link ConcurrencyLimitConfiguration#isEnabled()} and the limiters of the routes annotated with
+ * {@link ConcurrencyLimit}, and resolves the limiter of a matched route.
+ *
+ * <p>The limiters of annotated routes are created when the registry is created, so that resolving the limiter of
+ * a route is a single lookup and never allocates one.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+public class ConcurrencyLimiterRegistry {
+
+    private final ConcurrencyLimiter globalLimiter;
+    private final Map<ExecutableMethod<?, ?>, ConcurrencyLimiter> routeLimiters;
+    private final Collection<ConcurrencyLimiter> limiters;
+
+    /**
+     * @param configuration The concurrency limit configuration
+     * @param router        The router
+     */
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitConfiguration configuration, Router router) {
+        this.globalLimiter = configuration.isEnabled() ? new ConcurrencyLimiter(
+                "global",
+                createAlgorithm(
+                        configuration,
+                        configuration.getAlgorithm(),
+                        configuration.getInitialLimit(),
+                        configuration.getMinLimit(),
+                        configuration.getMaxLimit()
+                )
+        ) : null;
+
+        Map<String, ConcurrencyLimiter> limitersByName = new LinkedHashMap<>();
+        Map<ExecutableMethod<?, ?>, ConcurrencyLimiter> routeLimiters = new HashMap<>();
+        router.uriRoutes().forEach(route -> {
+            if (route instanceof MethodBasedRoute) {
+                ExecutableMethod<?, ?> method = ((MethodBasedRoute) route).getTargetMethod().getExecutableMethod();
+                if (method.hasStereotype(ConcurrencyLimit.class) && !routeLimiters.containsKey(method)) {
+                    String name = method.getValue(ConcurrencyLimit.class, String.class)
+                            .filter(StringUtils::isNotEmpty)
+                            .orElseGet(() -> method.getDeclaringType().getSimpleName() + "." + method.getMethodName());
+                    ConcurrencyLimiter limiter = limitersByName.computeIfAbsent(name, n ->
+                            new ConcurrencyLimiter(n, createAlgorithm(configuration, method))
+                    );
+                    routeLimiters.put(method, limiter);
+                }
+            }
+        });
+        this.routeLimiters = routeLimiters;
+        if (globalLimiter != null) {
+            limitersByName.put(globalLimiter.getName(), globalLimiter);
+        }
+        this.limiters = Collections.unmodifiableCollection(limitersByName.values());
+    }
+
+    private ConcurrencyLimiterRegistry() {
+        this.globalLimiter = null;
+        this.routeLimiters = Collections.emptyMap();
+        this.limiters = Collections.emptyList();
+    }
+
+    /**
+     * @return A registry that does not limit any request
+     */
+    public static ConcurrencyLimiterRegistry disabled() {
+        return new ConcurrencyLimiterRegistry();
+    }
+
+    /**
+     * @return True if any request is limited
+     */
+    public boolean isEnabled() {
+        return !limiters.isEmpty();
+    }
+
+    /**
+     * @return The limiters, including the global limiter if it is enabled
+     */
+    public Collection<ConcurrencyLimiter> getLimiters() {
+        return limiters;
+    }
+
+    /**
+     * @return The limiter that applies to all requests, if it is enabled
+     */
+    public Optional<ConcurrencyLimiter> getGlobalLimiter() {
+        return Optional.ofNullable(globalLimiter);
+    }
+
+    /**
+     * @return True if any route is annotated with {@link ConcurrencyLimit}, in which case the limiter of each
+     * request has to be resolved once its route is matched
+     */
+    public boolean hasRouteLimiters() {
+        return !routeLimiters.isEmpty();
+    }
+
+    /**
+     * Resolves the limiter of a matched route.
+     *
+     * @param route The route matched for a request
+     * @return The limiter if the route is annotated with {@link ConcurrencyLimit}
+     */
+    public Optional<ConcurrencyLimiter> findLimiter(RouteMatch<?> route) {
+        if (!routeLimiters.isEmpty() && route instanceof MethodBasedRouteMatch) {
+            return Optional.ofNullable(routeLimiters.get(((MethodBasedRouteMatch<?, ?>) route).getExecutableMethod()));
+        }
+        return Optional.empty();
+    }
+
+    private static LimitAlgorithm createAlgorithm(ConcurrencyLimitConfiguration configuration, AnnotationMetadata metadata) {
+        return createAlgorithm(
+                configuration,
+                stringValue(metadata, "algorithm")
+                        .map(value -> ConcurrencyLimitConfiguration.Algorithm.valueOf(value.toUpperCase(Locale.ENGLISH)))
+                        .orElse(configuration.getAlgorithm()),
+                stringValue(metadata, "initialLimit").map(Integer::valueOf).orElse(configuration.getInitialLimit()),
+                stringValue(metadata, "minLimit").map(Integer::valueOf).orElse(configuration.getMinLimit()),
+                stringValue(metadata, "maxLimit").map(Integer::valueOf).orElse(configuration.getMaxLimit())
+        );
+    }
+
+    private static LimitAlgorithm createAlgorithm(
+            ConcurrencyLimitConfiguration configuration,
+            ConcurrencyLimitConfiguration.Algorithm algorithm,
+            int initialLimit,
+            int minLimit,
+            int maxLimit) {
+        if (algorithm == ConcurrencyLimitConfiguration.Algorithm.AIMD) {
+            return new AimdLimitAlgorithm(
+                    initialLimit,
+                    minLimit,
+                    maxLimit,
+                    configuration.getBackoffRatio(),
+                    TimeUnit.MILLISECONDS.toNanos(configuration.getTimeout().toMillis())
+            );
+        }
+        return new GradientLimitAlgorithm(
+                initialLimit,
+                minLimit,
+                maxLimit,
+                configuration.getSmoothing(),
+                configuration.getTolerance()
+        );
+    }
+
+    private static Optional<String> stringValue(AnnotationMetadata metadata, String member) {
+        return metadata.getValue(ConcurrencyLimit.class, member, String.class).filter(StringUtils::isNotEmpty);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link LimitAlgorithm} that adjusts the limit by the gradient between the long term average latency and the
+ * latency of the latest request. While the latency stays within the tolerance of the long term average the limit
+ * grows by its square root, which leaves room for a small queue. Once requests start to queue their latency rises
+ * and the limit is reduced in proportion, down to half of its value.
+ *
+ * <p>The limit is only increased while at least half of it is in use, so that it does not grow unbounded while the
+ * server is lightly loaded.</p>
+ *
+ * <p>The estimate is a moving average, so a sample that completes while another thread is updating the limit is
+ * skipped instead of waiting for the update, which keeps lock contention off the request completion path.</p>
+ *
+ * @since 1.1
+ */
+public final class GradientLimitAlgorithm implements LimitAlgorithm {
+
+    private static final int LONG_WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double RECOVERY_RATIO = 2;
+    private static final double RECOVERY_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile double limit;
+    private double longRtt;
+    private int samples;
+
+    /**
+     * @param initialLimit The initial limit
+     * @param minLimit     The lowest value the limit is reduced to
+     * @param maxLimit     The highest value the limit is increased to
+     * @param smoothing    The weight of a new estimate of the limit, between 0 and 1
+     * @param tolerance    How much the latency may exceed the long term average before the limit is reduced
+     */
+    public GradientLimitAlgorithm(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: " + minLimit + ".." + maxLimit);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be between 0 and 1: " + smoothing);
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("Tolerance must be at least 1: " + tolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight, boolean dropped) {
+        if (!updating.compareAndSet(false, true)) {
+            return (int) limit;
+        }
+        try {
+            return doUpdate(rttNanos, inFlight, dropped);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private int doUpdate(long rttNanos, int inFlight, boolean dropped) {
+        double shortRtt = Math.max(1, rttNanos);
+        // a cumulative average until the window is full, an exponential moving average afterwards
+        if (samples < LONG_WINDOW) {
+            samples++;
+            longRtt += (shortRtt - longRtt) / samples;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+        // a period of overload inflates the long term average, pull it back so that the limit can recover
+        if (longRtt / shortRtt > RECOVERY_RATIO) {
+            longRtt *= RECOVERY_DECAY;
+        }
+        if (!dropped && inFlight * 2 < limit) {
+            return (int) limit;
+        }
+
+        double gradient = dropped ? MIN_GRADIENT : Math.max(MIN_GRADIENT, Math.min(1, tolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        double newLimit = limit * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        return (int) limit;
+    }
+}
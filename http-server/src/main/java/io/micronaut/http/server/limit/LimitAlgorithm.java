@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.limit;
+
+/**
+ * An algorithm that estimates the number of requests that can be processed concurrently from the latency of the
+ * requests that completed.
+ *
+ * <p>Implementations hold the current limit and must be thread safe. {@link #update(long, int, boolean)} is called
+ * concurrently by every thread that completes a request, so implementations should avoid blocking, for example by
+ * updating the limit atomically or by skipping samples while another update is in progress.</p>
+ *
+ * @since 1.1
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @return The current limit
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with a sample of a completed request.
+     *
+     * @param rttNanos The time the request took to process in nanoseconds
+     * @param inFlight The number of requests that were in flight when the request completed, including itself
+     * @param dropped  Whether the request failed because the server was overloaded
+     * @return The new limit
+     */
+    int update(long rttNanos, int inFlight, boolean dropped);
+}
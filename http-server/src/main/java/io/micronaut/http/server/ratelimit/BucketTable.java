@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The token buckets of the keys of a single limit, held in a fixed number of stripes of open addressed slots so that
+ * the memory used is bounded.
+ *
+ * <p>Each bucket is a single {@code long}, the theoretical arrival time of the generic cell rate algorithm, which is
+ * equivalent to a token bucket: a request is allowed if it arrives no earlier than the burst tolerance before the
+ * theoretical arrival time, which then advances by the emission interval. Taking a token from an existing bucket is
+ * a compare and set of that {@code long} and does not allocate. Inserting a key locks its stripe, and reuses the slot
+ * of the key that has been idle the longest once the probed slots are all taken.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+final class BucketTable {
+
+    private static final int MAX_PROBES = 8;
+    private static final int MAX_STRIPES = 64;
+    private static final long EVICTING = Long.MIN_VALUE;
+    private static final long RETRY = -1;
+
+    private final long interval;
+    private final long tolerance;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param limit The limit
+     */
+    BucketTable(RateLimitConfiguration limit) {
+        this.interval = Math.max(1, limit.getPeriod().toNanos() / limit.getLimit());
+        this.tolerance = interval * (limit.getBurst() - 1);
+        int stripeCount = powerOfTwo(Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors() * 4));
+        int slots = powerOfTwo(Math.max(MAX_PROBES, (Math.max(1, limit.getMaxKeys()) + stripeCount - 1) / stripeCount));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(slots);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Takes a token from the bucket of the key.
+     *
+     * @param key The key
+     * @param now The current {@link System#nanoTime()}
+     * @return Zero if a token was taken, otherwise the number of nanoseconds until a token is available
+     */
+    long tryAcquire(Object key, long now) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        Stripe stripe = stripes[(hash >>> 16) & stripeMask];
+        int home = hash;
+        for (;;) {
+            int index = stripe.find(key, home);
+            if (index < 0) {
+                long result = insert(stripe, key, home, now);
+                if (result != RETRY) {
+                    return result;
+                }
+                continue;
+            }
+            long tat = stripe.tats.get(index);
+            // the slot may have been reused for another key since it was found
+            if (tat == EVICTING || !key.equals(stripe.keys.get(index))) {
+                continue;
+            }
+            long allowAt = tat - tolerance;
+            if (now - allowAt < 0) {
+                return allowAt - now;
+            }
+            long newTat = (tat - now > 0 ? tat : now) + interval;
+            if (stripe.tats.compareAndSet(index, tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private long insert(Stripe stripe, Object key, int home, long now) {
+        synchronized (stripe) {
+            int victim = -1;
+            long victimTat = 0;
+            for (int probe = 0; probe < stripe.probes; probe++) {
+                int index = (home + probe) & stripe.mask;
+                Object existing = stripe.keys.get(index);
+                if (existing == null) {
+                    stripe.tats.set(index, now + interval);
+                    stripe.keys.set(index, key);
+                    return 0;
+                }
+                if (key.equals(existing)) {
+                    // inserted by another thread while waiting for the lock
+                    return RETRY;
+                }
+                long tat = stripe.tats.get(index);
+                if (victim < 0 || tat - victimTat < 0) {
+                    victim = index;
+                    victimTat = tat;
+                }
+            }
+            // readers of the old key fail their compare and set once the slot is marked
+            if (!stripe.tats.compareAndSet(victim, victimTat, EVICTING)) {
+                return RETRY;
+            }
+            stripe.keys.set(victim, key);
+            stripe.tats.set(victim, now + interval);
+            return 0;
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * A stripe of slots, with keys that are never removed but only replaced.
+     */
+    private static final class Stripe {
+        final AtomicReferenceArray<Object> keys;
+        final AtomicLongArray tats;
+        final int mask;
+        final int probes;
+
+        Stripe(int slots) {
+            this.keys = new AtomicReferenceArray<>(slots);
+            this.tats = new AtomicLongArray(slots);
+            this.mask = slots - 1;
+            this.probes = Math.min(MAX_PROBES, slots);
+        }
+
+        int find(Object key, int home) {
+            for (int probe = 0; probe < probes; probe++) {
+                int index = (home + probe) & mask;
+                Object existing = keys.get(index);
+                if (existing == null) {
+                    return -1;
+                }
+                if (existing == key || key.equals(existing)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link RateLimiterStore} that holds the buckets of each limit in memory, in a {@link BucketTable}
+ * bounded by {@link RateLimitConfiguration#getMaxKeys()}.
+ *
+ * @since 1.1
+ */
+@Singleton
+public class InMemoryRateLimiterStore implements RateLimiterStore {
+
+    private final Map<RateLimitConfiguration, BucketTable> tables = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(RateLimitConfiguration limit, Object key) {
+        BucketTable table = tables.get(limit);
+        if (table == null) {
+            table = tables.computeIfAbsent(limit, BucketTable::new);
+        }
+        return table.tryAcquire(key, System.nanoTime());
+    }
+}
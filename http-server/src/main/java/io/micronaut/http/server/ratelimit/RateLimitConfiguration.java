@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Configuration of a named token bucket rate limit. A limit allows {@link #getLimit()} requests per
+ * {@link #getPeriod()} for each key, with bursts of up to {@link #getBurst()} requests.
+ *
+ * <p>A limit applies to the requests whose path matches one of its {@link #getPatterns()} and to the requests of
+ * routes annotated with {@link RateLimited} that name it.</p>
+ *
+ * @since 1.1
+ */
+@EachProperty(RateLimitConfiguration.PREFIX)
+public class RateLimitConfiguration implements Named {
+
+    /**
+     * The prefix for rate limit configuration.
+     */
+    public static final String PREFIX = "micronaut.server.rate-limits";
+
+    /**
+     * The default limit.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_LIMIT = 100;
+
+    /**
+     * The default period in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_PERIOD_SECONDS = 1;
+
+    /**
+     * The default maximum number of keys.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_KEYS = 10000;
+
+    private final String name;
+    private int limit = DEFAULT_LIMIT;
+    private Duration period = Duration.ofSeconds(DEFAULT_PERIOD_SECONDS);
+    private Integer burst;
+    private KeyType key = KeyType.ADDRESS;
+    private String header;
+    private List<String> patterns = Collections.emptyList();
+    private int maxKeys = DEFAULT_MAX_KEYS;
+
+    /**
+     * @param name The name of the limit
+     */
+    public RateLimitConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of requests allowed per period
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the number of requests allowed per period. Default value ({@value #DEFAULT_LIMIT}).
+     *
+     * @param limit The limit
+     */
+    public void setLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Rate limit must be at least 1: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * @return The period over which the limit applies
+     */
+    public Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the period over which the limit applies. Default value ({@value #DEFAULT_PERIOD_SECONDS} second).
+     *
+     * @param period The period
+     */
+    public void setPeriod(Duration period) {
+        if (period != null) {
+            this.period = period;
+        }
+    }
+
+    /**
+     * @return The number of requests that may be made at once after a key has been idle
+     */
+    public int getBurst() {
+        return burst != null ? burst : limit;
+    }
+
+    /**
+     * Sets the number of requests that may be made at once after a key has been idle, which is the capacity of the
+     * token bucket. Defaults to the limit.
+     *
+     * @param burst The burst size
+     */
+    public void setBurst(Integer burst) {
+        if (burst != null && burst < 1) {
+            throw new IllegalArgumentException("Rate limit burst must be at least 1: " + burst);
+        }
+        this.burst = burst;
+    }
+
+    /**
+     * @return What requests are counted against the same bucket
+     */
+    public KeyType getKey() {
+        return key;
+    }
+
+    /**
+     * Sets what requests are counted against the same bucket. Default value {@link KeyType#ADDRESS}.
+     *
+     * @param key The key type
+     */
+    public void setKey(KeyType key) {
+        if (key != null) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * @return The name of the header used as the key by {@link KeyType#HEADER}
+     */
+    public Optional<String> getHeader() {
+        return Optional.ofNullable(header);
+    }
+
+    /**
+     * Sets the name of the header used as the key by {@link KeyType#HEADER}. Requests without the header are keyed
+     * by their address.
+     *
+     * @param header The header name
+     */
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    /**
+     * @return The path patterns the limit applies to
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Sets the ant style path patterns of the requests the limit applies to, for example {@code /api/**}. If no
+     * patterns are set the limit only applies to routes annotated with {@link RateLimited}.
+     *
+     * @param patterns The patterns
+     */
+    public void setPatterns(List<String> patterns) {
+        if (patterns != null) {
+            this.patterns = patterns;
+        }
+    }
+
+    /**
+     * @return The maximum number of keys tracked by an in-memory store
+     */
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * Sets the maximum number of keys tracked by an in-memory store. Once reached, the buckets of the keys that have
+     * been idle the longest are reused. Default value ({@value #DEFAULT_MAX_KEYS}).
+     *
+     * @param maxKeys The maximum number of keys
+     */
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * What requests are counted against the same bucket.
+     */
+    public enum KeyType {
+        /**
+         * The address of the client.
+         */
+        ADDRESS,
+        /**
+         * The authenticated principal, or the address of the client for anonymous requests.
+         */
+        PRINCIPAL,
+        /**
+         * The value of the configured header, or the address of the client if the header is absent.
+         */
+        HEADER,
+        /**
+         * The matched route, so that all clients share the limit of each route.
+         */
+        ROUTE,
+        /**
+         * A single bucket for all requests.
+         */
+        GLOBAL
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Filter;
+import io.micronaut.http.filter.HttpServerFilter;
+import io.micronaut.http.filter.ServerFilterChain;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.web.router.MethodBasedRouteMatch;
+import org.reactivestreams.Publisher;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter that applies the rate limits that match the path of a request, and the limits named by the
+ * {@link RateLimited} annotation of its route, and answers requests over any of the limits with a {@code 429}
+ * response that has a {@code Retry-After} header.
+ *
+ * <p>The filter runs after the security filter, so that the principal of a request is available to limits keyed
+ * by {@link RateLimitConfiguration.KeyType#PRINCIPAL}.</p>
+ *
+ * @since 1.1
+ */
+@Filter("/**")
+public class RateLimitFilter implements HttpServerFilter {
+
+    /**
+     * The order of the filter.
+     */
+    public static final int ORDER = 100;
+
+    private static final RateLimitConfiguration[] NO_LIMITS = new RateLimitConfiguration[0];
+
+    private final RateLimiterStore store;
+    private final RateLimitConfiguration[] patternLimits;
+    private final Map<String, RateLimitConfiguration> limitsByName = new HashMap<>();
+    private final Map<ExecutableMethod<?, ?>, RateLimitConfiguration[]> routeLimits = new ConcurrentHashMap<>();
+
+    /**
+     * @param limits The configured limits
+     * @param store  The store that holds the token buckets
+     */
+    public RateLimitFilter(List<RateLimitConfiguration> limits, RateLimiterStore store) {
+        this.store = store;
+        List<RateLimitConfiguration> patternLimits = new ArrayList<>();
+        for (RateLimitConfiguration limit : limits) {
+            limitsByName.put(limit.getName(), limit);
+            if (!limit.getPatterns().isEmpty()) {
+                patternLimits.add(limit);
+            }
+        }
+        this.patternLimits = patternLimits.toArray(NO_LIMITS);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+        String path = request.getPath();
+        for (RateLimitConfiguration limit : patternLimits) {
+            if (matches(limit, path)) {
+                long wait = store.tryAcquire(limit, resolveKey(limit, request));
+                if (wait > 0) {
+                    return Publishers.just(tooManyRequests(wait));
+                }
+            }
+        }
+        for (RateLimitConfiguration limit : findRouteLimits(request)) {
+            // limits that match the path have been applied already
+            if (!matches(limit, path)) {
+                long wait = store.tryAcquire(limit, resolveKey(limit, request));
+                if (wait > 0) {
+                    return Publishers.just(tooManyRequests(wait));
+                }
+            }
+        }
+        return chain.proceed(request);
+    }
+
+    /**
+     * Resolves the key of the bucket a request is counted against.
+     *
+     * @param limit   The limit
+     * @param request The request
+     * @return The key
+     */
+    protected Object resolveKey(RateLimitConfiguration limit, HttpRequest<?> request) {
+        switch (limit.getKey()) {
+            case GLOBAL:
+                return limit;
+            case ROUTE:
+                return request.getAttribute(HttpAttributes.ROUTE).orElseGet(request::getPath);
+            case PRINCIPAL:
+                Optional<Principal> principal = request.getUserPrincipal();
+                if (principal.isPresent()) {
+                    return principal.get().getName();
+                }
+                break;
+            case HEADER:
+                String value = limit.getHeader().map(request.getHeaders()::get).orElse(null);
+                if (value != null) {
+                    return value;
+                }
+                break;
+            default:
+                break;
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        return address.getAddress() != null ? address.getAddress() : address.getHostString();
+    }
+
+    private RateLimitConfiguration[] findRouteLimits(HttpRequest<?> request) {
+        Optional<Object> routeMatch = request.getAttribute(HttpAttributes.ROUTE_MATCH);
+        if (!routeMatch.isPresent() || !(routeMatch.get() instanceof MethodBasedRouteMatch)) {
+            return NO_LIMITS;
+        }
+        ExecutableMethod<?, ?> method = ((MethodBasedRouteMatch<?, ?>) routeMatch.get()).getExecutableMethod();
+        RateLimitConfiguration[] limits = routeLimits.get(method);
+        if (limits == null) {
+            limits = routeLimits.computeIfAbsent(method, m -> {
+                String[] names = m.getValue(RateLimited.class, String[].class).orElse(null);
+                if (names == null || names.length == 0) {
+                    return NO_LIMITS;
+                }
+                RateLimitConfiguration[] resolved = new RateLimitConfiguration[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    resolved[i] = limitsByName.get(names[i]);
+                    if (resolved[i] == null) {
+                        throw new ConfigurationException("No rate limit configured for name: " + names[i]);
+                    }
+                }
+                return resolved;
+            });
+        }
+        return limits;
+    }
+
+    private static boolean matches(RateLimitConfiguration limit, String path) {
+        for (String pattern : limit.getPatterns()) {
+            if (PathMatcher.ANT.matches(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MutableHttpResponse<?> tooManyRequests(long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        return HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    }
+}
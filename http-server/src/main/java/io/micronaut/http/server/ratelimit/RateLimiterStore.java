@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.ratelimit;
+
+/**
+ * Holds the state of the token buckets of the rate limits. The default {@link InMemoryRateLimiterStore} holds the
+ * buckets of each server separately, an implementation that holds them in a shared store can replace it so that
+ * the limits apply across servers.
+ *
+ * <p>Implementations are invoked for every limited request and must be thread safe and non-blocking.</p>
+ *
+ * @since 1.1
+ */
+public interface RateLimiterStore {
+
+    /**
+     * Takes a token from the bucket of the given key of the limit.
+     *
+     * @param limit The limit
+     * @param key   The key of the bucket, which is an address, a principal, a header value or a route
+     * @return Zero if a token was taken, otherwise the number of nanoseconds until a token is available
+     */
+    long tryAcquire(RateLimitConfiguration limit, Object key);
+}
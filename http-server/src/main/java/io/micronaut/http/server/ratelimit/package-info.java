@@ -0,0 +1,28 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Classes that limit the rate of requests to the server with token buckets. The classes are only enabled when at
+ * least one limit is configured under {@code micronaut.server.rate-limits}.
+ *
+ * @see io.micronaut.http.server.ratelimit.RateLimitConfiguration
+ * @since 1.1
+ */
+@Configuration
+@Requires(property = RateLimitConfiguration.PREFIX)
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.context.annotation.Configuration;
+import io.micronaut.context.annotation.Requires;
@@ -30,6 +30,11 @@ import java.util.function.Supplier;
  */
 public final class ServerRequestContext {
 
+    /**
+     * The key of the request in the Reactor {@code Context} of routes that are subscribed with Reactor operators.
+     */
+    public static final String KEY = "micronaut.http.server.request";
+
     private static final ThreadLocal<HttpRequest> REQUEST = new ThreadLocal<>();
 
     private ServerRequestContext() {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.annotation.processing;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.scan.AnnotationIndex;
+import io.micronaut.inject.writer.GeneratedFile;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that writes an {@link AnnotationIndex} of the annotations declared on the top level classes
+ * being compiled, so that {@link io.micronaut.core.io.scan.ClassPathAnnotationScanner} does not need to parse the
+ * class files of the output.
+ *
+ * <p>The index lists every top level class that was processed, so that classes of the same output that were not
+ * compiled by javac, such as Groovy classes, are still scanned.</p>
+ *
+ * <p>When only some classes are recompiled the index written by a previous compilation is updated rather than
+ * replaced.</p>
+ *
+ * @since 1.1
+ */
+@SupportedAnnotationTypes("*")
+@Internal
+public class AnnotationIndexProcessor extends AbstractInjectAnnotationProcessor {
+
+    private static final String META_INF = "META-INF/";
+
+    private final Map<String, Set<String>> classNamesByAnnotation = new TreeMap<>();
+    private final Set<String> processedClassNames = new HashSet<>();
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            if (typeElement.getNestingKind() == NestingKind.TOP_LEVEL) {
+                String className = elementUtils.getBinaryName(typeElement).toString();
+                processedClassNames.add(className);
+                for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+                    Element annotationElement = annotationMirror.getAnnotationType().asElement();
+                    if (annotationElement instanceof TypeElement && !isSourceRetention(annotationElement)) {
+                        String annotationName = elementUtils.getBinaryName((TypeElement) annotationElement).toString();
+                        classNamesByAnnotation.computeIfAbsent(annotationName, s -> new TreeSet<>()).add(className);
+                    }
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !processedClassNames.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        Optional<GeneratedFile> generatedFile = classWriterOutputVisitor.visitMetaInfFile(
+                AnnotationIndex.PATH.substring(META_INF.length())
+        );
+        if (!generatedFile.isPresent()) {
+            return;
+        }
+        GeneratedFile file = generatedFile.get();
+        Map<String, Set<String>> index = new TreeMap<>();
+        Set<String> indexedClassNames = new TreeSet<>(processedClassNames);
+        try (InputStream inputStream = file.openInputStream()) {
+            // keep the entries of the classes that were not recompiled
+            AnnotationIndex previous = AnnotationIndex.read(inputStream);
+            indexedClassNames.addAll(previous.getIndexedClassNames());
+            for (Map.Entry<String, Collection<String>> entry : previous.getClassNamesByAnnotation().entrySet()) {
+                for (String className : entry.getValue()) {
+                    if (!processedClassNames.contains(className)) {
+                        index.computeIfAbsent(entry.getKey(), s -> new TreeSet<>()).add(className);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // no existing index
+        }
+        classNamesByAnnotation.forEach((annotation, classNames) ->
+                index.computeIfAbsent(annotation, s -> new TreeSet<>()).addAll(classNames)
+        );
+        try (Writer writer = file.openWriter()) {
+            new AnnotationIndex(index, indexedClassNames).write(writer);
+        } catch (IOException e) {
+            error("I/O error occurred writing the annotation index: %s", e);
+        }
+    }
+
+    private boolean isSourceRetention(Element annotationElement) {
+        Retention retention = annotationElement.getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.SOURCE;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.annotation.processing;
+
+import io.micronaut.annotation.processing.visitor.JavaVisitorContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.processing.JavaModelUtils;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.BeanIntrospectionWriter;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link TypeElementVisitor} that writes a {@link io.micronaut.core.beans.BeanIntrospection} for each class
+ * annotated with {@link Introspected}.
+ *
+ * @see BeanIntrospectionWriter
+ * @since 1.1
+ */
+@Internal
+public class IntrospectedTypeElementVisitor implements TypeElementVisitor<Introspected, Object> {
+
+    private final Set<String> introspectedTypes = new HashSet<>();
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        // super classes of introspected types are visited too, only write introspections for annotated types
+        if (!(context instanceof JavaVisitorContext) || !element.hasDeclaredAnnotation(Introspected.class)) {
+            return;
+        }
+        if (!(element.getNativeType() instanceof TypeElement)) {
+            return;
+        }
+        JavaVisitorContext javaContext = (JavaVisitorContext) context;
+        TypeElement typeElement = (TypeElement) element.getNativeType();
+        String className = JavaModelUtils.getClassName(typeElement);
+        if (!introspectedTypes.add(className)) {
+            return;
+        }
+        if (element.isPrivate()) {
+            context.fail("Introspected types cannot be private", element);
+            return;
+        }
+
+        ModelUtils modelUtils = javaContext.getModelUtils();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(javaContext.getElements().getAllMembers(typeElement));
+        BeanIntrospectionWriter writer = new BeanIntrospectionWriter(className, element.isInterface());
+        for (PropertyElement property : element.getBeanProperties()) {
+            Object nativeType = property.getNativeType();
+            if (!(nativeType instanceof ExecutableElement) || "class".equals(property.getName())) {
+                continue;
+            }
+            ExecutableElement getter = (ExecutableElement) nativeType;
+            Object type = modelUtils.resolveTypeReference(getter.getReturnType());
+            if (type == void.class) {
+                // the erased type could not be resolved, for example for multi-dimensional arrays
+                continue;
+            }
+            ExecutableElement setter = property.isReadOnly() ? null : findSetter(methods, property.getName(), type, modelUtils);
+            writer.visitProperty(
+                    property.getName(),
+                    type,
+                    getter.getSimpleName().toString(),
+                    setter != null ? setter.getSimpleName().toString() : null,
+                    setter != null ? modelUtils.resolveTypeReference(setter.getReturnType()) : null
+            );
+        }
+
+        if (!element.isAbstract() && !element.isInterface() && !isInnerClass(typeElement)) {
+            ExecutableElement constructor = findConstructor(typeElement);
+            if (constructor != null) {
+                Map<String, Object> arguments = new LinkedHashMap<>();
+                for (VariableElement parameter : constructor.getParameters()) {
+                    Object argumentType = modelUtils.resolveTypeReference(parameter.asType());
+                    if (argumentType == void.class) {
+                        arguments = null;
+                        break;
+                    }
+                    arguments.put(parameter.getSimpleName().toString(), argumentType);
+                }
+                if (arguments != null) {
+                    writer.visitConstructor(arguments);
+                }
+            }
+        }
+
+        try {
+            writer.accept(javaContext.getClassWriterOutputVisitor());
+        } catch (IOException e) {
+            context.fail("Error writing bean introspection for type [" + className + "]: " + e.getMessage(), element);
+        }
+    }
+
+    private ExecutableElement findSetter(List<ExecutableElement> methods, String propertyName, Object type, ModelUtils modelUtils) {
+        for (ExecutableElement method : methods) {
+            String methodName = method.getSimpleName().toString();
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getParameters().size() == 1 &&
+                    modifiers.contains(Modifier.PUBLIC) &&
+                    !modifiers.contains(Modifier.STATIC) &&
+                    NameUtils.isSetterName(methodName) &&
+                    NameUtils.getPropertyNameForSetter(methodName).equals(propertyName) &&
+                    type.equals(modelUtils.resolveTypeReference(method.getParameters().get(0).asType()))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findConstructor(TypeElement typeElement) {
+        ExecutableElement publicConstructor = null;
+        int publicConstructors = 0;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                if (constructor.getParameters().isEmpty()) {
+                    return constructor;
+                }
+                publicConstructor = constructor;
+                publicConstructors++;
+            }
+        }
+        return publicConstructors == 1 ? publicConstructor : null;
+    }
+
+    private boolean isInnerClass(TypeElement typeElement) {
+        Element enclosing = typeElement.getEnclosingElement();
+        return typeElement.getNestingKind() == NestingKind.MEMBER &&
+                !typeElement.getModifiers().contains(Modifier.STATIC) &&
+                enclosing != null && enclosing.getKind().isClass();
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.core.convert.value.MutableConvertibleValues;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.ClassWriterOutputVisitor;
 import io.micronaut.inject.writer.GeneratedFile;
 
 import javax.annotation.Nullable;
@@ -179,6 +180,15 @@ public class JavaVisitorContext implements VisitorContext {
         return types;
     }
 
+    /**
+     * The output visitor used to write generated classes.
+     *
+     * @return The {@link ClassWriterOutputVisitor}
+     */
+    public ClassWriterOutputVisitor getClassWriterOutputVisitor() {
+        return outputVisitor;
+    }
+
     @Override
     public MutableConvertibleValues<Object> put(CharSequence key, @Nullable Object value) {
         visitorAttributes.put(key, value);
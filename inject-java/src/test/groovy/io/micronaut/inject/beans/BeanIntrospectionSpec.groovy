@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.beans
+
+import io.micronaut.core.beans.BeanIntrospection
+import io.micronaut.core.beans.BeanIntrospector
+import io.micronaut.core.beans.BeanMap
+import io.micronaut.core.reflect.exception.InstantiationException
+import io.micronaut.inject.AbstractTypeElementSpec
+
+class BeanIntrospectionSpec extends AbstractTypeElementSpec {
+
+    void "test the introspection of a bean with a default constructor"() {
+        when:
+        ClassLoader classLoader = buildClassLoader('test.Book', '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public class Book {
+    private String title;
+    private int pages;
+    private boolean available;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public int getPages() { return pages; }
+    public Book setPages(int pages) { this.pages = pages; return this; }
+    public boolean isAvailable() { return available; }
+}
+''')
+        Class type = classLoader.loadClass('test.Book')
+        BeanIntrospection introspection = BeanIntrospector.findIntrospection(type).get()
+        def book = introspection.instantiate()
+        introspection.getProperty("title").get().set(book, "The Stand")
+        introspection.getProperty("pages").get().set(book, 1152)
+
+        then:
+        introspection.getClass().name == 'test.$BookIntrospection'
+        introspection.beanType == type
+        introspection.beanProperties*.name == ['title', 'pages', 'available']
+        introspection.getProperty("pages").get().type == int
+        introspection.getProperty("available").get().readOnly
+        introspection.constructorArguments.length == 0
+        book.title == "The Stand"
+        book.pages == 1152
+        introspection.getProperty("pages").get().get(book) == 1152
+        !introspection.getProperty("missing").isPresent()
+
+        when:
+        introspection.getProperty("pages").get().set(book, null)
+
+        then:
+        book.pages == 0
+
+        when:
+        introspection.getProperty("available").get().set(book, true)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "test the introspection of a bean with constructor arguments"() {
+        when:
+        ClassLoader classLoader = buildClassLoader('test.Author', '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public class Author {
+    private final String name;
+    private final int age;
+
+    public Author(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public String getName() { return name; }
+    public int getAge() { return age; }
+}
+''')
+        Class type = classLoader.loadClass('test.Author')
+        BeanIntrospection introspection = BeanIntrospector.findIntrospection(type).get()
+        def author = introspection.instantiate("Stephen", "71")
+
+        then:
+        introspection.constructorArguments*.name == ['name', 'age']
+        introspection.constructorArguments*.type == [String, int]
+        author.name == "Stephen"
+        author.age == 71
+
+        when:
+        introspection.instantiate()
+
+        then:
+        thrown(InstantiationException)
+    }
+
+    void "test bean map uses the introspection"() {
+        when:
+        ClassLoader classLoader = buildClassLoader('test.Book', '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public class Book {
+    private String title;
+    private int pages;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public int getPages() { return pages; }
+    public void setPages(int pages) { this.pages = pages; }
+}
+''')
+        def book = classLoader.loadClass('test.Book').newInstance()
+        BeanMap beanMap = BeanMap.of(book)
+        beanMap.put("title", "It")
+        beanMap.put("pages", "1138")
+
+        then:
+        beanMap.getClass().simpleName == 'BeanIntrospectionMap'
+        beanMap.keySet() == ['title', 'pages'] as Set
+        book.title == "It"
+        book.pages == 1138
+        beanMap.get("pages") == 1138
+    }
+
+    void "test the introspection of an interface is found for its implementations"() {
+        when:
+        ClassLoader classLoader = buildClassLoader('test.Named', '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public interface Named {
+    String getName();
+    void setName(String name);
+
+    class Impl implements Named {
+        private String name;
+        private int rank;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getRank() { return rank; }
+        public void setRank(int rank) { this.rank = rank; }
+    }
+}
+''')
+        def named = classLoader.loadClass('test.Named$Impl').newInstance()
+        BeanMap beanMap = BeanMap.of(named)
+        beanMap.put("name", "Fred")
+
+        then:
+        !BeanIntrospector.findIntrospection(named.getClass()).isPresent()
+        BeanIntrospector.findInstanceIntrospection(named).get().beanType == classLoader.loadClass('test.Named')
+        beanMap.getClass().simpleName == 'BeanIntrospectionMap'
+        beanMap.keySet() == ['name'] as Set
+        named.name == "Fred"
+    }
+
+    void "test types that are not introspected"() {
+        expect:
+        !BeanIntrospector.findIntrospection(String).isPresent()
+        !BeanIntrospector.findInstanceIntrospection("test").isPresent()
+        BeanMap.of(new StringBuilder()).getClass().simpleName == 'ReflectionBeanMap'
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.reference
+
+import io.micronaut.context.BeanContext
+import io.micronaut.context.DefaultBeanContext
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+
+import javax.inject.Singleton
+
+class BeanDefinitionReferenceLoadSpec extends Specification {
+
+    void "test bean definitions are only loaded once per context"() {
+        given:
+        BeanContext first = new DefaultBeanContext().start()
+        BeanContext second = new DefaultBeanContext().start()
+
+        when:
+        List<BeanDefinition> definitions = first.getBeanDefinitions(Qualifiers.byStereotype(Singleton)).toList()
+        List<BeanDefinition> reloaded = first.getBeanDefinitions(Qualifiers.byStereotype(Singleton)).toList()
+        List<BeanDefinition> other = second.getBeanDefinitions(Qualifiers.byStereotype(Singleton)).toList()
+
+        then:
+        !definitions.isEmpty()
+        definitions.every { definition -> reloaded.any { it.is(definition) } }
+        !definitions.any { definition -> other.any { it.is(definition) } }
+
+        cleanup:
+        first.close()
+        second.close()
+    }
+}
@@ -547,4 +547,45 @@ class MyBean {
         then:
         !beanDefinition.isEnabled(context)
     }
+
+    void "test requires condition results are shared between beans with identical requirements"() {
+        given:
+        BeanDefinitionReference first = buildBeanDefinitionReference('test.FirstBean', '''
+package test;
+
+import io.micronaut.context.annotation.*;
+
+@Requires(property="foo.bar")
+@javax.inject.Singleton
+class FirstBean {
+}
+''')
+        BeanDefinitionReference second = buildBeanDefinitionReference('test.SecondBean', '''
+package test;
+
+import io.micronaut.context.annotation.*;
+
+@Requires(property="foo.bar")
+@javax.inject.Singleton
+class SecondBean {
+}
+''')
+
+        def context = ApplicationContext
+                .build('foo.bar':"true")
+                .build()
+
+        context.environment.start()
+
+        expect:
+        first.isEnabled(context)
+        second.isEnabled(context)
+        context.requiresConditionResults.size() == 1
+
+        when:
+        context.environment.addPropertySource(PropertySource.of("other":"value"))
+
+        then:
+        context.requiresConditionResults.isEmpty()
+    }
 }
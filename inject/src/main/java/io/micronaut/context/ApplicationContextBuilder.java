@@ -18,6 +18,7 @@ package io.micronaut.context;
 import io.micronaut.context.env.PropertySource;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.util.Map;
 
 /**
@@ -85,6 +86,24 @@ public interface ApplicationContextBuilder {
      */
     ApplicationContextBuilder classLoader(ClassLoader classLoader);
 
+    /**
+     * The file used to store a startup snapshot of the environment. The snapshot is written when the context is first
+     * started and reused by subsequent starts with the same classpath to skip the deduction of the environment, the
+     * reading of configuration files and the evaluation of conditions that only depend on the classpath.
+     *
+     * <p>When not specified the file can be set with the {@code micronaut.snapshot.file} system property or the
+     * {@code MICRONAUT_SNAPSHOT_FILE} environment variable.</p>
+     *
+     * <p>Builders that do not support snapshots ignore the file.</p>
+     *
+     * @param file The snapshot file
+     * @return This builder
+     * @since 1.1
+     */
+    default ApplicationContextBuilder snapshot(@Nullable File file) {
+        return this;
+    }
+
     /**
      * Builds the {@link ApplicationContext}, but does not start it.
      *
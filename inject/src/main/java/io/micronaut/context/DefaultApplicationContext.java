@@ -22,6 +22,7 @@ import io.micronaut.context.env.BootstrapPropertySourceLocator;
 import io.micronaut.context.env.DefaultEnvironment;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.env.PropertySource;
+import io.micronaut.context.env.StartupSnapshot;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
@@ -39,9 +40,12 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +67,9 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     private Iterable<BeanConfiguration> resolvedConfigurations;
     private List<BeanDefinitionReference> resolvedBeanReferences;
+    private final File snapshotFile;
+    private final String snapshotFingerprint;
+    private final StartupSnapshot snapshot;
 
     /**
      * Construct a new ApplicationContext for the given environment name.
@@ -80,9 +87,32 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
      * @param resourceLoader   The class loader
      */
     public DefaultApplicationContext(ClassPathResourceLoader resourceLoader, String... environmentNames) {
+        this(resourceLoader, null, environmentNames);
+    }
+
+    /**
+     * Construct a new ApplicationContext for the given environment name and classloader that uses the given
+     * {@link StartupSnapshot} file. If the file holds a snapshot created from the same classpath and environment
+     * names the deduction of the environment, the reading of the configuration files and the evaluation of the
+     * conditions stored in the snapshot are skipped, otherwise the file is written once the context has started.
+     *
+     * @param resourceLoader   The class loader
+     * @param snapshotFile     The snapshot file, can be null
+     * @param environmentNames The environment names
+     * @since 1.1
+     */
+    public DefaultApplicationContext(ClassPathResourceLoader resourceLoader, @Nullable File snapshotFile, String... environmentNames) {
         super(resourceLoader);
         this.conversionService = createConversionService();
         this.resourceLoader = resourceLoader;
+        this.snapshotFile = snapshotFile;
+        if (snapshotFile != null) {
+            this.snapshotFingerprint = StartupSnapshot.fingerprint(snapshotFile, environmentNames);
+            this.snapshot = StartupSnapshot.read(snapshotFile, snapshotFingerprint).orElse(null);
+        } else {
+            this.snapshotFingerprint = null;
+            this.snapshot = null;
+        }
         this.environment = createEnvironment(environmentNames);
     }
 
@@ -101,10 +131,16 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     @Override
     protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
-        if (resolvedBeanReferences != null) {
-            return resolvedBeanReferences;
+        List<BeanDefinitionReference> references = resolvedBeanReferences != null ? resolvedBeanReferences : super.resolveBeanDefinitionReferences();
+        if (snapshot != null) {
+            Set<String> disabledBeans = snapshot.getDisabledBeans();
+            if (!disabledBeans.isEmpty()) {
+                return references.stream()
+                        .filter(ref -> !disabledBeans.contains(ref.getBeanDefinitionName()))
+                        .collect(Collectors.toList());
+            }
         }
-        return super.resolveBeanDefinitionReferences();
+        return references;
     }
 
     /**
@@ -139,7 +175,11 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
     @Override
     public synchronized ApplicationContext start() {
         startEnvironment();
-        return (ApplicationContext) super.start();
+        ApplicationContext applicationContext = (ApplicationContext) super.start();
+        if (snapshotFile != null && snapshot == null) {
+            writeSnapshot(snapshotFile);
+        }
+        return applicationContext;
     }
 
     @Override
@@ -324,6 +364,37 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
         return getEnvironment().getPlaceholderResolver().resolveRequiredPlaceholders(str);
     }
 
+    /**
+     * Writes a {@link StartupSnapshot} of the environment and of the bean definition references disabled by
+     * conditions that only depend on the classpath and the active environments.
+     *
+     * @param file The file to write to
+     */
+    private void writeSnapshot(File file) {
+        Environment environment = getEnvironment();
+        if (!(environment instanceof DefaultEnvironment)) {
+            return;
+        }
+        ((DefaultEnvironment) environment).createSnapshot(snapshotFingerprint).ifPresent(environmentSnapshot -> {
+            Set<String> disabledBeans = new HashSet<>();
+            for (BeanDefinitionReference reference : super.resolveBeanDefinitionReferences()) {
+                if (StartupSnapshot.isConditionCacheable(reference.getAnnotationMetadata()) && !reference.isEnabled(this)) {
+                    disabledBeans.add(reference.getBeanDefinitionName());
+                }
+            }
+            try {
+                environmentSnapshot.withDisabledBeans(disabledBeans).write(file);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Wrote startup snapshot: {}", file);
+                }
+            } catch (IOException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Unable to write startup snapshot " + file + ": " + e.getMessage(), e);
+                }
+            }
+        });
+    }
+
     /**
      * @param beanContext The bean context
      */
@@ -489,7 +560,7 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
         private BootstrapEnvironment bootstrapEnvironment;
 
         RuntimeConfiguredEnvironment(String... environmentNames) {
-            super(DefaultApplicationContext.this.resourceLoader, DefaultApplicationContext.this.conversionService, environmentNames);
+            super(DefaultApplicationContext.this.resourceLoader, DefaultApplicationContext.this.conversionService, DefaultApplicationContext.this.snapshot, environmentNames);
             this.isRuntimeConfigured = Boolean.getBoolean(Environment.BOOTSTRAP_CONTEXT_PROPERTY) ||
                     DefaultApplicationContext.this.resourceLoader.getResource(Environment.BOOTSTRAP_NAME + ".yml").isPresent() ||
                     DefaultApplicationContext.this.resourceLoader.getResource(Environment.BOOTSTRAP_NAME + ".properties").isPresent();
@@ -499,11 +570,22 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
             return isRuntimeConfigured;
         }
 
+        @Override
+        protected boolean shouldCaptureSnapshot() {
+            return snapshotFile != null && snapshot == null;
+        }
+
         @Override
         public Environment stop() {
             return super.stop();
         }
 
+        @Override
+        protected void resetCaches() {
+            super.resetCaches();
+            requiresConditionResults.clear();
+        }
+
         @Override
         protected synchronized List<PropertySource> readPropertySourceList(String name) {
 
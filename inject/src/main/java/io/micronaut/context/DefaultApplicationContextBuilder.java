@@ -17,11 +17,13 @@ package io.micronaut.context;
 
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.env.PropertySource;
+import io.micronaut.context.env.StartupSnapshot;
 import io.micronaut.context.env.SystemPropertiesPropertySource;
 import io.micronaut.core.io.scan.ClassPathResourceLoader;
 import io.micronaut.core.util.StringUtils;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -45,6 +47,7 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
     private ClassPathResourceLoader classPathResourceLoader;
     private Collection<String> configurationIncludes = new HashSet<>();
     private Collection<String> configurationExcludes = new HashSet<>();
+    private File snapshotFile;
 
     /**
      * Default constructor.
@@ -113,12 +116,19 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return this;
     }
 
+    @Override
+    public ApplicationContextBuilder snapshot(@Nullable File file) {
+        this.snapshotFile = file;
+        return this;
+    }
+
     @Override
     @SuppressWarnings("MagicNumber")
     public ApplicationContext build() {
         ClassLoader classLoader = ApplicationContext.class.getClassLoader();
         DefaultApplicationContext applicationContext = new DefaultApplicationContext(
             classPathResourceLoader != null ? classPathResourceLoader : ClassPathResourceLoader.defaultLoader(classLoader),
+            snapshotFile != null ? snapshotFile : StartupSnapshot.resolveSnapshotFile().orElse(null),
             environments.toArray(new String[0])
         );
 
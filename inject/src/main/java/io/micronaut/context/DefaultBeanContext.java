@@ -16,6 +16,7 @@
 package io.micronaut.context;
 
 import io.micronaut.context.annotation.*;
+import io.micronaut.context.condition.Failure;
 import io.micronaut.context.event.*;
 import io.micronaut.context.exceptions.*;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
@@ -94,9 +95,11 @@ public class DefaultBeanContext implements BeanContext {
 
     final Map<BeanKey, BeanRegistration> singletonObjects = new ConcurrentHashMap<>(100);
     final Map<BeanKey, Object> scopedProxies = new ConcurrentHashMap<>(20);
+    final Map<AnnotationValue<Requires>, List<Failure>> requiresConditionResults = new ConcurrentHashMap<>(50);
     Collection<BeanRegistration<BeanInitializedEventListener>> beanInitializedEventListeners;
 
     private final Collection<BeanDefinitionReference> beanDefinitionsClasses = new ConcurrentLinkedQueue<>();
+    private final Map<BeanDefinitionReference, BeanDefinition> loadedDefinitions = new ConcurrentHashMap<>(100);
     private final Map<String, BeanConfiguration> beanConfigurations = new ConcurrentHashMap<>(4);
     private final Map<BeanKey, Boolean> containsBeanCache = new ConcurrentHashMap<>(30);
 
@@ -241,6 +244,8 @@ public class DefaultBeanContext implements BeanContext {
                 }
             }
 
+            requiresConditionResults.clear();
+            loadedDefinitions.clear();
             terminating.set(false);
             running.set(false);
             ClassLoadingReporter.finish();
@@ -852,7 +857,8 @@ public class DefaultBeanContext implements BeanContext {
             Stream<BeanDefinitionReference> reduced = qualifier.reduce(Object.class, beanDefinitionsClasses.stream());
             Stream<BeanDefinition> candidateStream = qualifier.reduce(Object.class,
                     reduced
-                            .map(ref -> ref.load(this))
+                            .filter(ref -> ref.isEnabled(this))
+                            .map(this::loadDefinition)
                             .filter(candidate -> candidate.isEnabled(this))
             );
             candidates = candidateStream.collect(Collectors.toList());
@@ -877,7 +883,8 @@ public class DefaultBeanContext implements BeanContext {
         if (!beanDefinitionsClasses.isEmpty()) {
             List collection = beanDefinitionsClasses
                     .stream()
-                    .map(ref -> ref.load(this))
+                    .filter(ref -> ref.isEnabled(this))
+                    .map(this::loadDefinition)
                     .filter(candidate -> candidate.isEnabled(this))
                     .collect(Collectors.toList());
             return (Collection<BeanDefinition<?>>) collection;
@@ -1089,7 +1096,7 @@ public class DefaultBeanContext implements BeanContext {
                     // ok - continue and load it
                     .map((Function<BeanDefinitionReference, BeanDefinition<?>>) reference -> {
                         try {
-                            return reference.load(this);
+                            return loadDefinition(reference);
                         } catch (Exception e) {
                             throw new BeanInstantiationException("Bean definition [" + reference.getName() + "] could not be loaded: " + e.getMessage(), e);
                         }
@@ -1210,7 +1217,7 @@ public class DefaultBeanContext implements BeanContext {
                     .map(ref -> {
                         BeanDefinition<T> loadedBean;
                         try {
-                            loadedBean = ref.load(this);
+                            loadedBean = loadDefinition(ref);
                         } catch (Throwable e) {
                             throw new BeanContextException("Error loading bean [" + ref.getName() + "]: " + e.getMessage(), e);
                         }
@@ -1268,7 +1275,7 @@ public class DefaultBeanContext implements BeanContext {
                                 return false;
                             }
                         })
-                        .map(ref -> ref.load(this))
+                        .map(this::loadDefinition)
                         .filter(candidate -> candidate.isEnabled(this))
                         .collect(Collectors.toList());
 
@@ -1573,9 +1580,37 @@ public class DefaultBeanContext implements BeanContext {
         }
     }
 
+    /**
+     * Loads the definition of the given reference. Enabled definitions are only instantiated the first time they are
+     * requested and subsequent calls return the same instance, thus avoiding the repeated creation of the definition
+     * and its annotation metadata when resolving candidates. Disabled definitions are not kept, so that only the
+     * definitions of beans that can be created stay reachable from the context.
+     *
+     * <p>Candidates are matched by type and by the conditions of the reference before the definition is loaded, but
+     * qualifiers are applied to the loaded definitions, since some qualifiers depend on the state of the definition.</p>
+     *
+     * @param reference The bean definition reference
+     * @param <T>       The bean type
+     * @return The loaded bean definition or null if it shouldn't be loaded
+     */
+    @SuppressWarnings("unchecked")
+    private <T> BeanDefinition<T> loadDefinition(BeanDefinitionReference<T> reference) {
+        BeanDefinition<T> definition = loadedDefinitions.get(reference);
+        if (definition == null) {
+            definition = reference.load(this);
+            if (definition != null && definition.isEnabled(this)) {
+                BeanDefinition<T> existing = loadedDefinitions.putIfAbsent(reference, definition);
+                if (existing != null) {
+                    definition = existing;
+                }
+            }
+        }
+        return definition;
+    }
+
     private void loadContextScopeBean(BeanDefinitionReference contextScopeBean) {
         if (contextScopeBean.isEnabled(this)) {
-            BeanDefinition beanDefinition = contextScopeBean.load(this);
+            BeanDefinition beanDefinition = loadDefinition(contextScopeBean);
             if (beanDefinition.isEnabled(this)) {
 
                 if (beanDefinition.isIterable()) {
@@ -19,6 +19,7 @@ import groovy.lang.GroovySystem;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.condition.Condition;
 import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.context.condition.Failure;
 import io.micronaut.context.condition.TrueCondition;
 import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.AnnotationClassValue;
@@ -119,8 +120,31 @@ public class RequiresCondition implements Condition {
     /**
      * This method will process requirements for a {@link BeanDefinitionReference} that has not yet been loaded. Unlike {@link #processPostStartRequirements(ConditionContext, AnnotationValue)}
      * this method is executed prior to the bean being loaded and processes requirements that do not require all the beans to be loaded.
+     *
+     * <p>The outcome of these requirements does not depend on the component being evaluated, hence the result is memoized per
+     * {@link DefaultBeanContext} so that identical requirements shared by many beans are only evaluated once.</p>
      */
+    @SuppressWarnings("unchecked")
     private void processPreStartRequirements(ConditionContext context, AnnotationValue<Requires> requirements) {
+        BeanContext beanContext = context.getBeanContext();
+        if (beanContext instanceof DefaultBeanContext && !ClassLoadingReporter.isReportingEnabled()) {
+            Map<AnnotationValue<Requires>, List<Failure>> results = ((DefaultBeanContext) beanContext).requiresConditionResults;
+            List<Failure> failures = results.get(requirements);
+            if (failures == null) {
+                DefaultConditionContext<AnnotationMetadataProvider> evaluationContext = new DefaultConditionContext<>(beanContext, context.getComponent());
+                evaluatePreStartRequirements(evaluationContext, requirements);
+                failures = evaluationContext.getFailures();
+                results.put(requirements, failures);
+            }
+            for (Failure failure : failures) {
+                context.fail(failure);
+            }
+        } else {
+            evaluatePreStartRequirements(context, requirements);
+        }
+    }
+
+    private void evaluatePreStartRequirements(ConditionContext context, AnnotationValue<Requires> requirements) {
         if (!matchesPresenceOfClasses(context, requirements)) {
             return;
         }
@@ -78,6 +78,11 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     private static final String GOOGLE_COMPUTE_METADATA = "http://metadata.google.internal";
     private static final String DO_SYS_VENDOR_FILE = "/sys/devices/virtual/dmi/id/sys_vendor";
 
+    /**
+     * The environment variables whose presence is used to deduce the active environments.
+     */
+    static final List<String> DEDUCTION_VARIABLES = Arrays.asList(K8S_ENV, PCF_ENV, HEROKU_DYNO, GOOGLE_APPENGINE_ENVIRONMENT);
+
     protected final ClassPathResourceLoader resourceLoader;
 
     private EnvironmentsAndPackage environmentsAndPackage;
@@ -93,6 +98,10 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     private final Map<String, PropertySourceLoader> loaderByFormatMap = new ConcurrentHashMap<>();
     private final Map<String, Boolean> presenceCache = new ConcurrentHashMap<>();
     private final AtomicBoolean reading = new AtomicBoolean(false);
+    private final StartupSnapshot snapshot;
+    private final String deducedPackage;
+    private List<PropertySource> snapshotPropertySources;
+    private String snapshotPropertySourceName;
 
     /**
      * @param classLoader The class loader
@@ -123,22 +132,43 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
      * @param conversionService The conversion service
      * @param names             The names
      */
-    @SuppressWarnings("MagicNumber")
     public DefaultEnvironment(ClassPathResourceLoader resourceLoader, ConversionService conversionService, String... names) {
+        this(resourceLoader, conversionService, null, names);
+    }
+
+    /**
+     * Constructs an environment that restores the active environment names and the property sources read from
+     * configuration files from the given snapshot instead of deducing and reading them.
+     *
+     * @param resourceLoader    The resource loader
+     * @param conversionService The conversion service
+     * @param snapshot          The startup snapshot, can be null
+     * @param names             The names
+     * @since 1.1
+     */
+    @SuppressWarnings("MagicNumber")
+    protected DefaultEnvironment(ClassPathResourceLoader resourceLoader, ConversionService conversionService, @Nullable StartupSnapshot snapshot, String... names) {
         super(conversionService);
         Set<String> environments = new LinkedHashSet<>(3);
         List<String> specifiedNames = Arrays.asList(names);
 
-        if (shouldDeduceEnvironments()) {
+        String aPackage = null;
+        if (snapshot != null) {
+            environments.addAll(snapshot.getEnvironments());
+            aPackage = snapshot.getDeducedPackage().orElse(null);
+        } else if (shouldDeduceEnvironments()) {
             EnvironmentsAndPackage environmentsAndPackage = getEnvironmentsAndPackage(specifiedNames);
             environments.addAll(environmentsAndPackage.enviroments);
-            String aPackage = environmentsAndPackage.aPackage;
-            if (aPackage != null) {
-                packages.add(aPackage);
-            }
+            aPackage = environmentsAndPackage.aPackage;
+        }
+        if (aPackage != null) {
+            packages.add(aPackage);
         }
         environments.addAll(specifiedNames);
 
+        this.snapshot = snapshot;
+        this.deducedPackage = aPackage;
+
         this.classLoader = resourceLoader.getClassLoader();
         this.names = environments;
         if (LOG.isInfoEnabled() && !environments.isEmpty()) {
@@ -264,9 +294,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         running.set(false);
         reading.set(false);
         synchronized (catalog) {
-            for (int i = 0; i < catalog.length; i++) {
-                catalog[i] = null;
-            }
+            clearCatalog();
             resetCaches();
         }
         return this;
@@ -275,8 +303,12 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     @Override
     public Map<String, Object> refreshAndDiff() {
         Map<String, Object>[] copiedCatalog = copyCatalog();
+        Map<String, Boolean> containsEntries = copyContainsCache();
+        Map<String, Optional<?>> resolvedEntries = copyResolvedValueCache();
         refresh();
-        return diffCatalog(copiedCatalog, catalog);
+        Map<String, Object> changes = diffCatalog(copiedCatalog, catalog);
+        restoreCaches(containsEntries, resolvedEntries, changes.keySet());
+        return changes;
     }
 
     @Override
@@ -333,6 +365,38 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         return true;
     }
 
+    /**
+     * @return Whether the property sources read from configuration files should be retained for a startup snapshot
+     * @since 1.1
+     */
+    protected boolean shouldCaptureSnapshot() {
+        return false;
+    }
+
+    /**
+     * Creates a snapshot of the active environment names and the property sources read from configuration files.
+     * A snapshot can only be created once the environment has been started and when {@link #shouldCaptureSnapshot()}
+     * returns true.
+     *
+     * @param fingerprint The fingerprint of the inputs of the snapshot
+     * @return The snapshot
+     * @since 1.1
+     */
+    public Optional<StartupSnapshot> createSnapshot(String fingerprint) {
+        List<PropertySource> propertySources = this.snapshotPropertySources;
+        if (propertySources == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StartupSnapshot(
+            fingerprint,
+            new LinkedHashSet<>(names),
+            deducedPackage,
+            snapshotPropertySourceName,
+            propertySources,
+            Collections.emptySet()
+        ));
+    }
+
 
 
     /**
@@ -423,15 +487,26 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
      */
     protected List<PropertySource> readPropertySourceList(String name) {
         List<PropertySource> propertySources = new ArrayList<>();
-        Collection<PropertySourceLoader> propertySourceLoaders = getPropertySourceLoaders();
-        if (propertySourceLoaders.isEmpty()) {
-            loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), propertySources);
+        if (snapshot != null && name.equals(snapshot.getPropertySourceName())) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Restoring property sources from startup snapshot");
+            }
+            propertySources.addAll(snapshot.getPropertySources());
         } else {
-            for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Reading property sources from loader: {}", propertySourceLoader);
+            Collection<PropertySourceLoader> propertySourceLoaders = getPropertySourceLoaders();
+            if (propertySourceLoaders.isEmpty()) {
+                loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), propertySources);
+            } else {
+                for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Reading property sources from loader: {}", propertySourceLoader);
+                    }
+                    loadPropertySourceFromLoader(name, propertySourceLoader, propertySources);
                 }
-                loadPropertySourceFromLoader(name, propertySourceLoader, propertySources);
+            }
+            if (shouldCaptureSnapshot()) {
+                snapshotPropertySources = new ArrayList<>(propertySources);
+                snapshotPropertySourceName = name;
             }
         }
         if (!this.propertySources.containsKey(SystemPropertiesPropertySource.NAME)) {
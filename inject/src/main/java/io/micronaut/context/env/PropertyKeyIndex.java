@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of the normalized property keys held in the catalog of a {@link PropertySourcePropertyResolver}. Each level
+ * of the trie represents a dot separated segment of a key, which allows locating a key or all of the keys below a
+ * given prefix in time proportional to the length of the prefix rather than the number of properties.
+ *
+ * <p>Keys are returned in the order they were first added so that the results are consistent with the iteration
+ * order of the catalog.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+final class PropertyKeyIndex {
+
+    private Node root = new Node();
+    private long sequence;
+
+    /**
+     * Adds a key to the index. Adding an existing key has no effect.
+     *
+     * @param key The key
+     */
+    void add(String key) {
+        Node node = root;
+        int start = 0;
+        int len = key.length();
+        while (true) {
+            int end = key.indexOf('.', start);
+            if (end == -1) {
+                end = len;
+            }
+            node = node.child(key.substring(start, end), true);
+            if (end == len) {
+                break;
+            }
+            start = end + 1;
+        }
+        if (node.key == null) {
+            node.key = key;
+            node.order = sequence++;
+        }
+    }
+
+    /**
+     * Clears the index.
+     */
+    void clear() {
+        root = new Node();
+        sequence = 0;
+    }
+
+    /**
+     * @param prefix The prefix
+     * @return Whether any key starts with the given prefix followed by a dot
+     */
+    boolean hasKeysWithPrefix(String prefix) {
+        Node node = find(prefix);
+        return node != null && !node.children.isEmpty();
+    }
+
+    /**
+     * Resolves all of the keys that start with the given prefix followed by a dot.
+     *
+     * @param prefix The prefix
+     * @return The keys in the order they were added
+     */
+    List<String> keysWithPrefix(String prefix) {
+        Node node = find(prefix);
+        if (node == null || node.children.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Node> found = new ArrayList<>();
+        for (Node child : node.children.values()) {
+            collect(child, found);
+        }
+        if (found.size() > 1) {
+            found.sort(Comparator.comparingLong(n -> n.order));
+        }
+        List<String> keys = new ArrayList<>(found.size());
+        for (Node n : found) {
+            keys.add(n.key);
+        }
+        return keys;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int start = 0;
+        int len = key.length();
+        while (node != null) {
+            int end = key.indexOf('.', start);
+            if (end == -1) {
+                end = len;
+            }
+            node = node.child(key.substring(start, end), false);
+            if (end == len) {
+                break;
+            }
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<Node> found) {
+        if (node.key != null) {
+            found.add(node);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, found);
+        }
+    }
+
+    /**
+     * A node in the trie.
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>(4);
+        private String key;
+        private long order;
+
+        Node child(String segment, boolean create) {
+            Node child = children.get(segment);
+            if (child == null && create) {
+                child = new Node();
+                children.put(segment, child);
+            }
+            return child;
+        }
+    }
+}
@@ -37,6 +37,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -59,9 +61,13 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
     // this allows optimization of searches by prefix
     @SuppressWarnings("MagicNumber")
     protected final Map<String, Object>[] catalog = new Map[58];
+    // a trie over the keys of the catalog that allows efficient lookup of the keys for a given prefix
+    private final PropertyKeyIndex keyIndex = new PropertyKeyIndex();
     private final Random random = new Random();
     private final Map<String, Boolean> containsCache = new ConcurrentHashMap<>(20);
     private final Map<String, Optional<?>> resolvedValueCache = new ConcurrentHashMap<>(20);
+    private final ThreadLocal<Set<String>> accessedKeys = new ThreadLocal<>();
+    private final AtomicInteger activeRecordings = new AtomicInteger();
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -127,6 +133,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (StringUtils.isEmpty(name)) {
             return false;
         } else {
+            recordAccess(name);
             Boolean result = containsCache.get(name);
             if (result == null) {
                 Map<String, Object> entries = resolveEntriesForKey(name, false);
@@ -147,19 +154,15 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (StringUtils.isEmpty(name)) {
             return false;
         } else {
+            recordAccess(name);
             Map<String, Object> entries = resolveEntriesForKey(name, false);
             if (entries == null) {
                 return false;
             } else {
                 name = trimIndex(name);
-                if (entries.containsKey(name) || entries.containsKey(normalizeName(name))) {
-                    return true;
-                } else {
-                    String finalName = name + ".";
-                    return entries.keySet().stream().anyMatch(key ->
-                            key.startsWith(finalName)
-                    );
-                }
+                return entries.containsKey(name) ||
+                        entries.containsKey(normalizeName(name)) ||
+                        keyIndex.hasKeysWithPrefix(name);
             }
         }
     }
@@ -170,6 +173,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
             keyFormat = StringConvention.RAW;
         }
         if (!StringUtils.isEmpty(name)) {
+            recordAccess(name);
             Map<String, Object> entries = resolveEntriesForKey(name, false);
             if (entries != null) {
                 return resolveSubMap(
@@ -189,6 +193,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (StringUtils.isEmpty(name)) {
             return Optional.empty();
         } else {
+            recordAccess(name);
             Class<T> requiredType = conversionContext.getArgument().getType();
             boolean cacheableType = requiredType == Boolean.class || requiredType == String.class;
             String cacheName = name + '|' + requiredType.getSimpleName();
@@ -279,6 +284,32 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return Optional.empty();
     }
 
+    /**
+     * Executes the given supplier while recording the names of the properties that are read by the current thread.
+     * Recordings can be nested in which case the keys recorded by the inner recording are also added to the outer one.
+     *
+     * @param keys     The set to add the names of the read properties to
+     * @param supplier The supplier
+     * @param <T>      The result type
+     * @return The result of the supplier
+     */
+    public <T> T recordAccessedKeys(Set<String> keys, Supplier<T> supplier) {
+        Set<String> outer = accessedKeys.get();
+        accessedKeys.set(keys);
+        activeRecordings.incrementAndGet();
+        try {
+            return supplier.get();
+        } finally {
+            activeRecordings.decrementAndGet();
+            if (outer != null) {
+                outer.addAll(keys);
+                accessedKeys.set(outer);
+            } else {
+                accessedKeys.remove();
+            }
+        }
+    }
+
     /**
      * Returns a combined Map of all properties in the catalog.
      *
@@ -329,17 +360,15 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         AnnotationMetadata annotationMetadata = conversionContext.getAnnotationMetadata();
         StringConvention keyConvention = annotationMetadata.getValue(MapFormat.class, "keyFormat", StringConvention.class)
                                                            .orElse(StringConvention.RAW);
-        String prefix = name + '.';
-        entries.entrySet().stream()
-            .filter(map -> map.getKey().startsWith(prefix))
-            .forEach(entry -> {
-                Object value = entry.getValue();
-                if (value != null) {
-                    String key = entry.getKey().substring(prefix.length());
-                    key = keyConvention.format(key);
-                    properties.put(key, resolvePlaceHoldersIfNecessary(value.toString()));
-                }
-            });
+        int prefixLength = name.length() + 1;
+        for (String entryKey : resolveKeysWithPrefix(name, entries)) {
+            Object value = entries.get(entryKey);
+            if (value != null) {
+                String key = entryKey.substring(prefixLength);
+                key = keyConvention.format(key);
+                properties.put(key, resolvePlaceHoldersIfNecessary(value.toString()));
+            }
+        }
 
         return properties;
     }
@@ -382,25 +411,22 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         final Argument<?> valueType = conversionContext.getTypeVariable("V").orElse(Argument.OBJECT_ARGUMENT);
         Map<String, Object> subMap = new LinkedHashMap<>(entries.size());
 
-        String prefix = name + '.';
-        for (Map.Entry<String, Object> entry : entries.entrySet()) {
-            final String key = entry.getKey();
-            if (key.startsWith(prefix)) {
-                String subMapKey = key.substring(prefix.length());
-                Object value = resolvePlaceHoldersIfNecessary(entry.getValue());
+        int prefixLength = name.length() + 1;
+        for (String key : resolveKeysWithPrefix(name, entries)) {
+            String subMapKey = key.substring(prefixLength);
+            Object value = resolvePlaceHoldersIfNecessary(entries.get(key));
 
-                if (transformation == MapFormat.MapTransformation.FLAT) {
-                    subMapKey = keyConvention.format(subMapKey);
-                    value = conversionService.convert(value, valueType).orElse(null);
-                    subMap.put(subMapKey, value);
-                } else {
-                    processSubmapKey(
-                            subMap,
-                            subMapKey,
-                            value,
-                            keyConvention
-                    );
-                }
+            if (transformation == MapFormat.MapTransformation.FLAT) {
+                subMapKey = keyConvention.format(subMapKey);
+                value = conversionService.convert(value, valueType).orElse(null);
+                subMap.put(subMapKey, value);
+            } else {
+                processSubmapKey(
+                        subMap,
+                        subMapKey,
+                        value,
+                        keyConvention
+                );
             }
         }
         return subMap;
@@ -454,6 +480,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                                 } else {
                                     list = new ArrayList(number);
                                     entries.put(resolvedProperty, list);
+                                    keyIndex.add(resolvedProperty);
                                 }
                                 list.add(number, value);
                             } else {
@@ -463,6 +490,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                                 } else {
                                     map = new LinkedHashMap(10);
                                     entries.put(resolvedProperty, map);
+                                    keyIndex.add(resolvedProperty);
                                 }
                                 map.put(index, value);
                             }
@@ -472,6 +500,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                         Map entries = resolveEntriesForKey(resolvedProperty, true);
                         if (entries != null) {
                             entries.put(resolvedProperty, value);
+                            keyIndex.add(resolvedProperty);
                         }
                     }
                 }
@@ -551,6 +580,18 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return entries;
     }
 
+    /**
+     * Clears all of the entries of the catalog.
+     */
+    protected void clearCatalog() {
+        synchronized (catalog) {
+            for (int i = 0; i < catalog.length; i++) {
+                catalog[i] = null;
+            }
+            keyIndex.clear();
+        }
+    }
+
     /**
      * Subclasses can override to reset caches.
      */
@@ -582,6 +623,108 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         }
     }
 
+    /**
+     * @return A copy of the cache of property presence checks
+     */
+    Map<String, Boolean> copyContainsCache() {
+        return new HashMap<>(containsCache);
+    }
+
+    /**
+     * @return A copy of the cache of resolved values
+     */
+    Map<String, Optional<?>> copyResolvedValueCache() {
+        return new HashMap<>(resolvedValueCache);
+    }
+
+    /**
+     * Restores previously copied cache entries that are not affected by the given changed keys. Resolved values that
+     * contain placeholders are never restored since the placeholders may refer to any of the changed keys.
+     *
+     * @param containsEntries The copied presence check entries
+     * @param resolvedEntries The copied resolved value entries
+     * @param changedKeys     The keys that changed
+     */
+    void restoreCaches(Map<String, Boolean> containsEntries, Map<String, Optional<?>> resolvedEntries, Collection<String> changedKeys) {
+        for (Map.Entry<String, Boolean> entry : containsEntries.entrySet()) {
+            String name = entry.getKey();
+            if (!isAffectedByChange(name, changedKeys)) {
+                containsCache.putIfAbsent(name, entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Optional<?>> entry : resolvedEntries.entrySet()) {
+            String cacheName = entry.getKey();
+            String name = cacheName.substring(0, cacheName.lastIndexOf('|'));
+            if (!isAffectedByChange(name, changedKeys) && !hasPlaceholders(name)) {
+                resolvedValueCache.putIfAbsent(cacheName, entry.getValue());
+            }
+        }
+    }
+
+    private boolean hasPlaceholders(String name) {
+        Map<String, Object> entries = resolveEntriesForKey(name, false);
+        if (entries != null) {
+            Object value = entries.get(trimIndex(name));
+            if (value == null) {
+                value = entries.get(normalizeName(trimIndex(name)));
+            }
+            return value != null && (!(value instanceof CharSequence) || value.toString().contains(propertyPlaceholderResolver.getPrefix()));
+        }
+        return false;
+    }
+
+    /**
+     * Whether a change to any of the given keys affects the property with the given name, such as a name recorded by
+     * {@link #recordAccessedKeys(Set, Supplier)}. A change affects a name when the key is the same as the name or when
+     * one of them is nested within the other, after both are normalized the same way the resolver normalizes names.
+     *
+     * @param name        The property name
+     * @param changedKeys The keys that changed
+     * @return True if the property is affected by the change
+     */
+    public boolean isAffectedByChange(String name, Collection<String> changedKeys) {
+        String normalized = normalizeName(name);
+        for (String changedKey : changedKeys) {
+            String key = normalizeName(changedKey);
+            if (normalized.equals(key) || isNested(normalized, key) || isNested(key, normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNested(String name, String parent) {
+        if (name.length() > parent.length() && name.startsWith(parent)) {
+            char c = name.charAt(parent.length());
+            return c == '.' || c == '[';
+        }
+        return false;
+    }
+
+    private void recordAccess(String name) {
+        if (activeRecordings.get() > 0) {
+            Set<String> keys = accessedKeys.get();
+            if (keys != null) {
+                keys.add(name);
+            }
+        }
+    }
+
+    private Collection<String> resolveKeysWithPrefix(String name, Map<String, Object> entries) {
+        if (entries == resolveEntriesForKey(name, false)) {
+            return keyIndex.keysWithPrefix(name);
+        } else {
+            String prefix = name + '.';
+            List<String> keys = new ArrayList<>();
+            for (String key : entries.keySet()) {
+                if (key.startsWith(prefix)) {
+                    keys.add(key);
+                }
+            }
+            return keys;
+        }
+    }
+
     private String normalizeName(String name) {
         return name.replace('-', '.');
     }
@@ -0,0 +1,561 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A snapshot of the state that is expensive to establish when an application context starts: the active environment
+ * names and deduced package, the property sources parsed from the configuration files on the classpath and the bean
+ * definition references that were disabled by requirements that only depend on the classpath and the active
+ * environments.
+ *
+ * <p>A snapshot is written in a compact binary format on the first start when the {@link #SNAPSHOT_FILE_PROPERTY}
+ * is set and is reused by subsequent starts as long as its fingerprint, computed from the entries of the classpath,
+ * the specified environment names and the inputs of environment deduction, is unchanged. System properties,
+ * environment variables and programmatically added property sources are never part of the snapshot and are
+ * read on every start.</p>
+ *
+ * @since 1.1
+ */
+@Internal
+public final class StartupSnapshot {
+
+    /**
+     * The system property that specifies the location of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE_PROPERTY = "micronaut.snapshot.file";
+
+    /**
+     * The environment variable that specifies the location of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE_ENV = "MICRONAUT_SNAPSHOT_FILE";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupSnapshot.class);
+    private static final int MAGIC = 0x4D4E5353;
+    private static final int VERSION = 2;
+    private static final Set<String> CACHEABLE_REQUIREMENTS = new HashSet<>(Arrays.asList(
+        "env", "notEnv", "classes", "missing", "missingClasses", "beans", "missingBeans", "condition", "sdk", "version"
+    ));
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte CHARACTER = 9;
+    private static final byte BIG_INTEGER = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte DATE = 12;
+    private static final byte LIST = 13;
+    private static final byte MAP = 14;
+
+    private final String fingerprint;
+    private final Set<String> environments;
+    private final String deducedPackage;
+    private final String propertySourceName;
+    private final List<PropertySource> propertySources;
+    private final Set<String> disabledBeans;
+
+    /**
+     * @param fingerprint        The fingerprint of the inputs the snapshot was created from
+     * @param environments       The active environment names
+     * @param deducedPackage     The deduced package
+     * @param propertySourceName The name the property sources were read with, such as {@code application}
+     * @param propertySources    The property sources read from configuration files
+     * @param disabledBeans      The names of the disabled bean definitions
+     */
+    StartupSnapshot(
+            String fingerprint,
+            Set<String> environments,
+            @Nullable String deducedPackage,
+            String propertySourceName,
+            List<PropertySource> propertySources,
+            Set<String> disabledBeans) {
+        this.fingerprint = fingerprint;
+        this.environments = environments;
+        this.deducedPackage = deducedPackage;
+        this.propertySourceName = propertySourceName;
+        this.propertySources = propertySources;
+        this.disabledBeans = disabledBeans;
+    }
+
+    /**
+     * @return The fingerprint of the inputs the snapshot was created from
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return The active environment names, including the deduced ones
+     */
+    public Set<String> getEnvironments() {
+        return Collections.unmodifiableSet(environments);
+    }
+
+    /**
+     * @return The package deduced from the stack trace, if any
+     */
+    public Optional<String> getDeducedPackage() {
+        return Optional.ofNullable(deducedPackage);
+    }
+
+    /**
+     * @return The name the property sources were read with, such as {@code application}
+     */
+    public String getPropertySourceName() {
+        return propertySourceName;
+    }
+
+    /**
+     * @return The property sources read from the configuration files on the classpath
+     */
+    public List<PropertySource> getPropertySources() {
+        return Collections.unmodifiableList(propertySources);
+    }
+
+    /**
+     * @return The names of the bean definitions that are disabled
+     */
+    public Set<String> getDisabledBeans() {
+        return Collections.unmodifiableSet(disabledBeans);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given disabled bean definitions.
+     *
+     * @param disabledBeans The names of the disabled bean definitions
+     * @return The snapshot
+     */
+    public StartupSnapshot withDisabledBeans(Set<String> disabledBeans) {
+        return new StartupSnapshot(fingerprint, environments, deducedPackage, propertySourceName, propertySources, disabledBeans);
+    }
+
+    /**
+     * Resolves the snapshot file configured with the {@link #SNAPSHOT_FILE_PROPERTY} system property or the
+     * {@link #SNAPSHOT_FILE_ENV} environment variable.
+     *
+     * @return The snapshot file, if configured
+     */
+    public static Optional<File> resolveSnapshotFile() {
+        return Stream.of(System.getProperty(SNAPSHOT_FILE_PROPERTY), System.getenv(SNAPSHOT_FILE_ENV))
+            .filter(StringUtils::isNotEmpty)
+            .findFirst()
+            .map(File::new);
+    }
+
+    /**
+     * Whether the result of the requirements of the given metadata only depends on the classpath and the
+     * active environments and can therefore be stored in a snapshot.
+     *
+     * @param annotationMetadata The annotation metadata
+     * @return True if the requirements can be stored
+     */
+    public static boolean isConditionCacheable(AnnotationMetadata annotationMetadata) {
+        List<AnnotationValue<Requires>> requirements = annotationMetadata.getAnnotationValuesByType(Requires.class);
+        for (AnnotationValue<Requires> requirement : requirements) {
+            for (CharSequence member : requirement.getValues().keySet()) {
+                if (!CACHEABLE_REQUIREMENTS.contains(member.toString())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the fingerprint of the inputs of a snapshot. The fingerprint covers the path, size and modification
+     * time of every entry of the classpath, the specified environment names and the system properties and
+     * environment variables that are used to deduce the active environments. Directories of the classpath are not
+     * walked: only their modification time and the files directly within them are covered, so changes to files
+     * nested deeper in a directory require the snapshot file to be deleted. The snapshot file itself is excluded in
+     * case it is located within a directory of the classpath.
+     *
+     * @param snapshotFile     The snapshot file
+     * @param environmentNames The specified environment names
+     * @return The fingerprint
+     */
+    public static String fingerprint(File snapshotFile, String... environmentNames) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest not available", e);
+        }
+        update(digest, String.valueOf(VERSION));
+        update(digest, System.getProperty("java.version"));
+        for (String environmentName : environmentNames) {
+            update(digest, environmentName);
+        }
+        update(digest, System.getProperty(Environment.ENVIRONMENTS_PROPERTY));
+        update(digest, System.getenv(Environment.ENVIRONMENTS_ENV));
+        update(digest, System.getProperty(Environment.CLOUD_PLATFORM_PROPERTY));
+        for (String variable : DefaultEnvironment.DEDUCTION_VARIABLES) {
+            update(digest, String.valueOf(StringUtils.isNotEmpty(System.getenv(variable))));
+        }
+        String classPath = System.getProperty("java.class.path");
+        if (classPath != null) {
+            for (String entry : classPath.split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    update(digest, new File(entry), snapshotFile.getAbsoluteFile().toPath());
+                }
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Reads the snapshot stored in the given file.
+     *
+     * @param file        The file
+     * @param fingerprint The expected fingerprint
+     * @return The snapshot or empty if the file does not exist, cannot be read or was created from different inputs
+     */
+    public static Optional<StartupSnapshot> read(File file, String fingerprint) {
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return Optional.empty();
+            }
+            String storedFingerprint = readString(in);
+            if (!fingerprint.equals(storedFingerprint)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Ignoring outdated startup snapshot: {}", file);
+                }
+                return Optional.empty();
+            }
+            Set<String> environments = new LinkedHashSet<>(readStrings(in));
+            String deducedPackage = in.readBoolean() ? readString(in) : null;
+            String propertySourceName = readString(in);
+            int sourceCount = in.readInt();
+            List<PropertySource> propertySources = new ArrayList<>(sourceCount);
+            for (int i = 0; i < sourceCount; i++) {
+                String name = readString(in);
+                int order = in.readInt();
+                PropertySource.PropertyConvention convention = PropertySource.PropertyConvention.valueOf(readString(in));
+                int size = in.readInt();
+                Map<String, Object> values = new LinkedHashMap<>(size);
+                for (int j = 0; j < size; j++) {
+                    values.put(readString(in), readValue(in));
+                }
+                propertySources.add(new SnapshotPropertySource(name, values, order, convention));
+            }
+            Set<String> disabledBeans = new HashSet<>(readStrings(in));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Read startup snapshot: {}", file);
+            }
+            return Optional.of(new StartupSnapshot(storedFingerprint, environments, deducedPackage, propertySourceName, propertySources, disabledBeans));
+        } catch (IOException | RuntimeException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Unable to read startup snapshot " + file + ": " + e.getMessage(), e);
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot to the given file. The file is replaced atomically where the file system allows it.
+     *
+     * @param file The file
+     * @throws IOException If the snapshot cannot be written, for example because a property value has a type
+     * that cannot be stored
+     */
+    public void write(File file) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getName(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, fingerprint);
+                writeStrings(out, environments);
+                out.writeBoolean(deducedPackage != null);
+                if (deducedPackage != null) {
+                    writeString(out, deducedPackage);
+                }
+                writeString(out, propertySourceName);
+                out.writeInt(propertySources.size());
+                for (PropertySource propertySource : propertySources) {
+                    writeString(out, propertySource.getName());
+                    out.writeInt(propertySource.getOrder());
+                    writeString(out, propertySource.getConvention().name());
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    for (String key : propertySource) {
+                        values.put(key, propertySource.get(key));
+                    }
+                    out.writeInt(values.size());
+                    for (Map.Entry<String, Object> entry : values.entrySet()) {
+                        writeString(out, entry.getKey());
+                        writeValue(out, entry.getValue());
+                    }
+                }
+                writeStrings(out, disabledBeans);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void update(MessageDigest digest, @Nullable String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void update(MessageDigest digest, File file, Path excluded) {
+        update(digest, file.getAbsolutePath());
+        if (file.isDirectory()) {
+            // the directory is not walked, its modification time covers the entries added or removed directly
+            // within it and its files cover the configuration files at the root of the classpath
+            Path excludedParent = excluded.getParent();
+            boolean containsSnapshot = excludedParent != null && excludedParent.equals(file.getAbsoluteFile().toPath());
+            if (!containsSnapshot) {
+                update(digest, String.valueOf(file.lastModified()));
+            }
+            File[] children = file.listFiles(File::isFile);
+            if (children == null) {
+                update(digest, "unreadable");
+                return;
+            }
+            Arrays.sort(children);
+            String excludedName = excluded.getFileName().toString();
+            for (File child : children) {
+                String name = child.getName();
+                boolean isSnapshot = name.equals(excludedName) || (name.startsWith(excludedName) && name.endsWith(".tmp"));
+                if (!(containsSnapshot && isSnapshot)) {
+                    update(digest, name);
+                    update(digest, child.length() + ":" + child.lastModified());
+                }
+            }
+        } else {
+            update(digest, file.length() + ":" + file.lastModified());
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeValue(DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof CharSequence) {
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(collection.size());
+            for (Object o : collection) {
+                writeValue(out, o);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("Unsupported property value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case DATE:
+                return new Date(in.readLong());
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(entries);
+                for (int i = 0; i < entries; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                return map;
+            default:
+                throw new IOException("Unknown value type: " + type);
+        }
+    }
+
+    /**
+     * A property source restored from a snapshot.
+     */
+    private static final class SnapshotPropertySource extends MapPropertySource {
+        private final int order;
+        private final PropertyConvention convention;
+
+        SnapshotPropertySource(String name, Map<String, Object> values, int order, PropertyConvention convention) {
+            super(name, values);
+            this.order = order;
+            this.convention = convention;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public PropertyConvention getConvention() {
+            return convention;
+        }
+    }
+}
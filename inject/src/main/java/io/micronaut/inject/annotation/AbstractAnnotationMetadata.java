@@ -39,8 +39,10 @@ import java.util.concurrent.ConcurrentHashMap;
 @Internal
 abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
 
-    protected final Map<String, Annotation> annotationMap;
-    protected final Map<String, Annotation> declaredAnnotationMap;
+    private final boolean hasAnnotations;
+    private final boolean hasDeclaredAnnotations;
+    private volatile Map<String, Annotation> annotationMap;
+    private volatile Map<String, Annotation> declaredAnnotationMap;
     private Annotation[] allAnnotationArray;
     private Annotation[] declaredAnnotationArray;
 
@@ -52,28 +54,28 @@ abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
      */
     protected AbstractAnnotationMetadata(@Nullable Map<String, Map<CharSequence, Object>> declaredAnnotations,
                                          @Nullable Map<String, Map<CharSequence, Object>> allAnnotations) {
-        this.declaredAnnotationMap = declaredAnnotations != null ? new ConcurrentHashMap<>(declaredAnnotations.size()) : null;
-        this.annotationMap = allAnnotations != null ? new ConcurrentHashMap<>(allAnnotations.size()) : null;
+        this.hasDeclaredAnnotations = declaredAnnotations != null;
+        this.hasAnnotations = allAnnotations != null;
     }
 
     /**
      * Constructs a default metadata.
      */
     protected AbstractAnnotationMetadata() {
-        annotationMap = new ConcurrentHashMap<>(2);
-        declaredAnnotationMap = new ConcurrentHashMap<>(2);
+        this.hasDeclaredAnnotations = true;
+        this.hasAnnotations = true;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public @Nullable <T extends Annotation> T synthesize(@Nonnull Class<T> annotationClass) {
         ArgumentUtils.requireNonNull("annotationClass", annotationClass);
-        if (annotationMap == null) {
+        if (!hasAnnotations) {
             return null;
         }
         if (hasAnnotation(annotationClass) || hasStereotype(annotationClass)) {
             String annotationName = annotationClass.getName().intern();
-            return (T) annotationMap.computeIfAbsent(annotationName, s -> {
+            return (T) getAnnotationMap().computeIfAbsent(annotationName, s -> {
                 ConvertibleValues<Object> annotationValues = findAnnotation(annotationClass).map(AnnotationValue::getConvertibleValues).orElse(ConvertibleValues.empty());
                 return AnnotationMetadataSupport.buildAnnotation(annotationClass, annotationValues);
 
@@ -86,12 +88,12 @@ abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
     @Override
     public @Nullable <T extends Annotation> T synthesizeDeclared(@Nonnull Class<T> annotationClass) {
         ArgumentUtils.requireNonNull("annotationClass", annotationClass);
-        if (declaredAnnotationMap == null) {
+        if (!hasDeclaredAnnotations) {
             return null;
         }
         String annotationName = annotationClass.getName().intern();
         if (hasAnnotation(annotationName) || hasStereotype(annotationName)) {
-            return (T) declaredAnnotationMap.computeIfAbsent(annotationName, s -> {
+            return (T) getDeclaredAnnotationMap().computeIfAbsent(annotationName, s -> {
                 ConvertibleValues<Object> annotationValues = findAnnotation(annotationClass).map(AnnotationValue::getConvertibleValues).orElse(ConvertibleValues.empty());
                 return AnnotationMetadataSupport.buildAnnotation(annotationClass, annotationValues);
 
@@ -102,7 +104,7 @@ abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
 
     @Override
     public @Nonnull Annotation[] synthesizeAll() {
-        if (annotationMap == null) {
+        if (!hasAnnotations) {
             return AnnotationUtil.ZERO_ANNOTATIONS;
         }
         Annotation[] annotations = this.allAnnotationArray;
@@ -120,7 +122,7 @@ abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
 
     @Override
     public @Nonnull Annotation[] synthesizeDeclared() {
-        if (declaredAnnotationMap == null) {
+        if (!hasDeclaredAnnotations) {
             return AnnotationUtil.ZERO_ANNOTATIONS;
         }
         Annotation[] annotations = this.declaredAnnotationArray;
@@ -136,6 +138,42 @@ abstract class AbstractAnnotationMetadata implements AnnotationMetadata {
         return annotations;
     }
 
+    /**
+     * The synthesized annotations are only cached once requested, since most metadata is never synthesized.
+     *
+     * @return The cache of synthesized annotations
+     */
+    private Map<String, Annotation> getAnnotationMap() {
+        Map<String, Annotation> map = this.annotationMap;
+        if (map == null) {
+            synchronized (this) { // double check
+                map = this.annotationMap;
+                if (map == null) {
+                    map = new ConcurrentHashMap<>(2);
+                    this.annotationMap = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @return The cache of synthesized declared annotations
+     */
+    private Map<String, Annotation> getDeclaredAnnotationMap() {
+        Map<String, Annotation> map = this.declaredAnnotationMap;
+        if (map == null) {
+            synchronized (this) { // double check
+                map = this.declaredAnnotationMap;
+                if (map == null) {
+                    map = new ConcurrentHashMap<>(2);
+                    this.declaredAnnotationMap = map;
+                }
+            }
+        }
+        return map;
+    }
+
     /**
      * Adds any annotation values found in the values map to the results.
      *
@@ -82,7 +82,7 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     @Nullable Map<String, Map<CharSequence, Object>> declaredStereotypes;
     @Nullable Map<String, Map<CharSequence, Object>> allStereotypes;
     @Nullable Map<String, List<String>> annotationsByStereotype;
-    private Map<Class, List> annotationValuesByType = new ConcurrentHashMap<>(2);
+    private volatile Map<Class, List> annotationValuesByType;
 
     // should not be used in any of the read methods
     // The following fields are used only at compile time, and
@@ -197,7 +197,8 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     @Override
     public @Nonnull <T extends Annotation> List<AnnotationValue<T>> getAnnotationValuesByType(@Nullable Class<T> annotationType) {
         if (annotationType != null) {
-            List<AnnotationValue<T>> results = annotationValuesByType.get(annotationType);
+            Map<Class, List> valuesByType = this.annotationValuesByType;
+            List<AnnotationValue<T>> results = valuesByType != null ? valuesByType.get(annotationType) : null;
             if (results == null) {
 
                 results = resolveAnnotationValuesByType(annotationType, allAnnotations, allStereotypes);
@@ -205,7 +206,12 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
                     return results;
                 }
                 results = Collections.emptyList();
-                annotationValuesByType.put(annotationType, results);
+                if (valuesByType == null) {
+                    // only allocated once a lookup misses, since most metadata is never queried this way
+                    valuesByType = new ConcurrentHashMap<>(2);
+                    this.annotationValuesByType = valuesByType;
+                }
+                valuesByType.put(annotationType, results);
             }
             return results;
         }
@@ -765,15 +771,14 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         Map<CharSequence, Object> existing = currentAnnotationValues.get(annotation);
         boolean hasValues = CollectionUtils.isNotEmpty(values);
         if (existing != null && hasValues) {
-            if (existing.isEmpty()) {
-                existing = new LinkedHashMap<>();
-                currentAnnotationValues.put(annotation, existing);
-            }
+            // the existing values may be shared with other metadata, so they are copied rather than modified
+            Map<CharSequence, Object> merged = new LinkedHashMap<>(existing);
             for (CharSequence key : values.keySet()) {
-                if (!existing.containsKey(key)) {
-                    existing.put(key, values.get(key));
+                if (!merged.containsKey(key)) {
+                    merged.put(key, values.get(key));
                 }
             }
+            currentAnnotationValues.put(annotation, merged);
         } else {
             if (!hasValues) {
                 existing = existing == null ? Collections.emptyMap() : existing;
@@ -791,6 +796,10 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         if (stereotypes == null) {
             stereotypes = new HashMap<>(3);
             this.allStereotypes = stereotypes;
+        } else if (!(stereotypes instanceof HashMap)) {
+            // maps created by generated code are immutable
+            stereotypes = new HashMap<>(stereotypes);
+            this.allStereotypes = stereotypes;
         }
         return stereotypes;
     }
@@ -801,6 +810,9 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         if (stereotypes == null) {
             stereotypes = new HashMap<>(3);
             this.declaredStereotypes = stereotypes;
+        } else if (!(stereotypes instanceof HashMap)) {
+            stereotypes = new HashMap<>(stereotypes);
+            this.declaredStereotypes = stereotypes;
         }
         return stereotypes;
     }
@@ -811,6 +823,9 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         if (annotations == null) {
             annotations = new HashMap<>(3);
             this.allAnnotations = annotations;
+        } else if (!(annotations instanceof HashMap)) {
+            annotations = new HashMap<>(annotations);
+            this.allAnnotations = annotations;
         }
         return annotations;
     }
@@ -821,6 +836,9 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         if (annotations == null) {
             annotations = new HashMap<>(3);
             this.declaredAnnotations = annotations;
+        } else if (!(annotations instanceof HashMap)) {
+            annotations = new HashMap<>(annotations);
+            this.declaredAnnotations = annotations;
         }
         return annotations;
     }
@@ -857,7 +875,9 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
 
         repeated.put(annotationName, annotationValue.getAnnotationName());
 
-        Map<CharSequence, Object> values = allAnnotations.computeIfAbsent(annotationName, s -> new HashMap<>());
+        Map<CharSequence, Object> existing = allAnnotations.get(annotationName);
+        Map<CharSequence, Object> values = existing != null ? new HashMap<>(existing) : new HashMap<>();
+        allAnnotations.put(annotationName, values);
         Object v = values.get(member);
         if (v != null) {
             if (v.getClass().isArray()) {
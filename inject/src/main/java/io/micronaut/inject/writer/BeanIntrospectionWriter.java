@@ -0,0 +1,293 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.writer;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.AbstractBeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.reflect.ReflectionUtils;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.Method;
+import org.objectweb.asm.commons.TableSwitchGenerator;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the {@link io.micronaut.core.beans.BeanIntrospection} of a type annotated with
+ * {@link io.micronaut.core.annotation.Introspected} using ASM. The generated class invokes the getters, setters and
+ * constructor of the bean directly, dispatching on the index of each property with a switch.
+ *
+ * @see AbstractBeanIntrospection
+ * @since 1.1
+ */
+@Internal
+public class BeanIntrospectionWriter extends AbstractClassFileWriter {
+
+    private static final Type TYPE_ABSTRACT_BEAN_INTROSPECTION = Type.getType(AbstractBeanIntrospection.class);
+    private static final Method METHOD_SUPER_CONSTRUCTOR = Method.getMethod("void <init>(java.lang.Class, boolean)");
+    private static final Method METHOD_ADD_PROPERTY = Method.getMethod("void addProperty(java.lang.String, java.lang.Class, boolean)");
+    private static final Method METHOD_ADD_CONSTRUCTOR_ARGUMENT = Method.getMethod("void addConstructorArgument(java.lang.String, java.lang.Class)");
+    private static final Method METHOD_UNKNOWN_PROPERTY = Method.getMethod("java.lang.RuntimeException unknownProperty(int)");
+    private static final Method METHOD_READ_INTERNAL = Method.getMethod("java.lang.Object readInternal(int, java.lang.Object)");
+    private static final Method METHOD_WRITE_INTERNAL = Method.getMethod("void writeInternal(int, java.lang.Object, java.lang.Object)");
+    private static final Method METHOD_INSTANTIATE_INTERNAL = Method.getMethod("java.lang.Object instantiateInternal(java.lang.Object[])");
+
+    private final String introspectionClassName;
+    private final Type introspectionType;
+    private final Type beanType;
+    private final boolean isInterface;
+    private final List<PropertyData> properties = new ArrayList<>();
+    private Map<String, Object> constructorArguments;
+
+    /**
+     * @param beanClassName The binary name of the bean class
+     * @param isInterface   Whether the bean type is an interface
+     */
+    public BeanIntrospectionWriter(String beanClassName, boolean isInterface) {
+        this.introspectionClassName = BeanIntrospector.getIntrospectionName(beanClassName);
+        this.introspectionType = getTypeReference(introspectionClassName);
+        this.beanType = getTypeReference(beanClassName);
+        this.isInterface = isInterface;
+    }
+
+    /**
+     * @return The name of the generated introspection class
+     */
+    public String getIntrospectionClassName() {
+        return introspectionClassName;
+    }
+
+    /**
+     * Visits a property of the bean.
+     *
+     * @param name             The name of the property
+     * @param type             The erased type of the property, either a {@link Class} or a class name
+     * @param readMethodName   The name of the getter
+     * @param writeMethodName  The name of the setter, or null if the property is read only
+     * @param writeReturnType  The erased return type of the setter, either a {@link Class} or a class name
+     */
+    public void visitProperty(String name, Object type, String readMethodName, @Nullable String writeMethodName, @Nullable Object writeReturnType) {
+        properties.add(new PropertyData(name, type, readMethodName, writeMethodName, writeReturnType == null ? void.class : writeReturnType));
+    }
+
+    /**
+     * Visits the public constructor used to instantiate the bean.
+     *
+     * @param arguments The names of the constructor arguments to their erased types
+     */
+    public void visitConstructor(Map<String, Object> arguments) {
+        this.constructorArguments = new LinkedHashMap<>(arguments);
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        try (OutputStream outputStream = classWriterOutputVisitor.visitClass(introspectionClassName)) {
+            outputStream.write(generateClassBytes().toByteArray());
+        }
+    }
+
+    private ClassWriter generateClassBytes() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(
+                V1_8,
+                ACC_PUBLIC | ACC_FINAL | ACC_SYNTHETIC,
+                introspectionType.getInternalName(),
+                null,
+                TYPE_ABSTRACT_BEAN_INTROSPECTION.getInternalName(),
+                null
+        );
+        writeConstructor(classWriter);
+        writeReadMethod(classWriter);
+        writeWriteMethod(classWriter);
+        if (constructorArguments != null) {
+            writeInstantiateMethod(classWriter);
+        }
+        classWriter.visitEnd();
+        return classWriter;
+    }
+
+    private void writeConstructor(ClassWriter classWriter) {
+        GeneratorAdapter constructor = startConstructor(classWriter);
+        constructor.loadThis();
+        constructor.push(beanType);
+        constructor.push(constructorArguments != null);
+        constructor.invokeConstructor(TYPE_ABSTRACT_BEAN_INTROSPECTION, METHOD_SUPER_CONSTRUCTOR);
+
+        for (PropertyData property : properties) {
+            constructor.loadThis();
+            constructor.push(property.name);
+            pushClass(constructor, property.type);
+            constructor.push(property.writeMethodName == null);
+            constructor.invokeVirtual(introspectionType, METHOD_ADD_PROPERTY);
+        }
+        if (constructorArguments != null) {
+            for (Map.Entry<String, Object> argument : constructorArguments.entrySet()) {
+                constructor.loadThis();
+                constructor.push(argument.getKey());
+                pushClass(constructor, argument.getValue());
+                constructor.invokeVirtual(introspectionType, METHOD_ADD_CONSTRUCTOR_ARGUMENT);
+            }
+        }
+        constructor.returnValue();
+        constructor.endMethod();
+    }
+
+    private void writeReadMethod(ClassWriter classWriter) {
+        GeneratorAdapter readMethod = startMethod(classWriter, METHOD_READ_INTERNAL);
+        int[] indices = new int[properties.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        readMethod.loadArg(0);
+        readMethod.tableSwitch(indices, new TableSwitchGenerator() {
+            @Override
+            public void generateCase(int key, Label end) {
+                PropertyData property = properties.get(key);
+                Type propertyType = getTypeReference(property.type);
+                readMethod.loadArg(1);
+                readMethod.checkCast(beanType);
+                invokeBeanMethod(readMethod, property.readMethodName, Type.getMethodDescriptor(propertyType));
+                pushBoxPrimitiveIfNecessary(property.type, readMethod);
+                readMethod.returnValue();
+            }
+
+            @Override
+            public void generateDefault() {
+                throwUnknownProperty(readMethod);
+            }
+        });
+        readMethod.endMethod();
+    }
+
+    private void writeWriteMethod(ClassWriter classWriter) {
+        GeneratorAdapter writeMethod = startMethod(classWriter, METHOD_WRITE_INTERNAL);
+        List<Integer> writable = new ArrayList<>(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            if (properties.get(i).writeMethodName != null) {
+                writable.add(i);
+            }
+        }
+        int[] indices = writable.stream().mapToInt(Integer::intValue).toArray();
+        writeMethod.loadArg(0);
+        writeMethod.tableSwitch(indices, new TableSwitchGenerator() {
+            @Override
+            public void generateCase(int key, Label end) {
+                PropertyData property = properties.get(key);
+                Type propertyType = getTypeReference(property.type);
+                Type returnType = getTypeReference(property.writeReturnType);
+                writeMethod.loadArg(1);
+                writeMethod.checkCast(beanType);
+                writeMethod.loadArg(2);
+                pushCastToType(writeMethod, property.type);
+                invokeBeanMethod(writeMethod, property.writeMethodName, Type.getMethodDescriptor(returnType, propertyType));
+                if (returnType.getSize() == 2) {
+                    writeMethod.pop2();
+                } else if (returnType.getSize() == 1) {
+                    writeMethod.pop();
+                }
+                writeMethod.returnValue();
+            }
+
+            @Override
+            public void generateDefault() {
+                throwUnknownProperty(writeMethod);
+            }
+        });
+        writeMethod.endMethod();
+    }
+
+    private void writeInstantiateMethod(ClassWriter classWriter) {
+        GeneratorAdapter instantiateMethod = startMethod(classWriter, METHOD_INSTANTIATE_INTERNAL);
+        instantiateMethod.newInstance(beanType);
+        instantiateMethod.dup();
+        Type[] argumentTypes = new Type[constructorArguments.size()];
+        int i = 0;
+        for (Object argumentType : constructorArguments.values()) {
+            argumentTypes[i] = getTypeReference(argumentType);
+            instantiateMethod.loadArg(0);
+            instantiateMethod.push(i);
+            instantiateMethod.arrayLoad(TYPE_OBJECT);
+            pushCastToType(instantiateMethod, argumentType);
+            i++;
+        }
+        instantiateMethod.invokeConstructor(beanType, new Method(CONSTRUCTOR_NAME, Type.VOID_TYPE, argumentTypes));
+        instantiateMethod.returnValue();
+        instantiateMethod.endMethod();
+    }
+
+    private GeneratorAdapter startMethod(ClassWriter classWriter, Method method) {
+        return new GeneratorAdapter(
+                classWriter.visitMethod(ACC_PROTECTED, method.getName(), method.getDescriptor(), null, null),
+                ACC_PROTECTED,
+                method.getName(),
+                method.getDescriptor()
+        );
+    }
+
+    private void invokeBeanMethod(GeneratorAdapter generator, String methodName, String descriptor) {
+        generator.visitMethodInsn(
+                isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                beanType.getInternalName(),
+                methodName,
+                descriptor,
+                isInterface
+        );
+    }
+
+    private void throwUnknownProperty(GeneratorAdapter generator) {
+        generator.loadThis();
+        generator.loadArg(0);
+        generator.invokeVirtual(introspectionType, METHOD_UNKNOWN_PROPERTY);
+        generator.throwException();
+    }
+
+    private static void pushClass(GeneratorAdapter generator, Object type) {
+        if (type instanceof Class && ((Class) type).isPrimitive()) {
+            Type wrapperType = Type.getType(ReflectionUtils.getWrapperType((Class) type));
+            generator.visitFieldInsn(GETSTATIC, wrapperType.getInternalName(), "TYPE", TYPE_CLASS.getDescriptor());
+        } else {
+            generator.push(getTypeReference(type));
+        }
+    }
+
+    /**
+     * The data of a visited property.
+     */
+    private static final class PropertyData {
+        private final String name;
+        private final Object type;
+        private final String readMethodName;
+        private final String writeMethodName;
+        private final Object writeReturnType;
+
+        PropertyData(String name, Object type, String readMethodName, String writeMethodName, Object writeReturnType) {
+            this.name = name;
+            this.type = type;
+            this.readMethodName = readMethodName;
+            this.writeMethodName = writeMethodName;
+            this.writeReturnType = writeReturnType;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env
+
+import spock.lang.Specification
+
+class PropertyKeyIndexSpec extends Specification {
+
+    void "test keys are resolved by prefix in insertion order"() {
+        given:
+        PropertyKeyIndex index = new PropertyKeyIndex()
+        index.add("foo.bar.one")
+        index.add("foo.baz")
+        index.add("foo.bar.two")
+        index.add("foobar.one")
+        index.add("foo.baz")
+
+        expect:
+        index.keysWithPrefix("foo") == ["foo.bar.one", "foo.baz", "foo.bar.two"]
+        index.keysWithPrefix("foo.bar") == ["foo.bar.one", "foo.bar.two"]
+        index.keysWithPrefix("foo.baz") == []
+        index.keysWithPrefix("fo") == []
+        index.hasKeysWithPrefix("foo.bar")
+        !index.hasKeysWithPrefix("foo.baz")
+        !index.hasKeysWithPrefix("other")
+
+        when:
+        index.clear()
+
+        then:
+        !index.hasKeysWithPrefix("foo")
+        index.keysWithPrefix("foo") == []
+    }
+
+    void "test property resolver resolves sub maps from the index"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['datasources.one.url': 'a', 'datasources.two.url': 'b', 'datasources-other': 'c'])
+        )
+
+        expect:
+        resolver.containsProperties("datasources")
+        resolver.containsProperties("datasources.one")
+        !resolver.containsProperties("datasources.three")
+        resolver.getProperties("datasources") == ['one.url': 'a', 'two.url': 'b']
+        resolver.getProperty("datasources", Map).get() == [one: [url: 'a'], two: [url: 'b']]
+    }
+}
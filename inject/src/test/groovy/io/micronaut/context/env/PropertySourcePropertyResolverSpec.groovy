@@ -299,4 +299,22 @@ class PropertySourcePropertyResolverSpec extends Specification {
         applicationContext.getProperty('micronaut.security.enabled', Boolean).get() == true
 
     }
+
+    void "test whether a property is affected by changed keys"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(PropertySource.of("test", [:]))
+
+        expect:
+        resolver.isAffectedByChange(name, changedKeys) == affected
+
+        where:
+        name               | changedKeys             | affected
+        'foo.bar'          | ['foo.bar']             | true
+        'foo.bar-baz'      | ['foo.bar.baz']         | true
+        'foo.bar'          | ['foo.bar.baz']         | true
+        'foo.bar.baz'      | ['foo']                 | true
+        'foo.list[0]'      | ['foo.list']            | true
+        'foo.bar'          | ['foo.barbaz']          | false
+        'foo.bar'          | ['other', 'foo.ba']     | false
+    }
 }
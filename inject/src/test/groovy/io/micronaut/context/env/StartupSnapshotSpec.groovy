@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env
+
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+class StartupSnapshotSpec extends Specification {
+
+    File file
+
+    void setup() {
+        file = File.createTempFile("micronaut", ".snapshot")
+        file.delete()
+    }
+
+    void cleanup() {
+        file.delete()
+    }
+
+    void "test a snapshot is written on the first start"() {
+        when:
+        ApplicationContext context = ApplicationContext.build("foo").snapshot(file).start()
+
+        then:
+        file.exists()
+        context.getProperty("foo", String).get() == "bar"
+
+        when:
+        Optional<StartupSnapshot> snapshot = StartupSnapshot.read(file, StartupSnapshot.fingerprint(file, "foo"))
+
+        then:
+        snapshot.isPresent()
+        snapshot.get().environments.containsAll(["foo", Environment.TEST])
+        snapshot.get().propertySourceName == Environment.DEFAULT_NAME
+        snapshot.get().propertySources.any { it.get("foo") == "bar" }
+        !snapshot.get().propertySources.any { it.name == SystemPropertiesPropertySource.NAME }
+        !StartupSnapshot.read(file, StartupSnapshot.fingerprint(file, "other")).isPresent()
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the environment is restored from a snapshot"() {
+        given:
+        String fingerprint = StartupSnapshot.fingerprint(file, "foo")
+        new StartupSnapshot(
+                fingerprint,
+                ["snapshotted", "foo"] as LinkedHashSet,
+                null,
+                Environment.DEFAULT_NAME,
+                [PropertySource.of("application-foo", [foo: "snapshot", "list": [1, 2L], nested: [a: 1.5d, b: null]])],
+                [] as Set
+        ).write(file)
+        long lastModified = file.lastModified()
+
+        when:
+        ApplicationContext context = ApplicationContext.build("foo")
+                .snapshot(file)
+                .properties(other: "value")
+                .start()
+
+        then:
+        context.environment.activeNames.contains("snapshotted")
+        context.getProperty("foo", String).get() == "snapshot"
+        context.getProperty("list", List).get() == [1, 2L]
+        context.getProperty("nested.a", Double).get() == 1.5d
+        context.getProperty("other", String).get() == "value"
+        file.lastModified() == lastModified
+
+        cleanup:
+        context.close()
+    }
+
+    void "test property values that cannot be stored prevent writing a snapshot"() {
+        given:
+        StartupSnapshot snapshot = new StartupSnapshot(
+                "fingerprint",
+                ["foo"] as Set,
+                null,
+                Environment.DEFAULT_NAME,
+                [PropertySource.of("test", [foo: new Object()])],
+                [] as Set
+        )
+
+        when:
+        snapshot.write(file)
+
+        then:
+        thrown(IOException)
+        !file.exists()
+    }
+}
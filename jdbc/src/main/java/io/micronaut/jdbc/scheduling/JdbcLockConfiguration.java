@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jdbc.scheduling;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.ArgumentUtils;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Configuration for the {@link JdbcLockProvider}.
+ *
+ * @since 1.1
+ */
+@ConfigurationProperties(JdbcLockConfiguration.PREFIX)
+public class JdbcLockConfiguration {
+
+    /**
+     * The prefix to use to configure the JDBC lock provider.
+     */
+    public static final String PREFIX = "micronaut.scheduler.lock.jdbc";
+
+    /**
+     * The default table name.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_TABLE_NAME = "scheduled_lock";
+
+    /**
+     * The default data source name.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_DATASOURCE = "default";
+
+    private String tableName = DEFAULT_TABLE_NAME;
+    private String datasource = DEFAULT_DATASOURCE;
+
+    /**
+     * The name of the table that holds the locks. Default value ({@value #DEFAULT_TABLE_NAME}).
+     *
+     * @return The table name
+     */
+    public @Nonnull String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * @param tableName The table name
+     */
+    public void setTableName(@Nonnull String tableName) {
+        ArgumentUtils.requireNonNull("tableName", tableName);
+        this.tableName = tableName;
+    }
+
+    /**
+     * The name of the data source that holds the lock table. Default value ({@value #DEFAULT_DATASOURCE}).
+     *
+     * @return The data source name
+     */
+    public @Nonnull String getDatasource() {
+        return datasource;
+    }
+
+    /**
+     * @param datasource The data source name
+     */
+    public void setDatasource(@Nonnull String datasource) {
+        ArgumentUtils.requireNonNull("datasource", datasource);
+        this.datasource = datasource;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jdbc.scheduling;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.lock.InMemoryLockProvider;
+import io.micronaut.scheduling.lock.LockConfiguration;
+import io.micronaut.scheduling.lock.LockProvider;
+import io.micronaut.scheduling.lock.SimpleLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link LockProvider} that holds the locks in a table of a JDBC {@link DataSource}, so that a scheduled task runs
+ * on at most one instance of an application at a time. The table must exist, for example:
+ *
+ * <pre>
+ * CREATE TABLE scheduled_lock (
+ *     name VARCHAR(64) NOT NULL PRIMARY KEY,
+ *     lock_until TIMESTAMP NOT NULL,
+ *     locked_at TIMESTAMP NOT NULL,
+ *     locked_by VARCHAR(255) NOT NULL
+ * )
+ * </pre>
+ *
+ * <p>A lock is acquired by inserting its row, or by updating the row if the lock has expired, so no database lock is
+ * held while the task runs. The expiry times are taken from the clock of each instance, so the clocks of the
+ * instances should be synchronized.</p>
+ *
+ * <p>Each provider identifies itself with the host name and a random id, and a lock is only released if the row is
+ * still held by the same provider and acquisition, so a task that outlived its lock does not release the lock of
+ * the instance that acquired it next. The acquisition time is stored with a precision of seconds so that it compares
+ * equal in every database.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+@Requires(classes = LockProvider.class)
+@Requires(beans = DataSource.class)
+@Replaces(InMemoryLockProvider.class)
+public class JdbcLockProvider implements LockProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcLockProvider.class);
+
+    private final DataSource dataSource;
+    private final String insertSql;
+    private final String updateSql;
+    private final String unlockSql;
+    private final String lockedBy;
+    private final Set<String> existingLocks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param beanLocator   To look up the data source
+     * @param configuration The JDBC lock configuration
+     */
+    @Inject
+    public JdbcLockProvider(BeanLocator beanLocator, JdbcLockConfiguration configuration) {
+        this(beanLocator.getBean(DataSource.class, Qualifiers.byName(configuration.getDatasource())), configuration.getTableName());
+    }
+
+    /**
+     * @param dataSource The data source that holds the lock table
+     * @param tableName  The name of the lock table
+     */
+    public JdbcLockProvider(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.insertSql = "INSERT INTO " + tableName + " (name, lock_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+        this.updateSql = "UPDATE " + tableName + " SET lock_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND lock_until <= ?";
+        this.unlockSql = "UPDATE " + tableName + " SET lock_until = ? WHERE name = ? AND locked_by = ? AND locked_at = ?";
+        this.lockedBy = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @Override
+    public Optional<SimpleLock> lock(LockConfiguration lockConfiguration) {
+        String name = lockConfiguration.getName();
+        Instant now = Instant.now();
+        Timestamp lockedAt = Timestamp.from(now.truncatedTo(ChronoUnit.SECONDS));
+        Timestamp lockUntil = Timestamp.from(lockConfiguration.getLockAtMostUntil(now));
+        try (Connection connection = dataSource.getConnection()) {
+            boolean locked;
+            if (!existingLocks.contains(name) && insert(connection, name, lockUntil, lockedAt)) {
+                locked = true;
+            } else {
+                locked = update(connection, name, lockUntil, lockedAt, Timestamp.from(now));
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            existingLocks.add(name);
+            return locked ? Optional.of(new JdbcLock(lockConfiguration, now, lockedAt)) : Optional.empty();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error acquiring lock [" + name + "]: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean insert(Connection connection, String name, Timestamp lockUntil, Timestamp lockedAt) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            statement.setString(1, name);
+            statement.setTimestamp(2, lockUntil);
+            statement.setTimestamp(3, lockedAt);
+            statement.setString(4, lockedBy);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            if (!isIntegrityConstraintViolation(e)) {
+                throw e;
+            }
+            // the row already exists
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Lock [" + name + "] already exists: " + e.getMessage(), e);
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            return false;
+        }
+    }
+
+    private boolean update(Connection connection, String name, Timestamp lockUntil, Timestamp lockedAt, Timestamp now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+            statement.setTimestamp(1, lockUntil);
+            statement.setTimestamp(2, lockedAt);
+            statement.setString(3, lockedBy);
+            statement.setString(4, name);
+            statement.setTimestamp(5, now);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        // SQLState class 23 is an integrity constraint violation, such as a duplicate primary key
+        String sqlState = e.getSQLState();
+        return e instanceof SQLIntegrityConstraintViolationException || (sqlState != null && sqlState.startsWith("23"));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * A lock held in the lock table.
+     */
+    private final class JdbcLock implements SimpleLock {
+        private final LockConfiguration lockConfiguration;
+        private final Instant lockedAt;
+        private final Timestamp storedLockedAt;
+
+        /**
+         * @param lockConfiguration The lock configuration
+         * @param lockedAt          The time the lock was acquired
+         * @param storedLockedAt    The acquisition time stored in the lock table
+         */
+        JdbcLock(LockConfiguration lockConfiguration, Instant lockedAt, Timestamp storedLockedAt) {
+            this.lockConfiguration = lockConfiguration;
+            this.lockedAt = lockedAt;
+            this.storedLockedAt = storedLockedAt;
+        }
+
+        @Override
+        public void unlock() {
+            Timestamp unlockTime = Timestamp.from(lockConfiguration.getUnlockTime(lockedAt, Instant.now()));
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(unlockSql)) {
+                statement.setTimestamp(1, unlockTime);
+                statement.setString(2, lockConfiguration.getName());
+                statement.setString(3, lockedBy);
+                statement.setTimestamp(4, storedLockedAt);
+                statement.executeUpdate();
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Error releasing lock [" + lockConfiguration.getName() + "]: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jdbc.scheduling
+
+import io.micronaut.scheduling.lock.LockConfiguration
+import io.micronaut.scheduling.lock.SimpleLock
+import org.h2.jdbcx.JdbcDataSource
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.time.Duration
+
+class JdbcLockProviderSpec extends Specification {
+
+    @Shared JdbcDataSource dataSource = new JdbcDataSource(url: 'jdbc:h2:mem:lockDb;DB_CLOSE_DELAY=-1')
+
+    void setupSpec() {
+        Connection connection = dataSource.getConnection()
+        connection.createStatement().execute('''CREATE TABLE scheduled_lock (
+                name VARCHAR(64) NOT NULL PRIMARY KEY,
+                lock_until TIMESTAMP NOT NULL,
+                locked_at TIMESTAMP NOT NULL,
+                locked_by VARCHAR(255) NOT NULL)''')
+        connection.close()
+    }
+
+    void "test a lock is held until it is released"() {
+        given:
+        JdbcLockProvider first = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        JdbcLockProvider second = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        LockConfiguration configuration = new LockConfiguration("job", Duration.ofMinutes(1), Duration.ZERO)
+
+        when:
+        Optional<SimpleLock> lock = first.lock(configuration)
+
+        then:
+        lock.present
+        !second.lock(configuration).present
+        !first.lock(configuration).present
+
+        when:
+        lock.get().unlock()
+        lock = second.lock(configuration)
+
+        then:
+        lock.present
+
+        cleanup:
+        lock?.ifPresent { it.unlock() }
+    }
+
+    void "test a released lock is held for the lock at least for duration"() {
+        given:
+        JdbcLockProvider lockProvider = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        LockConfiguration configuration = new LockConfiguration("at-least", Duration.ofMinutes(1), Duration.ofMinutes(1))
+
+        when:
+        lockProvider.lock(configuration).get().unlock()
+
+        then:
+        !new JdbcLockProvider(dataSource, 'scheduled_lock').lock(configuration).present
+    }
+
+    void "test an expired lock can be acquired"() {
+        given:
+        JdbcLockProvider lockProvider = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        LockConfiguration configuration = new LockConfiguration("expired", Duration.ofMillis(10), Duration.ZERO)
+
+        when:
+        lockProvider.lock(configuration)
+        Thread.sleep(50)
+
+        then:
+        new JdbcLockProvider(dataSource, 'scheduled_lock').lock(configuration).present
+    }
+
+    void "test releasing an expired lock does not release the lock of the next holder"() {
+        given:
+        JdbcLockProvider first = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        JdbcLockProvider second = new JdbcLockProvider(dataSource, 'scheduled_lock')
+        LockConfiguration configuration = new LockConfiguration("outlived", Duration.ofMillis(10), Duration.ZERO)
+
+        when:
+        SimpleLock expired = first.lock(configuration).get()
+        Thread.sleep(50)
+        SimpleLock lock = second.lock(new LockConfiguration("outlived", Duration.ofMinutes(1), Duration.ZERO)).get()
+        expired.unlock()
+
+        then:
+        !new JdbcLockProvider(dataSource, 'scheduled_lock').lock(configuration).present
+
+        cleanup:
+        lock?.unlock()
+    }
+
+    void "test errors other than an existing lock are not ignored"() {
+        given:
+        JdbcLockProvider lockProvider = new JdbcLockProvider(dataSource, 'missing_lock')
+
+        when:
+        lockProvider.lock(new LockConfiguration("missing", Duration.ofMinutes(1), Duration.ZERO))
+
+        then:
+        IllegalStateException e = thrown()
+        e.message.contains("missing")
+    }
+}
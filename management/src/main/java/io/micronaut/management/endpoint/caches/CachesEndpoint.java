@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.caches;
+
+import io.micronaut.cache.CacheManager;
+import io.micronaut.cache.CacheStatistics;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Selector;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotBlank;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Exposes an {@link Endpoint} to display the configured caches and their statistics. Statistics are only
+ * available for caches configured with {@code record-stats} enabled.</p>
+ *
+ * @since 1.1
+ */
+@Endpoint(CachesEndpoint.NAME)
+public class CachesEndpoint {
+
+    /**
+     * Endpoint name.
+     */
+    public static final String NAME = "caches";
+
+    private final CacheManager<?> cacheManager;
+
+    /**
+     * @param cacheManager The {@link CacheManager}
+     */
+    public CachesEndpoint(CacheManager<?> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * @return The caches keyed by name
+     */
+    @Read
+    public Map<String, Object> getCaches() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            caches.put(cacheName, cacheData(cacheManager.getCache(cacheName)));
+        }
+        Map<String, Object> data = new LinkedHashMap<>(1);
+        data.put(NAME, caches);
+        return data;
+    }
+
+    /**
+     * @param name The name of the cache
+     * @return The data of the named cache, or null if there is no such cache
+     */
+    @Read
+    @Nullable
+    public Map<String, Object> getCache(@NotBlank @Selector String name) {
+        if (!cacheManager.getCacheNames().contains(name)) {
+            return null;
+        }
+        return cacheData(cacheManager.getCache(name));
+    }
+
+    /**
+     * Builds the data returned for a cache.
+     *
+     * @param cache The cache
+     * @return The cache data
+     */
+    protected Map<String, Object> cacheData(SyncCache<?> cache) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", cache.getName());
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache != null) {
+            data.put("implementation", nativeCache.getClass().getName());
+        }
+        Optional<CacheStatistics> statistics = cache.getStatistics();
+        if (statistics.isPresent()) {
+            CacheStatistics stats = statistics.get();
+            Map<String, Object> statsData = new LinkedHashMap<>();
+            statsData.put("hitCount", stats.getHitCount());
+            statsData.put("missCount", stats.getMissCount());
+            statsData.put("hitRate", stats.getHitRate());
+            statsData.put("loadSuccessCount", stats.getLoadSuccessCount());
+            statsData.put("loadFailureCount", stats.getLoadFailureCount());
+            statsData.put("totalLoadTime", stats.getTotalLoadTime());
+            statsData.put("averageLoadPenalty", stats.getAverageLoadPenalty());
+            statsData.put("evictionCount", stats.getEvictionCount());
+            statsData.put("evictionWeight", stats.getEvictionWeight());
+            statsData.put("estimatedSize", stats.getEstimatedSize());
+            stats.getWeightedSize().ifPresent(weightedSize -> statsData.put("weightedSize", weightedSize));
+            data.put("statistics", statsData);
+        }
+        return data;
+    }
+}
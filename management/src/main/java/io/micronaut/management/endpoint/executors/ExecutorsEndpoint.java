@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.executors;
+
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Selector;
+import io.micronaut.scheduling.executor.ExecutorMetrics;
+import io.micronaut.scheduling.executor.ExecutorMetricsRegistry;
+import io.micronaut.scheduling.executor.TaskTimer;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotBlank;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Exposes an {@link Endpoint} to display the metrics of the executors that have been created, such as the queue
+ * depth, the number of active threads, the task wait and execution times and the number of rejected tasks.</p>
+ *
+ * @since 1.1
+ */
+@Endpoint(ExecutorsEndpoint.NAME)
+public class ExecutorsEndpoint {
+
+    /**
+     * Endpoint name.
+     */
+    public static final String NAME = "executors";
+
+    private static final double TARGET_SATURATION = 0.75;
+
+    private final ExecutorMetricsRegistry metricsRegistry;
+
+    /**
+     * @param metricsRegistry The {@link ExecutorMetricsRegistry}
+     */
+    public ExecutorsEndpoint(ExecutorMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * @return The executors keyed by name
+     */
+    @Read
+    public Map<String, Object> getExecutors() {
+        Map<String, Object> executors = new LinkedHashMap<>();
+        for (ExecutorMetrics metrics : metricsRegistry.getMetrics()) {
+            executors.put(metrics.getName(), executorData(metrics));
+        }
+        Map<String, Object> data = new LinkedHashMap<>(1);
+        data.put(NAME, executors);
+        return data;
+    }
+
+    /**
+     * @param name The name of the executor
+     * @return The data of the named executor, or null if there is no such executor
+     */
+    @Read
+    @Nullable
+    public Map<String, Object> getExecutor(@NotBlank @Selector String name) {
+        return metricsRegistry.findMetrics(name).map(this::executorData).orElse(null);
+    }
+
+    /**
+     * Builds the data returned for an executor.
+     *
+     * @param metrics The metrics of the executor
+     * @return The executor data
+     */
+    protected Map<String, Object> executorData(ExecutorMetrics metrics) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", metrics.getName());
+        data.put("type", metrics.getType());
+        data.put("queueSize", metrics.getQueueSize());
+        data.put("activeCount", metrics.getActiveCount());
+        data.put("poolSize", metrics.getPoolSize());
+        if (metrics.getLargestPoolSize() >= 0) {
+            data.put("largestPoolSize", metrics.getLargestPoolSize());
+        }
+        if (metrics.getMaximumPoolSize() >= 0) {
+            data.put("maximumPoolSize", metrics.getMaximumPoolSize());
+            data.put("saturation", metrics.getSaturation());
+        }
+        data.put("averageActiveCount", metrics.getAverageActiveCount());
+        data.put("recommendedMaximumPoolSize", metrics.getRecommendedMaximumPoolSize(TARGET_SATURATION));
+        data.put("submittedCount", metrics.getSubmittedCount());
+        data.put("completedCount", metrics.getCompletedCount());
+        data.put("rejectedCount", metrics.getRejectedCount());
+        data.put("waitTime", timerData(metrics.getWaitTime()));
+        data.put("executionTime", timerData(metrics.getExecutionTime()));
+        return data;
+    }
+
+    private Map<String, Object> timerData(TaskTimer timer) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("count", timer.getCount());
+        data.put("mean", timer.getMean(TimeUnit.MILLISECONDS));
+        data.put("p50", timer.getPercentile(0.5, TimeUnit.MILLISECONDS));
+        data.put("p99", timer.getPercentile(0.99, TimeUnit.MILLISECONDS));
+        data.put("max", timer.getMax(TimeUnit.MILLISECONDS));
+        return data;
+    }
+}
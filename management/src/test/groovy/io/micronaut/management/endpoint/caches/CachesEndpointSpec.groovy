@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.caches
+
+import io.micronaut.cache.CacheManager
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.env.Environment
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+class CachesEndpointSpec extends Specification {
+
+    void "test caches endpoint"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'endpoints.caches.sensitive': false,
+                'micronaut.caches.stats.record-stats': true,
+                'micronaut.caches.plain.maximum-size': 10
+        ], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        CacheManager cacheManager = embeddedServer.applicationContext.getBean(CacheManager)
+        cacheManager.getCache("stats").put("one", 1)
+        cacheManager.getCache("stats").get("one", Integer)
+        cacheManager.getCache("stats").get("two", Integer)
+
+        when:
+        def response = rxClient.exchange("/caches", Map).blockingFirst()
+        Map<String, Map<String, Object>> caches = response.body().caches
+
+        then:
+        response.code() == HttpStatus.OK.code
+        caches.keySet() == ["stats", "plain"] as Set
+        caches.stats.statistics.hitCount == 1
+        caches.stats.statistics.missCount == 1
+        caches.stats.statistics.hitRate == 0.5
+        caches.stats.statistics.estimatedSize == 1
+        caches.plain.name == "plain"
+        !caches.plain.containsKey("statistics")
+
+        when:
+        response = rxClient.exchange("/caches/stats", Map).blockingFirst()
+
+        then:
+        response.body().name == "stats"
+        response.body().statistics.hitCount == 1
+
+        when:
+        rxClient.exchange("/caches/missing", Map).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+
+        cleanup:
+        rxClient.close()
+        embeddedServer.close()
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.executors
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.env.Environment
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+
+class ExecutorsEndpointSpec extends Specification {
+
+    void "test executors endpoint"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'endpoints.executors.sensitive': false,
+                'micronaut.executors.pool.type': 'fixed',
+                'micronaut.executors.pool.nThreads': 2
+        ], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        ExecutorService pool = embeddedServer.applicationContext.getBean(ExecutorService, Qualifiers.byName("pool"))
+        pool.submit({ 1 }).get()
+
+        when:
+        def response = rxClient.exchange("/executors", Map).blockingFirst()
+        Map<String, Map<String, Object>> executors = response.body().executors
+
+        then:
+        response.code() == HttpStatus.OK.code
+        executors.pool.type == "FIXED"
+        executors.pool.maximumPoolSize == 2
+        executors.pool.submittedCount == 1
+        executors.pool.rejectedCount == 0
+        executors.pool.waitTime.count == 1
+
+        when:
+        response = rxClient.exchange("/executors/pool", Map).blockingFirst()
+
+        then:
+        response.body().name == "pool"
+        response.body().queueSize == 0
+
+        when:
+        rxClient.exchange("/executors/missing", Map).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+
+        cleanup:
+        rxClient.close()
+        embeddedServer.close()
+    }
+}
@@ -17,6 +17,11 @@ package io.micronaut.cache;
 
 import io.micronaut.core.type.Argument;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -112,4 +117,47 @@ public interface AsyncCache<C> extends Cache<C> {
     default <T> CompletableFuture<T> get(Object key, Class<T> requiredType, Supplier<T> supplier) {
         return get(key, Argument.of(requiredType), supplier);
     }
+
+    /**
+     * Resolve the values for the given keys. Keys that have no value, or whose value cannot be converted to the
+     * required type, are omitted from the result.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A map of the found values in the iteration order of the keys
+     * @since 1.1
+     */
+    default <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+        List<Object> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<Optional<T>>> futures = new ArrayList<>(keyList.size());
+        for (Object key : keyList) {
+            futures.add(get(key, requiredType));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(aVoid -> {
+            Map<Object, T> values = new LinkedHashMap<>(keyList.size());
+            for (int i = 0; i < keyList.size(); i++) {
+                Optional<T> value = futures.get(i).join();
+                if (value.isPresent()) {
+                    values.put(keyList.get(i), value.get());
+                }
+            }
+            return values;
+        });
+    }
+
+    /**
+     * <p>Cache the specified values using their keys.</p>
+     *
+     * @param values The values keyed by the keys they should be associated with
+     * @return A future with a boolean indicating whether the operation was successful or not
+     * @since 1.1
+     */
+    default CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            futures.add(put(entry.getKey(), entry.getValue()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(aVoid -> true);
+    }
 }
@@ -21,6 +21,7 @@ import io.micronaut.runtime.ApplicationConfiguration;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 
@@ -43,6 +44,12 @@ public class CacheConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final boolean DEFAULT_TESTMODE = false;
 
+    /**
+     * The default record stats value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_RECORD_STATS = false;
+
     protected Charset charset;
 
     private Integer initialCapacity;
@@ -50,7 +57,9 @@ public class CacheConfiguration {
     private Long maximumWeight;
     private Duration expireAfterWrite;
     private Duration expireAfterAccess;
+    private Double refreshAheadFactor;
     private boolean testMode = DEFAULT_TESTMODE;
+    private boolean recordStats = DEFAULT_RECORD_STATS;
     private final String cacheName;
 
     /**
@@ -110,6 +119,17 @@ public class CacheConfiguration {
         return Optional.ofNullable(expireAfterAccess);
     }
 
+    /**
+     * The fraction of the {@link #getExpireAfterWrite() expire after write} duration after which a cached value is
+     * reloaded in the background when it is read, so that frequently read values do not expire.
+     *
+     * @return The refresh ahead factor
+     * @since 1.1
+     */
+    public OptionalDouble getRefreshAheadFactor() {
+        return refreshAheadFactor == null ? OptionalDouble.empty() : OptionalDouble.of(refreshAheadFactor);
+    }
+
     /**
      * @return The charset used to serialize and deserialize values
      */
@@ -156,6 +176,15 @@ public class CacheConfiguration {
         this.expireAfterAccess = expireAfterAccess;
     }
 
+    /**
+     * @param refreshAheadFactor The fraction of the expire after write duration, between 0 and 1, after which a
+     *                           cached value is reloaded in the background
+     * @since 1.1
+     */
+    public void setRefreshAheadFactor(Double refreshAheadFactor) {
+        this.refreshAheadFactor = refreshAheadFactor;
+    }
+
     /**
      * @param charset The charset used to serialize and deserialize values
      */
@@ -163,6 +192,24 @@ public class CacheConfiguration {
         this.charset = charset;
     }
 
+    /**
+     * @return Whether the cache records statistics such as hits, misses, load times and evictions
+     * @since 1.1
+     */
+    public boolean isRecordStats() {
+        return recordStats;
+    }
+
+    /**
+     * Set whether the cache records statistics. Default value ({@value #DEFAULT_RECORD_STATS}).
+     *
+     * @param recordStats True if statistics should be recorded
+     * @since 1.1
+     */
+    public void setRecordStats(boolean recordStats) {
+        this.recordStats = recordStats;
+    }
+
     /**
      * Some caches have a test mode. For example to to enable the eager execution of cleanup operations making it
      * easier to test.
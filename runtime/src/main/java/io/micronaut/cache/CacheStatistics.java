@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import java.util.OptionalLong;
+
+/**
+ * <p>An immutable snapshot of the statistics of a cache, as returned by {@link SyncCache#getStatistics()}.</p>
+ *
+ * <p>Load statistics include both values loaded by the cache itself and values loaded by the
+ * {@link io.micronaut.cache.interceptor.CacheInterceptor} after a cache miss.</p>
+ *
+ * @since 1.1
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long evictionWeight;
+    private final long estimatedSize;
+    private final Long weightedSize;
+
+    /**
+     * @param hitCount         The number of lookups that returned a cached value
+     * @param missCount        The number of lookups that did not find a cached value
+     * @param loadSuccessCount The number of values loaded successfully
+     * @param loadFailureCount The number of loads that failed
+     * @param totalLoadTime    The total time spent loading values in nanoseconds
+     * @param evictionCount    The number of entries evicted
+     * @param evictionWeight   The sum of the weights of the evicted entries
+     * @param estimatedSize    The approximate number of entries in the cache
+     * @param weightedSize     The sum of the weights of the entries, or null if the cache is not bounded by weight
+     */
+    public CacheStatistics(
+            long hitCount,
+            long missCount,
+            long loadSuccessCount,
+            long loadFailureCount,
+            long totalLoadTime,
+            long evictionCount,
+            long evictionWeight,
+            long estimatedSize,
+            Long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+        this.estimatedSize = estimatedSize;
+        this.weightedSize = weightedSize;
+    }
+
+    /**
+     * @return The number of lookups that returned a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return The number of lookups that did not find a cached value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return The ratio of hits to lookups, or 1 if there were no lookups
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return The number of values loaded successfully
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * @return The number of loads that failed
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return The total time spent loading values in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * @return The average time spent loading a value in nanoseconds
+     */
+    public double getAverageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * @return The number of entries evicted
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return The sum of the weights of the evicted entries
+     */
+    public long getEvictionWeight() {
+        return evictionWeight;
+    }
+
+    /**
+     * @return The approximate number of entries in the cache
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * @return The sum of the weights of the entries if the cache is bounded by weight
+     */
+    public OptionalLong getWeightedSize() {
+        return weightedSize == null ? OptionalLong.empty() : OptionalLong.of(weightedSize);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictionCount=" + evictionCount +
+                ", evictionWeight=" + evictionWeight +
+                ", estimatedSize=" + estimatedSize +
+                ", weightedSize=" + weightedSize +
+                '}';
+    }
+}
@@ -16,7 +16,11 @@
 package io.micronaut.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.convert.ConversionContext;
@@ -25,7 +29,12 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.inject.qualifiers.Qualifiers;
 
 import javax.inject.Inject;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -45,6 +54,7 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
     private final com.github.benmanes.caffeine.cache.Cache cache;
     private final ApplicationContext applicationContext;
     private final ConversionService<?> conversionService;
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
 
     /**
      * Construct a sync cache implementation with given configurations.
@@ -108,6 +118,36 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
         return (T) value;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Map<Object, T> getAll(Collection<?> keys, Argument<T> requiredType) {
+        Map<Object, Object> present = cache.getAllPresent(keys);
+        Map<Object, T> values = new LinkedHashMap<>(present.size());
+        for (Object key : keys) {
+            Object value = present.get(key);
+            if (value != null) {
+                Optional<T> converted = conversionService.convert(value, ConversionContext.of(requiredType));
+                converted.ifPresent(t -> values.put(key, t));
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(Map<?, ?> values) {
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                // null is the same as removal
+                cache.invalidate(entry.getKey());
+            } else {
+                nonNullValues.put(entry.getKey(), entry.getValue());
+            }
+        }
+        cache.putAll(nonNullValues);
+    }
+
     @Override
     public void invalidate(Object key) {
         cache.invalidate(key);
@@ -128,6 +168,54 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
         }
     }
 
+    @Override
+    public void recordLoad(long loadTime, boolean success) {
+        if (cacheConfiguration.isRecordStats()) {
+            if (success) {
+                statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
+    @Override
+    public Optional<CacheStatistics> getStatistics() {
+        if (!cacheConfiguration.isRecordStats()) {
+            return Optional.empty();
+        }
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction> eviction = cache.policy().eviction();
+        OptionalLong weightedSize = eviction.isPresent() ? eviction.get().weightedSize() : OptionalLong.empty();
+        return Optional.of(new CacheStatistics(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.totalLoadTime(),
+                stats.evictionCount(),
+                stats.evictionWeight(),
+                cache.estimatedSize(),
+                weightedSize.isPresent() ? weightedSize.getAsLong() : null
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean isRefreshAheadDue(Object key) {
+        OptionalDouble refreshAheadFactor = cacheConfiguration.getRefreshAheadFactor();
+        if (!refreshAheadFactor.isPresent()) {
+            return false;
+        }
+        Optional<Policy.Expiration<Object, Object>> expiration = cache.policy().expireAfterWrite();
+        if (!expiration.isPresent()) {
+            return false;
+        }
+        OptionalLong age = expiration.get().ageOf(key, TimeUnit.MILLISECONDS);
+        long expiresAfter = expiration.get().getExpiresAfter(TimeUnit.MILLISECONDS);
+        return age.isPresent() && age.getAsLong() >= expiresAfter * refreshAheadFactor.getAsDouble();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> putIfAbsent(Object key, T value) {
@@ -152,6 +240,10 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
             builder.weigher(findWeigher());
         });
 
+        if (cacheConfiguration.isRecordStats()) {
+            builder.recordStats(() -> statsCounter);
+        }
+
         if (cacheConfiguration.isTestMode()) {
             // run commands on same thread
             builder.executor(Runnable::run);
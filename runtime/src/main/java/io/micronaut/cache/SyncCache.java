@@ -18,6 +18,9 @@ package io.micronaut.cache;
 import io.micronaut.core.type.Argument;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -121,6 +124,74 @@ public interface SyncCache<C> extends Cache<C> {
         return get(key, Argument.of(requiredType));
     }
 
+    /**
+     * Resolve the values for the given keys. Keys that have no value, or whose value cannot be converted to the
+     * required type, are omitted from the result.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A map of the found values in the iteration order of the keys
+     * @since 1.1
+     */
+    @Nonnull
+    default <T> Map<Object, T> getAll(@Nonnull Collection<?> keys, @Nonnull Argument<T> requiredType) {
+        Map<Object, T> values = new LinkedHashMap<>(keys.size());
+        for (Object key : keys) {
+            Optional<T> value = get(key, requiredType);
+            if (value.isPresent()) {
+                values.put(key, value.get());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * <p>Cache the specified values using their keys. A null value removes the value for its key.</p>
+     *
+     * @param values The values keyed by the keys they should be associated with
+     * @since 1.1
+     */
+    default void putAll(@Nonnull Map<?, ?> values) {
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Whether the value cached for the given key is old enough that it should be reloaded in the background before
+     * it expires. Implementations that do not track the age of their entries return <tt>false</tt>.
+     *
+     * @param key The key
+     * @return True if the value should be refreshed ahead of its expiry
+     * @since 1.1
+     */
+    default boolean isRefreshAheadDue(@Nonnull Object key) {
+        return false;
+    }
+
+    /**
+     * Records the time taken to load a value that was computed outside of the cache, for example by the
+     * {@link io.micronaut.cache.interceptor.CacheInterceptor} after a cache miss. Implementations that do not record
+     * statistics ignore this method.
+     *
+     * @param loadTime The time taken to load the value in nanoseconds
+     * @param success  Whether the value was loaded successfully
+     * @since 1.1
+     */
+    default void recordLoad(long loadTime, boolean success) {
+        // no-op
+    }
+
+    /**
+     * @return The statistics of this cache, or {@link Optional#empty()} if the cache does not record statistics
+     * @since 1.1
+     */
+    @Nonnull
+    default Optional<CacheStatistics> getStatistics() {
+        return Optional.empty();
+    }
+
     /**
      * <p>This method should return an async API version of this cache interface implementation.</p>
      * <p>
@@ -161,6 +232,25 @@ public interface SyncCache<C> extends Cache<C> {
                 }
             }
 
+            @Override
+            public <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+                try {
+                    return CompletableFuture.completedFuture(SyncCache.this.getAll(keys, requiredType));
+                } catch (Exception e) {
+                    return handleException(e);
+                }
+            }
+
+            @Override
+            public CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+                try {
+                    SyncCache.this.putAll(values);
+                    return CompletableFuture.completedFuture(true);
+                } catch (Exception e) {
+                    return handleException(e);
+                }
+            }
+
             @Override
             public String getName() {
                 return SyncCache.this.getName();
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.annotation;
+
+import io.micronaut.cache.interceptor.CacheInterceptor;
+import io.micronaut.cache.interceptor.CacheKeyGenerator;
+import io.micronaut.cache.interceptor.DefaultCacheKeyGenerator;
+import io.micronaut.context.annotation.AliasFor;
+import io.micronaut.context.annotation.Type;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>An annotation that can be applied to a method that loads several values for a collection of ids, to indicate
+ * that each value should be cached individually under the key of its id for the configured {@link #cacheNames()}.</p>
+ *
+ * <p>The ids that are already cached are looked up with a single {@link io.micronaut.cache.SyncCache#getAll} call
+ * and the method is only invoked with the ids that were not found. The key of each id is generated as if the method
+ * was invoked with the id in place of the collection, so that the values are shared with a {@link Cacheable} method
+ * that loads a single value with the same cache and remaining parameters.</p>
+ *
+ * <p>The method may return either a {@link java.util.Map} of values keyed by id, or a collection that contains one
+ * element per requested id in the order the ids were given, with null for ids that have no value. The result, or a
+ * {@link java.util.concurrent.CompletableFuture} of it, is returned in the order of the requested ids.</p>
+ *
+ * @since 1.1
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@CacheConfig
+@Type(CacheInterceptor.class)
+public @interface CacheableAll {
+
+    /**
+     * Alias for {@link CacheConfig#cacheNames}.
+     *
+     * @return The cache names
+     */
+    @AliasFor(member = "cacheNames")
+    String[] value() default {};
+
+    /**
+     * Alias for {@link CacheConfig#cacheNames}.
+     *
+     * @return The cache names
+     */
+    @AliasFor(annotation = CacheConfig.class, member = "cacheNames")
+    String[] cacheNames() default {};
+
+    /**
+     * The name of the parameter that holds the collection of ids. Defaults to the first parameter that is a
+     * {@link java.util.Collection}.
+     *
+     * @return The parameter name
+     */
+    String parameter() default "";
+
+    /**
+     * Alias for {@link CacheConfig#keyGenerator}.
+     *
+     * @return The cache key generator class
+     */
+    @AliasFor(annotation = CacheConfig.class, member = "keyGenerator")
+    Class<? extends CacheKeyGenerator> keyGenerator() default DefaultCacheKeyGenerator.class;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A key that wraps a {@code byte[]} and compares its contents, since arrays are only equal to themselves. Key
+ * generators that produce binary keys should return this type, so that equal keys find the same cached value and can
+ * be invalidated on the other members of a cluster.
+ *
+ * @since 1.1
+ */
+public final class ByteArrayKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] bytes;
+    private final int hashCode;
+
+    /**
+     * @param bytes The bytes of the key, which must not be changed afterwards
+     */
+    public ByteArrayKey(@Nonnull byte[] bytes) {
+        this.bytes = Objects.requireNonNull(bytes, "Bytes cannot be null");
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * @return The bytes of the key, which must not be changed
+     */
+    public @Nonnull byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ByteArrayKey && Arrays.equals(bytes, ((ByteArrayKey) o).bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return ByteArrayKey.class.getSimpleName() + ": " + Arrays.toString(bytes);
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.cache.interceptor;
 
 import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.Introduced;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.cache.*;
@@ -23,7 +24,9 @@ import io.micronaut.cache.annotation.CacheConfig;
 import io.micronaut.cache.annotation.CacheInvalidate;
 import io.micronaut.cache.annotation.CachePut;
 import io.micronaut.cache.annotation.Cacheable;
+import io.micronaut.cache.annotation.CacheableAll;
 import io.micronaut.cache.exceptions.CacheSystemException;
+import io.micronaut.cache.invalidation.CacheInvalidationBroadcaster;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.async.annotation.SingleResult;
@@ -35,6 +38,7 @@ import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.scheduling.TaskExecutors;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
@@ -43,16 +47,27 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * <p>An AOP {@link MethodInterceptor} implementation for the Cache annotations {@link Cacheable},
@@ -76,6 +91,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private static final String MEMBER_PARAMETERS = "parameters";
     private static final String MEMBER_ALL = "all";
     private static final String MEMBER_KEY_GENERATOR = "keyGenerator";
+    private static final String MEMBER_PARAMETER = "parameter";
 
     private final CacheManager cacheManager;
     private final Map<Class<? extends CacheKeyGenerator>, CacheKeyGenerator> keyGenerators = new ConcurrentHashMap<>();
@@ -83,6 +99,8 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private final ExecutorService ioExecutor;
     private final CacheErrorHandler errorHandler;
     private final AsyncCacheErrorHandler asyncCacheErrorHandler;
+    private final Map<InFlightKey, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+    private final CacheInvalidationBroadcaster invalidationBroadcaster;
 
     /**
      * Create Cache Interceptor with given arguments.
@@ -98,11 +116,32 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                             AsyncCacheErrorHandler asyncCacheErrorHandler,
                             @Named(TaskExecutors.IO) ExecutorService ioExecutor,
                             BeanContext beanContext) {
+        this(cacheManager, errorHandler, asyncCacheErrorHandler, ioExecutor, beanContext, null);
+    }
+
+    /**
+     * Create Cache Interceptor with given arguments.
+     *
+     * @param cacheManager            The cache manager
+     * @param errorHandler            Cache error handler
+     * @param asyncCacheErrorHandler  Async cache error handlers
+     * @param ioExecutor              The executor to create tasks
+     * @param beanContext             The bean context to allow DI
+     * @param invalidationBroadcaster Publishes put and invalidate operations to the other members of the cluster, if enabled
+     */
+    @Inject
+    public CacheInterceptor(CacheManager cacheManager,
+                            CacheErrorHandler errorHandler,
+                            AsyncCacheErrorHandler asyncCacheErrorHandler,
+                            @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                            BeanContext beanContext,
+                            @Nullable CacheInvalidationBroadcaster invalidationBroadcaster) {
         this.cacheManager = cacheManager;
         this.errorHandler = errorHandler;
         this.asyncCacheErrorHandler = asyncCacheErrorHandler;
         this.beanContext = beanContext;
         this.ioExecutor = ioExecutor;
+        this.invalidationBroadcaster = invalidationBroadcaster;
     }
 
     @Override
@@ -115,7 +154,9 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         if (context.hasStereotype(CacheConfig.class)) {
             ReturnType returnTypeObject = context.getReturnType();
             Class returnType = returnTypeObject.getType();
-            if (CompletableFuture.class.isAssignableFrom(returnType)) {
+            if (context.hasAnnotation(CacheableAll.class)) {
+                return interceptCacheableAll(context, returnTypeObject, returnType);
+            } else if (CompletableFuture.class.isAssignableFrom(returnType)) {
                 return interceptCompletableFuture(context, returnTypeObject, returnType);
             } else if (Publishers.isConvertibleToPublisher(returnType)) {
                 return interceptPublisher(context, returnTypeObject, returnType);
@@ -164,6 +205,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     errorHandler.handleLoadError(syncCache, key, e);
                     throw e;
                 }
+                refreshAheadIfDue(context, syncCache, key);
             } else {
                 String[] cacheNames = resolveCacheNames(cacheOperation.defaultConfig, cacheConfig);
                 boolean cacheHit = false;
@@ -177,6 +219,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                             }
                             cacheHit = true;
                             wrapper.value = optional.get();
+                            refreshAheadIfDue(context, syncCache, key);
                             break;
                         }
                     } catch (RuntimeException e) {
@@ -189,8 +232,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Value not found in cache for invocation: " + context);
                     }
-                    doProceed(context, wrapper);
-                    syncPut(cacheNames, key, wrapper.value);
+                    syncLoad(context, cacheNames, key, wrapper, returnType);
                 }
             }
         } else {
@@ -251,7 +293,8 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         AnnotationValue<Cacheable> cacheable = cacheOperation.cacheable;
         CompletableFuture<Object> returnFuture;
         if (cacheable != null) {
-            AsyncCache<?> asyncCache = cacheManager.getCache(cacheOperation.cacheableCacheName).async();
+            SyncCache<?> syncCache = cacheManager.getCache(cacheOperation.cacheableCacheName);
+            AsyncCache<?> asyncCache = syncCache.async();
             CacheKeyGenerator keyGenerator = resolveKeyGenerator(cacheOperation.defaultKeyGenerator, cacheable);
             Object[] params = resolveParams(context, cacheable.get(MEMBER_PARAMETERS, String[].class, StringUtils.EMPTY_STRING_ARRAY));
             Object key = keyGenerator.generateKey(context, params);
@@ -264,38 +307,45 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                         LOG.debug("Value found in cache [" + asyncCache.getName() + "] for invocation: " + context);
                     }
                     thisFuture.complete(o.get());
+                    refreshAheadIfDue(context, syncCache, key);
                 } else {
                     // cache miss proceed with original future
-                    try {
-                        if (throwable != null) {
-                            if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable))) {
-                                thisFuture.completeExceptionally(throwable);
-                                return;
-                            }
+                    if (throwable != null) {
+                        if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable))) {
+                            thisFuture.completeExceptionally(throwable);
+                            return;
                         }
+                    }
+                    coalesce(syncCache, key, () -> {
+                        CompletableFuture<Object> loadFuture = new CompletableFuture<>();
                         CompletableFuture<?> completableFuture = (CompletableFuture) context.proceed();
                         if (completableFuture == null) {
-                            thisFuture.complete(null);
+                            loadFuture.complete(null);
                         } else {
                             completableFuture.whenComplete((BiConsumer<Object, Throwable>) (o1, t2) -> {
                                 if (t2 != null) {
-                                    thisFuture.completeExceptionally(t2);
+                                    loadFuture.completeExceptionally(t2);
                                 } else {
                                     // new cacheable result, cache it
                                     asyncCache.put(key, o1).whenComplete((aBoolean, throwable1) -> {
                                         if (throwable1 == null) {
-                                            thisFuture.complete(o1);
+                                            loadFuture.complete(o1);
                                         } else {
-                                            thisFuture.completeExceptionally(throwable1);
+                                            loadFuture.completeExceptionally(throwable1);
                                         }
                                     });
 
                                 }
                             });
                         }
-                    } catch (RuntimeException e) {
-                        thisFuture.completeExceptionally(e);
-                    }
+                        return loadFuture;
+                    }).whenComplete((o1, t2) -> {
+                        if (t2 != null) {
+                            thisFuture.completeExceptionally(t2);
+                        } else {
+                            thisFuture.complete(o1);
+                        }
+                    });
                 }
             });
             returnFuture = thisFuture;
@@ -308,6 +358,110 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return returnFuture;
     }
 
+    /**
+     * Intercept a method annotated with {@link CacheableAll}. The values of the ids that are cached are returned from
+     * the cache and the method is only invoked with the remaining ids.
+     *
+     * @param context          Contains information about method invocation
+     * @param returnTypeObject The return type of the method in Micronaut
+     * @param returnType       The return type class
+     * @return The values for all of the requested ids
+     */
+    protected Object interceptCacheableAll(MethodInvocationContext<Object, Object> context, ReturnType<?> returnTypeObject, Class returnType) {
+        if (CompletableFuture.class.isAssignableFrom(returnType)) {
+            BatchOperation batch = new BatchOperation(context, returnTypeObject.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT));
+            return interceptCacheableAllFuture(batch);
+        } else if (Publishers.isConvertibleToPublisher(returnType)) {
+            throw new CacheSystemException("Reactive types are not supported by @CacheableAll. Return a Collection, Map or a CompletableFuture of either.");
+        }
+        BatchOperation batch = new BatchOperation(context, returnTypeObject.asArgument());
+        SyncCache<?> syncCache = cacheManager.getCache(batch.cacheNames[0]);
+        Map<Object, ?> found;
+        try {
+            found = syncCache.getAll(batch.keys.values(), batch.valueType);
+        } catch (RuntimeException e) {
+            if (errorHandler.handleLoadError(syncCache, batch.keys.values(), e)) {
+                throw e;
+            }
+            found = Collections.emptyMap();
+        }
+        List<Object> missingIds = batch.missingIds(found);
+        Map<Object, Object> loaded = Collections.emptyMap();
+        if (!missingIds.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(missingIds.size() + " of " + batch.keys.size() + " values not found in cache [" + syncCache.getName() + "] for invocation: " + context);
+            }
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                loaded = batch.loaded(missingIds, batch.proceed(missingIds));
+                success = true;
+            } finally {
+                syncCache.recordLoad(System.nanoTime() - start, success);
+            }
+            for (String cacheName : batch.cacheNames) {
+                SyncCache<?> cache = cacheManager.getCache(cacheName);
+                try {
+                    cache.putAll(loaded);
+                } catch (RuntimeException e) {
+                    if (errorHandler.handlePutError(cache, loaded.keySet(), loaded, e)) {
+                        throw e;
+                    }
+                }
+            }
+        }
+        return batch.merge(found, loaded);
+    }
+
+    private CompletableFuture<Object> interceptCacheableAllFuture(BatchOperation batch) {
+        AsyncCache<?> asyncCache = cacheManager.getCache(batch.cacheNames[0]).async();
+        CompletableFuture<Object> resultFuture = new CompletableFuture<>();
+        asyncCache.getAll(batch.keys.values(), batch.valueType).whenComplete((found, throwable) -> {
+            if (throwable != null && errorHandler.handleLoadError(asyncCache, batch.keys.values(), asRuntimeException(throwable))) {
+                resultFuture.completeExceptionally(throwable);
+                return;
+            }
+            Map<Object, ?> foundValues = throwable == null ? found : Collections.emptyMap();
+            List<Object> missingIds = batch.missingIds(foundValues);
+            if (missingIds.isEmpty()) {
+                resultFuture.complete(batch.merge(foundValues, Collections.emptyMap()));
+                return;
+            }
+            try {
+                CompletableFuture<?> loadFuture = (CompletableFuture<?>) batch.proceed(missingIds);
+                if (loadFuture == null) {
+                    resultFuture.complete(batch.merge(foundValues, Collections.emptyMap()));
+                    return;
+                }
+                loadFuture.whenComplete((result, t2) -> {
+                    if (t2 != null) {
+                        resultFuture.completeExceptionally(t2);
+                        return;
+                    }
+                    try {
+                        Map<Object, Object> loaded = batch.loaded(missingIds, result);
+                        List<CompletableFuture<Boolean>> futures = new ArrayList<>(batch.cacheNames.length);
+                        for (String cacheName : batch.cacheNames) {
+                            futures.add(cacheManager.getCache(cacheName).async().putAll(loaded));
+                        }
+                        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((aVoid, t3) -> {
+                            if (t3 != null && errorHandler.handlePutError(asyncCache, loaded.keySet(), loaded, asRuntimeException(t3))) {
+                                resultFuture.completeExceptionally(t3);
+                            } else {
+                                resultFuture.complete(batch.merge(foundValues, loaded));
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        resultFuture.completeExceptionally(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                resultFuture.completeExceptionally(e);
+            }
+        });
+        return resultFuture;
+    }
+
     /**
      * Saving inside the cache.
      *
@@ -371,6 +525,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     boolean isAsync = invalidateOperation.get(MEMBER_ASYNC, Boolean.class, false);
                     if (isAsync) {
                         if (invalidateAll) {
+                            broadcastInvalidateAll(cacheNames);
                             for (String cacheName : cacheNames) {
                                 AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
                                 asyncCache.invalidateAll().whenCompleteAsync((aBoolean, throwable) -> {
@@ -388,6 +543,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                 keyGenerator = resolveKeyGenerator(alternateKeyGen);
                             }
                             Object key = keyGenerator.generateKey(context, parameterValues);
+                            broadcastInvalidation(cacheNames, key);
                             for (String cacheName : cacheNames) {
                                 AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
                                 asyncCache.invalidate(key).whenCompleteAsync((aBoolean, throwable) -> {
@@ -511,13 +667,14 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             ReturnType returnTypeObject,
             CacheOperation cacheOperation,
             AnnotationValue<Cacheable> cacheable) {
-        AsyncCache<?> asyncCache = cacheManager.getCache(cacheOperation.cacheableCacheName).async();
+        SyncCache<?> syncCache = cacheManager.getCache(cacheOperation.cacheableCacheName);
+        AsyncCache<?> asyncCache = syncCache.async();
         CacheKeyGenerator keyGenerator = resolveKeyGenerator(cacheOperation.defaultKeyGenerator, cacheable);
         Object[] params = resolveParams(context, cacheable.get(MEMBER_PARAMETERS, String[].class, StringUtils.EMPTY_STRING_ARRAY));
         Object key = keyGenerator.generateKey(context, params);
 
-        final Flowable<?> originalFlowable = Publishers.convertPublisher(context.proceed(), Flowable.class);
-        return Flowable.create(emitter -> {
+        final Flowable<Object> originalFlowable = Publishers.convertPublisher(context.proceed(), Flowable.class);
+        Flowable<Object> cacheFlowable = Flowable.create(emitter -> {
             Argument<?> firstTypeVariable = returnTypeObject.getFirstTypeVariable().orElse(Argument.of(Object.class));
             asyncCache.get(key, firstTypeVariable).whenComplete((BiConsumer<Optional<?>, Throwable>) (o, throwable) -> {
                 if (throwable == null && o.isPresent()) {
@@ -527,6 +684,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     }
                     emitter.onNext(o.get());
                     emitter.onComplete();
+                    refreshAheadIfDue(context, syncCache, key);
                 } else {
                     if (throwable != null) {
                         if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable))) {
@@ -539,22 +697,46 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     }
                 }
             });
-        }, BackpressureStrategy.BUFFER).switchIfEmpty(originalFlowable.flatMap((Function<Object, Publisher<?>>) o ->
-                Flowable.create(emitter -> asyncCache.put(key, o).whenComplete((aBoolean, throwable1) -> {
-                    if (throwable1 == null) {
-                        emitter.onNext(o);
-                        emitter.onComplete();
-                    } else {
-                        if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable1))) {
-
-                            emitter.onError(throwable1);
-                        } else {
+        }, BackpressureStrategy.BUFFER);
+        if (!Publishers.isSingle(returnTypeObject.getType())) {
+            // a publisher marked with @SingleResult may still emit several elements, all of which must reach the
+            // subscriber, so loads of such publishers are not shared between callers
+            return cacheFlowable.switchIfEmpty(originalFlowable.flatMap((Function<Object, Publisher<?>>) o ->
+                    Flowable.create(emitter -> asyncCache.put(key, o).whenComplete((aBoolean, throwable1) -> {
+                        if (throwable1 == null) {
                             emitter.onNext(o);
                             emitter.onComplete();
-
+                        } else {
+                            if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable1))) {
+                                emitter.onError(throwable1);
+                            } else {
+                                emitter.onNext(o);
+                                emitter.onComplete();
+                            }
+                        }
+                    }), BackpressureStrategy.ERROR)));
+        }
+        return cacheFlowable.switchIfEmpty(Flowable.create(emitter ->
+                coalesce(syncCache, key, () -> {
+                    CompletableFuture<Object> loadFuture = new CompletableFuture<>();
+                    originalFlowable.firstElement().subscribe(o -> asyncCache.put(key, o).whenComplete((aBoolean, throwable1) -> {
+                        if (throwable1 != null && errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable1))) {
+                            loadFuture.completeExceptionally(throwable1);
+                        } else {
+                            loadFuture.complete(o);
+                        }
+                    }), loadFuture::completeExceptionally, () -> loadFuture.complete(null));
+                    return loadFuture;
+                }).whenComplete((o, throwable) -> {
+                    if (throwable != null) {
+                        emitter.onError(throwable);
+                    } else {
+                        if (o != null) {
+                            emitter.onNext(o);
                         }
+                        emitter.onComplete();
                     }
-                }), BackpressureStrategy.ERROR)));
+                }), BackpressureStrategy.BUFFER));
     }
 
     private CompletableFuture<Object> processFuturePutOperations(MethodInvocationContext<Object, Object> context, CacheOperation cacheOperation, CompletableFuture<Object> returnFuture) {
@@ -648,6 +830,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     }
 
     private CompletableFuture<Void> buildPutFutures(String[] cacheNames, Object result, Object key) {
+        broadcastInvalidation(cacheNames, key);
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         for (String cacheName : cacheNames) {
             AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
@@ -658,6 +841,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     }
 
     private CompletableFuture<Void> buildInvalidateFutures(String[] cacheNames, Object key) {
+        broadcastInvalidation(cacheNames, key);
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         for (String cacheName : cacheNames) {
             AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
@@ -668,6 +852,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     }
 
     private CompletableFuture<Void> buildInvalidateAllFutures(String[] cacheNames) {
+        broadcastInvalidateAll(cacheNames);
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         for (String cacheName : cacheNames) {
             AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
@@ -677,7 +862,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return CompletableFuture.allOf(futureArray);
     }
 
-    private CacheKeyGenerator resolveKeyGenerator(CacheKeyGenerator defaultKeyGenerator, AnnotationValue<Cacheable> cacheConfig) {
+    private CacheKeyGenerator resolveKeyGenerator(CacheKeyGenerator defaultKeyGenerator, AnnotationValue<?> cacheConfig) {
         CacheKeyGenerator keyGenerator = defaultKeyGenerator;
         Class<? extends CacheKeyGenerator> alternateKeyGen = cacheConfig.get(MEMBER_KEY_GENERATOR, Class.class).orElse(null);
         if (alternateKeyGen != null && keyGenerator.getClass() != alternateKeyGen) {
@@ -686,7 +871,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return keyGenerator;
     }
 
-    private String[] resolveCacheNames(AnnotationValue<CacheConfig> defaultConfig, AnnotationValue<Cacheable> cacheConfig) {
+    private String[] resolveCacheNames(AnnotationValue<CacheConfig> defaultConfig, AnnotationValue<?> cacheConfig) {
         String[] cacheNames = cacheConfig.get(MEMBER_CACHE_NAMES, String[].class).orElse(null);
         if (ArrayUtils.isEmpty(cacheNames)) {
             cacheNames = defaultConfig.get(MEMBER_CACHE_NAMES, String[].class).orElse(StringUtils.EMPTY_STRING_ARRAY);
@@ -707,6 +892,152 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
+    /**
+     * Loads the value for a cache miss. Concurrent misses for the same key wait for the invocation that is already in
+     * flight instead of invoking the method again.
+     */
+    private void syncLoad(MethodInvocationContext context, String[] cacheNames, Object key, ValueWrapper wrapper, Class returnType) {
+        SyncCache<?> syncCache = cacheManager.getCache(cacheNames[0]);
+        InFlightKey inFlightKey = new InFlightKey(cacheNames[0], key);
+        InFlightLoad load = new InFlightLoad(Thread.currentThread());
+        InFlightLoad existing = inFlightLoads.putIfAbsent(inFlightKey, load);
+        if (existing == null) {
+            try {
+                doProceed(context, wrapper, syncCache);
+                syncPut(cacheNames, key, wrapper.value);
+                load.complete(wrapper.value);
+            } catch (Throwable e) {
+                load.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightLoads.remove(inFlightKey, load);
+            }
+        } else if (existing.owner == Thread.currentThread()) {
+            // a reentrant call for the same key would otherwise wait for itself
+            doProceed(context, wrapper, syncCache);
+            syncPut(cacheNames, key, wrapper.value);
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for in-flight load of cache [" + cacheNames[0] + "] for invocation: " + context);
+            }
+            try {
+                wrapper.value = existing.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw asRuntimeException(cause);
+            }
+            wrapper.optional = Optional.class.isAssignableFrom(returnType);
+        }
+    }
+
+    /**
+     * Returns the load in flight for the given key, or starts a new one with the given loader.
+     */
+    private CompletableFuture<Object> coalesce(SyncCache<?> cache, Object key, Supplier<CompletableFuture<Object>> loader) {
+        InFlightKey inFlightKey = new InFlightKey(cache.getName(), key);
+        InFlightLoad load = new InFlightLoad(null);
+        InFlightLoad existing = inFlightLoads.putIfAbsent(inFlightKey, load);
+        if (existing != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for in-flight load of cache [" + cache.getName() + "] for key: " + key);
+            }
+            return existing;
+        }
+        load.whenComplete((o, throwable) -> inFlightLoads.remove(inFlightKey, load));
+        long start = System.nanoTime();
+        try {
+            loader.get().whenComplete((o, throwable) -> {
+                cache.recordLoad(System.nanoTime() - start, throwable == null);
+                if (throwable != null) {
+                    load.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                } else {
+                    load.complete(o);
+                }
+            });
+        } catch (Throwable e) {
+            cache.recordLoad(System.nanoTime() - start, false);
+            load.completeExceptionally(e);
+        }
+        return load;
+    }
+
+    /**
+     * Reloads the value for the given key in the background if the cache reports that it is close to expiring. Only
+     * one refresh runs per key and the stale value is served until it completes.
+     *
+     * <p>The refresh invokes the target method with a copy of the current parameter values rather than proceeding
+     * with the given context, which belongs to the caller and may be in use again once the caller has returned.
+     * Introduction advice has no target to invoke, so such values are reloaded only once they expire.</p>
+     */
+    private void refreshAheadIfDue(MethodInvocationContext<Object, Object> context, SyncCache<?> cache, Object key) {
+        Object target = context.getTarget();
+        if (target instanceof Introduced || !cache.isRefreshAheadDue(key)) {
+            return;
+        }
+        InFlightKey inFlightKey = new InFlightKey(cache.getName(), key);
+        InFlightLoad load = new InFlightLoad(null);
+        if (inFlightLoads.putIfAbsent(inFlightKey, load) != null) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Refreshing value ahead of expiry in cache [" + cache.getName() + "] for invocation: " + context);
+        }
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        Object[] parameterValues = context.getParameterValues();
+        try {
+            ioExecutor.submit(() -> {
+                long start = System.nanoTime();
+                boolean loaded = false;
+                try {
+                    Object value = resolveRefreshedValue(method.invoke(target, parameterValues));
+                    loaded = true;
+                    cache.recordLoad(System.nanoTime() - start, true);
+                    cache.put(key, value);
+                    load.complete(value);
+                } catch (Throwable e) {
+                    if (!loaded) {
+                        cache.recordLoad(System.nanoTime() - start, false);
+                    }
+                    load.completeExceptionally(e);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Refresh of cache [" + cache.getName() + "] failed for invocation: " + context, e);
+                    }
+                } finally {
+                    inFlightLoads.remove(inFlightKey, load);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightLoads.remove(inFlightKey, load);
+            load.completeExceptionally(e);
+        }
+    }
+
+    private Object resolveRefreshedValue(Object result) {
+        if (result instanceof CompletableFuture) {
+            result = ((CompletableFuture) result).join();
+        } else if (result != null && Publishers.isConvertibleToPublisher(result)) {
+            result = Publishers.convertPublisher(result, Flowable.class).lastElement().blockingGet();
+        }
+        if (result instanceof Optional) {
+            result = ((Optional) result).orElse(null);
+        }
+        return result;
+    }
+
+    private void doProceed(MethodInvocationContext context, ValueWrapper wrapper, SyncCache<?> cache) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            doProceed(context, wrapper);
+            success = true;
+        } finally {
+            cache.recordLoad(System.nanoTime() - start, success);
+        }
+    }
+
     private void processCachePut(MethodInvocationContext<?, ?> context, ValueWrapper wrapper, AnnotationValue<CachePut> cacheConfig, CacheOperation cacheOperation) {
         String[] cacheNames = cacheOperation.getCachePutNames(cacheConfig);
         CacheKeyGenerator keyGenerator = cacheOperation.getCachePutKeyGenerator(cacheConfig);
@@ -725,6 +1056,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                 ioExecutor.submit(() -> {
                     try {
                         Object key = keyGenerator.generateKey(context, parameterValues);
+                        broadcastInvalidation(cacheNames, key);
                         for (String cacheName : cacheNames) {
                             SyncCache cache = cacheManager.getCache(cacheName);
                             AsyncCache<?> asyncCache = cache.async();
@@ -742,6 +1074,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             } else {
                 Object key = keyGenerator.generateKey(context, parameterValues);
                 syncPut(cacheNames, key, v);
+                broadcastInvalidation(cacheNames, key);
             }
         }
     }
@@ -781,6 +1114,11 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
 
         if (!ArrayUtils.isEmpty(cacheNames)) {
+            if (invalidateAll) {
+                broadcastInvalidateAll(cacheNames);
+            } else {
+                broadcastInvalidation(cacheNames, key);
+            }
             for (String cacheName : cacheNames) {
                 SyncCache syncCache = cacheManager.getCache(cacheName);
                 if (async) {
@@ -824,6 +1162,22 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
+    private void broadcastInvalidation(String[] cacheNames, Object key) {
+        if (invalidationBroadcaster != null && key != null) {
+            for (String cacheName : cacheNames) {
+                invalidationBroadcaster.invalidate(cacheName, key);
+            }
+        }
+    }
+
+    private void broadcastInvalidateAll(String[] cacheNames) {
+        if (invalidationBroadcaster != null) {
+            for (String cacheName : cacheNames) {
+                invalidationBroadcaster.invalidateAll(cacheName);
+            }
+        }
+    }
+
     private RuntimeException asRuntimeException(Throwable throwable) {
         if (throwable instanceof RuntimeException) {
             return (RuntimeException) throwable;
@@ -920,6 +1274,162 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
+    /**
+     * The ids and keys of a {@link CacheableAll} invocation.
+     */
+    private class BatchOperation {
+        final MethodInvocationContext<Object, Object> context;
+        final String[] cacheNames;
+        final Map<Object, Object> keys = new LinkedHashMap<>();
+        final Argument<?> valueType;
+        final Class<?> resultType;
+        final boolean mapResult;
+        final Collection<?> ids;
+        final Class<?> idsType;
+        final MutableArgumentValue<Object> idsArgument;
+
+        @SuppressWarnings("unchecked")
+        BatchOperation(MethodInvocationContext<Object, Object> context, Argument<?> resultArgument) {
+            this.context = context;
+            AnnotationValue<CacheableAll> cacheableAll = context.getAnnotation(CacheableAll.class);
+            AnnotationValue<CacheConfig> defaultConfig = context.getAnnotation(CacheConfig.class);
+            this.cacheNames = resolveCacheNames(defaultConfig, cacheableAll);
+            if (ArrayUtils.isEmpty(cacheNames)) {
+                throw new CacheSystemException("No cache names specified for @CacheableAll method: " + context);
+            }
+            this.resultType = resultArgument.getType();
+            this.mapResult = Map.class.isAssignableFrom(resultType);
+            if (!mapResult && !Collection.class.isAssignableFrom(resultType)) {
+                throw new CacheSystemException("@CacheableAll methods must return a Collection or Map: " + context);
+            }
+            Argument[] typeParameters = resultArgument.getTypeParameters();
+            int valueIndex = mapResult ? 1 : 0;
+            this.valueType = typeParameters.length > valueIndex ? typeParameters[valueIndex] : Argument.OBJECT_ARGUMENT;
+
+            String parameter = cacheableAll.get(MEMBER_PARAMETER, String.class).orElse(null);
+            Argument[] arguments = context.getArguments();
+            int idsIndex = -1;
+            for (int i = 0; i < arguments.length; i++) {
+                if (StringUtils.isNotEmpty(parameter) ? parameter.equals(arguments[i].getName()) : Collection.class.isAssignableFrom(arguments[i].getType())) {
+                    idsIndex = i;
+                    break;
+                }
+            }
+            if (idsIndex == -1) {
+                throw new CacheSystemException("No collection of ids found for @CacheableAll method: " + context);
+            }
+            this.idsType = arguments[idsIndex].getType();
+            this.idsArgument = (MutableArgumentValue<Object>) context.getParameters().get(arguments[idsIndex].getName());
+            Object idsValue = idsArgument.getValue();
+            this.ids = idsValue instanceof Collection ? (Collection<?>) idsValue : Collections.emptyList();
+
+            CacheKeyGenerator keyGenerator = resolveKeyGenerator(
+                    resolveKeyGenerator(defaultConfig.get(MEMBER_KEY_GENERATOR, Class.class).orElse(null)),
+                    cacheableAll
+            );
+            Object[] parameterValues = context.getParameterValues();
+            for (Object id : ids) {
+                if (!keys.containsKey(id)) {
+                    // the key of each id is generated as if the method was invoked with the id in place of the collection
+                    parameterValues[idsIndex] = id;
+                    keys.put(id, keyGenerator.generateKey(context, parameterValues));
+                }
+            }
+        }
+
+        List<Object> missingIds(Map<Object, ?> found) {
+            List<Object> missingIds = new ArrayList<>();
+            for (Map.Entry<Object, Object> entry : keys.entrySet()) {
+                if (!found.containsKey(entry.getValue())) {
+                    missingIds.add(entry.getKey());
+                }
+            }
+            return missingIds;
+        }
+
+        @SuppressWarnings("unchecked")
+        Object proceed(List<Object> missingIds) {
+            Collection<Object> missing;
+            if (idsType.isAssignableFrom(ArrayList.class)) {
+                missing = new ArrayList<>(missingIds);
+            } else if (idsType.isAssignableFrom(LinkedHashSet.class)) {
+                missing = new LinkedHashSet<>(missingIds);
+            } else {
+                missing = (Collection<Object>) InstantiationUtils.instantiate(idsType);
+                missing.addAll(missingIds);
+            }
+            Object original = idsArgument.getValue();
+            idsArgument.setValue(missing);
+            try {
+                return context.proceed();
+            } finally {
+                idsArgument.setValue(original);
+            }
+        }
+
+        Map<Object, Object> loaded(List<Object> missingIds, Object result) {
+            Map<Object, Object> loaded = new LinkedHashMap<>(missingIds.size());
+            if (result instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                    Object key = keys.get(entry.getKey());
+                    if (key != null && entry.getValue() != null) {
+                        loaded.put(key, entry.getValue());
+                    }
+                }
+            } else if (result instanceof Iterable) {
+                int i = 0;
+                for (Object value : (Iterable<?>) result) {
+                    if (i < missingIds.size() && value != null) {
+                        loaded.put(keys.get(missingIds.get(i)), value);
+                    }
+                    i++;
+                }
+                if (i != missingIds.size()) {
+                    throw new CacheSystemException("@CacheableAll method returned " + i + " values for " + missingIds.size() + " ids. Return one element per id, or a Map keyed by id: " + context);
+                }
+            } else if (result != null) {
+                throw new CacheSystemException("@CacheableAll method returned an unsupported result [" + result.getClass().getName() + "]: " + context);
+            }
+            return loaded;
+        }
+
+        @SuppressWarnings("unchecked")
+        Object merge(Map<Object, ?> found, Map<Object, Object> loaded) {
+            if (mapResult) {
+                Map<Object, Object> result = resultType.isAssignableFrom(LinkedHashMap.class) ?
+                        new LinkedHashMap<>(keys.size()) : (Map<Object, Object>) InstantiationUtils.instantiate(resultType);
+                for (Map.Entry<Object, Object> entry : keys.entrySet()) {
+                    Object value = valueOf(entry.getValue(), found, loaded);
+                    if (value != null) {
+                        result.put(entry.getKey(), value);
+                    }
+                }
+                return result;
+            }
+            Collection<Object> result;
+            if (resultType.isAssignableFrom(ArrayList.class)) {
+                result = new ArrayList<>(ids.size());
+            } else if (resultType.isAssignableFrom(LinkedHashSet.class)) {
+                result = new LinkedHashSet<>(ids.size());
+            } else {
+                result = (Collection<Object>) InstantiationUtils.instantiate(resultType);
+            }
+            boolean set = result instanceof Set;
+            for (Object id : ids) {
+                Object value = valueOf(keys.get(id), found, loaded);
+                if (value != null || !set) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        private Object valueOf(Object key, Map<Object, ?> found, Map<Object, Object> loaded) {
+            Object value = found.get(key);
+            return value != null ? value : loaded.get(key);
+        }
+    }
+
     /**
      * The value wrapper.
      */
@@ -927,4 +1437,45 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         Object value;
         boolean optional;
     }
+
+    /**
+     * Identifies a load in flight by the cache name and key.
+     */
+    private static final class InFlightKey {
+        final String cacheName;
+        final Object key;
+
+        InFlightKey(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InFlightKey that = (InFlightKey) o;
+            return cacheName.equals(that.cacheName) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * cacheName.hashCode() + Objects.hashCode(key);
+        }
+    }
+
+    /**
+     * A load in flight that other invocations for the same key can wait for.
+     */
+    private static final class InFlightLoad extends CompletableFuture<Object> {
+        final Thread owner;
+
+        InFlightLoad(Thread owner) {
+            this.owner = owner;
+        }
+    }
 }
@@ -48,6 +48,13 @@ public class ParametersKey implements Serializable {
         }
     }
 
+    /**
+     * @return A copy of the parameters of the key
+     */
+    public Object[] getParameters() {
+        return params.length == 0 ? params : params.clone();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
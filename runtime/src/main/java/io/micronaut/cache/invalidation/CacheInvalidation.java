@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The invalidation of a key, or of all of the keys, of a named cache that is sent to the other members of a cluster
+ * through a {@link CacheInvalidationChannel}.
+ *
+ * @since 1.1
+ */
+public final class CacheInvalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String cacheName;
+    private final Object key;
+
+    private CacheInvalidation(String cacheName, Object key) {
+        this.cacheName = Objects.requireNonNull(cacheName, "Cache name cannot be null");
+        this.key = key;
+    }
+
+    /**
+     * @param cacheName The cache name
+     * @param key       The key to invalidate
+     * @return The invalidation of a single key
+     */
+    public static CacheInvalidation of(@Nonnull String cacheName, @Nonnull Object key) {
+        return new CacheInvalidation(cacheName, Objects.requireNonNull(key, "Key cannot be null"));
+    }
+
+    /**
+     * @param cacheName The cache name
+     * @return The invalidation of all of the keys of the cache
+     */
+    public static CacheInvalidation all(@Nonnull String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    /**
+     * @return The name of the cache
+     */
+    public @Nonnull String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * @return The key to invalidate, or null if all of the keys are invalidated
+     */
+    public @Nullable Object getKey() {
+        return key;
+    }
+
+    /**
+     * @return Whether all of the keys of the cache are invalidated
+     */
+    public boolean isAll() {
+        return key == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheInvalidation that = (CacheInvalidation) o;
+        return cacheName.equals(that.cacheName) && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheName, key);
+    }
+
+    @Override
+    public String toString() {
+        return cacheName + ": " + (key == null ? "*" : key);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A batch of {@link CacheInvalidation} instances published by a single member of a cluster.
+ *
+ * @since 1.1
+ */
+public final class CacheInvalidationBatch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String origin;
+    private final List<CacheInvalidation> invalidations;
+
+    /**
+     * @param origin        The identifier of the member that published the batch
+     * @param invalidations The invalidations
+     */
+    public CacheInvalidationBatch(@Nonnull String origin, @Nonnull Collection<CacheInvalidation> invalidations) {
+        this.origin = Objects.requireNonNull(origin, "Origin cannot be null");
+        this.invalidations = Collections.unmodifiableList(new ArrayList<>(invalidations));
+    }
+
+    /**
+     * @return The identifier of the member that published the batch
+     */
+    public @Nonnull String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * @return The invalidations
+     */
+    public @Nonnull List<CacheInvalidation> getInvalidations() {
+        return invalidations;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidationBatch{origin=" + origin + ", invalidations=" + invalidations + '}';
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.cache.CacheManager;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.interceptor.ByteArrayKey;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Keeps the caches of the members of a cluster consistent by publishing the keys invalidated or replaced by
+ * {@link io.micronaut.cache.annotation.CacheInvalidate} and {@link io.micronaut.cache.annotation.CachePut} operations
+ * through a {@link CacheInvalidationChannel}, and by invalidating the keys published by the other members in the
+ * local caches of the {@link CacheManager}.</p>
+ *
+ * <p>Invalidations are queued and published in batches every {@link CacheInvalidationConfiguration#getBatchInterval()},
+ * or sooner once {@link CacheInvalidationConfiguration#getMaxBatchSize()} are pending. Repeated invalidations of a key
+ * within a batch are published once, and the invalidation of all of the keys of a cache replaces the pending
+ * invalidations of its keys.</p>
+ *
+ * @since 1.1
+ */
+@Context
+@Requires(property = CacheInvalidationConfiguration.ENABLED, value = StringUtils.TRUE)
+public class CacheInvalidationBroadcaster implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationBroadcaster.class);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final CacheInvalidationConfiguration configuration;
+    private final CacheManager<?> cacheManager;
+    private final CacheInvalidationChannel channel;
+    private final TaskScheduler taskScheduler;
+    private final ScheduledFuture<?> flushTask;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Set<CacheInvalidation> pending = new LinkedHashSet<>();
+
+    /**
+     * @param configuration The cache invalidation configuration
+     * @param cacheManager  The cache manager of the local caches
+     * @param channel       The channel invalidations are published to
+     * @param taskScheduler The scheduler used to publish pending invalidations
+     */
+    public CacheInvalidationBroadcaster(
+            CacheInvalidationConfiguration configuration,
+            CacheManager<?> cacheManager,
+            CacheInvalidationChannel channel,
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
+        this.configuration = configuration;
+        this.cacheManager = cacheManager;
+        this.channel = channel;
+        this.taskScheduler = taskScheduler;
+        channel.subscribe(this::receive);
+        Duration interval = configuration.getBatchInterval();
+        this.flushTask = taskScheduler.scheduleWithFixedDelay(interval, interval, this::flush);
+    }
+
+    /**
+     * @return The identifier of this member of the cluster
+     */
+    public @Nonnull String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Queues the invalidation of a key of a cache on the other members of the cluster. A {@code byte[]} key is
+     * published as a {@link ByteArrayKey}, so that it is compared by its contents.
+     *
+     * @param cacheName The cache name
+     * @param key       The key
+     */
+    public void invalidate(@Nonnull String cacheName, @Nonnull Object key) {
+        if (key instanceof byte[]) {
+            key = new ByteArrayKey((byte[]) key);
+        }
+        boolean full;
+        synchronized (pending) {
+            if (pending.contains(CacheInvalidation.all(cacheName))) {
+                return;
+            }
+            pending.add(CacheInvalidation.of(cacheName, key));
+            full = pending.size() >= configuration.getMaxBatchSize();
+        }
+        if (full) {
+            flushSoon();
+        }
+    }
+
+    /**
+     * Queues the invalidation of all of the keys of a cache on the other members of the cluster.
+     *
+     * @param cacheName The cache name
+     */
+    public void invalidateAll(@Nonnull String cacheName) {
+        synchronized (pending) {
+            Iterator<CacheInvalidation> i = pending.iterator();
+            while (i.hasNext()) {
+                if (i.next().getCacheName().equals(cacheName)) {
+                    i.remove();
+                }
+            }
+            pending.add(CacheInvalidation.all(cacheName));
+        }
+    }
+
+    /**
+     * Publishes the pending invalidations.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        List<CacheInvalidation> invalidations;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            invalidations = new ArrayList<>(pending);
+            pending.clear();
+        }
+        int maxBatchSize = configuration.getMaxBatchSize();
+        for (int i = 0; i < invalidations.size(); i += maxBatchSize) {
+            List<CacheInvalidation> batch = invalidations.subList(i, Math.min(i + maxBatchSize, invalidations.size()));
+            try {
+                channel.publish(new CacheInvalidationBatch(origin, batch));
+            } catch (RuntimeException e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error publishing " + batch.size() + " cache invalidations: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes the pending invalidations and stops publishing.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        flushTask.cancel(false);
+        flush();
+    }
+
+    /**
+     * Invalidates the keys published by another member of the cluster in the local caches.
+     *
+     * @param batch The batch of invalidations
+     */
+    protected void receive(CacheInvalidationBatch batch) {
+        if (origin.equals(batch.getOrigin())) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Received {} cache invalidations from {}", batch.getInvalidations().size(), batch.getOrigin());
+        }
+        Set<String> cacheNames = cacheManager.getCacheNames();
+        for (CacheInvalidation invalidation : batch.getInvalidations()) {
+            if (!cacheNames.contains(invalidation.getCacheName())) {
+                continue;
+            }
+            SyncCache<?> cache = cacheManager.getCache(invalidation.getCacheName());
+            try {
+                if (invalidation.isAll()) {
+                    cache.invalidateAll();
+                } else {
+                    cache.invalidate(invalidation.getKey());
+                }
+            } catch (RuntimeException e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error applying cache invalidation [" + invalidation + "]: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void flushSoon() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(Duration.ZERO, this::flush);
+        }
+    }
+}
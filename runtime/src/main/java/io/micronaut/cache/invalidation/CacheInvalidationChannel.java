@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * A channel that delivers {@link CacheInvalidationBatch} instances to every member of a cluster. Implementations may
+ * also deliver a batch back to the member that published it, which ignores it.
+ *
+ * <p>Delivery is best effort. Members that miss an invalidation keep the stale value until it expires, so caches that
+ * use distributed invalidation should still be configured with an expiry.</p>
+ *
+ * @since 1.1
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publishes a batch of invalidations to the other members of the cluster.
+     *
+     * @param batch The batch
+     */
+    void publish(@Nonnull CacheInvalidationBatch batch);
+
+    /**
+     * Registers a subscriber that receives the batches published by the members of the cluster.
+     *
+     * @param subscriber The subscriber
+     */
+    void subscribe(@Nonnull Consumer<CacheInvalidationBatch> subscriber);
+}
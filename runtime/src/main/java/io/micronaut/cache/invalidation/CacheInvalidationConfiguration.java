@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.Toggleable;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+
+/**
+ * Configuration for the distributed invalidation of caches. See {@link CacheInvalidationBroadcaster}.
+ *
+ * @since 1.1
+ */
+@ConfigurationProperties(CacheInvalidationConfiguration.PREFIX)
+public class CacheInvalidationConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use to configure cache invalidation.
+     */
+    public static final String PREFIX = "micronaut.cache.invalidation";
+
+    /**
+     * Setting to enable and disable distributed cache invalidation.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * The default batch interval value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_BATCH_INTERVAL_MILLIS = 50;
+
+    /**
+     * The default maximum batch size value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private boolean enabled = false;
+    private Duration batchInterval = Duration.ofMillis(DEFAULT_BATCH_INTERVAL_MILLIS);
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether invalidations performed by {@link io.micronaut.cache.annotation.CachePut} and
+     * {@link io.micronaut.cache.annotation.CacheInvalidate} are published to the other members of the cluster.
+     * Default value (false).
+     *
+     * @param enabled True if distributed invalidation is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The interval at which pending invalidations are published
+     */
+    public @Nonnull Duration getBatchInterval() {
+        return batchInterval;
+    }
+
+    /**
+     * Sets the interval at which pending invalidations are published. Invalidations of the same key within an interval
+     * are published once. Default value ({@value #DEFAULT_BATCH_INTERVAL_MILLIS} milliseconds).
+     *
+     * @param batchInterval The batch interval
+     */
+    public void setBatchInterval(@Nonnull Duration batchInterval) {
+        ArgumentUtils.requireNonNull("batchInterval", batchInterval);
+        this.batchInterval = batchInterval;
+    }
+
+    /**
+     * @return The maximum number of invalidations published in a single batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of invalidations published in a single batch. Pending invalidations are published
+     * before the batch interval elapses once this many are pending. Default value ({@value #DEFAULT_MAX_BATCH_SIZE}).
+     *
+     * @param maxBatchSize The maximum batch size
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+}
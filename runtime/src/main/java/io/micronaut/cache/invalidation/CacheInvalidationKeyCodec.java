@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+/**
+ * Converts the keys of cache invalidations to and from bytes for channels that send invalidations to other
+ * processes, such as the {@link MulticastCacheInvalidationChannel}. A decoded key must be equal to the key it was
+ * encoded from, otherwise the invalidation does not remove the cached value.
+ *
+ * <p>The default implementation is {@link DefaultCacheInvalidationKeyCodec}. Applications that use other key types can
+ * replace it with a bean that supports them.</p>
+ *
+ * @since 1.1
+ */
+public interface CacheInvalidationKeyCodec {
+
+    /**
+     * @param key The key
+     * @return The encoded key, or empty if the key cannot be encoded and all of the keys of its cache are invalidated
+     */
+    Optional<byte[]> encode(@Nonnull Object key);
+
+    /**
+     * @param data The encoded key
+     * @return The key, or empty if the data cannot be decoded and all of the keys of its cache are invalidated
+     */
+    Optional<Object> decode(@Nonnull byte[] data);
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.cache.interceptor.ByteArrayKey;
+import io.micronaut.cache.interceptor.DefaultCacheKeyGenerator;
+import io.micronaut.cache.interceptor.ParametersKey;
+
+import javax.annotation.Nonnull;
+import javax.inject.Singleton;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * <p>The default {@link CacheInvalidationKeyCodec}. It encodes {@link String} keys, the boxed primitive types,
+ * {@code byte[]} and {@link ByteArrayKey} keys, and the {@link ParametersKey} produced by the
+ * {@link DefaultCacheKeyGenerator} for methods with several parameters, if all of its parameters are of one of these
+ * types, null or {@code byte[]}.</p>
+ *
+ * <p>A {@code byte[]} key is encoded as a {@link ByteArrayKey}, since an array key is only equal to itself, while a
+ * {@code byte[]} parameter of a {@link ParametersKey} is kept as is because its contents are compared. No objects
+ * other than the supported types are created when decoding.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+public class DefaultCacheInvalidationKeyCodec implements CacheInvalidationKeyCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte CHARACTER = 5;
+    private static final byte INTEGER = 6;
+    private static final byte LONG = 7;
+    private static final byte FLOAT = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte BYTES = 10;
+    private static final byte PARAMETERS = 11;
+    private static final byte BYTE_ARRAY_KEY = 12;
+    private static final int MAX_DEPTH = 8;
+
+    @Override
+    public Optional<byte[]> encode(@Nonnull Object key) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (!write(out, key instanceof byte[] ? new ByteArrayKey((byte[]) key) : key, 0)) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(bytes.toByteArray());
+    }
+
+    @Override
+    public Optional<Object> decode(@Nonnull byte[] data) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            Object key = read(in, 0);
+            if (key == null || in.available() > 0) {
+                return Optional.empty();
+            }
+            return Optional.of(key);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean write(DataOutputStream out, Object value, int depth) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            writeBytes(out, STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof byte[]) {
+            writeBytes(out, BYTES, (byte[]) value);
+        } else if (value instanceof ByteArrayKey) {
+            writeBytes(out, BYTE_ARRAY_KEY, ((ByteArrayKey) value).getBytes());
+        } else if (value instanceof ParametersKey && depth < MAX_DEPTH) {
+            Object[] parameters = ((ParametersKey) value).getParameters();
+            out.writeByte(PARAMETERS);
+            out.writeInt(parameters.length);
+            for (Object parameter : parameters) {
+                if (!write(out, parameter, depth + 1)) {
+                    return false;
+                }
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte type, byte[] data) throws IOException {
+        out.writeByte(type);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    /**
+     * @return The value, or null for a null value. Invalid data throws an {@link IOException}.
+     */
+    private static Object read(DataInputStream in, int depth) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case CHARACTER:
+                return in.readChar();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case BYTES:
+                return readBytes(in);
+            case BYTE_ARRAY_KEY:
+                return new ByteArrayKey(readBytes(in));
+            case PARAMETERS:
+                int count = in.readInt();
+                // every parameter takes at least 1 byte
+                if (depth >= MAX_DEPTH || count < 0 || count > in.available()) {
+                    throw new IOException("Invalid parameters key");
+                }
+                Object[] parameters = new Object[count];
+                for (int i = 0; i < count; i++) {
+                    parameters[i] = read(in, depth + 1);
+                }
+                return count == 0 ? ParametersKey.ZERO_ARG_KEY : new ParametersKey(parameters);
+            default:
+                throw new IOException("Unknown key type: " + type);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid key length: " + length);
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return data;
+    }
+}
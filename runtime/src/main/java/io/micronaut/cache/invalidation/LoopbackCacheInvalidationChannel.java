@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.util.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * A {@link CacheInvalidationChannel} that delivers invalidations to every application context running in the same
+ * JVM. It is used when no other channel is configured and allows distributed invalidation to be tested by starting
+ * several application contexts.
+ *
+ * @since 1.1
+ */
+@Singleton
+@Secondary
+@Requires(property = CacheInvalidationConfiguration.ENABLED, value = StringUtils.TRUE)
+public class LoopbackCacheInvalidationChannel implements CacheInvalidationChannel, Closeable {
+
+    private static final Set<LoopbackCacheInvalidationChannel> CHANNELS = new CopyOnWriteArraySet<>();
+
+    private final List<Consumer<CacheInvalidationBatch>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a channel that is connected to the other loopback channels of the JVM.
+     */
+    public LoopbackCacheInvalidationChannel() {
+        CHANNELS.add(this);
+    }
+
+    @Override
+    public void publish(@Nonnull CacheInvalidationBatch batch) {
+        for (LoopbackCacheInvalidationChannel channel : CHANNELS) {
+            for (Consumer<CacheInvalidationBatch> subscriber : channel.subscribers) {
+                subscriber.accept(batch);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(@Nonnull Consumer<CacheInvalidationBatch> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Disconnects the channel from the other loopback channels.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        CHANNELS.remove(this);
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.cache.exceptions.CacheSystemException;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * <p>A {@link CacheInvalidationChannel} that sends invalidations to the members of a cluster as UDP multicast
+ * packets. Every member joins the group configured by {@link MulticastCacheInvalidationConfiguration} and receives
+ * the packets on a daemon thread.</p>
+ *
+ * <p>Batches are written in a fixed format that only holds the cache names and the keys encoded by the
+ * {@link CacheInvalidationKeyCodec}, and are split into several packets if they do not fit into one. The invalidation
+ * of a key that the codec cannot encode or decode is applied as the invalidation of all of the keys of its cache.
+ * Received packets that are not in this format are ignored, no objects are deserialized.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+@Requires(property = MulticastCacheInvalidationConfiguration.ENABLED, value = StringUtils.TRUE)
+public class MulticastCacheInvalidationChannel implements CacheInvalidationChannel, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MulticastCacheInvalidationChannel.class);
+    private static final int MAX_PACKET_SIZE = 65507;
+    private static final int MAGIC = 0x4D434956;
+    private static final byte VERSION = 2;
+    private static final byte KEY_ALL = 0;
+    private static final byte KEY_ENCODED = 1;
+
+    private final List<Consumer<CacheInvalidationBatch>> subscribers = new CopyOnWriteArrayList<>();
+    private final CacheInvalidationKeyCodec keyCodec;
+    private final MulticastSocket socket;
+    private final InetAddress group;
+    private final int port;
+    private volatile boolean running = true;
+
+    /**
+     * Joins the configured multicast group and starts receiving invalidations.
+     *
+     * @param configuration The multicast configuration
+     * @param keyCodec      The codec of the keys
+     */
+    public MulticastCacheInvalidationChannel(MulticastCacheInvalidationConfiguration configuration, CacheInvalidationKeyCodec keyCodec) {
+        this.keyCodec = keyCodec;
+        this.port = configuration.getPort();
+        try {
+            this.group = InetAddress.getByName(configuration.getGroup());
+            this.socket = new MulticastSocket(port);
+            socket.setTimeToLive(configuration.getTimeToLive());
+            Optional<String> interfaceName = configuration.getNetworkInterface();
+            if (interfaceName.isPresent()) {
+                NetworkInterface networkInterface = NetworkInterface.getByName(interfaceName.get());
+                if (networkInterface == null) {
+                    throw new ConfigurationException("No network interface found for name: " + interfaceName.get());
+                }
+                socket.setNetworkInterface(networkInterface);
+            }
+            socket.joinGroup(group);
+        } catch (IOException e) {
+            throw new ConfigurationException("Unable to join multicast group [" + configuration.getGroup() + ":" + port + "]: " + e.getMessage(), e);
+        }
+        Thread receiver = new Thread(this::receive, "cache-invalidation-multicast");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @Override
+    public void publish(@Nonnull CacheInvalidationBatch batch) {
+        send(batch.getOrigin(), batch.getInvalidations());
+    }
+
+    @Override
+    public void subscribe(@Nonnull Consumer<CacheInvalidationBatch> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Leaves the multicast group and stops receiving invalidations.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        running = false;
+        try {
+            socket.leaveGroup(group);
+        } catch (IOException e) {
+            // ignore
+        } finally {
+            socket.close();
+        }
+    }
+
+    private void send(String origin, List<CacheInvalidation> invalidations) {
+        byte[] data = serialize(origin, invalidations, keyCodec);
+        if (data.length > MAX_PACKET_SIZE) {
+            if (invalidations.size() > 1) {
+                int half = invalidations.size() / 2;
+                send(origin, invalidations.subList(0, half));
+                send(origin, invalidations.subList(half, invalidations.size()));
+                return;
+            }
+            data = serialize(origin, Arrays.asList(CacheInvalidation.all(invalidations.get(0).getCacheName())), keyCodec);
+        }
+        try {
+            socket.send(new DatagramPacket(data, data.length, group, port));
+        } catch (IOException e) {
+            throw new CacheSystemException("Error sending cache invalidations: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a batch in the wire format. Keys that the codec cannot encode are written as the invalidation of all of
+     * the keys of their cache.
+     *
+     * @param origin        The origin of the batch
+     * @param invalidations The invalidations
+     * @param keyCodec      The codec of the keys
+     * @return The packet data
+     */
+    static byte[] serialize(String origin, List<CacheInvalidation> invalidations, CacheInvalidationKeyCodec keyCodec) {
+        Map<CacheInvalidation, byte[]> writable = new LinkedHashMap<>(invalidations.size());
+        for (CacheInvalidation invalidation : invalidations) {
+            Object key = invalidation.getKey();
+            Optional<byte[]> encoded = key == null ? Optional.empty() : keyCodec.encode(key);
+            if (encoded.isPresent()) {
+                writable.putIfAbsent(invalidation, encoded.get());
+            } else {
+                writable.put(CacheInvalidation.all(invalidation.getCacheName()), null);
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(origin);
+            out.writeInt(writable.size());
+            for (Map.Entry<CacheInvalidation, byte[]> invalidation : writable.entrySet()) {
+                out.writeUTF(invalidation.getKey().getCacheName());
+                byte[] key = invalidation.getValue();
+                if (key == null) {
+                    out.writeByte(KEY_ALL);
+                } else {
+                    out.writeByte(KEY_ENCODED);
+                    out.writeInt(key.length);
+                    out.write(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new CacheSystemException("Error writing cache invalidations: " + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a batch in the wire format. Keys that the codec cannot decode are read as the invalidation of all of the
+     * keys of their cache.
+     *
+     * @param data     The packet data
+     * @param offset   The offset of the batch in the data
+     * @param length   The length of the batch
+     * @param keyCodec The codec of the keys
+     * @return The batch, or empty if the data is not a batch in the wire format
+     */
+    static Optional<CacheInvalidationBatch> deserialize(byte[] data, int offset, int length, CacheInvalidationKeyCodec keyCodec) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        try {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                return Optional.empty();
+            }
+            String origin = in.readUTF();
+            int count = in.readInt();
+            // every invalidation takes at least 3 bytes
+            if (count < 0 || count > in.available() / 3) {
+                return Optional.empty();
+            }
+            List<CacheInvalidation> invalidations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String cacheName = in.readUTF();
+                byte type = in.readByte();
+                if (type == KEY_ALL) {
+                    invalidations.add(CacheInvalidation.all(cacheName));
+                } else if (type == KEY_ENCODED) {
+                    int keyLength = in.readInt();
+                    if (keyLength < 0 || keyLength > in.available()) {
+                        return Optional.empty();
+                    }
+                    byte[] key = new byte[keyLength];
+                    in.readFully(key);
+                    Optional<Object> decoded = keyCodec.decode(key);
+                    invalidations.add(decoded.isPresent() ? CacheInvalidation.of(cacheName, decoded.get()) : CacheInvalidation.all(cacheName));
+                } else {
+                    return Optional.empty();
+                }
+            }
+            if (in.available() > 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new CacheInvalidationBatch(origin, invalidations));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_PACKET_SIZE];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (running && LOG.isErrorEnabled()) {
+                    LOG.error("Error receiving cache invalidations: " + e.getMessage(), e);
+                }
+                continue;
+            }
+            Optional<CacheInvalidationBatch> batch = deserialize(packet.getData(), packet.getOffset(), packet.getLength(), keyCodec);
+            if (!batch.isPresent()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Ignoring packet from " + packet.getSocketAddress() + " that is not a cache invalidation");
+                }
+            } else {
+                for (Consumer<CacheInvalidationBatch> subscriber : subscribers) {
+                    try {
+                        subscriber.accept(batch.get());
+                    } catch (RuntimeException e) {
+                        if (LOG.isErrorEnabled()) {
+                            LOG.error("Error processing cache invalidations: " + e.getMessage(), e);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.Toggleable;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+/**
+ * Configuration for the {@link MulticastCacheInvalidationChannel}.
+ *
+ * @since 1.1
+ */
+@ConfigurationProperties(MulticastCacheInvalidationConfiguration.PREFIX)
+public class MulticastCacheInvalidationConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use to configure multicast cache invalidation.
+     */
+    public static final String PREFIX = CacheInvalidationConfiguration.PREFIX + ".multicast";
+
+    /**
+     * Setting to enable and disable the multicast channel.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * The default group value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_GROUP = "239.255.27.1";
+
+    /**
+     * The default port value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_PORT = 45566;
+
+    /**
+     * The default time to live value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_TIME_TO_LIVE = 1;
+
+    private boolean enabled = false;
+    private String group = DEFAULT_GROUP;
+    private int port = DEFAULT_PORT;
+    private int timeToLive = DEFAULT_TIME_TO_LIVE;
+    private String networkInterface;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether invalidations are sent to the other members of the cluster with UDP multicast. Default value (false).
+     *
+     * @param enabled True if the multicast channel is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The multicast group address
+     */
+    public @Nonnull String getGroup() {
+        return group;
+    }
+
+    /**
+     * Sets the multicast group address the members of the cluster join. Default value ({@value #DEFAULT_GROUP}).
+     *
+     * @param group The group address
+     */
+    public void setGroup(@Nonnull String group) {
+        ArgumentUtils.requireNonNull("group", group);
+        this.group = group;
+    }
+
+    /**
+     * @return The UDP port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets the UDP port the members of the cluster listen on. Default value ({@value #DEFAULT_PORT}).
+     *
+     * @param port The port
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * @return The time to live of multicast packets
+     */
+    public int getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live of multicast packets, which limits the number of network hops they travel. Default value
+     * ({@value #DEFAULT_TIME_TO_LIVE}).
+     *
+     * @param timeToLive The time to live
+     */
+    public void setTimeToLive(int timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return The name of the network interface used to send and receive packets, if any
+     */
+    public Optional<String> getNetworkInterface() {
+        return Optional.ofNullable(networkInterface);
+    }
+
+    /**
+     * Sets the name of the network interface used to send and receive packets, for example {@code eth0}. If not set
+     * the default interface of the system is used.
+     *
+     * @param networkInterface The network interface name
+     */
+    public void setNetworkInterface(String networkInterface) {
+        this.networkInterface = networkInterface;
+    }
+}
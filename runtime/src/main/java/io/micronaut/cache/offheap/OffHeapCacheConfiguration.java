@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.CacheConfiguration;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.serialize.JdkSerializer;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.runtime.ApplicationConfiguration;
+
+import java.io.File;
+import java.util.Optional;
+
+/**
+ * Configuration for caches that store their values outside of the Java heap. See {@link OffHeapSyncCache}.
+ *
+ * <p>In addition to the properties of {@link CacheConfiguration}, off-heap caches are bounded by the number of bytes
+ * of memory used by the serialized values.</p>
+ *
+ * @since 1.1
+ */
+@EachProperty(OffHeapCacheConfiguration.PREFIX)
+public class OffHeapCacheConfiguration extends CacheConfiguration {
+
+    /**
+     * The prefix for off-heap cache configuration.
+     */
+    public static final String PREFIX = "micronaut.off-heap-caches";
+
+    /**
+     * The default maximum memory value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAXIMUM_MEMORY = 64L * 1024 * 1024;
+
+    /**
+     * The default segments value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_SEGMENTS = 16;
+
+    /**
+     * The default block size value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private long maximumMemory = DEFAULT_MAXIMUM_MEMORY;
+    private int segments = DEFAULT_SEGMENTS;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private File file;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.TINY_LFU;
+    private Class<? extends ObjectSerializer> valueSerializer = JdkSerializer.class;
+
+    /**
+     * Creates a new cache with the given name.
+     *
+     * @param cacheName                Name or key of the cache
+     * @param applicationConfiguration The common application configuration
+     */
+    public OffHeapCacheConfiguration(@Parameter String cacheName, ApplicationConfiguration applicationConfiguration) {
+        super(cacheName, applicationConfiguration);
+    }
+
+    /**
+     * @return The maximum number of bytes of memory used to store values
+     */
+    public long getMaximumMemory() {
+        return maximumMemory;
+    }
+
+    /**
+     * Sets the maximum number of bytes of memory used to store values, for example {@code 512MB}. Default value
+     * ({@value #DEFAULT_MAXIMUM_MEMORY}).
+     *
+     * @param maximumMemory The maximum memory
+     */
+    public void setMaximumMemory(@ReadableBytes long maximumMemory) {
+        this.maximumMemory = maximumMemory;
+    }
+
+    /**
+     * @return The number of independently locked segments the memory is divided into
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * Sets the number of independently locked segments the memory is divided into. The value is rounded up to a power
+     * of two. Default value ({@value #DEFAULT_SEGMENTS}).
+     *
+     * @param segments The number of segments
+     */
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @return The size in bytes of the blocks values are stored in
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Sets the size in bytes of the blocks values are stored in. Each value occupies a whole number of blocks, so
+     * smaller blocks waste less memory for small values at the cost of a larger index. Default value
+     * ({@value #DEFAULT_BLOCK_SIZE}).
+     *
+     * @param blockSize The block size
+     */
+    public void setBlockSize(@ReadableBytes int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return The file the values are memory mapped to, if any
+     */
+    public Optional<File> getFile() {
+        return Optional.ofNullable(file);
+    }
+
+    /**
+     * Sets the file the values are memory mapped to. If not set, values are stored in direct memory. The contents of
+     * the file are not reused across restarts.
+     *
+     * @param file The file
+     */
+    public void setFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * @return The policy used to select the values that are evicted when the cache is full
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Sets the policy used to select the values that are evicted when the cache is full. Default value
+     * {@link EvictionPolicy#TINY_LFU}.
+     *
+     * @param evictionPolicy The eviction policy
+     */
+    public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        if (evictionPolicy != null) {
+            this.evictionPolicy = evictionPolicy;
+        }
+    }
+
+    /**
+     * @return The serializer used to store values
+     */
+    public Class<? extends ObjectSerializer> getValueSerializer() {
+        return valueSerializer;
+    }
+
+    /**
+     * Sets the serializer used to store values. The serializer is resolved as a bean, or instantiated if no such bean
+     * exists. Defaults to {@link JdkSerializer}.
+     *
+     * @param valueSerializer The value serializer type
+     */
+    public void setValueSerializer(Class<? extends ObjectSerializer> valueSerializer) {
+        if (valueSerializer != null) {
+            this.valueSerializer = valueSerializer;
+        }
+    }
+
+    /**
+     * The policies used to select the values that are evicted from a full cache.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used values.
+         */
+        LRU,
+        /**
+         * Evicts the least recently used values, but only admits a new value if it has been used more frequently than
+         * the values it would replace.
+         */
+        TINY_LFU
+    }
+}
@@ -0,0 +1,531 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.exceptions.CacheSystemException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The native store of an {@link OffHeapSyncCache}. Serialized values are kept in direct or memory mapped buffers
+ * outside of the Java heap, so that large caches do not add to the cost of garbage collection.</p>
+ *
+ * <p>The memory is divided into independently locked segments. Each segment is divided into fixed size blocks and a
+ * value occupies a chain of blocks, which means freed memory can always be reused without compaction. Only the keys
+ * and a small entry per value are held on the heap.</p>
+ *
+ * <p>When a segment is full the least recently used values are evicted. With the
+ * {@link OffHeapCacheConfiguration.EvictionPolicy#TINY_LFU} policy a value for a new key is only admitted if the key
+ * has been used at least as frequently as the keys of the values it would replace.</p>
+ *
+ * @since 1.1
+ */
+public final class OffHeapStore implements Closeable {
+
+    private static final int MIN_BLOCK_SIZE = 16;
+    private static final int MAX_SKETCH_ENTRIES = 1 << 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int blockSize;
+    private final long capacity;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    /**
+     * @param configuration The cache configuration
+     */
+    OffHeapStore(OffHeapCacheConfiguration configuration) {
+        this.blockSize = Math.max(MIN_BLOCK_SIZE, configuration.getBlockSize());
+        long maximumMemory = Math.max(blockSize, configuration.getMaximumMemory());
+        int segmentCount = ceilingPowerOfTwo(Math.max(1, configuration.getSegments()));
+        long maxSegmentBytes = (long) (Integer.MAX_VALUE / blockSize) * blockSize;
+        while (maximumMemory / segmentCount > maxSegmentBytes) {
+            segmentCount <<= 1;
+        }
+        long segmentBytes = Math.max(blockSize, maximumMemory / segmentCount / blockSize * blockSize);
+        long maximumEntries = configuration.getMaximumSize().isPresent() ?
+                Math.max(1, (configuration.getMaximumSize().getAsLong() + segmentCount - 1) / segmentCount) : Long.MAX_VALUE;
+        boolean tinyLfu = configuration.getEvictionPolicy() == OffHeapCacheConfiguration.EvictionPolicy.TINY_LFU;
+
+        this.segmentMask = segmentCount - 1;
+        this.capacity = segmentBytes * segmentCount;
+        this.expireAfterWrite = configuration.getExpireAfterWrite().map(Duration::toNanos).orElse(0L);
+        this.expireAfterAccess = configuration.getExpireAfterAccess().map(Duration::toNanos).orElse(0L);
+        this.segments = new Segment[segmentCount];
+        ByteBuffer[] buffers = allocate(configuration.getFile().orElse(null), segmentCount, (int) segmentBytes);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(buffers[i], maximumEntries, tinyLfu);
+        }
+    }
+
+    /**
+     * @param key The serialized key
+     * @return The serialized value, or null if there is no value for the key
+     */
+    @Nullable
+    public byte[] get(@Nonnull byte[] key) {
+        Key k = new Key(key);
+        return segmentFor(k).get(k, System.nanoTime());
+    }
+
+    /**
+     * Stores a value. The value is not stored if it is larger than a segment, in which case any previous value for the
+     * key is removed, or if a new key is rejected by the eviction policy, in which case nothing is changed.
+     *
+     * @param key   The serialized key
+     * @param value The serialized value
+     */
+    public void put(@Nonnull byte[] key, @Nonnull byte[] value) {
+        Key k = new Key(key);
+        segmentFor(k).put(k, value, false, System.nanoTime());
+    }
+
+    /**
+     * Stores a value if there is no value for the key.
+     *
+     * @param key   The serialized key
+     * @param value The serialized value
+     * @return The existing value, or null if the given value was stored
+     */
+    @Nullable
+    public byte[] putIfAbsent(@Nonnull byte[] key, @Nonnull byte[] value) {
+        Key k = new Key(key);
+        return segmentFor(k).put(k, value, true, System.nanoTime());
+    }
+
+    /**
+     * Removes the value for the given key.
+     *
+     * @param key The serialized key
+     */
+    public void remove(@Nonnull byte[] key) {
+        Key k = new Key(key);
+        segmentFor(k).remove(k);
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Releases the memory of the store. Direct buffers are freed and file mappings are unmapped, after which the store
+     * holds no values and ignores writes.
+     */
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    /**
+     * @param key  The serialized key
+     * @param unit The time unit
+     * @return The time since the value for the key was written, if there is one
+     */
+    public OptionalLong ageOf(@Nonnull byte[] key, @Nonnull TimeUnit unit) {
+        Key k = new Key(key);
+        long writeTime = segmentFor(k).writeTime(k, System.nanoTime());
+        return writeTime == -1 ? OptionalLong.empty() : OptionalLong.of(unit.convert(System.nanoTime() - writeTime, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * @return The number of values in the store
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return The number of bytes used by the stored values
+     */
+    public long memoryUsed() {
+        long used = 0;
+        for (Segment segment : segments) {
+            used += segment.usedBytes();
+        }
+        return used;
+    }
+
+    /**
+     * @return The number of bytes of memory reserved for values
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of values that were evicted or expired
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return The number of bytes of the values that were evicted or expired
+     */
+    public long evictionWeight() {
+        return evictionWeight.sum();
+    }
+
+    private Segment segmentFor(Key key) {
+        return segments[(key.hash ^ (key.hash >>> 16)) & segmentMask];
+    }
+
+    private static ByteBuffer[] allocate(File file, int segmentCount, int segmentBytes) {
+        ByteBuffer[] buffers = new ByteBuffer[segmentCount];
+        if (file == null) {
+            for (int i = 0; i < segmentCount; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(segmentBytes);
+            }
+        } else {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                randomAccessFile.setLength((long) segmentBytes * segmentCount);
+                FileChannel channel = randomAccessFile.getChannel();
+                for (int i = 0; i < segmentCount; i++) {
+                    // the mappings remain valid after the channel is closed
+                    buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentBytes, segmentBytes);
+                }
+            } catch (IOException e) {
+                throw new CacheSystemException("Unable to map off-heap cache file [" + file + "]: " + e.getMessage(), e);
+            }
+        }
+        return buffers;
+    }
+
+    /**
+     * Frees the memory of a direct or mapped buffer without waiting for it to be garbage collected. The buffer must
+     * not be accessed afterwards. If the cleaner of the running JVM cannot be accessed the memory is freed once the
+     * buffer is collected.
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // Java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * A serialized key.
+     */
+    private static final class Key {
+        final byte[] bytes;
+        final int hash;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The location and timestamps of a stored value.
+     */
+    private static final class Entry {
+        final int firstBlock;
+        final int length;
+        final int blocks;
+        final long writeTime;
+        long accessTime;
+
+        Entry(int firstBlock, int length, int blocks, long writeTime) {
+            this.firstBlock = firstBlock;
+            this.length = length;
+            this.blocks = blocks;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * A region of memory with its own lock, free list and recency order.
+     */
+    private final class Segment {
+        private ByteBuffer memory;
+        private final int[] nextBlock;
+        private final int totalBlocks;
+        private final long maximumEntries;
+        private final FrequencySketch sketch;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private int freeHead;
+        private int freeBlocks;
+        private long usedBytes;
+
+        Segment(ByteBuffer memory, long maximumEntries, boolean tinyLfu) {
+            this.memory = memory;
+            this.totalBlocks = memory.capacity() / blockSize;
+            this.nextBlock = new int[totalBlocks];
+            this.maximumEntries = maximumEntries;
+            this.sketch = tinyLfu ? new FrequencySketch(Math.min(totalBlocks, MAX_SKETCH_ENTRIES)) : null;
+            resetFreeList();
+        }
+
+        synchronized byte[] get(Key key, long now) {
+            if (memory == null) {
+                return null;
+            }
+            if (sketch != null) {
+                sketch.increment(key.hash);
+            }
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, now)) {
+                entries.remove(key);
+                evict(entry);
+                return null;
+            }
+            entry.accessTime = now;
+            return read(entry);
+        }
+
+        synchronized byte[] put(Key key, byte[] value, boolean onlyIfAbsent, long now) {
+            if (memory == null) {
+                return null;
+            }
+            if (sketch != null) {
+                sketch.increment(key.hash);
+            }
+            Entry existing = entries.get(key);
+            if (existing != null && isExpired(existing, now)) {
+                entries.remove(key);
+                evict(existing);
+                existing = null;
+            }
+            if (existing != null && onlyIfAbsent) {
+                existing.accessTime = now;
+                return read(existing);
+            }
+            int required = (value.length + blockSize - 1) / blockSize;
+            if (required > totalBlocks) {
+                if (existing != null) {
+                    entries.remove(key);
+                    release(existing);
+                }
+                return null;
+            }
+            // the victims are chosen before anything is changed, so that a rejected value leaves the segment as it was
+            List<Map.Entry<Key, Entry>> victims = Collections.emptyList();
+            int available = freeBlocks + (existing != null ? existing.blocks : 0);
+            int remaining = entries.size() - (existing != null ? 1 : 0);
+            Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+            while ((available < required || remaining >= maximumEntries) && eldest.hasNext()) {
+                Map.Entry<Key, Entry> victim = eldest.next();
+                if (victim.getValue() == existing) {
+                    continue;
+                }
+                if (existing == null && sketch != null && !isExpired(victim.getValue(), now) &&
+                        sketch.frequency(key.hash) < sketch.frequency(victim.getKey().hash)) {
+                    // the new key is used less frequently than a key whose value it would replace
+                    return null;
+                }
+                if (victims.isEmpty()) {
+                    victims = new ArrayList<>();
+                }
+                victims.add(victim);
+                available += victim.getValue().blocks;
+                remaining--;
+            }
+            for (Map.Entry<Key, Entry> victim : victims) {
+                entries.remove(victim.getKey());
+                evict(victim.getValue());
+            }
+            if (existing != null) {
+                release(existing);
+            }
+            entries.put(key, write(value, required, now));
+            return null;
+        }
+
+        synchronized void remove(Key key) {
+            if (memory == null) {
+                return;
+            }
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                release(entry);
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            usedBytes = 0;
+            resetFreeList();
+        }
+
+        synchronized void close() {
+            ByteBuffer memory = this.memory;
+            if (memory != null) {
+                this.memory = null;
+                entries.clear();
+                usedBytes = 0;
+                unmap(memory);
+            }
+        }
+
+        synchronized long writeTime(Key key, long now) {
+            if (memory == null) {
+                return -1;
+            }
+            Entry entry = entries.get(key);
+            return entry == null || isExpired(entry, now) ? -1 : entry.writeTime;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long usedBytes() {
+            return usedBytes;
+        }
+
+        private boolean isExpired(Entry entry, long now) {
+            return (expireAfterWrite > 0 && now - entry.writeTime >= expireAfterWrite) ||
+                    (expireAfterAccess > 0 && now - entry.accessTime >= expireAfterAccess);
+        }
+
+        private Entry write(byte[] value, int required, long now) {
+            int first = -1;
+            int previous = -1;
+            int offset = 0;
+            for (int i = 0; i < required; i++) {
+                int block = freeHead;
+                freeHead = nextBlock[block];
+                if (previous == -1) {
+                    first = block;
+                } else {
+                    nextBlock[previous] = block;
+                }
+                int length = Math.min(blockSize, value.length - offset);
+                memory.position(block * blockSize);
+                memory.put(value, offset, length);
+                offset += length;
+                previous = block;
+            }
+            if (previous != -1) {
+                nextBlock[previous] = -1;
+            }
+            freeBlocks -= required;
+            usedBytes += value.length;
+            return new Entry(first, value.length, required, now);
+        }
+
+        private byte[] read(Entry entry) {
+            byte[] value = new byte[entry.length];
+            int offset = 0;
+            for (int block = entry.firstBlock; block != -1; block = nextBlock[block]) {
+                int length = Math.min(blockSize, entry.length - offset);
+                memory.position(block * blockSize);
+                memory.get(value, offset, length);
+                offset += length;
+            }
+            return value;
+        }
+
+        private void evict(Entry entry) {
+            release(entry);
+            evictionCount.increment();
+            evictionWeight.add(entry.length);
+        }
+
+        private void release(Entry entry) {
+            int block = entry.firstBlock;
+            while (block != -1) {
+                int next = nextBlock[block];
+                nextBlock[block] = freeHead;
+                freeHead = block;
+                block = next;
+            }
+            freeBlocks += entry.blocks;
+            usedBytes -= entry.length;
+        }
+
+        private void resetFreeList() {
+            for (int i = 0; i < totalBlocks; i++) {
+                nextBlock[i] = i + 1 < totalBlocks ? i + 1 : -1;
+            }
+            freeHead = totalBlocks > 0 ? 0 : -1;
+            freeBlocks = totalBlocks;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.CacheStatistics;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.serialize.DefaultStringKeySerializer;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.core.type.Argument;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>A {@link SyncCache} implementation that stores serialized values outside of the Java heap in an
+ * {@link OffHeapStore}, for caches that hold more data than can comfortably be kept on the heap.</p>
+ *
+ * <p>Keys are serialized with a {@link DefaultStringKeySerializer} and values with the serializer configured by
+ * {@link OffHeapCacheConfiguration#getValueSerializer()}, so values are copied on every read and write. Since the
+ * values are held in memory the {@link #async()} method returns an implementation that runs operations in the current
+ * thread.</p>
+ *
+ * @since 1.1
+ */
+@EachBean(OffHeapCacheConfiguration.class)
+public class OffHeapSyncCache implements SyncCache<OffHeapStore>, Closeable {
+
+    private final OffHeapCacheConfiguration cacheConfiguration;
+    private final ConversionService<?> conversionService;
+    private final ObjectSerializer keySerializer;
+    private final ObjectSerializer valueSerializer;
+    private final OffHeapStore store;
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * Construct an off-heap cache with the given configuration, resolving the value serializer from the bean locator.
+     *
+     * @param cacheConfiguration The cache configuration
+     * @param beanLocator        The bean locator used to resolve the value serializer
+     * @param conversionService  To convert keys to strings and values to the required type
+     */
+    @Inject
+    public OffHeapSyncCache(
+            OffHeapCacheConfiguration cacheConfiguration,
+            BeanLocator beanLocator,
+            ConversionService<?> conversionService) {
+        this(cacheConfiguration, conversionService, findValueSerializer(cacheConfiguration, beanLocator));
+    }
+
+    /**
+     * Construct an off-heap cache with the given configuration and value serializer.
+     *
+     * @param cacheConfiguration The cache configuration
+     * @param conversionService  To convert keys to strings and values to the required type
+     * @param valueSerializer    The serializer used to store values
+     */
+    public OffHeapSyncCache(
+            OffHeapCacheConfiguration cacheConfiguration,
+            ConversionService<?> conversionService,
+            ObjectSerializer valueSerializer) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.conversionService = conversionService;
+        this.valueSerializer = valueSerializer;
+        this.keySerializer = new DefaultStringKeySerializer(
+                cacheConfiguration.getCacheName(),
+                cacheConfiguration.getCharset(),
+                conversionService
+        );
+        this.store = new OffHeapStore(cacheConfiguration);
+    }
+
+    @Override
+    public String getName() {
+        return cacheConfiguration.getCacheName();
+    }
+
+    @Override
+    public OffHeapStore getNativeCache() {
+        return store;
+    }
+
+    @Override
+    public <T> Optional<T> get(Object key, Argument<T> requiredType) {
+        byte[] value = store.get(serializeKey(key));
+        if (value == null) {
+            recordMiss();
+            return Optional.empty();
+        }
+        recordHit();
+        return deserialize(value, requiredType);
+    }
+
+    @Override
+    public <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
+        byte[] serializedKey = serializeKey(key);
+        byte[] value = store.get(serializedKey);
+        if (value != null) {
+            recordHit();
+            return convert(valueSerializer.deserialize(value), requiredType);
+        }
+        recordMiss();
+        // only one caller per key invokes the supplier, the others wait for its result
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loads.putIfAbsent(key, load);
+        if (existing != null) {
+            try {
+                return convert(Optional.ofNullable(existing.join()), requiredType);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            T result = supplier.get();
+            recordLoad(System.nanoTime() - start, true);
+            put(key, result);
+            load.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            recordLoad(System.nanoTime() - start, false);
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> putIfAbsent(Object key, T value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        byte[] existing = store.putIfAbsent(serializeKey(key), serializeValue(value));
+        if (existing == null) {
+            return Optional.empty();
+        }
+        return valueSerializer.deserialize(existing, (Class<T>) value.getClass());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // null is the same as removal
+            invalidate(key);
+        } else {
+            store.put(serializeKey(key), serializeValue(value));
+        }
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        store.remove(serializeKey(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        store.clear();
+    }
+
+    @Override
+    public void recordLoad(long loadTime, boolean success) {
+        if (cacheConfiguration.isRecordStats()) {
+            if (success) {
+                loadSuccessCount.increment();
+            } else {
+                loadFailureCount.increment();
+            }
+            totalLoadTime.add(loadTime);
+        }
+    }
+
+    @Override
+    public Optional<CacheStatistics> getStatistics() {
+        if (!cacheConfiguration.isRecordStats()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CacheStatistics(
+                hitCount.sum(),
+                missCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTime.sum(),
+                store.evictionCount(),
+                store.evictionWeight(),
+                store.size(),
+                store.memoryUsed()
+        ));
+    }
+
+    /**
+     * Releases the off-heap memory of the cache.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    @Override
+    public boolean isRefreshAheadDue(Object key) {
+        OptionalDouble refreshAheadFactor = cacheConfiguration.getRefreshAheadFactor();
+        if (!refreshAheadFactor.isPresent() || !cacheConfiguration.getExpireAfterWrite().isPresent()) {
+            return false;
+        }
+        OptionalLong age = store.ageOf(serializeKey(key), TimeUnit.MILLISECONDS);
+        long expiresAfter = cacheConfiguration.getExpireAfterWrite().get().toMillis();
+        return age.isPresent() && age.getAsLong() >= expiresAfter * refreshAheadFactor.getAsDouble();
+    }
+
+    private byte[] serializeKey(Object key) {
+        return keySerializer.serialize(key).orElseThrow(() -> new IllegalArgumentException("Cache key cannot be null"));
+    }
+
+    private byte[] serializeValue(Object value) {
+        return valueSerializer.serialize(value).orElseThrow(() ->
+                new IllegalArgumentException("Cache value cannot be serialized: " + value)
+        );
+    }
+
+    private <T> Optional<T> deserialize(byte[] value, Argument<T> requiredType) {
+        Optional<Object> deserialized = valueSerializer.deserialize(value);
+        if (!deserialized.isPresent()) {
+            return Optional.empty();
+        }
+        return conversionService.convert(deserialized.get(), ConversionContext.of(requiredType));
+    }
+
+    private <T> T convert(Optional<?> value, Argument<T> requiredType) {
+        if (!value.isPresent()) {
+            return null;
+        }
+        return conversionService.convert(value.get(), ConversionContext.of(requiredType)).orElseThrow(() ->
+                new IllegalArgumentException("Cache supplier returned a value that cannot be converted to type: " + requiredType.getName())
+        );
+    }
+
+    private void recordHit() {
+        if (cacheConfiguration.isRecordStats()) {
+            hitCount.increment();
+        }
+    }
+
+    private void recordMiss() {
+        if (cacheConfiguration.isRecordStats()) {
+            missCount.increment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectSerializer findValueSerializer(OffHeapCacheConfiguration cacheConfiguration, BeanLocator beanLocator) {
+        Class<ObjectSerializer> type = (Class<ObjectSerializer>) cacheConfiguration.getValueSerializer();
+        return beanLocator.findOrInstantiateBean(type).orElseGet(() -> InstantiationUtils.instantiate(type));
+    }
+}
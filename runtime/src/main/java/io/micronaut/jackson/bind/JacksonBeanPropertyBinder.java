@@ -23,17 +23,27 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.bind.BeanPropertyBinder;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionError;
+import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jackson.JacksonConfiguration;
 
 import javax.inject.Singleton;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,8 +59,23 @@ import java.util.Set;
 @Primary
 public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
 
+    private static final ClassValue<Boolean> JACKSON_ANNOTATED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                if (hasJacksonAnnotation(current) ||
+                        Arrays.stream(current.getDeclaredFields()).anyMatch(JacksonBeanPropertyBinder::hasJacksonAnnotation) ||
+                        Arrays.stream(current.getDeclaredMethods()).anyMatch(JacksonBeanPropertyBinder::hasJacksonAnnotation)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
     private final ObjectMapper objectMapper;
     private final int arraySizeThreshhold;
+    private final boolean introspectionEnabled;
 
     /**
      * @param objectMapper  To read/write JSON
@@ -59,6 +84,8 @@ public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
     public JacksonBeanPropertyBinder(ObjectMapper objectMapper, JacksonConfiguration configuration) {
         this.objectMapper = objectMapper;
         this.arraySizeThreshhold = configuration.getArraySizeThreshold();
+        // custom naming strategies and mix-ins change how properties are bound, leave those to Jackson
+        this.introspectionEnabled = objectMapper.getPropertyNamingStrategy() == null && objectMapper.mixInCount() == 0;
     }
 
     @Override
@@ -85,6 +112,9 @@ public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
 
     @Override
     public <T2> T2 bind(T2 object, ArgumentConversionContext<T2> context, Set<? extends Map.Entry<? extends CharSequence, Object>> source) {
+        if (bindIntrospected(object, source)) {
+            return object;
+        }
         try {
             ObjectNode objectNode = buildSourceObjectNode(source);
             objectMapper.readerForUpdating(object).readValue(objectNode);
@@ -96,6 +126,9 @@ public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
 
     @Override
     public <T2> T2 bind(T2 object, Set<? extends Map.Entry<? extends CharSequence, Object>> source) throws ConversionErrorException {
+        if (bindIntrospected(object, source)) {
+            return object;
+        }
         try {
             ObjectNode objectNode = buildSourceObjectNode(source);
             return objectMapper.readerForUpdating(object).readValue(objectNode);
@@ -151,6 +184,56 @@ public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
         }
     }
 
+    /**
+     * Binds the source directly through the {@link BeanIntrospection} of the object when the object is
+     * {@link io.micronaut.core.annotation.Introspected} and each entry is a simple value for a writable property of a
+     * simple type, so that the result is the same as binding through Jackson. Nothing is bound unless every entry
+     * can be.
+     *
+     * @param object The bean
+     * @param source The source
+     * @return True if the source was bound
+     */
+    private boolean bindIntrospected(Object object, Set<? extends Map.Entry<? extends CharSequence, Object>> source) {
+        if (object == null || !introspectionEnabled || JACKSON_ANNOTATED.get(object.getClass())) {
+            return false;
+        }
+        Optional<BeanIntrospection<Object>> introspection = BeanIntrospector.findInstanceIntrospection(object);
+        if (!introspection.isPresent()) {
+            return false;
+        }
+        List<BeanProperty<Object, Object>> properties = new ArrayList<>(source.size());
+        List<Object> values = new ArrayList<>(source.size());
+        for (Map.Entry<? extends CharSequence, Object> entry : source) {
+            Object value = entry.getValue();
+            Optional<BeanProperty<Object, Object>> property = introspection.get().getProperty(entry.getKey().toString());
+            if (value == null || !property.isPresent() || property.get().isReadOnly()) {
+                return false;
+            }
+            Class<?> type = property.get().getType();
+            if (!type.isEnum() && (type.isArray() || !ClassUtils.COMMON_CLASS_MAP.containsKey(type.getName()))) {
+                return false;
+            }
+            Class<?> wrapperType = ReflectionUtils.getWrapperType(type);
+            if (!wrapperType.isInstance(value)) {
+                if (!(value instanceof CharSequence || value instanceof Number || value instanceof Boolean)) {
+                    return false;
+                }
+                Optional<?> converted = ConversionService.SHARED.convert(value, wrapperType);
+                if (!converted.isPresent()) {
+                    return false;
+                }
+                value = converted.get();
+            }
+            properties.add(property.get());
+            values.add(value);
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            properties.get(i).set(object, values.get(i));
+        }
+        return true;
+    }
+
     private ObjectNode buildSourceObjectNode(Set<? extends Map.Entry<? extends CharSequence, Object>> source) {
         JsonNodeFactory nodeFactory = objectMapper.getNodeFactory();
         ObjectNode rootNode = new ObjectNode(nodeFactory);
@@ -276,4 +359,13 @@ public class JacksonBeanPropertyBinder implements BeanPropertyBinder {
             }
         }
     }
+
+    private static boolean hasJacksonAnnotation(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -15,11 +15,15 @@
  */
 package io.micronaut.jackson.bind;
 
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.bind.BeanPropertyBinder;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.TypeConverter;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.core.reflect.exception.InstantiationException;
+import io.micronaut.core.type.Argument;
 
 import javax.inject.Singleton;
 import java.util.LinkedHashMap;
@@ -49,19 +53,48 @@ public class MapToObjectConverter implements TypeConverter<Map, Object> {
         if (targetType.isInstance(map)) {
             return Optional.of(map);
         } else {
-            return InstantiationUtils
-                    .tryInstantiate(targetType)
+            Map<?, ?> theMap = map;
+            Map bindMap = new LinkedHashMap(map.size());
+            for (Map.Entry<?, ?> entry : theMap.entrySet()) {
+                Object key = entry.getKey();
+                bindMap.put(NameUtils.decapitalize(NameUtils.dehyphenate(key.toString())), entry.getValue());
+            }
+            Optional<BeanIntrospection<Object>> introspection = BeanIntrospector.findIntrospection(targetType);
+            Optional<Object> instance;
+            if (introspection.isPresent() && introspection.get().getConstructorArguments().length > 0) {
+                instance = instantiate(introspection.get(), bindMap);
+            } else {
+                instance = InstantiationUtils.tryInstantiate(targetType);
+            }
+            return instance.map(object -> beanPropertyBinder.bind(object, bindMap));
+        }
+    }
 
-                    .map(object -> {
-                                Map<?, ?> theMap = map;
-                                Map bindMap = new LinkedHashMap(map.size());
-                                for (Map.Entry<?, ?> entry : theMap.entrySet()) {
-                                    Object key = entry.getKey();
-                                    bindMap.put(NameUtils.decapitalize(NameUtils.dehyphenate(key.toString())), entry.getValue());
-                                }
-                                return beanPropertyBinder.bind(object, bindMap);
-                            }
-                    );
+    /**
+     * Instantiates an {@link io.micronaut.core.annotation.Introspected} type that has no default constructor with the
+     * entries of the map that match the names of the constructor arguments, which are removed from the map.
+     *
+     * @param introspection The introspection
+     * @param bindMap       The map to bind
+     * @return The instance, or empty if a constructor argument is missing or invalid
+     */
+    private Optional<Object> instantiate(BeanIntrospection<Object> introspection, Map<?, ?> bindMap) {
+        Argument<?>[] arguments = introspection.getConstructorArguments();
+        Object[] values = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            values[i] = bindMap.get(arguments[i].getName());
+            if (values[i] == null) {
+                return Optional.empty();
+            }
+        }
+        try {
+            Object instance = introspection.instantiate(values);
+            for (Argument<?> argument : arguments) {
+                bindMap.remove(argument.getName());
+            }
+            return Optional.of(instance);
+        } catch (InstantiationException e) {
+            return Optional.empty();
         }
     }
 }
@@ -16,7 +16,6 @@
 package io.micronaut.reactive.rxjava2;
 
 import io.micronaut.core.annotation.Internal;
-import io.micronaut.scheduling.instrument.ReactiveInstrumenter;
 import io.micronaut.scheduling.instrument.RunnableInstrumenter;
 import io.reactivex.*;
 import io.reactivex.flowables.ConnectableFlowable;
@@ -25,7 +24,6 @@ import io.reactivex.parallel.ParallelFlowable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -61,7 +59,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static Completable wrap(
-            CompletableSource source, Collection<ReactiveInstrumenter> instrumentations) {
+            CompletableSource source, List<RunnableInstrumenter> instrumentations) {
         if (source instanceof Callable) {
             return new RxInstrumentedCallableCompletable<>(source, instrumentations);
         }
@@ -76,7 +74,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static <T> Maybe<T> wrap(
-            MaybeSource<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            MaybeSource<T> source, List<RunnableInstrumenter> instrumentations) {
         if (source instanceof Callable) {
             return new RxInstrumentedCallableMaybe<>(source, instrumentations);
         }
@@ -91,7 +89,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static <T> Single<T> wrap(
-            SingleSource<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            SingleSource<T> source, List<RunnableInstrumenter> instrumentations) {
         if (source instanceof Callable) {
             return new RxInstrumentedCallableSingle<>(source, instrumentations);
         }
@@ -106,7 +104,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static <T> Observable<T> wrap(
-            ObservableSource<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            ObservableSource<T> source, List<RunnableInstrumenter> instrumentations) {
         if (source instanceof Callable) {
             return new RxInstrumentedCallableObservable<>(source, instrumentations);
         }
@@ -121,7 +119,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static <T> ConnectableObservable<T> wrap(
-            ConnectableObservable<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            ConnectableObservable<T> source, List<RunnableInstrumenter> instrumentations) {
         return new RxInstrumentedConnectableObservable<>(source, instrumentations);
     }
 
@@ -133,7 +131,7 @@ final class RxInstrumentedWrappers {
      * @return The wrapped subscriber
      */
     static <T> Flowable<T> wrap(
-            Publisher<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            Publisher<T> source, List<RunnableInstrumenter> instrumentations) {
         if (source instanceof Callable) {
             return new RxInstrumentedCallableFlowable<>(source, instrumentations);
         }
@@ -149,7 +147,7 @@ final class RxInstrumentedWrappers {
      */
 
     static <T> ConnectableFlowable<T> wrap(
-            ConnectableFlowable<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            ConnectableFlowable<T> source, List<RunnableInstrumenter> instrumentations) {
         return new RxInstrumentedConnectableFlowable<>(source, instrumentations);
     }
 
@@ -162,7 +160,7 @@ final class RxInstrumentedWrappers {
      */
 
     static <T> ParallelFlowable<T> wrap(
-            ParallelFlowable<T> source, Collection<ReactiveInstrumenter> instrumentations) {
+            ParallelFlowable<T> source, List<RunnableInstrumenter> instrumentations) {
         return new RxInstrumentedParallelFlowable<>(source, instrumentations);
     }
 
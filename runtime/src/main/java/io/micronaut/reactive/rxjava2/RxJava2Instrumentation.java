@@ -17,27 +17,33 @@ package io.micronaut.reactive.rxjava2;
 
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.scheduling.instrument.ReactiveInstrumenter;
 import io.micronaut.scheduling.instrument.RunnableInstrumenter;
 import io.reactivex.*;
 import io.reactivex.flowables.ConnectableFlowable;
+import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
 import io.reactivex.observables.ConnectableObservable;
 import io.reactivex.parallel.ParallelFlowable;
 import io.reactivex.plugins.RxJavaPlugins;
+import org.reactivestreams.Subscriber;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Provides a single point of entry for all instrumentations for RxJava 2.x.
+ * Provides a single point of entry for all instrumentations for RxJava 2.x. The way reactive state is propagated is
+ * set by the {@link RxJava2InstrumentationMode}.
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -48,8 +54,25 @@ import java.util.List;
 @Internal
 class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoCloseable {
 
+    /**
+     * The property to configure the {@link RxJava2InstrumentationMode}.
+     */
+    static final String MODE = "micronaut.rxjava2.instrumentation.mode";
+
+    /**
+     * Whether a subscriber class is the inner subscriber of an RxJava operator, which is subscribed by the operator
+     * rather than by application code.
+     */
+    private static final ClassValue<Boolean> OPERATOR_SUBSCRIBERS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith("io.reactivex.internal.operators.");
+        }
+    };
+
     private final List<RunnableInstrumenter> instrumenters;
     private final List<ReactiveInstrumenter> reactiveInstrumenters;
+    private final RxJava2InstrumentationMode mode;
     private Function<? super Completable, ? extends Completable> oldCompletableHook;
     private Function<? super Maybe, ? extends Maybe> oldMaybeHook;
     private Function<? super Single, ? extends Single> oldSingleHook;
@@ -58,6 +81,11 @@ class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoClosea
     private Function<? super ConnectableFlowable, ? extends ConnectableFlowable> oldConnectableFlowableHook;
     private Function<? super ConnectableObservable, ? extends ConnectableObservable> oldConnectableObservableHook;
     private Function<? super ParallelFlowable, ? extends ParallelFlowable> oldParallelFlowableHook;
+    private BiFunction<? super Flowable, ? super Subscriber, ? extends Subscriber> oldFlowableSubscribeHook;
+    private BiFunction<? super Observable, ? super Observer, ? extends Observer> oldObservableSubscribeHook;
+    private BiFunction<? super Single, ? super SingleObserver, ? extends SingleObserver> oldSingleSubscribeHook;
+    private BiFunction<? super Maybe, ? super MaybeObserver, ? extends MaybeObserver> oldMaybeSubscribeHook;
+    private BiFunction<? super Completable, ? super CompletableObserver, ? extends CompletableObserver> oldCompletableSubscribeHook;
 
     /**
      * Creates a new instance.
@@ -83,10 +111,24 @@ class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoClosea
      * @param instrumenters The instrumenters for the {@link Runnable} interface
      * @param reactiveInstrumenters The reactive instrumenters
      */
+    public RxJava2Instrumentation(List<RunnableInstrumenter> instrumenters,
+                                  List<ReactiveInstrumenter> reactiveInstrumenters) {
+        this(instrumenters, reactiveInstrumenters, RxJava2InstrumentationMode.ASSEMBLY);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param instrumenters The instrumenters for the {@link Runnable} interface
+     * @param reactiveInstrumenters The reactive instrumenters
+     * @param mode The instrumentation mode
+     */
     @Inject public RxJava2Instrumentation(List<RunnableInstrumenter> instrumenters,
-                                          List<ReactiveInstrumenter> reactiveInstrumenters) {
+                                          List<ReactiveInstrumenter> reactiveInstrumenters,
+                                          @Value("${" + MODE + ":assembly}") RxJava2InstrumentationMode mode) {
         this.instrumenters = instrumenters;
         this.reactiveInstrumenters = reactiveInstrumenters;
+        this.mode = mode;
     }
 
     /**
@@ -94,87 +136,15 @@ class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoClosea
      */
     @PostConstruct
     void init() {
+        if (mode == RxJava2InstrumentationMode.NONE) {
+            return;
+        }
         if (CollectionUtils.isNotEmpty(reactiveInstrumenters)) {
-            oldCompletableHook =
-                    RxJavaPlugins.getOnCompletableAssembly();
-            oldMaybeHook = RxJavaPlugins.getOnMaybeAssembly();
-            oldSingleHook = RxJavaPlugins.getOnSingleAssembly();
-            oldObservableHook =
-                    RxJavaPlugins.getOnObservableAssembly();
-            oldFlowableHook =
-                    RxJavaPlugins.getOnFlowableAssembly();
-            oldConnectableFlowableHook =
-                    RxJavaPlugins.getOnConnectableFlowableAssembly();
-            oldConnectableObservableHook =
-                    RxJavaPlugins.getOnConnectableObservableAssembly();
-            oldParallelFlowableHook =
-                    RxJavaPlugins.getOnParallelAssembly();
-
-            RxJavaPlugins.setOnCompletableAssembly(completable -> {
-                final Completable wrapped = RxInstrumentedWrappers.wrap(completable, reactiveInstrumenters);
-                if (oldCompletableHook != null) {
-                    return oldCompletableHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnMaybeAssembly(maybe -> {
-                final Maybe wrapped = RxInstrumentedWrappers.wrap(maybe, reactiveInstrumenters);
-                if (oldMaybeHook != null) {
-                    return oldMaybeHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnSingleAssembly(single -> {
-                final Single wrapped = RxInstrumentedWrappers.wrap(single, reactiveInstrumenters);
-                if (oldSingleHook != null) {
-                    return oldSingleHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnObservableAssembly(observable -> {
-                final Observable wrapped = RxInstrumentedWrappers.wrap(observable, reactiveInstrumenters);
-                if (oldObservableHook != null) {
-                    return oldObservableHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnFlowableAssembly(flowable -> {
-                final Flowable wrapped = RxInstrumentedWrappers.wrap(flowable, reactiveInstrumenters);
-                if (oldFlowableHook != null) {
-                    return oldFlowableHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnConnectableFlowableAssembly(
-                    connectableFlowable -> {
-                        final ConnectableFlowable wrapped = RxInstrumentedWrappers.wrap(connectableFlowable, reactiveInstrumenters);
-                        if (oldConnectableFlowableHook != null) {
-                            return oldConnectableFlowableHook.apply(wrapped);
-                        }
-                        return wrapped;
-                    });
-
-            RxJavaPlugins.setOnConnectableObservableAssembly(connectableObservable -> {
-                final ConnectableObservable wrapped = RxInstrumentedWrappers.wrap(connectableObservable, reactiveInstrumenters);
-                if (oldConnectableObservableHook != null) {
-                    return oldConnectableObservableHook.apply(connectableObservable);
-                }
-                return wrapped;
-            });
-
-            RxJavaPlugins.setOnParallelAssembly(parallelFlowable -> {
-                final ParallelFlowable wrapped = RxInstrumentedWrappers.wrap(parallelFlowable, reactiveInstrumenters);
-                if (oldParallelFlowableHook != null) {
-                    return oldParallelFlowableHook.apply(wrapped);
-                }
-                return wrapped;
-            });
-
+            if (mode == RxJava2InstrumentationMode.SUBSCRIPTION) {
+                initSubscriptionHooks();
+            } else {
+                initAssemblyHooks();
+            }
         }
 
         if (CollectionUtils.isNotEmpty(instrumenters)) {
@@ -187,6 +157,169 @@ class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoClosea
         }
     }
 
+    /**
+     * Wraps every assembled type, so the state is restored around each signal of each operator.
+     */
+    private void initAssemblyHooks() {
+        oldCompletableHook =
+                RxJavaPlugins.getOnCompletableAssembly();
+        oldMaybeHook = RxJavaPlugins.getOnMaybeAssembly();
+        oldSingleHook = RxJavaPlugins.getOnSingleAssembly();
+        oldObservableHook =
+                RxJavaPlugins.getOnObservableAssembly();
+        oldFlowableHook =
+                RxJavaPlugins.getOnFlowableAssembly();
+        oldConnectableFlowableHook =
+                RxJavaPlugins.getOnConnectableFlowableAssembly();
+        oldConnectableObservableHook =
+                RxJavaPlugins.getOnConnectableObservableAssembly();
+        oldParallelFlowableHook =
+                RxJavaPlugins.getOnParallelAssembly();
+
+        RxJavaPlugins.setOnCompletableAssembly(completable -> {
+            final Completable wrapped = wrap(completable, RxInstrumentedWrappers::wrap);
+            if (oldCompletableHook != null) {
+                return oldCompletableHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnMaybeAssembly(maybe -> {
+            final Maybe wrapped = wrap(maybe, RxInstrumentedWrappers::wrap);
+            if (oldMaybeHook != null) {
+                return oldMaybeHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnSingleAssembly(single -> {
+            final Single wrapped = wrap(single, RxInstrumentedWrappers::wrap);
+            if (oldSingleHook != null) {
+                return oldSingleHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnObservableAssembly(observable -> {
+            final Observable wrapped = wrap(observable, RxInstrumentedWrappers::wrap);
+            if (oldObservableHook != null) {
+                return oldObservableHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnFlowableAssembly(flowable -> {
+            final Flowable wrapped = wrap(flowable, RxInstrumentedWrappers::wrap);
+            if (oldFlowableHook != null) {
+                return oldFlowableHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnConnectableFlowableAssembly(
+                connectableFlowable -> {
+                    final ConnectableFlowable wrapped = wrap(connectableFlowable, RxInstrumentedWrappers::wrap);
+                    if (oldConnectableFlowableHook != null) {
+                        return oldConnectableFlowableHook.apply(wrapped);
+                    }
+                    return wrapped;
+                });
+
+        RxJavaPlugins.setOnConnectableObservableAssembly(connectableObservable -> {
+            final ConnectableObservable wrapped = wrap(connectableObservable, RxInstrumentedWrappers::wrap);
+            if (oldConnectableObservableHook != null) {
+                return oldConnectableObservableHook.apply(connectableObservable);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnParallelAssembly(parallelFlowable -> {
+            final ParallelFlowable wrapped = wrap(parallelFlowable, RxInstrumentedWrappers::wrap);
+            if (oldParallelFlowableHook != null) {
+                return oldParallelFlowableHook.apply(wrapped);
+            }
+            return wrapped;
+        });
+    }
+
+    /**
+     * Wraps the subscriber that subscribes to a chain only. The inner subscribers of operators are not wrapped.
+     */
+    private void initSubscriptionHooks() {
+        oldFlowableSubscribeHook = RxJavaPlugins.getOnFlowableSubscribe();
+        oldObservableSubscribeHook = RxJavaPlugins.getOnObservableSubscribe();
+        oldSingleSubscribeHook = RxJavaPlugins.getOnSingleSubscribe();
+        oldMaybeSubscribeHook = RxJavaPlugins.getOnMaybeSubscribe();
+        oldCompletableSubscribeHook = RxJavaPlugins.getOnCompletableSubscribe();
+
+        RxJavaPlugins.setOnFlowableSubscribe((flowable, subscriber) -> {
+            final Subscriber wrapped = wrap(subscriber, RxInstrumentedWrappers::wrap);
+            if (oldFlowableSubscribeHook != null) {
+                return oldFlowableSubscribeHook.apply(flowable, wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnObservableSubscribe((observable, observer) -> {
+            final Observer wrapped = wrap(observer, RxInstrumentedWrappers::wrap);
+            if (oldObservableSubscribeHook != null) {
+                return oldObservableSubscribeHook.apply(observable, wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnSingleSubscribe((single, observer) -> {
+            final SingleObserver wrapped = wrap(observer, RxInstrumentedWrappers::wrap);
+            if (oldSingleSubscribeHook != null) {
+                return oldSingleSubscribeHook.apply(single, wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnMaybeSubscribe((maybe, observer) -> {
+            final MaybeObserver wrapped = wrap(observer, RxInstrumentedWrappers::wrap);
+            if (oldMaybeSubscribeHook != null) {
+                return oldMaybeSubscribeHook.apply(maybe, wrapped);
+            }
+            return wrapped;
+        });
+
+        RxJavaPlugins.setOnCompletableSubscribe((completable, observer) -> {
+            final CompletableObserver wrapped = wrap(observer, RxInstrumentedWrappers::wrap);
+            if (oldCompletableSubscribeHook != null) {
+                return oldCompletableSubscribeHook.apply(completable, wrapped);
+            }
+            return wrapped;
+        });
+    }
+
+    /**
+     * Wraps a type or subscriber with the instrumentations that are active on the current thread. Nothing is wrapped
+     * if none are active, and in {@link RxJava2InstrumentationMode#SUBSCRIPTION} mode the subscribers of operators are
+     * not wrapped.
+     *
+     * @param target The type or subscriber
+     * @param wrapper Wraps the target with the active instrumentations
+     * @param <T> The type of the target
+     * @return The wrapped target, or the target if nothing is wrapped
+     */
+    private <T> T wrap(T target, java.util.function.BiFunction<T, List<RunnableInstrumenter>, ? extends T> wrapper) {
+        if (mode == RxJava2InstrumentationMode.SUBSCRIPTION && (target instanceof RxInstrumentedComponent || OPERATOR_SUBSCRIBERS.get(target.getClass()))) {
+            return target;
+        }
+        List<RunnableInstrumenter> active = null;
+        for (ReactiveInstrumenter reactiveInstrumenter : reactiveInstrumenters) {
+            Optional<RunnableInstrumenter> instrumentation = reactiveInstrumenter.newInstrumentation();
+            if (instrumentation.isPresent()) {
+                if (active == null) {
+                    active = new ArrayList<>(reactiveInstrumenters.size());
+                }
+                active.add(instrumentation.get());
+            }
+        }
+        return active == null ? target : wrapper.apply(target, active);
+    }
+
     @Override
     public Runnable apply(Runnable runnable) throws Exception {
         Runnable newRunnable = runnable;
@@ -200,14 +333,22 @@ class RxJava2Instrumentation implements Function<Runnable, Runnable>, AutoClosea
     @PreDestroy
     public void close() {
         try {
-            RxJavaPlugins.setOnCompletableAssembly(oldCompletableHook);
-            RxJavaPlugins.setOnSingleAssembly(oldSingleHook);
-            RxJavaPlugins.setOnMaybeAssembly(oldMaybeHook);
-            RxJavaPlugins.setOnObservableAssembly(oldObservableHook);
-            RxJavaPlugins.setOnFlowableAssembly(oldFlowableHook);
-            RxJavaPlugins.setOnConnectableObservableAssembly(oldConnectableObservableHook);
-            RxJavaPlugins.setOnConnectableFlowableAssembly(oldConnectableFlowableHook);
-            RxJavaPlugins.setOnParallelAssembly(oldParallelFlowableHook);
+            if (mode == RxJava2InstrumentationMode.ASSEMBLY) {
+                RxJavaPlugins.setOnCompletableAssembly(oldCompletableHook);
+                RxJavaPlugins.setOnSingleAssembly(oldSingleHook);
+                RxJavaPlugins.setOnMaybeAssembly(oldMaybeHook);
+                RxJavaPlugins.setOnObservableAssembly(oldObservableHook);
+                RxJavaPlugins.setOnFlowableAssembly(oldFlowableHook);
+                RxJavaPlugins.setOnConnectableObservableAssembly(oldConnectableObservableHook);
+                RxJavaPlugins.setOnConnectableFlowableAssembly(oldConnectableFlowableHook);
+                RxJavaPlugins.setOnParallelAssembly(oldParallelFlowableHook);
+            } else if (mode == RxJava2InstrumentationMode.SUBSCRIPTION) {
+                RxJavaPlugins.setOnFlowableSubscribe(oldFlowableSubscribeHook);
+                RxJavaPlugins.setOnObservableSubscribe(oldObservableSubscribeHook);
+                RxJavaPlugins.setOnSingleSubscribe(oldSingleSubscribeHook);
+                RxJavaPlugins.setOnMaybeSubscribe(oldMaybeSubscribeHook);
+                RxJavaPlugins.setOnCompletableSubscribe(oldCompletableSubscribeHook);
+            }
         } catch (Exception e) {
             // ignore
         }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.reactive.rxjava2;
+
+/**
+ * How the state captured by {@link io.micronaut.scheduling.instrument.ReactiveInstrumenter} beans, such as the
+ * current request or tracing span, is propagated through RxJava 2 types. Configured with
+ * {@code micronaut.rxjava2.instrumentation.mode}.
+ *
+ * @since 1.1
+ */
+public enum RxJava2InstrumentationMode {
+
+    /**
+     * Every assembled type and every subscriber is wrapped, so the state is restored around each signal of each
+     * operator. This is the default.
+     */
+    ASSEMBLY,
+
+    /**
+     * Only the subscriber that subscribes to a chain is wrapped, and tasks submitted to RxJava schedulers restore the
+     * state of the thread that submitted them. Operators invoked on a thread that is not managed by RxJava, for
+     * example by a callback of a non blocking client, do not see the state, but no object is added per operator.
+     */
+    SUBSCRIPTION,
+
+    /**
+     * No RxJava hooks are installed.
+     */
+    NONE
+}
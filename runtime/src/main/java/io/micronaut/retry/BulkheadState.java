@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry;
+
+import io.micronaut.retry.annotation.Bulkhead;
+
+/**
+ * The state of a {@link Bulkhead}, for monitoring.
+ *
+ * @since 1.1
+ */
+public interface BulkheadState {
+
+    /**
+     * @return The name of the bulkhead
+     */
+    String getName();
+
+    /**
+     * @return The isolation of the calls
+     */
+    Bulkhead.Isolation getIsolation();
+
+    /**
+     * @return The maximum number of concurrent calls
+     */
+    int getMaxConcurrentCalls();
+
+    /**
+     * @return The number of calls in flight
+     */
+    int getActiveCalls();
+
+    /**
+     * @return The number of calls waiting to be admitted
+     */
+    int getQueueDepth();
+
+    /**
+     * @return The number of calls rejected since the bulkhead was created
+     */
+    long getRejectedCalls();
+}
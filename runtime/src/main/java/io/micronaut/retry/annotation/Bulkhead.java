@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import javax.validation.constraints.Digits;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>AOP Advice that limits the number of concurrent calls to a method, so that a slow dependency cannot exhaust the
+ * threads of the caller. Calls beyond the limit are rejected with a
+ * {@link io.micronaut.retry.exception.BulkheadFullException}, which is handled by a {@link Fallback} if one
+ * exists.</p>
+ *
+ * <p>For methods that return a {@link java.util.concurrent.CompletableFuture} or a reactive type a call is in flight
+ * until the result completes, and the {@link Isolation#THREAD_POOL} isolation only applies to the invocation of the
+ * method itself.</p>
+ *
+ * @since 1.1
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Recoverable
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    int MAX_INTEGRAL_DIGITS = 6;
+
+    /**
+     * The name of the bulkhead. Methods with the same name share the same limit. Defaults to a bulkhead per method.
+     *
+     * @return The name of the bulkhead
+     */
+    String value() default "";
+
+    /**
+     * @return The maximum number of concurrent calls
+     */
+    @Digits(integer = MAX_INTEGRAL_DIGITS, fraction = 0)
+    String maxConcurrentCalls() default "10";
+
+    /**
+     * The maximum time to wait for a call to be admitted with {@link Isolation#SEMAPHORE} isolation. By default
+     * calls beyond the limit are rejected immediately.
+     *
+     * @return The maximum wait duration
+     */
+    String maxWaitDuration() default "0ms";
+
+    /**
+     * The maximum number of calls waiting for a thread with {@link Isolation#THREAD_POOL} isolation.
+     *
+     * @return The maximum queue size
+     */
+    @Digits(integer = MAX_INTEGRAL_DIGITS, fraction = 0)
+    String maxQueueSize() default "0";
+
+    /**
+     * @return The isolation of the calls
+     */
+    Isolation isolation() default Isolation.SEMAPHORE;
+
+    /**
+     * The ways the calls of a bulkhead are isolated.
+     */
+    enum Isolation {
+        /**
+         * Calls run in the calling thread and are admitted with a permit.
+         */
+        SEMAPHORE,
+        /**
+         * Calls run in a dedicated thread pool while the calling thread waits for the result.
+         */
+        THREAD_POOL
+    }
+}
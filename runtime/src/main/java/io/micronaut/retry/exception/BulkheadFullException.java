@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.exception;
+
+/**
+ * An exception thrown when a call is rejected because the {@link io.micronaut.retry.annotation.Bulkhead} of the
+ * method has no capacity left.
+ *
+ * <p>The exception does not capture a stack trace, since calls are rejected when the application is already under
+ * load. A single instance is reused for every rejection of a bulkhead.</p>
+ *
+ * @since 1.1
+ */
+public class BulkheadFullException extends RetryException {
+
+    /**
+     * @param message the detail message
+     */
+    public BulkheadFullException(String message) {
+        super(message, null, false, false);
+    }
+}
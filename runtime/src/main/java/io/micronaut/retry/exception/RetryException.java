@@ -51,4 +51,17 @@ public class RetryException extends RuntimeException {
     public RetryException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new Retry exception with the specified detail message, cause, suppression enabled or disabled and
+     * writable stack trace enabled or disabled.
+     *
+     * @param message            the detail message
+     * @param cause              the cause
+     * @param enableSuppression  whether or not suppression is enabled or disabled
+     * @param writableStackTrace whether or not the stack trace should be writable
+     */
+    protected RetryException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.BulkheadState;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadFullException;
+import io.reactivex.Flowable;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent calls to a method according to the specified
+ * {@link Bulkhead} annotation.
+ *
+ * <p>Blocking calls with {@link Bulkhead.Isolation#THREAD_POOL} isolation run in the threads of the bulkhead. Calls
+ * that return a {@link CompletionStage} hold a permit until the result completes. Calls that return a reactive type
+ * take a permit when the result is subscribed to and never wait for one.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object>, Closeable {
+
+    /**
+     * Positioned after the {@link io.micronaut.retry.annotation.Retryable} interceptor, so that each attempt is
+     * admitted separately.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() + 10;
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 10;
+
+    private final Map<ExecutableMethod, DefaultBulkhead> bulkheadsByMethod = new ConcurrentHashMap<>();
+    private final Map<String, DefaultBulkhead> bulkheadsByName = new ConcurrentHashMap<>();
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    /**
+     * @return The state of the bulkheads that have been used
+     */
+    public Collection<BulkheadState> getBulkheads() {
+        Collection<BulkheadState> bulkheads = new ArrayList<>(bulkheadsByName.values());
+        for (DefaultBulkhead bulkhead : bulkheadsByMethod.values()) {
+            if (!bulkheads.contains(bulkhead)) {
+                bulkheads.add(bulkhead);
+            }
+        }
+        return Collections.unmodifiableCollection(bulkheads);
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasAnnotation(Bulkhead.class)) {
+            return context.proceed();
+        }
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        DefaultBulkhead bulkhead = bulkheadsByMethod.get(method);
+        if (bulkhead == null) {
+            bulkhead = bulkheadsByMethod.computeIfAbsent(method, m -> createBulkhead(context));
+        }
+
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        if (CompletionStage.class.isAssignableFrom(javaReturnType)) {
+            return interceptCompletionStage(context, bulkhead);
+        } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            return interceptPublisher(context, bulkhead, returnType);
+        } else if (bulkhead.getExecutor() != null) {
+            return interceptInThreadPool(context, bulkhead.getExecutor());
+        } else {
+            if (!bulkhead.tryAcquire(true)) {
+                throw bulkhead.reject();
+            }
+            try {
+                return context.proceed();
+            } finally {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * Stops the threads of the bulkheads.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        bulkheadsByMethod.values().forEach(DefaultBulkhead::shutdown);
+        bulkheadsByName.values().forEach(DefaultBulkhead::shutdown);
+    }
+
+    private DefaultBulkhead createBulkhead(MethodInvocationContext<Object, Object> context) {
+        String name = context.getValue(Bulkhead.class, String.class).orElse(null);
+        if (name == null || name.isEmpty()) {
+            return newBulkhead(context, context.getDeclaringType().getName() + "." + context.getMethodName());
+        }
+        return bulkheadsByName.computeIfAbsent(name, n -> newBulkhead(context, n));
+    }
+
+    private DefaultBulkhead newBulkhead(MethodInvocationContext<Object, Object> context, String name) {
+        int maxConcurrentCalls = context.getValue(Bulkhead.class, "maxConcurrentCalls", Integer.class)
+                .orElse(DEFAULT_MAX_CONCURRENT_CALLS);
+        Duration maxWaitDuration = context.getValue(Bulkhead.class, "maxWaitDuration", Duration.class)
+                .orElse(Duration.ZERO);
+        int maxQueueSize = context.getValue(Bulkhead.class, "maxQueueSize", Integer.class).orElse(0);
+        Bulkhead.Isolation isolation = context.getValue(Bulkhead.class, "isolation", Bulkhead.Isolation.class)
+                .orElse(Bulkhead.Isolation.SEMAPHORE);
+        return new DefaultBulkhead(name, isolation, maxConcurrentCalls, maxWaitDuration.toNanos(), maxQueueSize);
+    }
+
+    private Object interceptInThreadPool(MethodInvocationContext<Object, Object> context, ThreadPoolExecutor executor) {
+        Future<Object> future = executor.submit((Callable<Object>) context::proceed);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UndeclaredThrowableException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptCompletionStage(MethodInvocationContext<Object, Object> context, DefaultBulkhead bulkhead) {
+        ThreadPoolExecutor executor = bulkhead.getExecutor();
+        if (executor != null) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            try {
+                executor.execute(() -> {
+                    try {
+                        Object result = context.proceed();
+                        if (result instanceof CompletionStage) {
+                            ((CompletionStage<Object>) result).whenComplete((value, throwable) -> {
+                                if (throwable != null) {
+                                    future.completeExceptionally(throwable);
+                                } else {
+                                    future.complete(value);
+                                }
+                            });
+                        } else {
+                            future.complete(result);
+                        }
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (BulkheadFullException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        if (!bulkhead.tryAcquire(true)) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            future.completeExceptionally(bulkhead.reject());
+            return future;
+        }
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (RuntimeException | Error e) {
+            bulkhead.release();
+            throw e;
+        }
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<Object>) result).whenComplete((value, throwable) -> bulkhead.release());
+        } else {
+            bulkhead.release();
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptPublisher(MethodInvocationContext<Object, Object> context, DefaultBulkhead bulkhead, ReturnType<Object> returnType) {
+        Object result = context.proceed();
+        if (result == null) {
+            return null;
+        }
+        ConversionService<?> conversionService = ConversionService.SHARED;
+        Flowable<Object> flowable = conversionService
+                .convert(result, Flowable.class)
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+        Flowable<Object> bulkheadFlowable = Flowable.defer(() -> {
+            if (!bulkhead.tryAcquire(false)) {
+                return Flowable.error(bulkhead.reject());
+            }
+            return flowable.doFinally(bulkhead::release);
+        });
+        return conversionService
+                .convert(bulkheadFlowable, returnType.asArgument())
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.retry.BulkheadState;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadFullException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The permits and, for {@link Bulkhead.Isolation#THREAD_POOL} isolation, the threads of a {@link Bulkhead}.
+ *
+ * @since 1.1
+ */
+@Internal
+final class DefaultBulkhead implements BulkheadState {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final Bulkhead.Isolation isolation;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final BulkheadFullException rejection;
+
+    /**
+     * @param name               The name
+     * @param isolation          The isolation
+     * @param maxConcurrentCalls The maximum number of concurrent calls
+     * @param maxWaitNanos       The maximum time to wait for a permit
+     * @param maxQueueSize       The maximum number of calls waiting for a thread
+     */
+    DefaultBulkhead(String name, Bulkhead.Isolation isolation, int maxConcurrentCalls, long maxWaitNanos, int maxQueueSize) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Bulkhead [" + name + "] must allow at least one concurrent call");
+        }
+        this.name = name;
+        this.isolation = isolation;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWaitNanos;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejection = new BulkheadFullException("Bulkhead [" + name + "] is full");
+        if (isolation == Bulkhead.Isolation.THREAD_POOL) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            BlockingQueue<Runnable> queue = maxQueueSize > 0 ? new ArrayBlockingQueue<>(maxQueueSize) : new SynchronousQueue<>();
+            this.executor = new ThreadPoolExecutor(
+                    maxConcurrentCalls,
+                    maxConcurrentCalls,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    queue,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, pool) -> {
+                        throw reject();
+                    }
+            );
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bulkhead.Isolation getIsolation() {
+        return isolation;
+    }
+
+    @Override
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    @Override
+    public int getActiveCalls() {
+        int active = maxConcurrentCalls - permits.availablePermits();
+        return executor != null ? Math.max(active, executor.getActiveCount()) : active;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return executor != null ? executor.getQueue().size() : permits.getQueueLength();
+    }
+
+    @Override
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * @return The executor of {@link Bulkhead.Isolation#THREAD_POOL} isolation, otherwise null
+     */
+    ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Admits a call.
+     *
+     * @param mayWait Whether to wait up to the maximum wait duration for a permit
+     * @return Whether the call was admitted
+     */
+    boolean tryAcquire(boolean mayWait) {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (mayWait && maxWaitNanos > 0) {
+            try {
+                if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Releases the permit of a call admitted by {@link #tryAcquire(boolean)}.
+     */
+    void release() {
+        permits.release();
+    }
+
+    /**
+     * Records a rejected call.
+     *
+     * @return The exception to signal the rejection with
+     */
+    BulkheadFullException reject() {
+        rejectedCalls.increment();
+        return rejection;
+    }
+
+    /**
+     * Stops the threads of the bulkhead.
+     */
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
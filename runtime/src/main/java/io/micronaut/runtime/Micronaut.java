@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.net.URL;
 import java.util.*;
 import java.util.function.Function;
@@ -192,6 +193,11 @@ public class Micronaut extends DefaultApplicationContextBuilder implements Appli
         return (Micronaut) super.classLoader(classLoader);
     }
 
+    @Override
+    public Micronaut snapshot(@Nullable File file) {
+        return (Micronaut) super.snapshot(file);
+    }
+
     /**
      * Set the command line arguments.
      *
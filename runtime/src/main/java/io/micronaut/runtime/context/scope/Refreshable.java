@@ -41,7 +41,21 @@ import java.lang.annotation.Target;
 public @interface Refreshable {
 
     /**
+     * If no prefixes are specified the bean is refreshed whenever a property changes, unless
+     * {@link #recordAccessedKeys()} is enabled.
+     *
      * @return The key prefixes that should cause this bean to be refreshed
      */
     String[] value() default {};
+
+    /**
+     * Whether the bean is only refreshed when one of the properties it read while being created changes. Only enable
+     * this for beans that read all of their configuration during creation, for example through {@code @Value} or
+     * {@code @Property}. Beans that read configuration later, through another bean such as a
+     * {@code @ConfigurationProperties} bean or through placeholders, would otherwise miss the changes.
+     *
+     * @return Whether the properties read during creation decide if the bean is refreshed
+     * @since 1.1
+     */
+    boolean recordAccessedKeys() default false;
 }
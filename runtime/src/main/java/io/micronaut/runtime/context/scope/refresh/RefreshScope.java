@@ -16,6 +16,7 @@
 package io.micronaut.runtime.context.scope.refresh;
 
 import io.micronaut.aop.InterceptedProxy;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.BeanResolutionContext;
@@ -24,6 +25,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.ConfigurationReader;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySourcePropertyResolver;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.scope.CustomScope;
 import io.micronaut.core.util.ArrayUtils;
@@ -62,7 +64,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Requires(notEnv = {Environment.FUNCTION, Environment.ANDROID})
 public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<RefreshScope>, ApplicationEventListener<RefreshEvent> {
 
+    private static final String RECORD_ACCESSED_KEYS = "recordAccessedKeys";
+
     private final Map<String, BeanRegistration> refreshableBeans = new ConcurrentHashMap<>(10);
+    private final Map<String, Set<String>> refreshableBeanKeys = new ConcurrentHashMap<>(10);
     private final ConcurrentMap<Object, ReadWriteLock> locks = new ConcurrentHashMap<>();
     private final BeanContext beanContext;
     private final Executor executorService;
@@ -90,7 +95,15 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     @Override
     public <T> T get(BeanResolutionContext resolutionContext, BeanDefinition<T> beanDefinition, BeanIdentifier identifier, Provider<T> provider) {
         BeanRegistration beanRegistration = refreshableBeans.computeIfAbsent(identifier.toString(), key -> {
-            T bean = provider.get();
+            T bean;
+            PropertySourcePropertyResolver propertyResolver = resolvePropertyResolver();
+            if (propertyResolver != null && beanDefinition.isTrue(Refreshable.class, RECORD_ACCESSED_KEYS)) {
+                Set<String> accessedKeys = ConcurrentHashMap.newKeySet();
+                bean = propertyResolver.recordAccessedKeys(accessedKeys, provider::get);
+                refreshableBeanKeys.put(key, accessedKeys);
+            } else {
+                bean = provider.get();
+            }
             BeanRegistration registration = new BeanRegistration(identifier, beanDefinition, bean);
             locks.putIfAbsent(registration.getBean(), new ReentrantReadWriteLock());
             return registration;
@@ -132,8 +145,9 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
             disposeOfAllBeans();
             refreshAllConfigurationProperties();
         } else {
-            disposeOfBeanSubset(changes.keySet());
-            refreshSubsetOfConfigurationProperties(changes.keySet());
+            PropertySourcePropertyResolver propertyResolver = resolvePropertyResolver();
+            disposeOfBeanSubset(changes.keySet(), propertyResolver);
+            refreshSubsetOfConfigurationProperties(changes.keySet(), propertyResolver);
         }
     }
 
@@ -162,7 +176,7 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         return readWriteLock;
     }
 
-    private void refreshSubsetOfConfigurationProperties(Set<String> keySet) {
+    private void refreshSubsetOfConfigurationProperties(Set<String> keySet, PropertySourcePropertyResolver propertyResolver) {
         Collection<BeanRegistration<?>> registrations =
             beanContext.getActiveBeanRegistrations(Qualifiers.byStereotype(ConfigurationProperties.class));
         for (BeanRegistration<?> registration : registrations) {
@@ -170,7 +184,12 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
             Optional<String> value = definition.getValue(ConfigurationReader.class, "prefix", String.class);
             if (value.isPresent()) {
                 String configPrefix = value.get();
-                if (keySet.stream().anyMatch(key -> key.startsWith(configPrefix))) {
+                if (configPrefix.endsWith(".*")) {
+                    configPrefix = configPrefix.substring(0, configPrefix.length() - 2);
+                }
+                String prefix = configPrefix;
+                boolean affected = propertyResolver != null ? propertyResolver.isAffectedByChange(prefix, keySet) : keySet.stream().anyMatch(key -> key.startsWith(prefix));
+                if (affected) {
                     beanContext.refreshBean(registration.getIdentifier());
                 }
             }
@@ -185,7 +204,7 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         }
     }
 
-    private void disposeOfBeanSubset(Collection<String> keys) {
+    private void disposeOfBeanSubset(Collection<String> keys, PropertySourcePropertyResolver propertyResolver) {
         for (String beanKey : refreshableBeans.keySet()) {
             BeanRegistration beanRegistration = refreshableBeans.get(beanKey);
             BeanDefinition definition = beanRegistration.getBeanDefinition();
@@ -201,10 +220,13 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
                             }
                         }
                     }
-                } else {
-                    disposeOfBean(beanKey);
+                    continue;
                 }
-            } else {
+            }
+            // beans that did not opt in, or that read no keys while being created, may depend on any key
+            Set<String> accessedKeys = refreshableBeanKeys.get(beanKey);
+            if (accessedKeys == null || accessedKeys.isEmpty() || propertyResolver == null
+                    || accessedKeys.stream().anyMatch(accessedKey -> propertyResolver.isAffectedByChange(accessedKey, keys))) {
                 disposeOfBean(beanKey);
             }
         }
@@ -216,7 +238,18 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         }
     }
 
+    private PropertySourcePropertyResolver resolvePropertyResolver() {
+        if (beanContext instanceof ApplicationContext) {
+            Environment environment = ((ApplicationContext) beanContext).getEnvironment();
+            if (environment instanceof PropertySourcePropertyResolver) {
+                return (PropertySourcePropertyResolver) environment;
+            }
+        }
+        return null;
+    }
+
     private void disposeOfBean(String key) {
+        refreshableBeanKeys.remove(key);
         BeanRegistration registration = refreshableBeans.remove(key);
         if (registration != null) {
 
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling;
+
+import static io.micronaut.core.util.ArgumentUtils.check;
+
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TaskScheduler} that holds the scheduled tasks in a hashed wheel timer and runs them on the
+ * {@link TaskExecutors#SCHEDULED} executor when they are due.
+ *
+ * <p>A single thread advances the wheel one bucket per tick and only visits the tasks of the current bucket, so
+ * scheduling and cancelling a task are constant time regardless of the number of scheduled tasks. This suits
+ * applications with thousands of scheduled tasks, at the cost of tasks running up to one tick late. Enable it with
+ * {@code micronaut.scheduler.hashed-wheel.enabled}.</p>
+ *
+ * @since 1.1
+ */
+@Singleton
+@Named(TaskExecutors.SCHEDULED)
+@Primary
+@Replaces(ScheduledExecutorTaskScheduler.class)
+@Requires(property = HashedWheelTimerConfiguration.ENABLED, value = StringUtils.TRUE)
+public class HashedWheelTaskScheduler implements TaskScheduler, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTaskScheduler.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+    private static final int MAXIMUM_TICKS_PER_WHEEL = 1 << 30;
+
+    private final ExecutorService executorService;
+    private final Thread workerThread;
+    private final long tickDuration;
+    private final List<WheelTask<?>>[] wheel;
+    private final int mask;
+    private final Queue<WheelTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final long startTime = System.nanoTime();
+
+    /**
+     * @param executorService The executor to run the tasks on
+     * @param threadFactory   The thread factory to create the thread that advances the wheel
+     * @param configuration   The hashed wheel timer configuration
+     */
+    @SuppressWarnings("unchecked")
+    public HashedWheelTaskScheduler(
+            @Named(TaskExecutors.SCHEDULED) ExecutorService executorService,
+            ThreadFactory threadFactory,
+            HashedWheelTimerConfiguration configuration) {
+        this.executorService = executorService;
+        this.tickDuration = configuration.getTickDuration().toNanos();
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than 0: " + configuration.getTickDuration());
+        }
+        int ticksPerWheel = configuration.getTicksPerWheel();
+        if (ticksPerWheel <= 0 || ticksPerWheel > MAXIMUM_TICKS_PER_WHEEL) {
+            throw new IllegalArgumentException("Ticks per wheel must be greater than 0 and at most 2^30: " + ticksPerWheel);
+        }
+        int wheelSize = Integer.highestOneBit(ticksPerWheel);
+        if (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.workerThread = threadFactory.newThread(this::runWheel);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(String cron, Runnable command) {
+        if (StringUtils.isEmpty(cron)) {
+            throw new IllegalArgumentException("Blank cron expression not allowed");
+        }
+        check("command", command).notNull();
+
+        Supplier<Duration> delaySupplier = ScheduledExecutorTaskScheduler.buildCronDelaySupplier(cron);
+        return new ReschedulingTask<>(() -> {
+            command.run();
+            return null;
+        }, this, delaySupplier);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(String cron, Callable<V> command) {
+        if (StringUtils.isEmpty(cron)) {
+            throw new IllegalArgumentException("Blank cron expression not allowed");
+        }
+        check("command", command).notNull();
+
+        Supplier<Duration> delaySupplier = ScheduledExecutorTaskScheduler.buildCronDelaySupplier(cron);
+        return new ReschedulingTask<>(command, this, delaySupplier);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+        return add(new WheelTask<>(Executors.callable(command), deadline(delay), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Duration delay, Callable<V> callable) {
+        check("delay", delay).notNull();
+        check("callable", callable).notNull();
+        return add(new WheelTask<>(callable, deadline(delay), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Duration initialDelay, Duration period, Runnable command) {
+        check("period", period).notNull();
+        check("command", command).notNull();
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Period must be greater than 0: " + period);
+        }
+        return add(new WheelTask<>(Executors.callable(command), deadline(initialDelay), period.toNanos()));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Duration initialDelay, Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Delay must be greater than 0: " + delay);
+        }
+        return add(new WheelTask<>(Executors.callable(command), deadline(initialDelay), -delay.toNanos()));
+    }
+
+    /**
+     * Stops the thread that advances the wheel and cancels the tasks that have not run yet.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_SHUTDOWN) == STATE_STARTED) {
+            workerThread.interrupt();
+            if (Thread.currentThread() != workerThread) {
+                try {
+                    workerThread.join(TimeUnit.NANOSECONDS.toMillis(tickDuration) * 2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        cancelAll(pendingTasks);
+        synchronized (wheel) {
+            for (List<WheelTask<?>> bucket : wheel) {
+                cancelAll(bucket);
+                bucket.clear();
+            }
+        }
+    }
+
+    /**
+     * @return The number of ticks the wheel has per turn
+     */
+    int getWheelSize() {
+        return wheel.length;
+    }
+
+    private long deadline(Duration delay) {
+        long delayNanos = delay != null ? Math.max(0, delay.toNanos()) : 0;
+        return System.nanoTime() - startTime + delayNanos;
+    }
+
+    private <V> WheelTask<V> add(WheelTask<V> task) {
+        int currentState = state.get();
+        if (currentState == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            workerThread.start();
+        } else if (currentState == STATE_SHUTDOWN) {
+            throw new RejectedExecutionException("Task scheduler has been closed");
+        }
+        pendingTasks.add(task);
+        return task;
+    }
+
+    private void runWheel() {
+        long tick = 0;
+        while (state.get() == STATE_STARTED) {
+            long sleepNanos = tickDuration * (tick + 1) - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            synchronized (wheel) {
+                transferPendingTasks(tick);
+                expireTasks(wheel[(int) (tick & mask)]);
+            }
+            tick++;
+        }
+    }
+
+    private void transferPendingTasks(long tick) {
+        WheelTask<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            if (task.isCancelled()) {
+                continue;
+            }
+            long dueTick = task.deadline / tickDuration;
+            task.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(task);
+        }
+    }
+
+    private void expireTasks(List<WheelTask<?>> bucket) {
+        int size = bucket.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            WheelTask<?> task = bucket.get(i);
+            if (task.isCancelled()) {
+                continue;
+            }
+            if (task.remainingRounds <= 0) {
+                try {
+                    executorService.execute(task);
+                } catch (RejectedExecutionException e) {
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Scheduled task rejected by executor: " + e.getMessage(), e);
+                    }
+                    task.cancel(false);
+                }
+            } else {
+                task.remainingRounds--;
+                bucket.set(kept++, task);
+            }
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            bucket.remove(i);
+        }
+    }
+
+    private static void cancelAll(Iterable<WheelTask<?>> tasks) {
+        for (WheelTask<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * A task held by the wheel.
+     *
+     * @param <V> The result type
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * The period of a fixed rate task if positive, the delay of a fixed delay task if negative or 0 for a task
+         * that runs once.
+         */
+        private final long period;
+
+        /**
+         * The time the task is due, in nanoseconds since the scheduler was created.
+         */
+        private volatile long deadline;
+
+        /**
+         * The number of turns of the wheel before the task is due, only accessed by the wheel thread.
+         */
+        private long remainingRounds;
+
+        /**
+         * @param callable The task
+         * @param deadline The time the task is due
+         * @param period   The period
+         */
+        WheelTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - startTime - period;
+                if (state.get() != STATE_SHUTDOWN) {
+                    pendingTasks.add(this);
+                } else {
+                    cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.Toggleable;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+
+/**
+ * Configuration for the {@link HashedWheelTaskScheduler}.
+ *
+ * @since 1.1
+ */
+@ConfigurationProperties(HashedWheelTimerConfiguration.PREFIX)
+public class HashedWheelTimerConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use to configure the hashed wheel timer.
+     */
+    public static final String PREFIX = "micronaut.scheduler.hashed-wheel";
+
+    /**
+     * Setting to enable and disable the hashed wheel timer.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * The default tick duration.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+
+    /**
+     * The default number of ticks per wheel.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private boolean enabled = false;
+    private Duration tickDuration = DEFAULT_TICK_DURATION;
+    private int ticksPerWheel = DEFAULT_TICKS_PER_WHEEL;
+
+    /**
+     * Whether scheduled tasks are held by a hashed wheel timer instead of the scheduled executor. Default value (false).
+     *
+     * @return True if the hashed wheel timer is enabled
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled True if the hashed wheel timer should be enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The duration of a tick of the wheel. Tasks run on the first tick at or after the time they are due, so this is
+     * the precision of the scheduler. Default value (100ms).
+     *
+     * @return The tick duration
+     */
+    public @Nonnull Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * @param tickDuration The tick duration
+     */
+    public void setTickDuration(@Nonnull Duration tickDuration) {
+        ArgumentUtils.requireNonNull("tickDuration", tickDuration);
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * The number of buckets of the wheel, rounded up to a power of two. Tasks due more than a full turn of the wheel
+     * ahead are kept in their bucket until enough turns have passed. Default value ({@value #DEFAULT_TICKS_PER_WHEEL}).
+     *
+     * @return The number of ticks per wheel
+     */
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * @param ticksPerWheel The number of ticks per wheel
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+}
@@ -127,13 +127,18 @@ public class ScheduledExecutorTaskScheduler implements TaskScheduler {
         );
     }
 
-    private Supplier<Duration> buildCronDelaySupplier(String cron) {
+    /**
+     * Builds a supplier of the delay until the next time of a cron expression. The expression is parsed once.
+     *
+     * @param cron The cron expression
+     * @return The delay supplier
+     */
+    static Supplier<Duration> buildCronDelaySupplier(String cron) {
         CronExpression cronExpression = CronExpression.create(cron);
         return () -> {
-            ZonedDateTime now = ZonedDateTime.now();
-            ZonedDateTime zonedDateTime = cronExpression.nextTimeAfter(now);
+            ZonedDateTime zonedDateTime = cronExpression.nextTimeAfter(ZonedDateTime.now());
             return Duration.ofMillis(
-                zonedDateTime.toInstant().toEpochMilli() - ZonedDateTime.now().toInstant().toEpochMilli()
+                zonedDateTime.toInstant().toEpochMilli() - System.currentTimeMillis()
             );
         };
     }
@@ -38,5 +38,12 @@ public interface TaskExecutors {
      */
     String MESSAGE_CONSUMER = "consumer";
 
+    /**
+     * The name of the {@link java.util.concurrent.ExecutorService} used to run blocking methods, such as controller
+     * methods that do not return a reactive type, if one is configured. Otherwise they run on the {@link #IO} executor.
+     *
+     * @since 1.1
+     */
+    String BLOCKING = "blocking";
 
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.annotation;
+
+import io.micronaut.scheduling.TaskExecutors;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * An annotation that can be applied to a controller or to a route method to specify the executor service the method
+ * is executed on, instead of the executor chosen by the {@link io.micronaut.scheduling.executor.ExecutorSelector}.
+ *
+ * <p>For example {@code @ExecuteOn(TaskExecutors.BLOCKING)} runs the methods of a controller on the executor
+ * configured with {@code micronaut.executors.blocking}, which can be of type
+ * {@link io.micronaut.scheduling.executor.ExecutorType#VIRTUAL}.</p>
+ *
+ * @see TaskExecutors
+ * @since 1.1
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExecuteOn {
+
+    /**
+     * @return The name of the executor service to execute the method on
+     */
+    String value();
+}
@@ -74,4 +74,34 @@ public @interface Scheduled {
      * {@link java.util.concurrent.ScheduledExecutorService} to use to schedule the task
      */
     String scheduler() default TaskExecutors.SCHEDULED;
+
+    /**
+     * The name of a lock that is acquired from the {@link io.micronaut.scheduling.lock.LockProvider} before each
+     * execution. An execution is skipped if the lock is held, so tasks that share a lock run at most once at a time
+     * across the instances that share the lock provider. By default no lock is acquired.
+     *
+     * @return The name of the lock
+     * @since 1.1
+     */
+    String lock() default "";
+
+    /**
+     * A String representation of the {@link java.time.Duration} after which the lock is released if the instance
+     * running the task stops before releasing it. It should be longer than the task takes to run. For example
+     * 10m == 10 minutes
+     *
+     * @return The lock at most for duration
+     * @since 1.1
+     */
+    String lockAtMostFor() default "10m";
+
+    /**
+     * A String representation of the {@link java.time.Duration} the lock is held at least, even if the task finishes
+     * earlier. Setting it slightly shorter than the interval of the task prevents instances with a clock that is a
+     * little behind from running the task again in the same interval. For example 10m == 10 minutes
+     *
+     * @return The lock at least for duration
+     * @since 1.1
+     */
+    String lockAtLeastFor() default "0s";
 }
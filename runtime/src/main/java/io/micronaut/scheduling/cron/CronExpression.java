@@ -19,11 +19,12 @@
 
 package io.micronaut.scheduling.cron;
 
-import java.time.DayOfWeek;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.YearMonth;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -129,6 +130,10 @@ import java.util.regex.Pattern;
  * <b>Dependencies between fields</b> Fields are always evaluated independently, but the expression doesn't match until
  * the constraints of each field are met. Overlap of intervals are not allowed. That is: for
  * Day-of-week field &quot;FRI-MON&quot; is invalid,but &quot;FRI-SUN,MON&quot; is valid
+ * <p>
+ * <b>Evaluation</b> The values allowed by each field are precomputed into a bit set when the expression is parsed. The
+ * next time is found on the primitive date and time fields by jumping to the next set bit of each field, so that only
+ * the result is allocated as a {@link ZonedDateTime}.
  */
 public class CronExpression {
 
@@ -165,6 +170,7 @@ public class CronExpression {
     private static final int CRON_EXPRESSION_LENGTH_WITH_SEC = 6;
     private static final int CRON_EXPRESSION_LENGTH_WITHOUT_SEC = 5;
     private static final int FOUR = 4;
+    private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
 
     private final String expr;
     private final SimpleField secondField;
@@ -250,57 +256,179 @@ public class CronExpression {
      * @return The next time within given barrier
      */
     public ZonedDateTime nextTimeAfter(ZonedDateTime afterTime, ZonedDateTime dateTimeBarrier) {
-        ZonedDateTime nextTime = ZonedDateTime.from(afterTime).withNano(0).plusSeconds(1).withNano(0);
-
-        while (true) { // day of week
-            while (true) { // month
-                while (true) { // day of month
-                    while (true) { // hour
-                        while (true) { // minute
-                            while (true) { // second
-                                if (secondField.matches(nextTime.getSecond())) {
-                                    break;
-                                }
-                                nextTime = nextTime.plusSeconds(1).withNano(0);
-                            }
-                            if (minuteField.matches(nextTime.getMinute())) {
-                                break;
-                            }
-                            nextTime = nextTime.plusMinutes(1).withSecond(0).withNano(0);
-                        }
-                        if (hourField.matches(nextTime.getHour())) {
-                            break;
-                        }
-                        nextTime = nextTime.plusHours(1).withMinute(0).withSecond(0).withNano(0);
-                    }
-                    if (dayOfMonthField.matches(nextTime.toLocalDate())) {
-                        break;
-                    }
-                    nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                    checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+        ZoneId zone = afterTime.getZone();
+        ZoneRules rules = zone.getRules();
+        LocalDateTime localAfterTime = afterTime.toLocalDateTime();
+        long barrierDay = dateTimeBarrier.withZoneSameInstant(zone).toLocalDate().toEpochDay();
+
+        LocalDateTime nextTime = nextLocalTime(localAfterTime.withNano(0).plusSeconds(1), rules, barrierDay, dateTimeBarrier);
+        ZoneOffsetTransition transition = rules.getTransition(localAfterTime);
+        if (transition != null && transition.isOverlap() && afterTime.getOffset().equals(transition.getOffsetBefore()) &&
+                !nextTime.isBefore(transition.getDateTimeBefore())) {
+            // the local times of the overlap occur a second time with the later offset
+            nextTime = nextLocalTime(transition.getDateTimeAfter(), rules, barrierDay, dateTimeBarrier);
+            return ZonedDateTime.ofLocal(nextTime, zone, transition.getOffsetAfter());
+        }
+        return ZonedDateTime.ofLocal(nextTime, zone, afterTime.getOffset());
+    }
+
+    /**
+     * Finds the first local date-time at or after the given start that matches the expression and exists in the
+     * time-zone.
+     *
+     * @param start           The local date-time to start from
+     * @param rules           The rules of the time-zone
+     * @param barrierDay      The epoch day of the barrier in the time-zone
+     * @param dateTimeBarrier The upper limit or maximum date-time to check for next time
+     * @return The next local date-time
+     */
+    private LocalDateTime nextLocalTime(LocalDateTime start, ZoneRules rules, long barrierDay, ZonedDateTime dateTimeBarrier) {
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int hour = start.getHour();
+        int minute = start.getMinute();
+        int second = start.getSecond();
+
+        while (true) {
+            if (!monthField.matches(month)) {
+                int nextMonth = monthField.nextValue(month);
+                if (nextMonth < 0) {
+                    year++;
+                    nextMonth = monthField.nextValue(CronFieldType.MONTH.from);
                 }
-                if (monthField.matches(nextTime.getMonth().getValue())) {
-                    break;
+                month = nextMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                checkIfDateTimeBarrierIsReached(epochDay(year, month, day), barrierDay, dateTimeBarrier);
+                continue;
+            }
+            int lengthOfMonth = lengthOfMonth(year, month);
+            if (day > lengthOfMonth) {
+                if (++month > CronFieldType.MONTH.to) {
+                    month = CronFieldType.MONTH.from;
+                    year++;
                 }
-                nextTime = nextTime.plusMonths(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                checkIfDateTimeBarrierIsReached(epochDay(year, month, day), barrierDay, dateTimeBarrier);
+                continue;
+            }
+            long epochDay = epochDay(year, month, day);
+            if (!matchesDay(year, month, day, epochDay, lengthOfMonth)) {
+                day++;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                checkIfDateTimeBarrierIsReached(epochDay + 1, barrierDay, dateTimeBarrier);
+                continue;
             }
-            if (dayOfWeekField.matches(nextTime.toLocalDate())) {
-                break;
+            int nextHour = hourField.nextValue(hour);
+            if (nextHour < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                checkIfDateTimeBarrierIsReached(epochDay + 1, barrierDay, dateTimeBarrier);
+                continue;
+            } else if (nextHour != hour) {
+                hour = nextHour;
+                minute = 0;
+                second = 0;
+            }
+            int nextMinute = minuteField.nextValue(minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = 0;
+                second = 0;
+                continue;
+            } else if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            int nextSecond = secondField.nextValue(second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = nextSecond;
+
+            LocalDateTime nextTime = LocalDateTime.of(year, month, day, hour, minute, second);
+            if (!rules.isFixedOffset() && rules.getValidOffsets(nextTime).isEmpty()) {
+                // the local time does not exist because of a daylight saving time gap
+                second++;
+                continue;
             }
-            nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-            checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+            return nextTime;
         }
+    }
 
-        return nextTime;
+    private boolean matchesDay(int year, int month, int day, long epochDay, int lengthOfMonth) {
+        int dayOfWeek = (int) Math.floorMod(epochDay + 3, DayOfWeekField.DAYS_IN_WEEK) + 1;
+        if (!dayOfMonthField.hasSpecialParts && !dayOfWeekField.hasSpecialParts) {
+            return dayOfMonthField.matches(day) && dayOfWeekField.matches(dayOfWeek);
+        }
+        int lengthOfPreviousMonth = month == 1 ? lengthOfMonth(year - 1, 12) : lengthOfMonth(year, month - 1);
+        return dayOfMonthField.matches(day, dayOfWeek, lengthOfMonth, lengthOfPreviousMonth) &&
+                dayOfWeekField.matches(day, dayOfWeek, lengthOfMonth);
     }
 
-    private static void checkIfDateTimeBarrierIsReached(ZonedDateTime nextTime, ZonedDateTime dateTimeBarrier) {
-        if (nextTime.isAfter(dateTimeBarrier)) {
+    private static void checkIfDateTimeBarrierIsReached(long epochDay, long barrierDay, ZonedDateTime dateTimeBarrier) {
+        if (epochDay > barrierDay) {
             throw new IllegalArgumentException("No next execution time could be determined that is before the limit of " + dateTimeBarrier);
         }
     }
 
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Computes the epoch day like {@link java.time.LocalDate#toEpochDay()} without creating a date.
+     *
+     * @param year  The year
+     * @param month The month
+     * @param day   The day of the month
+     * @return The number of days since 1970-01-01
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "<" + expr + ">";
@@ -343,9 +471,61 @@ public class CronExpression {
          */
         final List<FieldPart> parts = new ArrayList<>();
 
+        /**
+         * The values matched by the parts without a modifier, bit n is set if value n matches.
+         */
+        long bits;
+
+        /**
+         * Whether any part has a L, W or # modifier, which can not be represented by the {@link #bits}.
+         */
+        boolean hasSpecialParts;
+
         private BasicField(CronFieldType fieldType, String fieldExpr) {
             this.fieldType = fieldType;
             parse(fieldExpr);
+            for (FieldPart part : parts) {
+                if (isSpecial(part)) {
+                    hasSpecialParts = true;
+                } else if ("?".equals(part.modifier)) {
+                    bits |= range(fieldType.from, fieldType.to, 1);
+                } else {
+                    bits |= range(part.from, part.to, part.increment);
+                }
+            }
+        }
+
+        /**
+         * @param val The value
+         * @return Whether the value is matched by a part without a modifier
+         */
+        boolean isSet(int val) {
+            return val >= 0 && val < Long.SIZE && (bits & (1L << val)) != 0;
+        }
+
+        /**
+         * @param val The value to start from
+         * @return The smallest value greater than or equal to the given value that is matched by a part without a
+         * modifier, or -1 if there is none
+         */
+        int nextValue(int val) {
+            if (val >= Long.SIZE) {
+                return -1;
+            }
+            long remaining = bits & (-1L << Math.max(0, val));
+            return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+        }
+
+        private static boolean isSpecial(FieldPart part) {
+            return "L".equals(part.modifier) || "W".equals(part.modifier) || "#".equals(part.incrementModifier);
+        }
+
+        private static long range(int from, int to, int increment) {
+            long range = 0;
+            for (int val = from; val <= to; val += increment) {
+                range |= 1L << val;
+            }
+            return range;
         }
 
         /**
@@ -394,6 +574,9 @@ public class CronExpression {
                 if (increment != null) {
                     part.incrementModifier = incrementModifier;
                     part.increment = Integer.valueOf(increment);
+                    if (part.increment == 0) {
+                        throw new IllegalArgumentException("Invalid cron field '" + rangePart + "' for field [" + fieldType + "], the increment must be greater than 0");
+                    }
                 }
 
                 validateRange(part);
@@ -485,14 +668,7 @@ public class CronExpression {
          * @return Whether the value matches
          */
         public boolean matches(int val) {
-            if (val >= fieldType.from && val <= fieldType.to) {
-                for (FieldPart part : parts) {
-                    if (matches(val, part)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return val >= fieldType.from && val <= fieldType.to && isSet(val);
         }
     }
 
@@ -512,24 +688,35 @@ public class CronExpression {
             super(CronFieldType.DAY_OF_WEEK, fieldExpr);
         }
 
+        /**
+         * Check if the day of the week matches a field without modifiers.
+         *
+         * @param dayOfWeek The day of the week, from 1 (Monday) to 7 (Sunday)
+         * @return Whether the day matches the field
+         */
+        boolean matches(int dayOfWeek) {
+            return isSet(dayOfWeek);
+        }
+
         /**
          * Check if the date matches the day of the week.
          *
-         * @param date The date
+         * @param dayOfMonth    The day of the month
+         * @param dayOfWeek     The day of the week, from 1 (Monday) to 7 (Sunday)
+         * @param lengthOfMonth The number of days in the month
          * @return Whether the date matches the day of the field
          */
-        boolean matches(LocalDate date) {
+        boolean matches(int dayOfMonth, int dayOfWeek, int lengthOfMonth) {
             for (FieldPart part : parts) {
                 if ("L".equals(part.modifier)) {
-                    YearMonth ym = YearMonth.of(date.getYear(), date.getMonth().getValue());
-                    return date.getDayOfWeek() == DayOfWeek.of(part.from) && date.getDayOfMonth() > (ym.lengthOfMonth() - DAYS_IN_WEEK);
+                    return dayOfWeek == part.from && dayOfMonth > (lengthOfMonth - DAYS_IN_WEEK);
                 } else if ("#".equals(part.incrementModifier)) {
-                    if (date.getDayOfWeek() == DayOfWeek.of(part.from)) {
-                        int num = date.getDayOfMonth() / DAYS_IN_WEEK;
-                        return part.increment == (date.getDayOfMonth() % DAYS_IN_WEEK == 0 ? num : num + 1);
+                    if (dayOfWeek == part.from) {
+                        int num = dayOfMonth / DAYS_IN_WEEK;
+                        return part.increment == (dayOfMonth % DAYS_IN_WEEK == 0 ? num : num + 1);
                     }
                     return false;
-                } else if (matches(date.getDayOfWeek().getValue(), part)) {
+                } else if (matches(dayOfWeek, part)) {
                     return true;
                 }
             }
@@ -575,28 +762,42 @@ public class CronExpression {
             super(CronFieldType.DAY_OF_MONTH, fieldExpr);
         }
 
+        /**
+         * Check if the day of the month matches a field without modifiers.
+         *
+         * @param dayOfMonth The day of the month
+         * @return Whether the day matches the field
+         */
+        boolean matches(int dayOfMonth) {
+            return isSet(dayOfMonth);
+        }
+
         /**
          * Check if the given date matches the day in the month.
          *
-         * @param date The date
+         * @param dayOfMonth            The day of the month
+         * @param dayOfWeek             The day of the week, from 1 (Monday) to 7 (Sunday)
+         * @param lengthOfMonth         The number of days in the month
+         * @param lengthOfPreviousMonth The number of days in the previous month
          * @return Whether the date matches the day in the month
          */
-        boolean matches(LocalDate date) {
+        boolean matches(int dayOfMonth, int dayOfWeek, int lengthOfMonth, int lengthOfPreviousMonth) {
             for (FieldPart part : parts) {
                 if ("L".equals(part.modifier)) {
-                    YearMonth ym = YearMonth.of(date.getYear(), date.getMonth().getValue());
-                    return date.getDayOfMonth() == (ym.lengthOfMonth() - (part.from == null ? 0 : part.from));
+                    return dayOfMonth == (lengthOfMonth - (part.from == null ? 0 : part.from));
                 } else if ("W".equals(part.modifier)) {
-                    if (date.getDayOfWeek().getValue() <= WEEK_DAYS) {
-                        if (date.getDayOfMonth() == part.from) {
+                    if (dayOfWeek <= WEEK_DAYS) {
+                        if (dayOfMonth == part.from) {
                             return true;
-                        } else if (date.getDayOfWeek().getValue() == WEEK_DAYS) {
-                            return date.plusDays(ONE_DAY).getDayOfMonth() == part.from;
-                        } else if (date.getDayOfWeek().getValue() == FIRST_DAY) {
-                            return date.minusDays(ONE_DAY).getDayOfMonth() == part.from;
+                        } else if (dayOfWeek == WEEK_DAYS) {
+                            int nextDay = dayOfMonth == lengthOfMonth ? FIRST_DAY : dayOfMonth + ONE_DAY;
+                            return nextDay == part.from;
+                        } else if (dayOfWeek == FIRST_DAY) {
+                            int previousDay = dayOfMonth == FIRST_DAY ? lengthOfPreviousMonth : dayOfMonth - ONE_DAY;
+                            return previousDay == part.from;
                         }
                     }
-                } else if (matches(date.getDayOfMonth(), part)) {
+                } else if (matches(dayOfMonth, part)) {
                     return true;
                 }
             }
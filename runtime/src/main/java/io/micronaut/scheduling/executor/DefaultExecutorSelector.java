@@ -15,42 +15,75 @@
  */
 package io.micronaut.scheduling.executor;
 
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonBlocking;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.inject.MethodReference;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 /**
  * Default implementation of the {@link ExecutorSelector} interface that regards methods that return reactive types as non-blocking.
  *
+ * <p>Blocking methods run on the {@link TaskExecutors#BLOCKING} executor if one is configured, otherwise on the
+ * {@link TaskExecutors#IO} executor. Methods annotated with {@link ExecuteOn} run on the named executor.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
 @Singleton
 public class DefaultExecutorSelector implements ExecutorSelector {
 
-    private final ExecutorService ioExecutor;
+    private final BeanLocator beanLocator;
+    private final ExecutorService blockingExecutor;
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
 
     /**
      * Construct a default implementation for the given executor service for asynchronous IO tasks.
      *
      * @param ioExecutor A service that provide method to manager termination and produce future for tracking
      *                   progress of one or more asynchronous IO tasks.
+     * @deprecated Use {@link #DefaultExecutorSelector(BeanLocator, ExecutorService)} instead
      */
+    @Deprecated
     protected DefaultExecutorSelector(@Named(TaskExecutors.IO) ExecutorService ioExecutor) {
-        this.ioExecutor = ioExecutor;
+        this.beanLocator = null;
+        this.blockingExecutor = ioExecutor;
+    }
+
+    /**
+     * Construct a default implementation that runs blocking methods on the {@link TaskExecutors#BLOCKING} executor if
+     * one is configured, otherwise on the given executor service for asynchronous IO tasks.
+     *
+     * @param beanLocator The bean locator used to look up executors by name
+     * @param ioExecutor  The executor service for asynchronous IO tasks
+     */
+    @Inject
+    protected DefaultExecutorSelector(BeanLocator beanLocator, @Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this.beanLocator = beanLocator;
+        this.blockingExecutor = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING))
+                .orElse(ioExecutor);
     }
 
     @Override
     public Optional<ExecutorService> select(MethodReference method) {
+        Optional<String> executorName = method.getValue(ExecuteOn.class, String.class);
+        if (executorName.isPresent()) {
+            return Optional.of(findExecutor(executorName.get()));
+        }
         if (method.hasStereotype(NonBlocking.class)) {
             return Optional.empty();
         } else {
@@ -68,7 +101,21 @@ public class DefaultExecutorSelector implements ExecutorSelector {
                 }
             }
         }
-        return Optional.of(ioExecutor);
+        return Optional.of(blockingExecutor);
+    }
+
+    private ExecutorService findExecutor(String name) {
+        ExecutorService executor = executors.get(name);
+        if (executor == null) {
+            if (beanLocator == null) {
+                throw new ConfigurationException("Cannot look up executor [" + name + "] without a bean locator");
+            }
+            executor = executors.computeIfAbsent(name, n ->
+                    beanLocator.findBean(ExecutorService.class, Qualifiers.byName(n))
+                            .orElseThrow(() -> new ConfigurationException("No executor configured for name: " + n))
+            );
+        }
+        return executor;
     }
 
     private boolean isNonBlocking(Class type) {
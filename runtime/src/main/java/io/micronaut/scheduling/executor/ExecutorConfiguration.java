@@ -16,6 +16,7 @@
 package io.micronaut.scheduling.executor;
 
 import javax.validation.constraints.Min;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
@@ -61,7 +62,8 @@ public interface ExecutorConfiguration {
     @Min(1L) Integer getNumberOfThreads();
 
     /**
-     * @return The core pool size for {@link io.micronaut.scheduling.executor.ExecutorType#SCHEDULED}
+     * @return The core pool size for {@link io.micronaut.scheduling.executor.ExecutorType#SCHEDULED}, and for
+     * {@link io.micronaut.scheduling.executor.ExecutorType#CACHED} if a maximum pool size is set
      */
     @Min(1L) Integer getCorePoolSize();
 
@@ -69,4 +71,56 @@ public interface ExecutorConfiguration {
      * @return The class to use as the {@link ThreadFactory}
      */
     Optional<Class<? extends ThreadFactory>> getThreadFactoryClass();
+
+    /**
+     * @return The maximum number of threads for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}. If
+     * absent the pool is unbounded
+     * @since 1.1
+     */
+    default Optional<Integer> getMaximumPoolSize() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return The capacity of the queue of waiting tasks for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}
+     * and {@link io.micronaut.scheduling.executor.ExecutorType#FIXED}. If absent the queue is unbounded
+     * @since 1.1
+     */
+    default Optional<Integer> getQueueCapacity() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return The type of the queue of waiting tasks for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}
+     * and {@link io.micronaut.scheduling.executor.ExecutorType#FIXED}
+     * @since 1.1
+     */
+    default Optional<QueueType> getQueueType() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return The time idle threads are kept for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}
+     * @since 1.1
+     */
+    default Duration getKeepAlive() {
+        return Duration.ofSeconds(60);
+    }
+
+    /**
+     * @return The policy for tasks rejected by {@link io.micronaut.scheduling.executor.ExecutorType#CACHED} and
+     * {@link io.micronaut.scheduling.executor.ExecutorType#FIXED} executors
+     * @since 1.1
+     */
+    default RejectionPolicy getRejectionPolicy() {
+        return RejectionPolicy.ABORT;
+    }
+
+    /**
+     * @return The name of the executor, used to report its {@link ExecutorMetrics}
+     * @since 1.1
+     */
+    default Optional<String> getName() {
+        return Optional.empty();
+    }
 }
@@ -18,12 +18,19 @@ package io.micronaut.scheduling.executor;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.scheduling.exceptions.ExecutorSaturatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.inject.Inject;
+import java.util.Optional;
 import java.util.concurrent.*;
 
 /**
- * Constructs {@link ExecutorService} instances based on {@link UserExecutorConfiguration} instances.
+ * Constructs {@link ExecutorService} instances based on {@link UserExecutorConfiguration} instances. The executors
+ * record {@link ExecutorMetrics}, which are registered with the {@link ExecutorMetricsRegistry} for named executors.
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -31,14 +38,28 @@ import java.util.concurrent.*;
 @Factory
 public class ExecutorFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorFactory.class);
+
     private final ThreadFactory threadFactory;
+    private final ExecutorMetricsRegistry metricsRegistry;
 
     /**
      *
      * @param threadFactory The factory to create new threads
      */
     public ExecutorFactory(ThreadFactory threadFactory) {
+        this(threadFactory, new ExecutorMetricsRegistry());
+    }
+
+    /**
+     *
+     * @param threadFactory   The factory to create new threads
+     * @param metricsRegistry The registry of the executor metrics
+     */
+    @Inject
+    public ExecutorFactory(ThreadFactory threadFactory, ExecutorMetricsRegistry metricsRegistry) {
         this.threadFactory = threadFactory;
+        this.metricsRegistry = metricsRegistry;
     }
 
     /**
@@ -51,33 +72,109 @@ public class ExecutorFactory {
     @Bean(preDestroy = "shutdown")
     public ExecutorService executorService(ExecutorConfiguration executorConfiguration) {
         ExecutorType executorType = executorConfiguration.getType();
+        ExecutorMetrics metrics = new ExecutorMetrics(
+                executorConfiguration.getName().orElse(executorType.name().toLowerCase()),
+                executorType
+        );
+        ThreadFactory threadFactory = executorConfiguration
+                .getThreadFactoryClass()
+                .flatMap(InstantiationUtils::tryInstantiate)
+                .map(ThreadFactory.class::cast)
+                .orElse(this.threadFactory);
+        ExecutorService executorService;
         switch (executorType) {
             case FIXED:
-                return executorConfiguration
-                    .getThreadFactoryClass()
-                    .flatMap(InstantiationUtils::tryInstantiate)
-                    .map(factory -> Executors.newFixedThreadPool(executorConfiguration.getNumberOfThreads(), factory))
-                    .orElse(Executors.newFixedThreadPool(executorConfiguration.getNumberOfThreads(), threadFactory));
+                int nThreads = executorConfiguration.getNumberOfThreads();
+                executorService = new MeteredThreadPoolExecutor(
+                        nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+                        newQueue(executorConfiguration, QueueType.LINKED),
+                        threadFactory, rejectionHandler(executorConfiguration), metrics
+                );
+                break;
 
             case CACHED:
-                return executorConfiguration
-                    .getThreadFactoryClass()
-                    .flatMap(InstantiationUtils::tryInstantiate)
-                    .map(Executors::newCachedThreadPool)
-                    .orElse(Executors.newCachedThreadPool(threadFactory));
+                Optional<Integer> maximumPoolSize = executorConfiguration.getMaximumPoolSize();
+                if (maximumPoolSize.isPresent() || executorConfiguration.getQueueCapacity().isPresent() || executorConfiguration.getQueueType().isPresent()) {
+                    int maximum = maximumPoolSize.orElse(Integer.MAX_VALUE);
+                    int core = Math.min(executorConfiguration.getCorePoolSize(), maximum);
+                    QueueType defaultQueueType = executorConfiguration.getQueueCapacity().isPresent() ? QueueType.LINKED : QueueType.SYNCHRONOUS;
+                    MeteredThreadPoolExecutor pool = new MeteredThreadPoolExecutor(
+                            core, maximum, executorConfiguration.getKeepAlive().toNanos(), TimeUnit.NANOSECONDS,
+                            newQueue(executorConfiguration, defaultQueueType),
+                            threadFactory, rejectionHandler(executorConfiguration), metrics
+                    );
+                    pool.allowCoreThreadTimeOut(true);
+                    executorService = pool;
+                } else {
+                    executorService = newCachedThreadPool(threadFactory, metrics);
+                }
+                break;
 
             case SCHEDULED:
-                return executorConfiguration
-                    .getThreadFactoryClass()
-                    .flatMap(InstantiationUtils::tryInstantiate)
-                    .map(factory -> Executors.newScheduledThreadPool(executorConfiguration.getCorePoolSize(), factory))
-                    .orElse(Executors.newScheduledThreadPool(executorConfiguration.getCorePoolSize(), threadFactory));
+                executorService = new MeteredScheduledThreadPoolExecutor(
+                        executorConfiguration.getCorePoolSize(), threadFactory, metrics
+                );
+                break;
 
             case WORK_STEALING:
-                return Executors.newWorkStealingPool(executorConfiguration.getParallelism());
+                executorService = Executors.newWorkStealingPool(executorConfiguration.getParallelism());
+                break;
+
+            case VIRTUAL:
+                executorService = VirtualThreads.newVirtualThreadPerTaskExecutor()
+                        .<ExecutorService>map(executor -> new MeteredExecutorService(executor, metrics))
+                        .orElseGet(() -> {
+                            if (LOG.isWarnEnabled()) {
+                                LOG.warn("Virtual threads are not supported by this JVM, creating a cached thread pool instead");
+                            }
+                            return newCachedThreadPool(threadFactory, metrics);
+                        });
+                break;
 
             default:
                 throw new IllegalStateException("Could not create Executor service for enum value: " + executorType);
         }
+        metrics.setExecutor(executorService);
+        if (executorConfiguration.getName().isPresent()) {
+            metricsRegistry.register(metrics);
+        }
+        return executorService;
+    }
+
+    private static BlockingQueue<Runnable> newQueue(ExecutorConfiguration executorConfiguration, QueueType defaultQueueType) {
+        Optional<Integer> queueCapacity = executorConfiguration.getQueueCapacity();
+        QueueType queueType = executorConfiguration.getQueueType().orElse(defaultQueueType);
+        switch (queueType) {
+            case SYNCHRONOUS:
+                return new SynchronousQueue<>();
+            case ARRAY:
+                return new ArrayBlockingQueue<>(queueCapacity.orElseThrow(() ->
+                        new ConfigurationException("A queue capacity is required for queue type: " + queueType)
+                ));
+            case LINKED:
+            default:
+                return queueCapacity.<BlockingQueue<Runnable>>map(LinkedBlockingQueue::new).orElseGet(LinkedBlockingQueue::new);
+        }
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(ExecutorConfiguration executorConfiguration) {
+        switch (executorConfiguration.getRejectionPolicy()) {
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case SHED:
+                return (r, executor) -> {
+                    throw new ExecutorSaturatedException("Executor [" + executorConfiguration.getName().orElse("unnamed") + "] is saturated, task rejected");
+                };
+            case ABORT:
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    private static ExecutorService newCachedThreadPool(ThreadFactory threadFactory, ExecutorMetrics metrics) {
+        return new MeteredThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                threadFactory, new ThreadPoolExecutor.AbortPolicy(), metrics
+        );
     }
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of an {@link ExecutorService} created by the {@link ExecutorFactory}. Task counts and times are
+ * recorded with {@link LongAdder} counters as tasks are submitted and run, the pool sizes are read from the executor
+ * when requested.
+ *
+ * <p>A {@link ExecutorType#WORK_STEALING} pool only reports its pool sizes and queue depth, because tasks forked
+ * inside the pool do not pass through the executor.</p>
+ *
+ * @since 1.1
+ */
+public final class ExecutorMetrics {
+
+    private final String name;
+    private final ExecutorType type;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final TaskTimer waitTime = new TaskTimer();
+    private final TaskTimer executionTime = new TaskTimer();
+    private final long createdAt = System.nanoTime();
+    private ExecutorService executor;
+
+    /**
+     * @param name The name of the executor
+     * @param type The type of the executor
+     */
+    ExecutorMetrics(String name, ExecutorType type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * @return The name of the executor
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The type of the executor
+     */
+    public ExecutorType getType() {
+        return type;
+    }
+
+    /**
+     * @return The number of tasks submitted, including rejected tasks
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return The number of tasks that finished running, normally or with an exception
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return The number of tasks rejected by the executor
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return The time tasks waited between being submitted, or becoming due for scheduled tasks, and starting to run
+     */
+    public TaskTimer getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * @return The time tasks took to run
+     */
+    public TaskTimer getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * @return The number of tasks waiting to run
+     */
+    public int getQueueSize() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        } else if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+        }
+        return (int) Math.max(0, submitted.sum() - rejected.sum() - started.sum());
+    }
+
+    /**
+     * @return The number of threads running tasks
+     */
+    public int getActiveCount() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getActiveCount();
+        } else if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getActiveThreadCount();
+        }
+        return (int) Math.max(0, started.sum() - completed.sum());
+    }
+
+    /**
+     * @return The current number of threads in the pool. Executors that start a thread per task report the number
+     * of running tasks
+     */
+    public int getPoolSize() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getPoolSize();
+        } else if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getPoolSize();
+        }
+        return getActiveCount();
+    }
+
+    /**
+     * @return The largest number of threads that have been in the pool at the same time, or -1 if unknown
+     */
+    public int getLargestPoolSize() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getLargestPoolSize();
+        }
+        return -1;
+    }
+
+    /**
+     * @return The maximum number of threads allowed in the pool, or -1 if unbounded
+     */
+    public int getMaximumPoolSize() {
+        if (executor instanceof ThreadPoolExecutor) {
+            int maximumPoolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+            return maximumPoolSize == Integer.MAX_VALUE ? -1 : maximumPoolSize;
+        } else if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        return -1;
+    }
+
+    /**
+     * @return The fraction of the maximum pool size that is running tasks, or 0 if the pool is unbounded
+     */
+    public double getSaturation() {
+        int maximumPoolSize = getMaximumPoolSize();
+        return maximumPoolSize <= 0 ? 0.0 : Math.min(1.0, (double) getActiveCount() / maximumPoolSize);
+    }
+
+    /**
+     * The average number of threads that were running tasks since the executor was created. By Little's law this is
+     * the total time spent running tasks divided by the elapsed time.
+     *
+     * @return The average number of busy threads
+     */
+    public double getAverageActiveCount() {
+        long elapsed = System.nanoTime() - createdAt;
+        return elapsed <= 0 ? 0.0 : executionTime.getTotalTime(TimeUnit.NANOSECONDS) / elapsed;
+    }
+
+    /**
+     * Recommends a maximum pool size from the observed utilisation: the average number of busy threads divided by the
+     * target saturation. The average covers the whole lifetime of the executor, so compare it with the largest pool
+     * size before lowering the maximum of a pool that serves bursts.
+     *
+     * @param targetSaturation The fraction of the pool that should be busy on average, for example 0.75
+     * @return The recommended maximum pool size
+     */
+    public int getRecommendedMaximumPoolSize(double targetSaturation) {
+        if (targetSaturation <= 0 || targetSaturation > 1) {
+            throw new IllegalArgumentException("Target saturation must be greater than 0 and at most 1: " + targetSaturation);
+        }
+        return (int) Math.max(1, Math.ceil(getAverageActiveCount() / targetSaturation));
+    }
+
+    /**
+     * @param executor The executor to read the pool sizes from
+     */
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Records a submitted task.
+     */
+    void recordSubmitted() {
+        submitted.increment();
+    }
+
+    /**
+     * Records a rejected task.
+     */
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * Records a task that started running.
+     *
+     * @param waitNanos The time the task waited to run
+     */
+    void recordStarted(long waitNanos) {
+        started.increment();
+        waitTime.record(waitNanos);
+    }
+
+    /**
+     * Records a task that finished running.
+     *
+     * @param executionNanos The time the task took to run
+     */
+    void recordCompleted(long executionNanos) {
+        completed.increment();
+        executionTime.record(executionNanos);
+    }
+
+    /**
+     * Wraps a task so that its wait and execution time are recorded.
+     *
+     * @param task The task
+     * @return The wrapped task
+     */
+    Runnable timed(Runnable task) {
+        recordSubmitted();
+        return new TimedRunnable(task, System.nanoTime());
+    }
+
+    /**
+     * A task that records its wait and execution time.
+     */
+    final class TimedRunnable implements Runnable {
+        final Runnable task;
+        private final long submittedAt;
+
+        /**
+         * @param task The task
+         * @param submittedAt The time the task was submitted
+         */
+        TimedRunnable(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            recordStarted(start - submittedAt);
+            try {
+                task.run();
+            } finally {
+                recordCompleted(System.nanoTime() - start);
+            }
+        }
+    }
+}
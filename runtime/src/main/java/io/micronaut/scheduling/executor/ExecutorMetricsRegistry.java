@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Holds the {@link ExecutorMetrics} of the named executors created by the {@link ExecutorFactory}. Executors are
+ * created on first use, so only executors that have been used are present.
+ *
+ * @since 1.1
+ */
+@Singleton
+public class ExecutorMetricsRegistry {
+
+    private final Map<String, ExecutorMetrics> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * @return The metrics of the created executors, ordered by name
+     */
+    public Collection<ExecutorMetrics> getMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    /**
+     * @param name The name of the executor
+     * @return The metrics of the executor, if it has been created
+     */
+    public Optional<ExecutorMetrics> findMetrics(String name) {
+        return Optional.ofNullable(metrics.get(name));
+    }
+
+    /**
+     * @param executorMetrics The metrics of a created executor
+     */
+    void register(ExecutorMetrics executorMetrics) {
+        metrics.put(executorMetrics.getName(), executorMetrics);
+    }
+}
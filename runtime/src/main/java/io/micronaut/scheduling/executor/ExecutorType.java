@@ -42,5 +42,13 @@ public enum ExecutorType {
     /**
      * @see java.util.concurrent.Executors#newWorkStealingPool()
      */
-    WORK_STEALING
+    WORK_STEALING,
+
+    /**
+     * An executor that starts a new virtual thread for each task, on JVMs that support virtual threads. On other JVMs
+     * a {@link #CACHED} thread pool is created instead. The configured thread factory is not used for virtual threads.
+     *
+     * @since 1.1
+     */
+    VIRTUAL
 }
@@ -40,6 +40,6 @@ public class IOExecutorServiceConfig {
     @Bean
     @Named(TaskExecutors.IO)
     ExecutorConfiguration configuration() {
-        return UserExecutorConfiguration.of(ExecutorType.CACHED);
+        return UserExecutorConfiguration.of(TaskExecutors.IO, ExecutorType.CACHED);
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.scheduling.instrument.InstrumentedExecutorService;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Records {@link ExecutorMetrics} for an {@link ExecutorService} that cannot be extended, such as an executor that
+ * starts a virtual thread per task.
+ *
+ * @since 1.1
+ */
+@Internal
+final class MeteredExecutorService implements InstrumentedExecutorService {
+
+    private final ExecutorService target;
+    private final ExecutorMetrics metrics;
+
+    /**
+     * @param target The target executor
+     * @param metrics The metrics to record
+     */
+    MeteredExecutorService(ExecutorService target, ExecutorMetrics metrics) {
+        this.target = target;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ExecutorService getTarget() {
+        return target;
+    }
+
+    @Override
+    public Runnable instrument(Runnable command) {
+        return metrics.timed(command);
+    }
+
+    @Override
+    public <T> Callable<T> instrument(Callable<T> task) {
+        metrics.recordSubmitted();
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long start = System.nanoTime();
+            metrics.recordStarted(start - submittedAt);
+            try {
+                return task.call();
+            } finally {
+                metrics.recordCompleted(System.nanoTime() - start);
+            }
+        };
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        try {
+            target.execute(instrument(command));
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw e;
+        }
+    }
+
+    @Override
+    public @Nonnull <T> Future<T> submit(@Nonnull Callable<T> task) {
+        try {
+            return target.submit(instrument(task));
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw e;
+        }
+    }
+
+    @Override
+    public @Nonnull <T> Future<T> submit(@Nonnull Runnable task, T result) {
+        try {
+            return target.submit(instrument(task), result);
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw e;
+        }
+    }
+
+    @Override
+    public @Nonnull Future<?> submit(@Nonnull Runnable task) {
+        try {
+            return target.submit(instrument(task));
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw e;
+        }
+    }
+}
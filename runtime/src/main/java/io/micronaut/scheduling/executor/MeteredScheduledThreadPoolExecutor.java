@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.core.annotation.Internal;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} that records {@link ExecutorMetrics}. The wait time of a scheduled task is
+ * the time between the task becoming due and starting to run.
+ *
+ * @since 1.1
+ */
+@Internal
+class MeteredScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
+
+    private final ExecutorMetrics metrics;
+
+    /**
+     * @param corePoolSize The number of threads to keep in the pool
+     * @param threadFactory The thread factory
+     * @param metrics The metrics to record
+     */
+    MeteredScheduledThreadPoolExecutor(int corePoolSize, ThreadFactory threadFactory, ExecutorMetrics metrics) {
+        super(corePoolSize, threadFactory, (r, executor) -> {
+            metrics.recordRejected();
+            new AbortPolicy().rejectedExecution(r, executor);
+        });
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        metrics.recordSubmitted();
+        return new MeteredTask<>(task);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        metrics.recordSubmitted();
+        return new MeteredTask<>(task);
+    }
+
+    /**
+     * Records the wait and execution time of each run of a scheduled task.
+     *
+     * @param <V> The result type
+     */
+    private final class MeteredTask<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+
+        /**
+         * @param task The task
+         */
+        MeteredTask(RunnableScheduledFuture<V> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            metrics.recordStarted(-task.getDelay(TimeUnit.NANOSECONDS));
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                metrics.recordCompleted(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed o) {
+            return task.compareTo(o instanceof MeteredTask ? ((MeteredTask<?>) o).task : o);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, @Nonnull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+}
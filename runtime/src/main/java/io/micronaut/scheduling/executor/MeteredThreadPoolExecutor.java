@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.core.annotation.Internal;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link ThreadPoolExecutor} that records {@link ExecutorMetrics}. It extends the pool instead of wrapping it so
+ * that the bean remains a {@link ThreadPoolExecutor}.
+ *
+ * @since 1.1
+ */
+@Internal
+class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final ExecutorMetrics metrics;
+
+    /**
+     * @param corePoolSize The number of threads to keep in the pool
+     * @param maximumPoolSize The maximum number of threads in the pool
+     * @param keepAliveTime The time idle threads above the core size are kept
+     * @param unit The unit of the keep alive time
+     * @param workQueue The queue of waiting tasks
+     * @param threadFactory The thread factory
+     * @param handler The handler for rejected tasks
+     * @param metrics The metrics to record
+     */
+    MeteredThreadPoolExecutor(int corePoolSize,
+                              int maximumPoolSize,
+                              long keepAliveTime,
+                              TimeUnit unit,
+                              BlockingQueue<Runnable> workQueue,
+                              ThreadFactory threadFactory,
+                              RejectedExecutionHandler handler,
+                              ExecutorMetrics metrics) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, (r, executor) -> {
+            metrics.recordRejected();
+            handler.rejectedExecution(r, executor);
+        });
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        super.execute(metrics.timed(command));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return super.shutdownNow().stream()
+                .map(r -> r instanceof ExecutorMetrics.TimedRunnable ? ((ExecutorMetrics.TimedRunnable) r).task : r)
+                .collect(Collectors.toList());
+    }
+}
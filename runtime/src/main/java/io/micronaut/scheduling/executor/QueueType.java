@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+/**
+ * An enum modelling the {@link java.util.concurrent.BlockingQueue} that holds the tasks waiting for a thread of a
+ * {@link ExecutorType#CACHED} or {@link ExecutorType#FIXED} executor.
+ *
+ * @since 1.1
+ */
+public enum QueueType {
+
+    /**
+     * Tasks are handed directly to a thread and never queued. A task is rejected if no thread is idle and the pool
+     * is at its maximum size.
+     *
+     * @see java.util.concurrent.SynchronousQueue
+     */
+    SYNCHRONOUS,
+
+    /**
+     * A linked queue, unbounded unless a queue capacity is configured.
+     *
+     * @see java.util.concurrent.LinkedBlockingQueue
+     */
+    LINKED,
+
+    /**
+     * An array backed queue that requires a queue capacity. It allocates its capacity up front and does not allocate
+     * a node per task.
+     *
+     * @see java.util.concurrent.ArrayBlockingQueue
+     */
+    ARRAY
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+/**
+ * An enum modelling what a {@link ExecutorType#CACHED} or {@link ExecutorType#FIXED} executor does with a task when
+ * its pool is at the maximum size and its queue is full.
+ *
+ * @since 1.1
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Throws a {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @see java.util.concurrent.ThreadPoolExecutor.AbortPolicy
+     */
+    ABORT,
+
+    /**
+     * Runs the task on the thread that submitted it, which slows down the submitter. Do not use this policy for
+     * executors that run HTTP routes, because the submitting thread is the event loop.
+     *
+     * @see java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy
+     */
+    CALLER_RUNS,
+
+    /**
+     * Throws a {@link io.micronaut.scheduling.exceptions.ExecutorSaturatedException}. The HTTP server responds to
+     * requests that are rejected this way with a 503 (Service Unavailable) response.
+     */
+    SHED
+}
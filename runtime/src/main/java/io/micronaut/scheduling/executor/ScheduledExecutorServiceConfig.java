@@ -41,6 +41,6 @@ public class ScheduledExecutorServiceConfig {
     @Bean
     @Named(TaskExecutors.SCHEDULED)
     ExecutorConfiguration configuration() {
-        return UserExecutorConfiguration.of(ExecutorType.SCHEDULED);
+        return UserExecutorConfiguration.of(TaskExecutors.SCHEDULED, ExecutorType.SCHEDULED);
     }
 }
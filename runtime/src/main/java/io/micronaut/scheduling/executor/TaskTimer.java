@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records durations of tasks in a histogram with power of two buckets. Recording is a few {@link LongAdder}
+ * increments, so it can be done on every task without contention between threads.
+ *
+ * <p>Percentiles are approximate: they return the upper bound of the bucket the percentile falls into, which is at
+ * most twice the actual value.</p>
+ *
+ * @since 1.1
+ */
+public final class TaskTimer {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * Default constructor.
+     */
+    TaskTimer() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        count.increment();
+        totalTime.add(nanos);
+        maxTime.accumulate(nanos);
+        int bucket = nanos == 0 ? 0 : BUCKETS - 1 - Long.numberOfLeadingZeros(nanos);
+        buckets[bucket].increment();
+    }
+
+    /**
+     * @return The number of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @param unit The time unit
+     * @return The sum of the recorded durations
+     */
+    public double getTotalTime(TimeUnit unit) {
+        return toUnit(totalTime.sum(), unit);
+    }
+
+    /**
+     * @param unit The time unit
+     * @return The mean of the recorded durations, or 0 if none were recorded
+     */
+    public double getMean(TimeUnit unit) {
+        long n = count.sum();
+        return n == 0 ? 0.0 : toUnit(totalTime.sum(), unit) / n;
+    }
+
+    /**
+     * @param unit The time unit
+     * @return The longest recorded duration
+     */
+    public double getMax(TimeUnit unit) {
+        return toUnit(maxTime.get(), unit);
+    }
+
+    /**
+     * @param percentile The percentile between 0 and 1, for example 0.99
+     * @param unit The time unit
+     * @return The approximate duration that the given fraction of the recorded durations do not exceed
+     */
+    public double getPercentile(double percentile, TimeUnit unit) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = (2L << i) - 1;
+                return toUnit(Math.min(upperBound, maxTime.get()), unit);
+            }
+        }
+        return getMax(unit);
+    }
+
+    private static double toUnit(long nanos, TimeUnit unit) {
+        return (double) nanos / unit.toNanos(1);
+    }
+}
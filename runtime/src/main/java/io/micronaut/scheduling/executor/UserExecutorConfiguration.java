@@ -16,10 +16,13 @@
 package io.micronaut.scheduling.executor;
 
 import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.util.ArgumentUtils;
 
 import javax.annotation.Nullable;
+import javax.inject.Inject;
 import javax.validation.constraints.Min;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
@@ -44,6 +47,12 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     private Integer parallelism = AVAILABLE_PROCESSORS;
     private Integer corePoolSize = AVAILABLE_PROCESSORS * 2;
     private Class<? extends ThreadFactory> threadFactoryClass;
+    private String name;
+    private Integer maximumPoolSize;
+    private Integer queueCapacity;
+    private QueueType queueType;
+    private Duration keepAlive = Duration.ofSeconds(60);
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
 
 
     /**
@@ -52,6 +61,45 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     protected UserExecutorConfiguration() {
     }
 
+    /**
+     * @param name The name of the executor
+     * @since 1.1
+     */
+    @Inject
+    protected UserExecutorConfiguration(@Parameter @Nullable String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    @Override
+    public Optional<Integer> getMaximumPoolSize() {
+        return Optional.ofNullable(maximumPoolSize);
+    }
+
+    @Override
+    public Optional<Integer> getQueueCapacity() {
+        return Optional.ofNullable(queueCapacity);
+    }
+
+    @Override
+    public Optional<QueueType> getQueueType() {
+        return Optional.ofNullable(queueType);
+    }
+
+    @Override
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    @Override
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
     @Override
     public ExecutorType getType() {
         return type;
@@ -115,7 +163,8 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     }
 
     /**
-     * Sets the core pool size for {@link io.micronaut.scheduling.executor.ExecutorType#SCHEDULED}. Default value (2 * Number of processors available to the Java virtual machine).
+     * Sets the core pool size for {@link io.micronaut.scheduling.executor.ExecutorType#SCHEDULED}, and for
+     * {@link io.micronaut.scheduling.executor.ExecutorType#CACHED} if a maximum pool size is set. Default value (2 * Number of processors available to the Java virtual machine).
      *
      * @param corePoolSize The core pool size
      */
@@ -125,6 +174,60 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         }
     }
 
+    /**
+     * Sets the maximum number of threads for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}. The pool
+     * keeps up to the core pool size of threads and creates more threads up to this size when the queue is full.
+     * Default value (unbounded).
+     *
+     * @param maximumPoolSize The maximum pool size
+     */
+    public void setMaximumPoolSize(@Min(1L) Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Sets the capacity of the queue of waiting tasks for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}
+     * and {@link io.micronaut.scheduling.executor.ExecutorType#FIXED}. Default value (unbounded).
+     *
+     * @param queueCapacity The queue capacity
+     */
+    public void setQueueCapacity(@Min(1L) Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Sets the type of the queue of waiting tasks. Default value ({@link QueueType#SYNCHRONOUS} for a
+     * {@link io.micronaut.scheduling.executor.ExecutorType#CACHED} executor without a queue capacity, otherwise
+     * {@link QueueType#LINKED}).
+     *
+     * @param queueType The queue type
+     */
+    public void setQueueType(QueueType queueType) {
+        this.queueType = queueType;
+    }
+
+    /**
+     * Sets the time idle threads are kept for {@link io.micronaut.scheduling.executor.ExecutorType#CACHED}. Default value (60 seconds).
+     *
+     * @param keepAlive The keep alive time
+     */
+    public void setKeepAlive(Duration keepAlive) {
+        if (keepAlive != null) {
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    /**
+     * Sets the policy for rejected tasks. Default value ({@link RejectionPolicy#ABORT}).
+     *
+     * @param rejectionPolicy The rejection policy
+     */
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        if (rejectionPolicy != null) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
     /**
      * Sets the thread factory class.
      *
@@ -147,6 +250,20 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         return configuration;
     }
 
+    /**
+     * Construct a {@link UserExecutorConfiguration} for the executor with the given name and {@link io.micronaut.scheduling.executor.ExecutorType}.
+     *
+     * @param name The name of the executor
+     * @param type The type
+     * @return The configuration
+     * @since 1.1
+     */
+    public static UserExecutorConfiguration of(String name, ExecutorType type) {
+        UserExecutorConfiguration configuration = of(type);
+        configuration.name = name;
+        return configuration;
+    }
+
     /**
      * Construct a {@link UserExecutorConfiguration} for the given {@link io.micronaut.scheduling.executor.ExecutorType}.
      *
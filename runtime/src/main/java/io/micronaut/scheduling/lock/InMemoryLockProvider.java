@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.lock;
+
+import javax.inject.Singleton;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link LockProvider}, which holds the locks in memory. It prevents overlapping runs of tasks that share
+ * a lock within a single instance of an application only.
+ *
+ * @since 1.1
+ */
+@Singleton
+public class InMemoryLockProvider implements LockProvider {
+
+    private final Map<String, HeldLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<SimpleLock> lock(LockConfiguration lockConfiguration) {
+        Instant now = Instant.now();
+        HeldLock lock = new HeldLock(lockConfiguration, now, lockConfiguration.getLockAtMostUntil(now));
+        HeldLock current = locks.compute(lockConfiguration.getName(), (name, existing) ->
+                existing == null || !existing.lockUntil.isAfter(now) ? lock : existing
+        );
+        return current == lock ? Optional.of(lock) : Optional.empty();
+    }
+
+    /**
+     * A lock held in memory.
+     */
+    private final class HeldLock implements SimpleLock {
+        private final LockConfiguration lockConfiguration;
+        private final Instant lockedAt;
+        private final Instant lockUntil;
+
+        /**
+         * @param lockConfiguration The lock configuration
+         * @param lockedAt          The time the lock was acquired
+         * @param lockUntil         The time until which the lock is held
+         */
+        HeldLock(LockConfiguration lockConfiguration, Instant lockedAt, Instant lockUntil) {
+            this.lockConfiguration = lockConfiguration;
+            this.lockedAt = lockedAt;
+            this.lockUntil = lockUntil;
+        }
+
+        @Override
+        public void unlock() {
+            Instant unlockTime = lockConfiguration.getUnlockTime(lockedAt, Instant.now());
+            locks.computeIfPresent(lockConfiguration.getName(), (name, existing) ->
+                    existing == this ? new HeldLock(lockConfiguration, lockedAt, unlockTime) : existing
+            );
+        }
+    }
+}
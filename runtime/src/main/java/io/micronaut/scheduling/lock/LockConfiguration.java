@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.lock;
+
+import io.micronaut.core.util.ArgumentUtils;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * The configuration of a lock for a scheduled task.
+ *
+ * @since 1.1
+ */
+public final class LockConfiguration {
+
+    private final String name;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+
+    /**
+     * @param name           The name of the lock
+     * @param lockAtMostFor  How long the lock is held if it is not released, for example because the instance stopped
+     * @param lockAtLeastFor How long the lock is held at least, even if it is released earlier
+     */
+    public LockConfiguration(@Nonnull String name, @Nonnull Duration lockAtMostFor, @Nonnull Duration lockAtLeastFor) {
+        ArgumentUtils.requireNonNull("name", name);
+        ArgumentUtils.requireNonNull("lockAtMostFor", lockAtMostFor);
+        ArgumentUtils.requireNonNull("lockAtLeastFor", lockAtLeastFor);
+        if (lockAtLeastFor.isNegative()) {
+            throw new IllegalArgumentException("Lock at least for must not be negative: " + lockAtLeastFor);
+        }
+        if (lockAtMostFor.compareTo(lockAtLeastFor) < 0) {
+            throw new IllegalArgumentException("Lock at most for [" + lockAtMostFor + "] must not be less than lock at least for [" + lockAtLeastFor + "]");
+        }
+        this.name = name;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+    }
+
+    /**
+     * @return The name of the lock
+     */
+    public @Nonnull String getName() {
+        return name;
+    }
+
+    /**
+     * @return How long the lock is held if it is not released
+     */
+    public @Nonnull Duration getLockAtMostFor() {
+        return lockAtMostFor;
+    }
+
+    /**
+     * @return How long the lock is held at least
+     */
+    public @Nonnull Duration getLockAtLeastFor() {
+        return lockAtLeastFor;
+    }
+
+    /**
+     * @param lockedAt The time the lock was acquired
+     * @return The time until which a lock that is not released is held
+     */
+    public @Nonnull Instant getLockAtMostUntil(@Nonnull Instant lockedAt) {
+        return lockedAt.plus(lockAtMostFor);
+    }
+
+    /**
+     * @param lockedAt The time the lock was acquired
+     * @return The time until which a released lock is held
+     */
+    public @Nonnull Instant getLockAtLeastUntil(@Nonnull Instant lockedAt) {
+        return lockedAt.plus(lockAtLeastFor);
+    }
+
+    /**
+     * @param lockedAt The time the lock was acquired
+     * @param now      The time the lock is released
+     * @return The time until which the lock is held after it is released
+     */
+    public @Nonnull Instant getUnlockTime(@Nonnull Instant lockedAt, @Nonnull Instant now) {
+        Instant lockAtLeastUntil = getLockAtLeastUntil(lockedAt);
+        return lockAtLeastUntil.isAfter(now) ? lockAtLeastUntil : now;
+    }
+
+    @Override
+    public String toString() {
+        return "LockConfiguration{name='" + name + "', lockAtMostFor=" + lockAtMostFor + ", lockAtLeastFor=" + lockAtLeastFor + '}';
+    }
+}
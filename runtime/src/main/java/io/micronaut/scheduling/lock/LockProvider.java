@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.lock;
+
+import java.util.Optional;
+
+/**
+ * Provides locks for scheduled tasks that have a lock name, so that a task runs on at most one instance of an
+ * application at a time. The default implementation is the {@link InMemoryLockProvider}, register a bean of this type
+ * that replaces it to share the locks between instances.
+ *
+ * @since 1.1
+ */
+public interface LockProvider {
+
+    /**
+     * Attempts to acquire a lock without waiting. A lock that was not released is considered released once the lock
+     * at most for duration has passed since it was acquired.
+     *
+     * @param lockConfiguration The lock configuration
+     * @return The lock, or an empty optional if the lock is held
+     */
+    Optional<SimpleLock> lock(LockConfiguration lockConfiguration);
+}
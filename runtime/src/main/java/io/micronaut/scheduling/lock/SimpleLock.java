@@ -0,0 +1,31 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.lock;
+
+/**
+ * A lock acquired from a {@link LockProvider}.
+ *
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface SimpleLock {
+
+    /**
+     * Releases the lock. The lock is kept until the lock at least for duration of the {@link LockConfiguration} has
+     * passed since it was acquired.
+     */
+    void unlock();
+}
@@ -29,6 +29,9 @@ import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.TaskScheduler;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.micronaut.scheduling.exceptions.SchedulerConfigurationException;
+import io.micronaut.scheduling.lock.LockConfiguration;
+import io.micronaut.scheduling.lock.LockProvider;
+import io.micronaut.scheduling.lock.SimpleLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +61,10 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
     private static final String MEMBER_CRON = "cron";
     private static final String MEMBER_FIXED_DELAY = "fixedDelay";
     private static final String MEMBER_SCHEDULER = "scheduler";
+    private static final String MEMBER_LOCK = "lock";
+    private static final String MEMBER_LOCK_AT_MOST_FOR = "lockAtMostFor";
+    private static final String MEMBER_LOCK_AT_LEAST_FOR = "lockAtLeastFor";
+    private static final Duration DEFAULT_LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
 
     private final BeanContext beanContext;
     private final ConversionService<?> conversionService;
@@ -96,7 +103,7 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                 .findBean(TaskScheduler.class, Qualifiers.byName(scheduler))
                 .orElseThrow(() -> new SchedulerConfigurationException(method, "No scheduler of type TaskScheduler configured for name: " + scheduler));
 
-            Runnable task = () -> {
+            Runnable methodTask = () -> {
                 io.micronaut.context.Qualifier<Object> qualifer = beanDefinition
                     .getAnnotationTypeByStereotype(Qualifier.class)
                     .map(type -> Qualifiers.byAnnotation(beanDefinition, type))
@@ -125,6 +132,9 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                 }
             };
 
+            String lockName = scheduledAnnotation.get(MEMBER_LOCK, String.class).orElse(null);
+            Runnable task = StringUtils.isNotEmpty(lockName) ? lockedTask(method, scheduledAnnotation, lockName, methodTask) : methodTask;
+
             String cronExpr = scheduledAnnotation.get(MEMBER_CRON, String.class, null);
             if (StringUtils.isNotEmpty(cronExpr)) {
                 if (LOG.isDebugEnabled()) {
@@ -163,6 +173,66 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
         }
     }
 
+    /**
+     * Wraps a task so that it only runs if the named lock can be acquired.
+     *
+     * @param method              The scheduled method
+     * @param scheduledAnnotation The scheduled annotation
+     * @param lockName            The name of the lock
+     * @param task                The task
+     * @return The task that acquires the lock
+     */
+    private Runnable lockedTask(ExecutableMethod<?, ?> method, AnnotationValue<Scheduled> scheduledAnnotation, String lockName, Runnable task) {
+        Duration lockAtMostFor = lockDuration(method, scheduledAnnotation, MEMBER_LOCK_AT_MOST_FOR, DEFAULT_LOCK_AT_MOST_FOR);
+        Duration lockAtLeastFor = lockDuration(method, scheduledAnnotation, MEMBER_LOCK_AT_LEAST_FOR, Duration.ZERO);
+        LockConfiguration lockConfiguration;
+        try {
+            lockConfiguration = new LockConfiguration(lockName, lockAtMostFor, lockAtLeastFor);
+        } catch (IllegalArgumentException e) {
+            throw new SchedulerConfigurationException(method, e.getMessage());
+        }
+        LockProvider lockProvider = beanContext
+            .findBean(LockProvider.class)
+            .orElseThrow(() -> new SchedulerConfigurationException(method, "No LockProvider configured for lock: " + lockName));
+
+        return () -> {
+            Optional<SimpleLock> lock;
+            try {
+                lock = lockProvider.lock(lockConfiguration);
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error acquiring lock [" + lockName + "] for scheduled method " + method + ": " + e.getMessage(), e);
+                }
+                return;
+            }
+            if (lock.isPresent()) {
+                try {
+                    task.run();
+                } finally {
+                    try {
+                        lock.get().unlock();
+                    } catch (Exception e) {
+                        if (LOG.isErrorEnabled()) {
+                            LOG.error("Error releasing lock [" + lockName + "] for scheduled method " + method + ": " + e.getMessage(), e);
+                        }
+                    }
+                }
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping execution of scheduled method {} because lock [{}] is held", method, lockName);
+            }
+        };
+    }
+
+    private Duration lockDuration(ExecutableMethod<?, ?> method, AnnotationValue<Scheduled> scheduledAnnotation, String member, Duration defaultDuration) {
+        String value = scheduledAnnotation.get(member, String.class).orElse(null);
+        if (StringUtils.isEmpty(value)) {
+            return defaultDuration;
+        }
+        return conversionService.convert(value, Duration.class).orElseThrow(() ->
+            new SchedulerConfigurationException(method, "Invalid " + member + " definition: " + value)
+        );
+    }
+
     @Override
     public void close() {
         for (ScheduledFuture<?> scheduledTask : scheduledTasks) {
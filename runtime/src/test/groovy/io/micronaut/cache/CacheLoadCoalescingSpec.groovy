@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CacheConfig
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.async.annotation.SingleResult
+import io.reactivex.Flowable
+import io.reactivex.Single
+import io.reactivex.schedulers.Schedulers
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
+
+class CacheLoadCoalescingSpec extends Specification {
+
+    void "test concurrent cache misses for the same key invoke the method once"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.slow.maximum-size': 10)
+        SlowService slowService = ctx.getBean(SlowService)
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+
+        when:
+        List<Future> futures = (1..8).collect { executor.submit({ -> invocation.call(slowService) }) }
+
+        then:
+        futures*.get().toSet() == [expected].toSet()
+        slowService.invocations.get() == 1
+
+        cleanup:
+        executor.shutdown()
+        ctx.close()
+
+        where:
+        invocation                                           | expected
+        { SlowService s -> s.load("a") }                     | "a1"
+        { SlowService s -> s.loadFuture("a").join() }        | "a1"
+        { SlowService s -> s.loadSingle("a").blockingGet() } | "a1"
+    }
+
+    void "test a value is refreshed in the background before it expires"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.caches.slow.expire-after-write': '2s',
+                'micronaut.caches.slow.refresh-ahead-factor': 0.25,
+                'micronaut.caches.slow.test-mode': true
+        )
+        SlowService slowService = ctx.getBean(SlowService)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        slowService.load("b") == "b1"
+
+        when:
+        Thread.sleep(600)
+
+        then:
+        slowService.load("b") == "b1"
+        conditions.eventually {
+            slowService.invocations.get() == 2
+            slowService.load("b") == "b2"
+        }
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test a cache miss emits every element of a publisher"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.slow.maximum-size': 10)
+        SlowService slowService = ctx.getBean(SlowService)
+
+        expect:
+        slowService.loadFlowable("c").toList().blockingGet() == ["c1", "c2", "c3"]
+        slowService.invocations.get() == 1
+
+        cleanup:
+        ctx.close()
+    }
+
+    @Singleton
+    @CacheConfig("slow")
+    static class SlowService {
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable
+        String load(String name) {
+            int n = invocations.incrementAndGet()
+            Thread.sleep(200)
+            return name + n
+        }
+
+        @Cacheable
+        CompletableFuture<String> loadFuture(String name) {
+            int n = invocations.incrementAndGet()
+            return CompletableFuture.supplyAsync({ ->
+                Thread.sleep(200)
+                return name + n
+            })
+        }
+
+        @Cacheable
+        Single<String> loadSingle(String name) {
+            return Single.fromCallable({ ->
+                int n = invocations.incrementAndGet()
+                Thread.sleep(200)
+                return name + n
+            }).subscribeOn(Schedulers.io())
+        }
+
+        @Cacheable
+        @SingleResult
+        Flowable<String> loadFlowable(String name) {
+            invocations.incrementAndGet()
+            return Flowable.just(name + 1, name + 2, name + 3)
+        }
+    }
+}
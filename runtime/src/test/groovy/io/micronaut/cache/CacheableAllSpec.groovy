@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CacheConfig
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.annotation.CacheableAll
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+
+class CacheableAllSpec extends Specification {
+
+    void "test only the ids that are not cached are loaded"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.users.maximum-size': 10)
+        UserService userService = ctx.getBean(UserService)
+
+        expect:
+        userService.name(2) == "user-2"
+        userService.names([1, 2, 3]) == ["user-1", "user-2", "user-3"]
+        userService.requested == [[2], [1, 3]]
+
+        when:
+        List<String> names = userService.names([3, 4, 1])
+
+        then:
+        names == ["user-3", "user-4", "user-1"]
+        userService.requested.last() == [4]
+
+        when:
+        names = userService.names([1, 3])
+
+        then:
+        names == ["user-1", "user-3"]
+        userService.requested.size() == 3
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test a map of values keyed by id is cached"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.users.maximum-size': 10)
+        UserService userService = ctx.getBean(UserService)
+
+        when:
+        Map<Integer, String> names = userService.namesById([5, 6, 0])
+
+        then:
+        names == [5: "user-5", 6: "user-6"]
+        names.keySet().toList() == [5, 6]
+
+        when:
+        names = userService.namesById([6, 7])
+
+        then:
+        names == [6: "user-6", 7: "user-7"]
+        userService.requested == [[5, 6, 0], [7]]
+        userService.name(5) == "user-5"
+        userService.requested.size() == 2
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test a future of values is cached"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.users.maximum-size': 10)
+        UserService userService = ctx.getBean(UserService)
+
+        expect:
+        userService.namesFuture([8, 9]).get() == ["user-8", "user-9"]
+        userService.namesFuture([9, 10]).get() == ["user-9", "user-10"]
+        userService.requested == [[8, 9], [10]]
+
+        cleanup:
+        ctx.close()
+    }
+
+    @Singleton
+    @CacheConfig("users")
+    static class UserService {
+
+        List<List<Integer>> requested = []
+
+        @Cacheable
+        String name(Integer id) {
+            requested << [id]
+            "user-$id".toString()
+        }
+
+        @CacheableAll
+        List<String> names(List<Integer> ids) {
+            requested << new ArrayList<>(ids)
+            ids.collect { "user-$it".toString() }
+        }
+
+        @CacheableAll
+        Map<Integer, String> namesById(Collection<Integer> ids) {
+            requested << new ArrayList<>(ids)
+            ids.findAll { it > 0 }.collectEntries { [it, "user-$it".toString()] }
+        }
+
+        @CacheableAll
+        CompletableFuture<List<String>> namesFuture(List<Integer> ids) {
+            requested << new ArrayList<>(ids)
+            CompletableFuture.completedFuture(ids.collect { "user-$it".toString() })
+        }
+    }
+}
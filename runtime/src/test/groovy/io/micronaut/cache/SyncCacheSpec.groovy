@@ -201,6 +201,40 @@ class SyncCacheSpec extends Specification {
         applicationContext.stop()
     }
 
+    void "test sync cache statistics"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.counter.record-stats':true,
+                'micronaut.caches.counter2.maximumSize':10
+        )
+        CounterService counterService = applicationContext.getBean(CounterService)
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        when:
+        counterService.increment("test")
+        counterService.getValue("test")
+        counterService.getValue("test")
+        CacheStatistics statistics = cacheManager.getCache('counter').statistics.get()
+
+        then:
+        statistics.hitCount == 2
+        statistics.missCount == 0
+        statistics.estimatedSize == 1
+        !cacheManager.getCache('counter2').statistics.isPresent()
+
+        when:
+        counterService.getValue("other")
+        statistics = cacheManager.getCache('counter').statistics.get()
+
+        then:
+        statistics.missCount == 1
+        statistics.loadSuccessCount == 1
+        statistics.totalLoadTime > 0
+
+        cleanup:
+        applicationContext.stop()
+    }
+
     @Singleton
     @CacheConfig('counter')
     static class CounterService {
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.invalidation
+
+import io.micronaut.cache.annotation.CacheConfig
+import io.micronaut.cache.annotation.CacheInvalidate
+import io.micronaut.cache.annotation.CachePut
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.ByteArrayKey
+import io.micronaut.cache.interceptor.ParametersKey
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Consumer
+
+class CacheInvalidationSpec extends Specification {
+
+    static final Map<String, Object> CONFIG = [
+            'micronaut.caches.books.maximum-size'      : 10,
+            'micronaut.cache.invalidation.enabled'       : true,
+            'micronaut.cache.invalidation.batch-interval': '50ms'
+    ]
+
+    void "test put and invalidate operations are applied to the caches of other members"() {
+        given:
+        ApplicationContext first = ApplicationContext.run(CONFIG)
+        ApplicationContext second = ApplicationContext.run(CONFIG)
+        BookService firstService = first.getBean(BookService)
+        BookService secondService = second.getBean(BookService)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+        BookService.TITLES.put("1", "Title")
+
+        expect:
+        first.getBean(CacheInvalidationChannel) instanceof LoopbackCacheInvalidationChannel
+        firstService.title("1") == "Title"
+        secondService.title("1") == "Title"
+
+        when:
+        firstService.update("1", "New Title")
+
+        then:
+        firstService.title("1") == "New Title"
+        conditions.eventually {
+            secondService.title("1") == "New Title"
+        }
+
+        when:
+        BookService.TITLES.put("1", "Other Title")
+        secondService.remove("1")
+
+        then:
+        conditions.eventually {
+            firstService.title("1") == null
+        }
+
+        when:
+        BookService.TITLES.put("1", "Cached Title")
+        secondService.title("1")
+        BookService.TITLES.put("1", "Last Title")
+        firstService.clear()
+
+        then:
+        conditions.eventually {
+            secondService.title("1") == "Last Title"
+        }
+
+        cleanup:
+        first.close()
+        second.close()
+    }
+
+    void "test invalidations are coalesced into batches"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(CONFIG + ['micronaut.cache.invalidation.batch-interval': '1h'])
+        CacheInvalidationBroadcaster broadcaster = ctx.getBean(CacheInvalidationBroadcaster)
+        List<CacheInvalidationBatch> batches = []
+        ctx.getBean(CacheInvalidationChannel).subscribe({ batches << it } as Consumer)
+
+        when:
+        broadcaster.invalidate("books", "1")
+        broadcaster.invalidate("books", "1")
+        broadcaster.invalidate("books", "2")
+        broadcaster.invalidate("authors", "1")
+        broadcaster.flush()
+
+        then:
+        batches.size() == 1
+        batches[0].origin == broadcaster.origin
+        batches[0].invalidations == [
+                CacheInvalidation.of("books", "1"),
+                CacheInvalidation.of("books", "2"),
+                CacheInvalidation.of("authors", "1")
+        ]
+
+        when:
+        broadcaster.invalidate("books", "1")
+        broadcaster.invalidateAll("books")
+        broadcaster.invalidate("books", "2")
+        broadcaster.flush()
+
+        then:
+        batches.size() == 2
+        batches[1].invalidations == [CacheInvalidation.all("books")]
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test distributed invalidation is disabled by default"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.caches.books.maximum-size': 10)
+
+        expect:
+        !ctx.containsBean(CacheInvalidationBroadcaster)
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test multicast packets carry the keys supported by the key codec"() {
+        given:
+        CacheInvalidationKeyCodec codec = new DefaultCacheInvalidationKeyCodec()
+        List<CacheInvalidation> invalidations = [
+                CacheInvalidation.of("books", "1"),
+                CacheInvalidation.of("books", [1, 2] as byte[]),
+                CacheInvalidation.of("books", 1L),
+                CacheInvalidation.of("books", new ParametersKey("a", 2, null, [3] as byte[])),
+                CacheInvalidation.of("authors", new Date()),
+                CacheInvalidation.all("reviews")
+        ]
+
+        when:
+        byte[] data = MulticastCacheInvalidationChannel.serialize("origin", invalidations, codec)
+        CacheInvalidationBatch batch = MulticastCacheInvalidationChannel.deserialize(data, 0, data.length, codec).get()
+
+        then:
+        batch.origin == "origin"
+        batch.invalidations == [
+                CacheInvalidation.of("books", "1"),
+                CacheInvalidation.of("books", new ByteArrayKey([1, 2] as byte[])),
+                CacheInvalidation.of("books", 1L),
+                CacheInvalidation.of("books", new ParametersKey("a", 2, null, [3] as byte[])),
+                CacheInvalidation.all("authors"),
+                CacheInvalidation.all("reviews")
+        ]
+
+        and:"packets in any other format are rejected"
+        !MulticastCacheInvalidationChannel.deserialize(data, 0, data.length - 1, codec).isPresent()
+        !MulticastCacheInvalidationChannel.deserialize(data + ([0] as byte[]), 0, data.length + 1, codec).isPresent()
+        !MulticastCacheInvalidationChannel.deserialize(serializedBatch(), 0, serializedBatch().length, codec).isPresent()
+    }
+
+    void "test a multicast invalidation removes the value cached for a long key"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(CONFIG)
+        BookService bookService = ctx.getBean(BookService)
+        CacheInvalidationBroadcaster broadcaster = ctx.getBean(CacheInvalidationBroadcaster)
+        CacheInvalidationKeyCodec codec = ctx.getBean(CacheInvalidationKeyCodec)
+        BookService.TITLES_BY_ID.put(1L, "Title")
+
+        expect:
+        bookService.title(1L) == "Title"
+
+        when:
+        BookService.TITLES_BY_ID.put(1L, "New Title")
+        byte[] data = MulticastCacheInvalidationChannel.serialize("other", [CacheInvalidation.of("books", 1L)], codec)
+        broadcaster.receive(MulticastCacheInvalidationChannel.deserialize(data, 0, data.length, codec).get())
+
+        then:
+        bookService.title(1L) == "New Title"
+
+        cleanup:
+        ctx.close()
+    }
+
+    private static byte[] serializedBatch() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        new ObjectOutputStream(bytes).withCloseable { it.writeObject(new CacheInvalidationBatch("origin", [])) }
+        bytes.toByteArray()
+    }
+
+    @Singleton
+    @CacheConfig("books")
+    static class BookService {
+
+        static final Map<String, String> TITLES = new ConcurrentHashMap<>()
+        static final Map<Long, String> TITLES_BY_ID = new ConcurrentHashMap<>()
+
+        @Cacheable
+        String title(String isbn) {
+            TITLES.get(isbn)
+        }
+
+        @Cacheable
+        String title(Long id) {
+            TITLES_BY_ID.get(id)
+        }
+
+        @CachePut(parameters = "isbn")
+        String update(String isbn, String title) {
+            TITLES.put(isbn, title)
+            title
+        }
+
+        @CacheInvalidate
+        void remove(String isbn) {
+            TITLES.remove(isbn)
+        }
+
+        @CacheInvalidate(all = true)
+        void clear() {
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap
+
+import io.micronaut.cache.CacheManager
+import io.micronaut.cache.SyncCache
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+
+import javax.inject.Singleton
+
+class OffHeapSyncCacheSpec extends Specification {
+
+    void "test configure an off-heap cache"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.reference.maximum-memory': '64KB',
+                'micronaut.off-heap-caches.reference.segments': 2,
+                'micronaut.off-heap-caches.reference.block-size': 64,
+                'micronaut.off-heap-caches.reference.record-stats': true
+        )
+        SyncCache cache = ctx.getBean(SyncCache, Qualifiers.byName('reference'))
+
+        expect:
+        cache instanceof OffHeapSyncCache
+        cache.nativeCache.capacity() == 64 * 1024
+        ctx.getBean(CacheManager).cacheNames.contains('reference')
+
+        when:
+        cache.put("one", 1)
+        cache.put("list", [1, 2, 3])
+
+        then:
+        cache.get("one", Integer).get() == 1
+        cache.get("one", String).get() == "1"
+        cache.get("list", List).get() == [1, 2, 3]
+        cache.putIfAbsent("one", 2).get() == 1
+        !cache.putIfAbsent("two", 2).isPresent()
+        cache.get("three", Integer, { -> 3 }) == 3
+        cache.get("three", Integer).get() == 3
+
+        when:
+        cache.invalidate("one")
+        cache.put("two", null)
+
+        then:
+        !cache.get("one", Integer).isPresent()
+        !cache.get("two", Integer).isPresent()
+        cache.statistics.get().hitCount > 0
+        cache.statistics.get().weightedSize.asLong == cache.nativeCache.memoryUsed()
+
+        when:
+        cache.invalidateAll()
+
+        then:
+        cache.nativeCache.size() == 0
+        cache.nativeCache.memoryUsed() == 0
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test values are evicted by size and frequently used values are retained"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.reference.maximum-memory': '32KB',
+                'micronaut.off-heap-caches.reference.segments': 1,
+                'micronaut.off-heap-caches.reference.block-size': 64,
+                'micronaut.off-heap-caches.reference.eviction-policy': policy
+        )
+        SyncCache cache = ctx.getBean(SyncCache, Qualifiers.byName('reference'))
+        OffHeapStore store = cache.nativeCache
+        String value = "x" * 1000
+
+        when:
+        cache.put("hot", "value")
+        10.times { cache.get("hot", String) }
+        200.times { cache.put("key$it".toString(), value) }
+
+        then:
+        store.memoryUsed() <= store.capacity()
+        store.evictionCount() > 0
+        cache.get("key199", String).isPresent() || policy == 'tiny-lfu'
+        cache.get("hot", String).isPresent() == retained
+
+        cleanup:
+        ctx.close()
+
+        where:
+        policy     | retained
+        'lru'      | false
+        'tiny-lfu' | true
+    }
+
+    void "test a rejected value does not evict other values"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.reference.maximum-memory': '1KB',
+                'micronaut.off-heap-caches.reference.segments': 1,
+                'micronaut.off-heap-caches.reference.block-size': 64,
+                'micronaut.off-heap-caches.reference.eviction-policy': 'tiny-lfu'
+        )
+        SyncCache cache = ctx.getBean(SyncCache, Qualifiers.byName('reference'))
+        OffHeapStore store = cache.nativeCache
+
+        when:
+        cache.put("cold", "x" * 400)
+        cache.put("hot", "x" * 400)
+        5.times { cache.get("hot", String) }
+        cache.put("new", "x" * 600)
+
+        then:
+        !cache.get("new", String).isPresent()
+        cache.get("cold", String).isPresent()
+        cache.get("hot", String).isPresent()
+        store.evictionCount() == 0
+
+        when:
+        cache.put("hot", "y" * 600)
+
+        then:
+        cache.get("hot", String).get() == "y" * 600
+        !cache.get("cold", String).isPresent()
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test the memory of a store is released when it is closed"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.reference.maximum-memory': '64KB'
+        )
+        SyncCache cache = ctx.getBean(SyncCache, Qualifiers.byName('reference'))
+        OffHeapStore store = cache.nativeCache
+        cache.put("key", "value")
+
+        when:
+        ctx.close()
+
+        then:
+        store.size() == 0
+        store.memoryUsed() == 0
+        store.get("key".bytes) == null
+
+        when:
+        store.put("key".bytes, "value".bytes)
+
+        then:
+        store.size() == 0
+    }
+
+    void "test values are stored in a memory mapped file"() {
+        given:
+        File file = File.createTempFile("off-heap", ".cache")
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.mapped.maximum-memory': '1MB',
+                'micronaut.off-heap-caches.mapped.file': file.absolutePath
+        )
+        SyncCache cache = ctx.getBean(SyncCache, Qualifiers.byName('mapped'))
+
+        when:
+        cache.put("key", "value")
+
+        then:
+        file.length() == 1024 * 1024
+        cache.get("key", String).get() == "value"
+
+        cleanup:
+        ctx.close()
+        file.delete()
+    }
+
+    void "test cacheable methods with an off-heap cache"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.off-heap-caches.products.maximum-memory': '1MB'
+        )
+        ProductService productService = ctx.getBean(ProductService)
+
+        expect:
+        productService.findName(1L) == "Product 1"
+        productService.findName(1L) == "Product 1"
+        productService.invocations == 1
+
+        cleanup:
+        ctx.close()
+    }
+
+    @Singleton
+    static class ProductService {
+        int invocations
+
+        @Cacheable("products")
+        String findName(Long id) {
+            invocations++
+            return "Product $id".toString()
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.BulkheadState
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.annotation.Fallback
+import io.micronaut.retry.exception.BulkheadFullException
+import io.reactivex.Single
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class BulkheadSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run()
+    @Shared @AutoCleanup("shutdownNow") ExecutorService executor = Executors.newCachedThreadPool()
+
+    void "test calls beyond the limit are rejected"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        List<Future<String>> calls = (1..2).collect { executor.submit({ service.slow(latch) }) }
+        waitForActiveCalls("slow", 2)
+        service.slow(latch)
+
+        then:
+        BulkheadFullException e = thrown()
+        e.stackTrace.length == 0
+
+        when:
+        latch.countDown()
+
+        then:
+        calls*.get() == ["slow", "slow"]
+        state("slow").rejectedCalls == 1
+        state("slow").activeCalls == 0
+    }
+
+    void "test calls run in the bulkhead thread pool"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        Future<String> call = executor.submit({ service.pooled(latch) })
+        waitForActiveCalls("pooled", 1)
+        service.pooled(latch)
+
+        then:
+        thrown(BulkheadFullException)
+
+        when:
+        latch.countDown()
+
+        then:
+        call.get().startsWith("bulkhead-pooled-")
+    }
+
+    void "test rejected calls use the fallback"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        Future<String> call = executor.submit({ service.recoverable(latch) })
+        waitForActiveCalls("recoverable", 1)
+
+        then:
+        service.recoverable(latch) == "fallback"
+
+        when:
+        latch.countDown()
+
+        then:
+        call.get() == "recoverable"
+    }
+
+    void "test completable future calls hold a permit until completion"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CompletableFuture<String> pending = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<String> first = service.future(pending)
+        service.future(CompletableFuture.completedFuture("second")).join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof BulkheadFullException
+
+        when:
+        pending.complete("first")
+
+        then:
+        first.join() == "first"
+        service.future(CompletableFuture.completedFuture("second")).join() == "second"
+    }
+
+    void "test reactive calls hold a permit while subscribed"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+
+        when:
+        def first = service.single().test()
+        service.single().blockingGet()
+
+        then:
+        thrown(BulkheadFullException)
+
+        when:
+        first.await()
+
+        then:
+        first.values() == ["single"]
+        service.single().blockingGet() == "single"
+    }
+
+    private BulkheadState state(String name) {
+        context.getBean(BulkheadInterceptor).bulkheads.find { it.name == name }
+    }
+
+    private void waitForActiveCalls(String name, int activeCalls) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (state(name)?.activeCalls != activeCalls && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+    }
+
+    static interface RecoverableOperations {
+        String recoverable(CountDownLatch latch)
+    }
+
+    @Singleton
+    static class SlowService implements RecoverableOperations {
+
+        @Bulkhead(value = "slow", maxConcurrentCalls = "2")
+        String slow(CountDownLatch latch) {
+            latch.await()
+            return "slow"
+        }
+
+        @Bulkhead(value = "pooled", maxConcurrentCalls = "1", isolation = Bulkhead.Isolation.THREAD_POOL)
+        String pooled(CountDownLatch latch) {
+            latch.await()
+            return Thread.currentThread().name
+        }
+
+        @Override
+        @Bulkhead(value = "recoverable", maxConcurrentCalls = "1")
+        String recoverable(CountDownLatch latch) {
+            latch.await()
+            return "recoverable"
+        }
+
+        @Bulkhead(value = "future", maxConcurrentCalls = "1")
+        CompletableFuture<String> future(CompletableFuture<String> result) {
+            return result
+        }
+
+        @Bulkhead(value = "single", maxConcurrentCalls = "1")
+        Single<String> single() {
+            return Single.just("single").delay(200, TimeUnit.MILLISECONDS)
+        }
+    }
+
+    @Fallback
+    static class RecoverableFallback implements RecoverableOperations {
+
+        @Override
+        String recoverable(CountDownLatch latch) {
+            return "fallback"
+        }
+    }
+}
@@ -103,9 +103,64 @@ class RefreshScopeSpec extends Specification {
         beanContext?.stop()
     }
 
+    void "test fire refresh event that only refreshes beans reading the changed keys"() {
+        given:
+        System.setProperty("foo.bar", "test")
+        System.setProperty("other.value", "one")
+        ApplicationContext beanContext = ApplicationContext.build().start()
+
+        // override IO executor with synchronous impl
+        beanContext.registerSingleton(Executor.class, new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        }, Qualifiers.byName(TaskExecutors.IO))
+
+        when:
+        RefreshBean bean = beanContext.getBean(RefreshBean)
+        OtherRefreshBean otherBean = beanContext.getBean(OtherRefreshBean)
+        String beanId = bean.id()
+        String otherId = otherBean.id()
+
+        then:
+        bean.testValue() == 'test'
+        otherBean.testValue() == 'one'
+
+        when:
+        System.setProperty("foo.bar", "bar")
+        Environment environment = beanContext.getEnvironment()
+        Map<String, Object> previousValues = environment.refreshAndDiff()
+        beanContext.publishEvent(new RefreshEvent(previousValues))
+
+        then:
+        previousValues.keySet() == ['foo.bar'] as Set
+        bean.testValue() == 'bar'
+        otherBean.id() == otherId
+        otherBean.testValue() == 'one'
+
+        when:
+        System.setProperty("other.value", "two")
+        previousValues = environment.refreshAndDiff()
+        beanContext.publishEvent(new RefreshEvent(previousValues))
+
+        then:
+        otherBean.id() != otherId
+        otherBean.testValue() == 'two'
+
+        and: "beans that do not record the keys they read are refreshed by any change"
+        bean.id() != beanId
+
+        cleanup:
+        System.setProperty("foo.bar", "")
+        System.setProperty("other.value", "")
+        beanContext?.stop()
+    }
+
     @Refreshable
     static class RefreshBean {
 
+        final String id = UUID.randomUUID().toString()
         final MyConfig config
 
         @Value('${foo.bar}')
@@ -115,6 +170,10 @@ class RefreshScopeSpec extends Specification {
             this.config = config
         }
 
+        String id() {
+            return id
+        }
+
         String testValue() {
             return foo
         }
@@ -155,6 +214,23 @@ class RefreshScopeSpec extends Specification {
         }
     }
 
+    @Refreshable(recordAccessedKeys = true)
+    static class OtherRefreshBean {
+
+        final String id = UUID.randomUUID().toString()
+
+        @Value('${other.value}')
+        String value
+
+        String id() {
+            return id
+        }
+
+        String testValue() {
+            return value
+        }
+    }
+
     @ConfigurationProperties('foo')
     static class MyConfig {
         String bar
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.executor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.executor.ExecutorMetrics
+import io.micronaut.scheduling.executor.ExecutorMetricsRegistry
+import io.micronaut.scheduling.executor.ExecutorType
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class ExecutorMetricsSpec extends Specification {
+
+    void "test metrics are recorded for the io executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run()
+        ExecutorService executorService = ctx.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO))
+        ExecutorMetricsRegistry registry = ctx.getBean(ExecutorMetricsRegistry)
+        CountDownLatch running = new CountDownLatch(2)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        2.times {
+            executorService.execute({
+                running.countDown()
+                release.await()
+            })
+        }
+        running.await()
+        ExecutorMetrics metrics = registry.findMetrics(TaskExecutors.IO).get()
+
+        then:
+        executorService instanceof ThreadPoolExecutor
+        metrics.type == ExecutorType.CACHED
+        metrics.submittedCount == 2
+        metrics.activeCount == 2
+        metrics.poolSize == 2
+        metrics.maximumPoolSize == -1
+        metrics.waitTime.count == 2
+
+        when:
+        release.countDown()
+        executorService.submit({ 1 }).get()
+        executorService.shutdown()
+        executorService.awaitTermination(5, TimeUnit.SECONDS)
+
+        then:
+        metrics.submittedCount == 3
+        metrics.completedCount == 3
+        metrics.activeCount == 0
+        metrics.executionTime.count == 3
+        metrics.executionTime.getPercentile(0.5, TimeUnit.NANOSECONDS) <= metrics.executionTime.getMax(TimeUnit.NANOSECONDS)
+
+        when:
+        executorService.execute({})
+
+        then:
+        thrown(RejectedExecutionException)
+        metrics.rejectedCount == 1
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test metrics are recorded for scheduled tasks"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run()
+        ScheduledExecutorService executorService = ctx.getBean(ScheduledExecutorService, Qualifiers.byName(TaskExecutors.SCHEDULED))
+        CountDownLatch runs = new CountDownLatch(3)
+
+        when:
+        def future = executorService.scheduleAtFixedRate({ runs.countDown() }, 0, 10, TimeUnit.MILLISECONDS)
+        runs.await()
+        future.cancel(false)
+        ExecutorMetrics metrics = ctx.getBean(ExecutorMetricsRegistry).findMetrics(TaskExecutors.SCHEDULED).get()
+
+        then:
+        metrics.type == ExecutorType.SCHEDULED
+        metrics.submittedCount == 1
+        metrics.waitTime.count >= 3
+        metrics.maximumPoolSize == -1
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test metrics of a fixed executor report saturation"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.fixed-pool.type': 'fixed',
+                'micronaut.executors.fixed-pool.nThreads': 2
+        )
+        ExecutorService executorService = ctx.getBean(ExecutorService, Qualifiers.byName("fixed-pool"))
+        CountDownLatch running = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        3.times {
+            executorService.execute({
+                running.countDown()
+                release.await()
+            })
+        }
+        running.await()
+        ExecutorMetrics metrics = ctx.getBean(ExecutorMetricsRegistry).findMetrics("fixed-pool").get()
+
+        then:
+        metrics.maximumPoolSize == 2
+        metrics.queueSize >= 1
+        metrics.saturation > 0
+
+        cleanup:
+        release.countDown()
+        ctx.close()
+    }
+}
@@ -20,7 +20,11 @@ import io.reactivex.Single
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Executable
 import io.micronaut.core.annotation.NonBlocking
+import io.micronaut.context.exceptions.ConfigurationException
 import io.micronaut.inject.ExecutableMethod
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
 import io.micronaut.scheduling.executor.ExecutorSelector
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -58,6 +62,45 @@ class ExecutorSelectorSpec extends Specification {
         "someFutureMethod"      | false
     }
 
+    void "test blocking methods run on the blocking executor if one is configured"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.executors.blocking.type': 'virtual'
+        )
+        ExecutorSelector selector = applicationContext.getBean(ExecutorSelector)
+        ExecutorService blocking = applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.BLOCKING))
+
+        expect:
+        selector.select(applicationContext.findExecutableMethod(MyService, "someMethod").get()).get() == blocking
+        !selector.select(applicationContext.findExecutableMethod(MyService, "someReactiveMethod").get()).isPresent()
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test methods annotated with @ExecuteOn run on the named executor"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.executors.custom.type': 'fixed'
+        )
+        ExecutorSelector selector = applicationContext.getBean(ExecutorSelector)
+
+        expect:
+        selector.select(applicationContext.findExecutableMethod(MyService, "someCustomMethod").get()).get() ==
+                applicationContext.getBean(ExecutorService, Qualifiers.byName("custom"))
+        selector.select(applicationContext.findExecutableMethod(MyService, "someIoReactiveMethod").get()).get() ==
+                applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO))
+
+        when:
+        selector.select(applicationContext.findExecutableMethod(MyService, "someMissingMethod").get())
+
+        then:
+        ConfigurationException e = thrown()
+        e.message == 'No executor configured for name: missing'
+
+        cleanup:
+        applicationContext.stop()
+    }
 
 }
 
@@ -78,5 +121,14 @@ class MyService {
     Single someReactiveMethod() {}
 
     CompletableFuture someFutureMethod() {}
+
+    @ExecuteOn("custom")
+    void someCustomMethod() {}
+
+    @ExecuteOn(TaskExecutors.IO)
+    Single someIoReactiveMethod() {}
+
+    @ExecuteOn("missing")
+    void someMissingMethod() {}
 }
 
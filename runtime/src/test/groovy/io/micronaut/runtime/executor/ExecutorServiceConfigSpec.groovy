@@ -16,17 +16,23 @@
 package io.micronaut.runtime.executor
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
 import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.exceptions.ExecutorSaturatedException
 import io.micronaut.scheduling.executor.ExecutorConfiguration
 import io.micronaut.scheduling.executor.UserExecutorConfiguration
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.ForkJoinPool
 import java.util.concurrent.ScheduledExecutorService
 import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
 
 /**
  * @author Graeme Rocher
@@ -174,4 +180,94 @@ class ExecutorServiceConfigSpec extends Specification {
         true            | "test"
         false           | "test"
     }
+
+    void "test configure a virtual thread executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.blocking.type':'virtual'
+        )
+
+        when:
+        ExecutorService executorService = ctx.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING))
+        Thread thread = executorService.submit({ Thread.currentThread() } as Callable<Thread>).get()
+        boolean virtualThreadsSupported = Thread.methods.any { it.name == 'isVirtual' }
+
+        then:"virtual threads are used where supported, otherwise a cached pool"
+        thread != null
+        virtualThreadsSupported ? thread.isVirtual() : executorService instanceof ThreadPoolExecutor
+
+        when:
+        ctx.stop()
+
+        then:
+        executorService.isShutdown()
+    }
+
+    void "test configure a bounded io executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.io.type':'cached',
+                'micronaut.executors.io.core-pool-size':'2',
+                'micronaut.executors.io.maximum-pool-size':'4',
+                'micronaut.executors.io.queue-capacity':'10',
+                'micronaut.executors.io.queue-type':'array',
+                'micronaut.executors.io.keep-alive':'10s',
+                'micronaut.executors.io.rejection-policy':'caller_runs'
+        )
+
+        when:
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ctx.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.IO))
+
+        then:
+        executor.corePoolSize == 2
+        executor.maximumPoolSize == 4
+        executor.getKeepAliveTime(TimeUnit.SECONDS) == 10
+        executor.allowsCoreThreadTimeOut()
+        executor.queue instanceof ArrayBlockingQueue
+        executor.queue.remainingCapacity() == 10
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test a bounded executor with the shed policy rejects tasks when saturated"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.bounded.type':'cached',
+                'micronaut.executors.bounded.maximum-pool-size':'1',
+                'micronaut.executors.bounded.rejection-policy':'shed'
+        )
+        ExecutorService executor = ctx.getBean(ExecutorService.class, Qualifiers.byName("bounded"))
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:"a task occupies the only thread and there is no queue"
+        executor.execute({ release.await() })
+        executor.execute({})
+
+        then:
+        ExecutorSaturatedException e = thrown()
+        e.message.contains("bounded")
+
+        cleanup:
+        release.countDown()
+        ctx.close()
+    }
+
+    void "test the array queue type requires a queue capacity"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.bounded.type':'fixed',
+                'micronaut.executors.bounded.queue-type':'array'
+        )
+
+        when:
+        ctx.getBean(ExecutorService.class, Qualifiers.byName("bounded"))
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains("A queue capacity is required for queue type: ARRAY")
+
+        cleanup:
+        ctx.close()
+    }
 }
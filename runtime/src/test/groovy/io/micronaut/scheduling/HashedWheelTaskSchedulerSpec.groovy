@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.annotation.Scheduled
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class HashedWheelTaskSchedulerSpec extends Specification {
+
+    void "test the hashed wheel scheduler is disabled by default"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run()
+
+        expect:
+        ctx.getBean(TaskScheduler, Qualifiers.byName(TaskExecutors.SCHEDULED)) instanceof ScheduledExecutorTaskScheduler
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test many tasks are run by the hashed wheel scheduler"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.scheduler.hashed-wheel.enabled': true,
+                'micronaut.scheduler.hashed-wheel.tick-duration': '10ms',
+                'micronaut.scheduler.hashed-wheel.ticks-per-wheel': 10
+        )
+        TaskScheduler scheduler = ctx.getBean(TaskScheduler, Qualifiers.byName(TaskExecutors.SCHEDULED))
+        CountDownLatch completed = new CountDownLatch(5000)
+
+        when:
+        5000.times { i ->
+            scheduler.schedule(Duration.ofMillis(i % 500), { completed.countDown() } as Runnable)
+        }
+        ScheduledFuture<?> cancelled = scheduler.schedule(Duration.ofMillis(100), { throw new IllegalStateException() } as Runnable)
+        cancelled.cancel(false)
+
+        then:
+        scheduler instanceof HashedWheelTaskScheduler
+        ((HashedWheelTaskScheduler) scheduler).wheelSize == 16
+        completed.await(10, TimeUnit.SECONDS)
+        cancelled.cancelled
+
+        when:
+        ScheduledFuture<String> future = scheduler.schedule(Duration.ofMillis(200), { "done" })
+
+        then:
+        future.getDelay(TimeUnit.MILLISECONDS) > 0
+        future.get(10, TimeUnit.SECONDS) == "done"
+        future.getDelay(TimeUnit.MILLISECONDS) <= 0
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test scheduled methods run on the hashed wheel scheduler"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.scheduler.hashed-wheel.enabled': true,
+                'micronaut.scheduler.hashed-wheel.tick-duration': '10ms',
+                'hashed-wheel-test.task.enabled': true
+        )
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+
+        when:
+        WheelTask task = ctx.getBean(WheelTask)
+
+        then:
+        conditions.eventually {
+            task.fixedRateRuns.get() >= 3
+            task.fixedDelayRuns.get() >= 3
+            task.cronRuns.get() >= 2
+        }
+
+        cleanup:
+        ctx.close()
+    }
+
+    @Singleton
+    @Requires(property = 'hashed-wheel-test.task.enabled', value = 'true')
+    static class WheelTask {
+        AtomicInteger fixedRateRuns = new AtomicInteger()
+        AtomicInteger fixedDelayRuns = new AtomicInteger()
+        AtomicInteger cronRuns = new AtomicInteger()
+
+        @Scheduled(fixedRate = '20ms')
+        void fixedRate() {
+            fixedRateRuns.incrementAndGet()
+        }
+
+        @Scheduled(fixedDelay = '20ms')
+        void fixedDelay() {
+            fixedDelayRuns.incrementAndGet()
+        }
+
+        @Scheduled(cron = '* * * * * ?')
+        void cron() {
+            cronRuns.incrementAndGet()
+        }
+    }
+}
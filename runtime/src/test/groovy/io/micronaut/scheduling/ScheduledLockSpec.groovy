@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.scheduling.annotation.Scheduled
+import io.micronaut.scheduling.lock.InMemoryLockProvider
+import io.micronaut.scheduling.lock.LockConfiguration
+import io.micronaut.scheduling.lock.LockProvider
+import io.micronaut.scheduling.lock.SimpleLock
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class ScheduledLockSpec extends Specification {
+
+    void "test the in memory lock provider"() {
+        given:
+        LockProvider lockProvider = new InMemoryLockProvider()
+        LockConfiguration configuration = new LockConfiguration("job", Duration.ofMinutes(1), Duration.ZERO)
+
+        when:
+        Optional<SimpleLock> lock = lockProvider.lock(configuration)
+
+        then:
+        lock.present
+        !lockProvider.lock(configuration).present
+        lockProvider.lock(new LockConfiguration("other", Duration.ofMinutes(1), Duration.ZERO)).present
+
+        when:
+        lock.get().unlock()
+
+        then:
+        lockProvider.lock(configuration).present
+    }
+
+    void "test a lock is held for the lock at least for duration"() {
+        given:
+        LockProvider lockProvider = new InMemoryLockProvider()
+        LockConfiguration configuration = new LockConfiguration("job", Duration.ofMinutes(1), Duration.ofMinutes(1))
+
+        when:
+        lockProvider.lock(configuration).get().unlock()
+
+        then:
+        !lockProvider.lock(configuration).present
+    }
+
+    void "test an expired lock can be acquired"() {
+        given:
+        LockProvider lockProvider = new InMemoryLockProvider()
+        LockConfiguration configuration = new LockConfiguration("job", Duration.ofMillis(10), Duration.ZERO)
+
+        when:
+        lockProvider.lock(configuration)
+        Thread.sleep(50)
+
+        then:
+        lockProvider.lock(configuration).present
+    }
+
+    void "test lock at most for must not be less than lock at least for"() {
+        when:
+        new LockConfiguration("job", Duration.ofSeconds(1), Duration.ofSeconds(2))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test a scheduled task with a lock runs at most once per lock at least for duration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('scheduled-lock-test.task.enabled': true)
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+
+        when:
+        LockedTask task = ctx.getBean(LockedTask)
+
+        then:
+        conditions.eventually {
+            task.unlockedRuns.get() >= 10
+        }
+        task.lockedRuns.get() == 1
+
+        cleanup:
+        ctx.close()
+    }
+
+    @Singleton
+    @Requires(property = 'scheduled-lock-test.task.enabled', value = 'true')
+    static class LockedTask {
+        AtomicInteger lockedRuns = new AtomicInteger()
+        AtomicInteger unlockedRuns = new AtomicInteger()
+
+        @Scheduled(fixedRate = '10ms', lock = 'locked-task', lockAtLeastFor = '1m')
+        void locked() {
+            lockedRuns.incrementAndGet()
+        }
+
+        @Scheduled(fixedRate = '10ms')
+        void unlocked() {
+            unlockedRuns.incrementAndGet()
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.cron
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class CronExpressionSpec extends Specification {
+
+    @Unroll
+    void "test next time of '#expression' after #after"() {
+        given:
+        ZoneId zone = ZoneId.of("Europe/Oslo")
+        CronExpression cronExpression = CronExpression.create(expression)
+
+        expect:
+        cronExpression.nextTimeAfter(ZonedDateTime.parse(after).withZoneSameInstant(zone)) == ZonedDateTime.parse(next).withZoneSameInstant(zone)
+
+        where:
+        expression                | after                       | next
+        '* * * * * *'             | '2019-01-01T10:00:00.5+01:00' | '2019-01-01T10:00:01+01:00'
+        '0 */15 9-17 * * MON-FRI' | '2019-03-08T17:50:00+01:00' | '2019-03-11T09:00:00+01:00'
+        '0 0 0 L * ?'             | '2019-02-01T00:00:00+01:00' | '2019-02-28T00:00:00+01:00'
+        '0 0 0 L * ?'             | '2020-02-01T00:00:00+01:00' | '2020-02-29T00:00:00+01:00'
+        '0 0 12 15W * ?'          | '2019-06-01T00:00:00+02:00' | '2019-06-14T12:00:00+02:00'
+        '0 0 12 1W * ?'           | '2019-05-30T13:00:00+02:00' | '2019-05-31T12:00:00+02:00'
+        '0 0 0 ? * 5L'            | '2019-03-01T00:00:00+01:00' | '2019-03-29T00:00:00+01:00'
+        '0 30 2 ? * 5#3'          | '2019-03-01T00:00:00+01:00' | '2019-03-15T02:30:00+01:00'
+        '0 0 0 29 2 ?'            | '2019-01-01T00:00:00+01:00' | '2020-02-29T00:00:00+01:00'
+        '0 0 0 1 1 *'             | '2019-12-31T23:59:59+01:00' | '2020-01-01T00:00:00+01:00'
+    }
+
+    void "test a local time in a daylight saving time gap is skipped"() {
+        given:
+        ZoneId zone = ZoneId.of("Europe/Oslo")
+        CronExpression cronExpression = CronExpression.create('0 30 2 * * *')
+
+        expect:
+        cronExpression.nextTimeAfter(ZonedDateTime.of(2019, 3, 31, 0, 0, 0, 0, zone)) == ZonedDateTime.of(2019, 4, 1, 2, 30, 0, 0, zone)
+    }
+
+    void "test a local time in a daylight saving time overlap runs for both offsets"() {
+        given:
+        ZoneId zone = ZoneId.of("Europe/Oslo")
+        CronExpression cronExpression = CronExpression.create('0 30 2 * * *')
+
+        when:
+        ZonedDateTime first = cronExpression.nextTimeAfter(ZonedDateTime.of(2019, 10, 27, 0, 0, 0, 0, zone))
+        ZonedDateTime second = cronExpression.nextTimeAfter(first)
+
+        then:
+        first == ZonedDateTime.of(2019, 10, 27, 2, 30, 0, 0, zone).withEarlierOffsetAtOverlap()
+        second == ZonedDateTime.of(2019, 10, 27, 2, 30, 0, 0, zone).withLaterOffsetAtOverlap()
+        cronExpression.nextTimeAfter(second) == ZonedDateTime.of(2019, 10, 28, 2, 30, 0, 0, zone)
+    }
+
+    void "test no next time within the barrier"() {
+        when:
+        CronExpression.create('0 0 0 30 2 *').nextTimeAfter(ZonedDateTime.now())
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test an increment of zero is rejected"() {
+        when:
+        CronExpression.create('*/0 * * * * *')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}